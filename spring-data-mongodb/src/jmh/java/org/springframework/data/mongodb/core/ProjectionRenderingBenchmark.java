@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmark for rendering SpEL based projection expressions.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ProjectionRenderingBenchmark extends AbstractMicrobenchmark {
+
+	private AggregationOperationContext context;
+
+	private ProjectionOperation simpleExpression;
+	private ProjectionOperation parameterizedExpression;
+	private TypedAggregation<Product> aggregation;
+
+	@Setup
+	public void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		context = new TypeBasedAggregationOperationContext(Product.class, mappingContext, new QueryMapper(converter));
+
+		simpleExpression = project().andExpression("netPrice * 2").as("doubledPrice");
+		parameterizedExpression = project("name", "netPrice") //
+				.andExpression("(netPrice + surCharge) * [0] + [1]", 1.19, 42).as("grossPrice") //
+				.andExpression("ceil(netPrice / [0])", 10).as("priceBucket");
+
+		aggregation = newAggregation(Product.class, parameterizedExpression, sort(Direction.DESC, "grossPrice"));
+	}
+
+	/**
+	 * Render a single simple expression.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object renderSimpleExpression() {
+		return simpleExpression.toDocument(context);
+	}
+
+	/**
+	 * Render multiple expressions using parameters.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object renderParameterizedExpressions() {
+		return parameterizedExpression.toDocument(context);
+	}
+
+	/**
+	 * Render an entire pipeline containing parameterized expressions.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object renderPipeline() {
+		return aggregation.toPipeline(context);
+	}
+
+	static class Product {
+
+		@Id String id;
+		String name;
+		@Field("net_price") double netPrice;
+		double surCharge;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.core;
 
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
 import org.bson.Document;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
@@ -24,6 +26,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.FindWithQuery;
 import org.springframework.data.mongodb.core.ExecutableFindOperation.TerminatingFind;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
@@ -54,6 +57,8 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 	private TerminatingFind<Person> asPersonWithFieldsRestriction;
 	private Document fields = new Document("firstname", 1);
 
+	private TypedAggregation<Person> aggregation = newAggregation(Person.class, project("firstname", "lastname"));
+
 	@Setup
 	public void setUp() {
 
@@ -148,6 +153,36 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		return asOpenProjection.all();
 	}
 
+	/**
+	 * Read aggregation output into a class based DTO using the regular entity instantiation.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object aggregateIntoDtoProjection() {
+		return template.aggregate(aggregation, COLLECTION_NAME, NameDto.class).getMappedResults();
+	}
+
+	/**
+	 * Read aggregation output into a flat record binding constructor arguments directly.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object aggregateIntoRecordProjection() {
+		return template.aggregate(aggregation, COLLECTION_NAME, NameRecord.class).getMappedResults();
+	}
+
+	/**
+	 * Read aggregation output into a closed interface projection of simple properties.
+	 *
+	 * @return
+	 */
+	@Benchmark
+	public Object aggregateIntoInterfaceProjection() {
+		return template.aggregate(aggregation, COLLECTION_NAME, NameProjection.class).getMappedResults();
+	}
+
 	static class Person {
 
 		@Id String id;
@@ -178,4 +213,20 @@ public class ProjectionsBenchmark extends AbstractMicrobenchmark {
 		String name();
 	}
 
+	static class NameDto {
+
+		String firstname;
+		String lastname;
+	}
+
+	record NameRecord(String firstname, String lastname) {
+	}
+
+	static interface NameProjection {
+
+		String getFirstname();
+
+		String getLastname();
+	}
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.bson.BsonDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.mongodb.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener.CommandSampler;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Benchmark for the per-command overhead of {@link MongoObservationCommandListener}. Run with the {@literal gc}
+ * profiler to verify that skipped commands do not allocate.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings("removal")
+public class MongoObservationCommandListenerBenchmark extends AbstractMicrobenchmark {
+
+	private MongoObservationCommandListener noopRegistry;
+	private MongoObservationCommandListener notSampled;
+	private MongoObservationCommandListener observed;
+
+	private CommandStartedEvent started;
+	private CommandSucceededEvent succeeded;
+
+	@Setup
+	public void setUp() {
+
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+
+		noopRegistry = new MongoObservationCommandListener(ObservationRegistry.NOOP);
+
+		notSampled = new MongoObservationCommandListener(registry);
+		notSampled.setSampler(CommandSampler.withParentObservation());
+
+		observed = new MongoObservationCommandListener(registry);
+
+		MapRequestContext requestContext = new MapRequestContext();
+		started = new CommandStartedEvent(requestContext, 0, 0, null, "database", "find",
+				BsonDocument.parse("{ find : 'person', filter : { lastname : 'Skywalker' } }"));
+		succeeded = new CommandSucceededEvent(requestContext, 0, 0, null, "database", "find",
+				BsonDocument.parse("{ cursor : { id : 0, firstBatch : [ ] } }"), 1000);
+	}
+
+	/**
+	 * Command issued with a no-op {@link ObservationRegistry}.
+	 */
+	@Benchmark
+	public void noopRegistry() {
+
+		noopRegistry.commandStarted(started);
+		noopRegistry.commandSucceeded(succeeded);
+	}
+
+	/**
+	 * Command issued outside of a parent observation with {@link CommandSampler#withParentObservation()}.
+	 */
+	@Benchmark
+	public void notSampled() {
+
+		notSampled.commandStarted(started);
+		notSampled.commandSucceeded(succeeded);
+	}
+
+	/**
+	 * Command observed with a registry having a single handler.
+	 */
+	@Benchmark
+	public void observed() {
+
+		observed.commandStarted(started);
+		observed.commandSucceeded(succeeded);
+	}
+}
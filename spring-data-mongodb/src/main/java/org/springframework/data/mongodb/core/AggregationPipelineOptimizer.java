@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Rewrites a mapped aggregation pipeline before sending it to the server. All rewrites preserve the aggregation result
+ * and are only applied if the involved stages can be analyzed safely:
+ * <ul>
+ * <li>Drop no-op stages such as {@code { $match : { } }} or {@code { $skip : 0 }}.</li>
+ * <li>Move {@code $match} stages ahead of {@code $project}, {@code $addFields}, {@code $set} and {@code $unset} stages
+ * that do not compute, rename or remove any of the filtered fields.</li>
+ * <li>Merge adjacent {@code $match} stages.</li>
+ * <li>Coalesce consecutive {@code $unset} and plain {@code $project} stages.</li>
+ * <li>Bound {@code $sort} stages by a {@code $limit} that is reachable through stages not changing the number and order
+ * of documents.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class AggregationPipelineOptimizer {
+
+	private static final Log LOGGER = LogFactory.getLog(AggregationPipelineOptimizer.class);
+
+	private static final String MATCH = "$match";
+	private static final String PROJECT = "$project";
+	private static final String ADD_FIELDS = "$addFields";
+	private static final String SET = "$set";
+	private static final String UNSET = "$unset";
+	private static final String SKIP = "$skip";
+	private static final String LIMIT = "$limit";
+	private static final String SORT = "$sort";
+	private static final String ID = "_id";
+
+	private AggregationPipelineOptimizer() {}
+
+	/**
+	 * Optimize the given pipeline. The given {@link List} is not modified.
+	 *
+	 * @param pipeline the mapped pipeline.
+	 * @return the optimized pipeline.
+	 */
+	static List<Document> optimize(List<Document> pipeline) {
+
+		List<Document> stages = new ArrayList<>(pipeline);
+		List<String> rewrites = new ArrayList<>();
+
+		boolean modified;
+		do {
+			modified = dropNoOpStages(stages, rewrites);
+			modified |= moveMatchesAhead(stages, rewrites);
+			modified |= mergeMatches(stages, rewrites);
+			modified |= coalesceProjections(stages, rewrites);
+		} while (modified);
+
+		boundSorts(stages, rewrites);
+
+		if (!rewrites.isEmpty() && LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Optimized aggregation pipeline from %s to %s stages applying %s", pipeline.size(),
+					stages.size(), rewrites));
+		}
+
+		return stages;
+	}
+
+	private static boolean dropNoOpStages(List<Document> stages, List<String> rewrites) {
+
+		boolean modified = false;
+
+		for (int i = 0; i < stages.size(); i++) {
+
+			Document stage = stages.get(i);
+			String operator = operator(stage);
+
+			if (operator == null) {
+				continue;
+			}
+
+			Object value = stage.get(operator);
+			boolean noOp = switch (operator) {
+				case MATCH, ADD_FIELDS, SET -> value instanceof Document document && document.isEmpty();
+				case UNSET -> value instanceof Collection<?> collection && collection.isEmpty();
+				case SKIP -> value instanceof Number number && number.longValue() == 0;
+				default -> false;
+			};
+
+			if (noOp) {
+
+				rewrites.add("drop %s at %s".formatted(operator, i));
+				stages.remove(i--);
+				modified = true;
+			}
+		}
+
+		return modified;
+	}
+
+	private static boolean moveMatchesAhead(List<Document> stages, List<String> rewrites) {
+
+		boolean modified = false;
+
+		for (int i = 1; i < stages.size(); i++) {
+
+			Document stage = stages.get(i);
+			if (!MATCH.equals(operator(stage)) || !(stage.get(MATCH) instanceof Document filter)) {
+				continue;
+			}
+
+			Set<String> fields = filterFields(filter);
+			if (fields == null || !isTransparentFor(stages.get(i - 1), fields)) {
+				continue;
+			}
+
+			rewrites.add("move $match at %s ahead of %s".formatted(i, operator(stages.get(i - 1))));
+			stages.set(i, stages.get(i - 1));
+			stages.set(i - 1, stage);
+			modified = true;
+		}
+
+		return modified;
+	}
+
+	private static boolean mergeMatches(List<Document> stages, List<String> rewrites) {
+
+		boolean modified = false;
+
+		for (int i = 1; i < stages.size(); i++) {
+
+			Document previous = stages.get(i - 1);
+			Document current = stages.get(i);
+
+			if (!MATCH.equals(operator(previous)) || !MATCH.equals(operator(current))
+					|| !(previous.get(MATCH) instanceof Document left) || !(current.get(MATCH) instanceof Document right)) {
+				continue;
+			}
+
+			Document filter;
+			if (disjoint(left.keySet(), right.keySet())) {
+
+				filter = new Document(left);
+				filter.putAll(right);
+			} else {
+				filter = new Document("$and", List.of(left, right));
+			}
+
+			rewrites.add("merge $match at %s and %s".formatted(i - 1, i));
+			stages.set(i - 1, new Document(MATCH, filter));
+			stages.remove(i--);
+			modified = true;
+		}
+
+		return modified;
+	}
+
+	private static boolean coalesceProjections(List<Document> stages, List<String> rewrites) {
+
+		boolean modified = false;
+
+		for (int i = 1; i < stages.size(); i++) {
+
+			Document merged = coalesce(stages.get(i - 1), stages.get(i));
+			if (merged == null) {
+				continue;
+			}
+
+			rewrites.add("coalesce %s at %s and %s".formatted(operator(merged), i - 1, i));
+			stages.set(i - 1, merged);
+			stages.remove(i--);
+			modified = true;
+		}
+
+		return modified;
+	}
+
+	private static void boundSorts(List<Document> stages, List<String> rewrites) {
+
+		for (int i = 0; i < stages.size() - 1; i++) {
+
+			if (!SORT.equals(operator(stages.get(i))) || LIMIT.equals(operator(stages.get(i + 1)))) {
+				continue;
+			}
+
+			long skip = 0;
+			for (int j = i + 1; j < stages.size(); j++) {
+
+				Document stage = stages.get(j);
+				String operator = operator(stage);
+
+				if (LIMIT.equals(operator) && stage.get(LIMIT) instanceof Number limit) {
+
+					rewrites.add("bound $sort at %s by $limit at %s".formatted(i, j));
+					stages.add(i + 1, new Document(LIMIT, skip + limit.longValue()));
+					break;
+				}
+
+				if (SKIP.equals(operator) && stage.get(SKIP) instanceof Number value) {
+					skip += value.longValue();
+					continue;
+				}
+
+				if (!PROJECT.equals(operator) && !ADD_FIELDS.equals(operator) && !SET.equals(operator)
+						&& !UNSET.equals(operator)) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check whether a {@code $match} on the given fields can be evaluated ahead of the given stage.
+	 */
+	private static boolean isTransparentFor(Document stage, Set<String> fields) {
+
+		String operator = operator(stage);
+		if (operator == null) {
+			return false;
+		}
+
+		Object value = stage.get(operator);
+
+		return switch (operator) {
+			case ADD_FIELDS, SET -> value instanceof Document document && !overlaps(fields, document.keySet());
+			case UNSET -> {
+				Set<String> removed = unsetFields(value);
+				yield removed != null && !overlaps(fields, removed);
+			}
+			case PROJECT -> {
+				Projection projection = value instanceof Document document ? Projection.of(document) : null;
+				yield projection != null && projection.retainsUnchanged(fields);
+			}
+			default -> false;
+		};
+	}
+
+	private static @Nullable Document coalesce(Document first, Document second) {
+
+		String operator = operator(first);
+		if (operator == null || !operator.equals(operator(second))) {
+			return null;
+		}
+
+		if (UNSET.equals(operator)) {
+
+			Set<String> left = unsetFields(first.get(UNSET));
+			Set<String> right = unsetFields(second.get(UNSET));
+
+			if (left == null || right == null || overlaps(left, right)) {
+				return null;
+			}
+
+			Set<String> fields = new LinkedHashSet<>(left);
+			fields.addAll(right);
+			return new Document(UNSET, new ArrayList<>(fields));
+		}
+
+		if (PROJECT.equals(operator) && first.get(PROJECT) instanceof Document left
+				&& second.get(PROJECT) instanceof Document right) {
+
+			Projection projection = Projection.of(left);
+			Projection next = Projection.of(right);
+
+			if (projection == null || next == null) {
+				return null;
+			}
+
+			Projection merged = projection.andThen(next);
+			return merged != null ? new Document(PROJECT, merged.toDocument()) : null;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Collect the top level fields filtered by the given {@code $match} filter. Returns {@literal null} for filters that
+	 * use query operators like {@code $expr} that may reference arbitrary fields.
+	 */
+	private static @Nullable Set<String> filterFields(Document filter) {
+
+		Set<String> fields = new LinkedHashSet<>();
+
+		for (Entry<String, Object> entry : filter.entrySet()) {
+
+			String key = entry.getKey();
+
+			if (!key.startsWith("$")) {
+				fields.add(key);
+				continue;
+			}
+
+			if (!key.equals("$and") && !key.equals("$or") && !key.equals("$nor")
+					|| !(entry.getValue() instanceof List<?> conditions)) {
+				return null;
+			}
+
+			for (Object condition : conditions) {
+
+				Set<String> nested = condition instanceof Document document ? filterFields(document) : null;
+				if (nested == null) {
+					return null;
+				}
+				fields.addAll(nested);
+			}
+		}
+
+		return fields;
+	}
+
+	private static @Nullable Set<String> unsetFields(@Nullable Object value) {
+
+		if (value instanceof String field) {
+			return Set.of(field);
+		}
+
+		if (!(value instanceof Collection<?> collection)) {
+			return null;
+		}
+
+		Set<String> fields = new LinkedHashSet<>(collection.size());
+		for (Object element : collection) {
+			if (!(element instanceof String field)) {
+				return null;
+			}
+			fields.add(field);
+		}
+		return fields;
+	}
+
+	private static @Nullable String operator(Document stage) {
+		return stage.size() == 1 ? stage.keySet().iterator().next() : null;
+	}
+
+	private static boolean disjoint(Set<String> left, Set<String> right) {
+
+		for (String key : left) {
+			if (right.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return {@literal true} if any of the given paths is equal to, a parent of, or a child of any of the other paths.
+	 */
+	private static boolean overlaps(Collection<String> paths, Collection<String> others) {
+
+		for (String path : paths) {
+			for (String other : others) {
+				if (path.equals(other) || isParentOf(path, other) || isParentOf(other, path)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isParentOf(String parent, String path) {
+		return path.length() > parent.length() && path.startsWith(parent) && path.charAt(parent.length()) == '.';
+	}
+
+	/**
+	 * A plain {@code $project} stage that only includes or excludes fields without computing any values.
+	 */
+	private record Projection(Set<String> fields, boolean inclusion, boolean excludeId) {
+
+		static @Nullable Projection of(Document source) {
+
+			Set<String> fields = new LinkedHashSet<>();
+			Boolean inclusion = null;
+			boolean excludeId = false;
+
+			for (Entry<String, Object> entry : source.entrySet()) {
+
+				Boolean included = included(entry.getValue());
+				if (included == null) {
+					return null;
+				}
+
+				if (ID.equals(entry.getKey())) {
+					excludeId = !included;
+					continue;
+				}
+
+				if (inclusion != null && inclusion != included) {
+					return null;
+				}
+
+				inclusion = included;
+				fields.add(entry.getKey());
+			}
+
+			if (inclusion == null) {
+				return excludeId ? new Projection(fields, false, true) : null;
+			}
+
+			return new Projection(fields, inclusion, excludeId);
+		}
+
+		private static @Nullable Boolean included(@Nullable Object value) {
+
+			if (value instanceof Boolean bool) {
+				return bool;
+			}
+
+			if (value instanceof Integer || value instanceof Long) {
+				return ((Number) value).longValue() != 0;
+			}
+
+			return null;
+		}
+
+		/**
+		 * @return {@literal true} if the values of all given fields pass this projection unchanged.
+		 */
+		boolean retainsUnchanged(Set<String> paths) {
+
+			for (String path : paths) {
+
+				if (ID.equals(path) || isParentOf(ID, path)) {
+					if (excludeId) {
+						return false;
+					}
+					continue;
+				}
+
+				if (inclusion) {
+
+					boolean retained = false;
+					for (String field : fields) {
+						if (field.equals(path) || isParentOf(field, path)) {
+							retained = true;
+							break;
+						}
+					}
+
+					if (!retained) {
+						return false;
+					}
+				} else if (overlaps(List.of(path), fields)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * Combine this projection with the given subsequent one.
+		 *
+		 * @return the combined projection or {@literal null} if both cannot be expressed as a single projection.
+		 */
+		@Nullable
+		Projection andThen(Projection next) {
+
+			if (inclusion && next.inclusion) {
+				return fields.containsAll(next.fields) ? new Projection(next.fields, true, excludeId || next.excludeId) : null;
+			}
+
+			if (!inclusion && !next.inclusion) {
+
+				if (overlaps(fields, next.fields)) {
+					return null;
+				}
+
+				Set<String> merged = new LinkedHashSet<>(fields);
+				merged.addAll(next.fields);
+				return new Projection(merged, false, excludeId || next.excludeId);
+			}
+
+			return null;
+		}
+
+		Document toDocument() {
+
+			Document document = new Document();
+			if (excludeId) {
+				document.put(ID, 0);
+			}
+			for (String field : fields) {
+				document.put(field, inclusion ? 1 : 0);
+			}
+			return document;
+		}
+	}
+}
@@ -22,7 +22,9 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions.DomainTypeMapping;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache;
 import org.springframework.data.mongodb.core.aggregation.FieldLookupPolicy;
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
@@ -77,14 +79,18 @@ class AggregationUtil {
 	}
 
 	/**
-	 * Extract and map the aggregation pipeline into a {@link List} of {@link Document}.
+	 * Extract and map the aggregation pipeline into a {@link List} of {@link Document}. The pipeline is
+	 * {@link AggregationPipelineOptimizer optimized} if requested via
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationOptions#isOptimizePipeline()}.
 	 *
 	 * @param aggregation
 	 * @param context
 	 * @return
 	 */
 	List<Document> createPipeline(Aggregation aggregation, AggregationOperationContext context) {
-		return aggregation.toPipeline(context);
+
+		List<Document> pipeline = aggregation.toPipeline(context);
+		return aggregation.getOptions().isOptimizePipeline() ? AggregationPipelineOptimizer.optimize(pipeline) : pipeline;
 	}
 
 	/**
@@ -94,8 +100,32 @@ class AggregationUtil {
 	 * @param context
 	 * @return
 	 */
+	@SuppressWarnings("unchecked")
 	Document createCommand(String collection, Aggregation aggregation, AggregationOperationContext context) {
-		return aggregation.toDocument(collection, context);
+
+		Document command = aggregation.toDocument(collection, context);
+
+		if (aggregation.getOptions().isOptimizePipeline() && command.get("pipeline") instanceof List<?> pipeline) {
+			command.put("pipeline", AggregationPipelineOptimizer.optimize((List<Document>) pipeline));
+		}
+
+		return command;
 	}
 
+	/**
+	 * Check whether the results of the given aggregation can be served from the given cache.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @param aggregation
+	 * @return {@literal false} if no cache is configured, the aggregation does not opt in to caching, or does not read its
+	 *         results.
+	 * @since 5.2
+	 */
+	static boolean isCacheable(@Nullable AggregationResultCache cache, Aggregation aggregation) {
+
+		AggregationOptions options = aggregation.getOptions();
+
+		return cache != null && options.isCacheResults() && !options.isExplain() && !options.isSkipResults()
+				&& !aggregation.getPipeline().isOutOrMerge();
+	}
 }
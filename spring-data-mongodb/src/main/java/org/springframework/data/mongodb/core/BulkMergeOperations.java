@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsDontMatch;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsMatch;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Bulk operations that upsert a large number of documents into a collection using a server side
+ * {@link MergeOperation $merge} instead of individual upserts. Documents are bulk inserted into a temporary staging
+ * collection first and then merged into the target collection by a single aggregation. The staging collection is
+ * dropped afterwards regardless of the outcome.
+ *
+ * <pre class="code">
+ * MongoOperations ops = …;
+ *
+ * ops.bulkMergeOps(Person.class)
+ * 				.on("ssn")
+ * 				.whenMatched(WhenDocumentsMatch.mergeDocuments())
+ * 				.whenNotMatched(WhenDocumentsDontMatch.insertNewDocument())
+ * 				.insert(people)
+ * 				.execute();
+ * </pre>
+ * <p>
+ * {@code $merge} requires a unique index on the {@link #on(String...) on} fields of the target collection unless
+ * documents are matched by their {@literal _id}. When matching on other fields, the {@literal _id} of staged documents
+ * is removed before merging so that matched documents keep their identifier and unmatched documents inserted into the
+ * target collection receive a server generated one. Lifecycle events and callbacks are issued for the staging collection.
+ * Use {@link BulkOperations} if individual operations need to be applied to the target collection directly.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MergeOperation
+ */
+public interface BulkMergeOperations {
+
+	/**
+	 * Add a single document to be merged into the target collection.
+	 *
+	 * @param document the document to merge, must not be {@literal null}.
+	 * @return the current {@link BulkMergeOperations} instance with the document added, will never be {@literal null}.
+	 */
+	BulkMergeOperations insert(Object document);
+
+	/**
+	 * Add a list of documents to be merged into the target collection.
+	 *
+	 * @param documents list of documents to merge, must not be {@literal null}.
+	 * @return the current {@link BulkMergeOperations} instance with the documents added, will never be {@literal null}.
+	 */
+	BulkMergeOperations insert(List<? extends Object> documents);
+
+	/**
+	 * Define the fields identifying a document in the target collection. Defaults to {@literal _id}.
+	 *
+	 * @param fields the property or field names, must not contain {@literal null} values.
+	 * @return the current {@link BulkMergeOperations} instance, will never be {@literal null}.
+	 */
+	BulkMergeOperations on(String... fields);
+
+	/**
+	 * Define how to handle documents already present in the target collection. Defaults to
+	 * {@link WhenDocumentsMatch#mergeDocuments() merging} the documents.
+	 *
+	 * @param whenMatched must not be {@literal null}.
+	 * @return the current {@link BulkMergeOperations} instance, will never be {@literal null}.
+	 */
+	BulkMergeOperations whenMatched(WhenDocumentsMatch whenMatched);
+
+	/**
+	 * Define how to handle documents not present in the target collection. Defaults to
+	 * {@link WhenDocumentsDontMatch#insertNewDocument() inserting} the documents.
+	 *
+	 * @param whenNotMatched must not be {@literal null}.
+	 * @return the current {@link BulkMergeOperations} instance, will never be {@literal null}.
+	 */
+	BulkMergeOperations whenNotMatched(WhenDocumentsDontMatch whenNotMatched);
+
+	/**
+	 * Write all added documents to the staging collection, merge them into the target collection and drop the staging
+	 * collection.
+	 * <p>
+	 * The server does not report how many documents {@code $merge} inserted, replaced or merged. The returned result
+	 * therefore reflects writing the staging collection, where {@link BulkWriteResult#getInsertedCount()} is the number of
+	 * documents handed to the merge, not the number of documents changed in the target collection.
+	 *
+	 * @return the result of writing the staging collection, will never be {@literal null}.
+	 * @throws org.springframework.data.mongodb.BulkOperationException if writing the staging collection fails.
+	 */
+	BulkWriteResult execute();
+}
@@ -16,11 +16,18 @@
 package org.springframework.data.mongodb.core;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
@@ -38,8 +45,16 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
+import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.util.Assert;
-
+import org.springframework.util.unit.DataSize;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.bulk.WriteConcernError;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.DeleteOneModel;
@@ -235,6 +250,205 @@ abstract class BulkOperationsSupport {
 		return options;
 	}
 
+	/**
+	 * Split the given {@code items} into consecutive batches so that the accumulated encoded size of a batch does not
+	 * exceed {@code targetSize}. An item exceeding {@code targetSize} on its own ends up in a batch of its own. Returns a
+	 * single batch holding all {@code items} if {@code targetSize} is {@literal null}.
+	 *
+	 * @param items the items to partition.
+	 * @param sizeFunction function computing the encoded size of a single item in bytes.
+	 * @param targetSize the target size per batch. Can be {@literal null}.
+	 * @return the batches in order of the given {@code items}.
+	 * @since 5.2
+	 */
+	static <T> List<List<T>> partitionByEncodedSize(List<T> items, ToLongFunction<? super T> sizeFunction,
+			@Nullable DataSize targetSize) {
+
+		if (targetSize == null || items.size() < 2) {
+			return List.of(items);
+		}
+
+		long limit = targetSize.toBytes();
+		List<List<T>> batches = new ArrayList<>();
+		int batchStart = 0;
+		long batchSize = 0;
+
+		for (int i = 0; i < items.size(); i++) {
+
+			long itemSize = sizeFunction.applyAsLong(items.get(i));
+			if (i > batchStart && batchSize + itemSize > limit) {
+
+				batches.add(items.subList(batchStart, i));
+				batchStart = i;
+				batchSize = 0;
+			}
+			batchSize += itemSize;
+		}
+
+		batches.add(items.subList(batchStart, items.size()));
+		return batches;
+	}
+
+	/**
+	 * Compute the encoded size of the given {@link WriteModel} in bytes considering its filter, update and document.
+	 *
+	 * @param model the {@link WriteModel} to inspect.
+	 * @param codecRegistry the {@link CodecRegistry} used for encoding.
+	 * @return the encoded size in bytes.
+	 * @since 5.2
+	 */
+	static long getEncodedSize(WriteModel<Document> model, CodecRegistry codecRegistry) {
+
+		if (model instanceof InsertOneModel<Document> insert) {
+			return BsonUtils.getEncodedSize(insert.getDocument(), codecRegistry);
+		}
+
+		if (model instanceof ReplaceOneModel<Document> replace) {
+			return getEncodedSize(replace.getFilter(), codecRegistry)
+					+ BsonUtils.getEncodedSize(replace.getReplacement(), codecRegistry);
+		}
+
+		if (model instanceof UpdateOneModel<Document> update) {
+			return getEncodedSize(update.getFilter(), codecRegistry)
+					+ getEncodedSize(update.getUpdate(), update.getUpdatePipeline(), codecRegistry);
+		}
+
+		if (model instanceof UpdateManyModel<Document> update) {
+			return getEncodedSize(update.getFilter(), codecRegistry)
+					+ getEncodedSize(update.getUpdate(), update.getUpdatePipeline(), codecRegistry);
+		}
+
+		if (model instanceof DeleteOneModel<Document> delete) {
+			return getEncodedSize(delete.getFilter(), codecRegistry);
+		}
+
+		if (model instanceof DeleteManyModel<Document> delete) {
+			return getEncodedSize(delete.getFilter(), codecRegistry);
+		}
+
+		return 0;
+	}
+
+	private static long getEncodedSize(@Nullable Bson update, @Nullable List<? extends Bson> pipeline,
+			CodecRegistry codecRegistry) {
+
+		if (update != null) {
+			return getEncodedSize(update, codecRegistry);
+		}
+
+		long size = 0;
+		if (pipeline != null) {
+			for (Bson stage : pipeline) {
+				size += getEncodedSize(stage, codecRegistry);
+			}
+		}
+		return size;
+	}
+
+	private static long getEncodedSize(Bson bson, CodecRegistry codecRegistry) {
+
+		if (bson instanceof Document document) {
+			return BsonUtils.getEncodedSize(document, codecRegistry);
+		}
+
+		if (bson instanceof RawBsonDocument rawBsonDocument) {
+			return rawBsonDocument.getByteBuffer().remaining();
+		}
+
+		return new RawBsonDocument(bson.toBsonDocument(Document.class, codecRegistry), new BsonDocumentCodec())
+				.getByteBuffer().remaining();
+	}
+
+	/**
+	 * Aggregates the {@link BulkWriteResult results} of bulk writes issued for consecutive batches of a single bulk
+	 * operation. Indexes reported by upserts, inserts and write errors are shifted by the offset of their batch so that
+	 * they refer to the position within the entire bulk operation.
+	 *
+	 * @since 5.2
+	 */
+	static class BatchedBulkWriteResult {
+
+		private final boolean ordered;
+
+		private boolean acknowledged = true;
+		private int insertedCount;
+		private int matchedCount;
+		private int deletedCount;
+		private int modifiedCount;
+		private final List<BulkWriteUpsert> upserts = new ArrayList<>();
+		private final List<BulkWriteInsert> inserts = new ArrayList<>();
+		private final List<BulkWriteError> writeErrors = new ArrayList<>();
+		private @Nullable MongoBulkWriteException failure;
+		private @Nullable WriteConcernError writeConcernError;
+		private final Set<String> errorLabels = new LinkedHashSet<>();
+
+		BatchedBulkWriteResult(boolean ordered) {
+			this.ordered = ordered;
+		}
+
+		/**
+		 * @return {@literal true} if the next batch should be written.
+		 */
+		boolean shouldContinue() {
+			return !ordered || failure == null;
+		}
+
+		void add(int offset, BulkWriteResult result) {
+
+			if (!result.wasAcknowledged()) {
+				acknowledged = false;
+				return;
+			}
+
+			insertedCount += result.getInsertedCount();
+			matchedCount += result.getMatchedCount();
+			deletedCount += result.getDeletedCount();
+			modifiedCount += result.getModifiedCount();
+
+			for (BulkWriteUpsert upsert : result.getUpserts()) {
+				upserts.add(new BulkWriteUpsert(upsert.getIndex() + offset, upsert.getId()));
+			}
+			for (BulkWriteInsert insert : result.getInserts()) {
+				inserts.add(new BulkWriteInsert(insert.getIndex() + offset, insert.getId()));
+			}
+		}
+
+		void addFailure(int offset, MongoBulkWriteException exception) {
+
+			add(offset, exception.getWriteResult());
+
+			for (BulkWriteError error : exception.getWriteErrors()) {
+				writeErrors.add(new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(),
+						error.getIndex() + offset));
+			}
+
+			if (exception.getWriteConcernError() != null) {
+				writeConcernError = exception.getWriteConcernError();
+			}
+
+			errorLabels.addAll(exception.getErrorLabels());
+			failure = exception;
+		}
+
+		/**
+		 * @return the aggregated {@link BulkWriteResult}.
+		 * @throws MongoBulkWriteException if writing one of the batches failed.
+		 */
+		BulkWriteResult getResult() {
+
+			BulkWriteResult result = acknowledged
+					? BulkWriteResult.acknowledged(insertedCount, matchedCount, deletedCount, modifiedCount, upserts, inserts)
+					: BulkWriteResult.unacknowledged();
+
+			if (failure != null) {
+				throw new MongoBulkWriteException(result, writeErrors, writeConcernError, failure.getServerAddress(),
+						errorLabels);
+			}
+
+			return result;
+		}
+	}
+
 	/**
 	 * Value object chaining together an actual source with its {@link WriteModel} representation.
 	 *
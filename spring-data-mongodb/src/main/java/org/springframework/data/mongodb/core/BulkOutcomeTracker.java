@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.bulk.BulkOperation;
+import org.springframework.data.mongodb.core.bulk.BulkOperationOutcome;
+import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
+import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.mongodb.util.MongoDbErrorCodes;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Tracks the {@link BulkOperationOutcome outcome} of each operation of a single collection bulk write across multiple
+ * attempts. Each attempt writes the {@link #nextWriteModels() pending write models} after waiting for the
+ * {@link #backoff() backoff}. Operations failing with a transient error remain pending until they succeed or their
+ * retries are exhausted.
+ * <p>
+ * An attempt that {@link #onFailure(RuntimeException) failed entirely} with a retryable error may have been applied
+ * partially. Only idempotent operations remain pending in that case: inserts with an identifier as well as replacements
+ * and {@code $set}-only updates selecting a document by its {@code _id}. All other pending operations, such as
+ * {@code $inc} updates or multi-document updates and deletes, are reported as failed with an
+ * {@link BulkOperationOutcome#isOutcomeUnknown() unknown outcome} instead of being applied twice.
+ * <p>
+ * Inserts are assigned an identifier up front when retries are enabled. A duplicate key error on the {@code _id} index
+ * for the identifier of an insert that was re-sent after an attempt failed without reporting per-write results means
+ * the insert was applied by that attempt and is considered successful.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class BulkOutcomeTracker {
+
+	/**
+	 * Server error codes considered transient: {@code HostUnreachable}, {@code HostNotFound}, {@code NetworkTimeout},
+	 * {@code ShutdownInProgress}, {@code WriteConflict}, {@code PrimarySteppedDown}, {@code ExceededTimeLimit},
+	 * {@code SocketException}, {@code NotWritablePrimary}, {@code InterruptedAtShutdown},
+	 * {@code InterruptedDueToReplStateChange}, {@code NotPrimaryNoSecondaryOk} and {@code NotPrimaryOrSecondary}.
+	 */
+	private static final Set<Integer> TRANSIENT_ERROR_CODES = Set.of(6, 7, 89, 91, 112, 189, 262, 9001, 10107, 11600,
+			11602, 13435, 13436);
+
+	private static final String RETRYABLE_WRITE_ERROR_LABEL = "RetryableWriteError";
+	private static final String ID_FIELD = FieldName.ID.name();
+	private static final String ID_INDEX_NAME = "_id_";
+	private static final BsonDocument ID_KEY_PATTERN = new BsonDocument(ID_FIELD, new BsonInt32(1));
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+	private final List<? extends BulkOperation> operations;
+	private final List<WriteModel<Document>> writeModels;
+	private final long maxRetries;
+	private final Duration retryBackoff;
+	private final boolean ordered;
+	private final Predicate<Throwable> retryFilter;
+	private final @Nullable Consumer<BulkOperationOutcome> outcomeCallback;
+
+	private final @Nullable BulkOperationOutcome[] outcomes;
+	private final int[] attempts;
+	private List<Integer> pending;
+	private int round;
+	private boolean unacknowledgedAttempt;
+	private boolean failed;
+
+	private long insertCount;
+	private long modifiedCount;
+	private long deleteCount;
+	private long upsertCount;
+	private long matchedCount;
+	private boolean acknowledged = true;
+
+	BulkOutcomeTracker(List<? extends BulkOperation> operations, List<WriteModel<Document>> writeModels,
+			BulkWriteOptions options) {
+		this(operations, writeModels, options.getMaxRetries(), options.getRetryBackoff(), false,
+				BulkOutcomeTracker::isRetryable, options.getOutcomeCallback());
+	}
+
+	/**
+	 * Create a new {@link BulkOutcomeTracker}.
+	 *
+	 * @param operations the operations.
+	 * @param writeModels the write model of each operation.
+	 * @param maxRetries the maximum number of retries per operation.
+	 * @param retryBackoff the backoff before the first retry.
+	 * @param ordered whether attempts are executed in order. Operations following the first failed one of an ordered
+	 *          attempt were not executed and remain pending.
+	 * @param retryFilter decides whether an attempt failing without reporting per-write results is retried.
+	 * @param outcomeCallback notified about the outcome of each operation. Can be {@literal null}.
+	 */
+	BulkOutcomeTracker(List<? extends BulkOperation> operations, List<WriteModel<Document>> writeModels,
+			long maxRetries, Duration retryBackoff, boolean ordered, Predicate<Throwable> retryFilter,
+			@Nullable Consumer<BulkOperationOutcome> outcomeCallback) {
+
+		Assert.isTrue(operations.size() == writeModels.size(), "Each operation requires exactly one write model");
+
+		this.operations = operations;
+		this.writeModels = writeModels;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+		this.ordered = ordered;
+		this.retryFilter = retryFilter;
+		this.outcomeCallback = outcomeCallback;
+		this.outcomes = new BulkOperationOutcome[operations.size()];
+		this.attempts = new int[operations.size()];
+		this.pending = new ArrayList<>(operations.size());
+
+		for (int i = 0; i < operations.size(); i++) {
+			pending.add(i);
+		}
+
+		if (maxRetries > 0) {
+			writeModels.forEach(BulkWriterSupport::assignIdIfAbsent);
+		}
+	}
+
+	/**
+	 * @return {@literal true} if there are operations left to write.
+	 */
+	boolean hasPending() {
+		return !pending.isEmpty();
+	}
+
+	/**
+	 * @return the time to wait before starting the next attempt. {@link Duration#ZERO} for the first attempt, otherwise
+	 *         the retry backoff doubled with every attempt and capped at {@literal 5} seconds.
+	 */
+	Duration backoff() {
+
+		if (round == 0) {
+			return Duration.ZERO;
+		}
+
+		Duration backoff = retryBackoff.multipliedBy(1L << Math.min(round - 1, 16));
+		return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+	}
+
+	/**
+	 * Start a new attempt.
+	 *
+	 * @return the write models of all pending operations.
+	 */
+	List<WriteModel<Document>> nextWriteModels() {
+
+		round++;
+		List<WriteModel<Document>> models = new ArrayList<>(pending.size());
+		for (int index : pending) {
+			attempts[index]++;
+			models.add(writeModels.get(index));
+		}
+		return models;
+	}
+
+	/**
+	 * Record an attempt in which all pending operations succeeded.
+	 *
+	 * @param result the driver result.
+	 */
+	void onSuccess(com.mongodb.bulk.BulkWriteResult result) {
+
+		record(result);
+
+		for (int index : pending) {
+			complete(BulkOperationOutcome.succeeded(index, operations.get(index), attempts[index]));
+		}
+		pending = List.of();
+	}
+
+	/**
+	 * Record an attempt that failed without reporting per-write results. If the error passes the retry filter, by default
+	 * {@link #isRetryable(Throwable)}, and none of the pending operations exhausted its retries,
+	 * {@link #isIdempotent(WriteModel) idempotent} operations remain pending while all others are reported as failed with
+	 * an unknown outcome as the failed attempt may have applied them already.
+	 *
+	 * @param exception the driver exception.
+	 * @return {@literal true} if the pending operations are to be retried; {@literal false} if the exception is to be
+	 *         propagated.
+	 */
+	boolean onFailure(RuntimeException exception) {
+
+		if (exception instanceof MongoBulkWriteException || !retryFilter.test(exception)) {
+			return false;
+		}
+
+		for (int index : pending) {
+			if (attempts[index] > maxRetries) {
+				return false;
+			}
+		}
+
+		unacknowledgedAttempt = true;
+
+		int errorCode = exception instanceof MongoException mongoException ? mongoException.getCode() : -1;
+		List<Integer> retry = new ArrayList<>(pending.size());
+		for (int index : pending) {
+
+			if (isIdempotent(writeModels.get(index))) {
+				retry.add(index);
+			} else {
+				failed = true;
+				complete(BulkOperationOutcome.unknown(index, operations.get(index), attempts[index], errorCode,
+						exception.getMessage()));
+			}
+		}
+		pending = retry;
+		return true;
+	}
+
+	/**
+	 * Record an attempt in which some of the pending operations failed.
+	 *
+	 * @param exception the driver exception.
+	 * @throws MongoBulkWriteException if the attempt failed with a write concern error.
+	 */
+	void onError(MongoBulkWriteException exception) {
+
+		if (exception.getWriteConcernError() != null) {
+			throw exception;
+		}
+
+		record(exception.getWriteResult());
+
+		Map<Integer, BulkWriteError> errors = new HashMap<>(exception.getWriteErrors().size());
+		int firstError = Integer.MAX_VALUE;
+		for (BulkWriteError error : exception.getWriteErrors()) {
+			errors.put(error.getIndex(), error);
+			firstError = Math.min(firstError, error.getIndex());
+		}
+
+		List<Integer> retry = new ArrayList<>(errors.size());
+		for (int i = 0; i < pending.size(); i++) {
+
+			int index = pending.get(i);
+			BulkWriteError error = errors.get(i);
+
+			if (error == null) {
+				if (ordered && i > firstError) {
+					attempts[index]--;
+					retry.add(index);
+				} else {
+					complete(BulkOperationOutcome.succeeded(index, operations.get(index), attempts[index]));
+				}
+			} else if (isAppliedByUnacknowledgedAttempt(index, error)) {
+				insertCount++;
+				complete(BulkOperationOutcome.succeeded(index, operations.get(index), attempts[index]));
+			} else if (isTransient(error) && attempts[index] <= maxRetries) {
+				retry.add(index);
+			} else {
+				failed = true;
+				complete(BulkOperationOutcome.failed(index, operations.get(index), attempts[index], error.getCode(),
+						error.getMessage()));
+			}
+		}
+		pending = retry;
+	}
+
+	/**
+	 * @return {@literal true} if at least one operation failed.
+	 */
+	boolean hasFailures() {
+		return failed;
+	}
+
+	/**
+	 * @param index the operation index.
+	 * @return {@literal true} if the operation with the given index succeeded.
+	 */
+	boolean succeeded(int index) {
+
+		BulkOperationOutcome outcome = outcomes[index];
+		return outcome != null && outcome.succeeded();
+	}
+
+	/**
+	 * @return the {@link BulkWriteResult} accumulated over all attempts.
+	 */
+	@SuppressWarnings("NullAway")
+	BulkWriteResult getResult() {
+
+		List<BulkOperationOutcome> result = Arrays.stream(outcomes).toList();
+		return new TrackedBulkWriteResult(insertCount, modifiedCount, deleteCount, upsertCount, matchedCount, acknowledged,
+				result);
+	}
+
+	static boolean isTransient(BulkWriteError error) {
+		return TRANSIENT_ERROR_CODES.contains(error.getCode());
+	}
+
+	/**
+	 * @param throwable the error failing an entire attempt.
+	 * @return {@literal true} if the error is a network error, a timeout selecting a server, labeled
+	 *         {@literal RetryableWriteError} or carries a transient error code.
+	 */
+	static boolean isRetryable(Throwable throwable) {
+
+		if (throwable instanceof MongoSocketException || throwable instanceof MongoTimeoutException) {
+			return true;
+		}
+
+		return throwable instanceof MongoException mongoException
+				&& (mongoException.hasErrorLabel(RETRYABLE_WRITE_ERROR_LABEL)
+						|| TRANSIENT_ERROR_CODES.contains(mongoException.getCode()));
+	}
+
+	/**
+	 * @param writeModel the write model.
+	 * @return {@literal true} if applying the given write model twice has the same effect as applying it once.
+	 */
+	static boolean isIdempotent(WriteModel<Document> writeModel) {
+
+		if (writeModel instanceof InsertOneModel<Document> insert) {
+			return insert.getDocument().containsKey(ID_FIELD);
+		}
+
+		if (writeModel instanceof ReplaceOneModel<Document> replace) {
+			return isIdFilter(replace.getFilter());
+		}
+
+		if (writeModel instanceof UpdateOneModel<Document> update) {
+			return update.getUpdate() instanceof Document document && document.size() == 1
+					&& document.containsKey("$set") && isIdFilter(update.getFilter());
+		}
+
+		return false;
+	}
+
+	private static boolean isIdFilter(Bson filter) {
+		return filter instanceof Document document && document.size() == 1 && document.containsKey(ID_FIELD)
+				&& !(document.get(ID_FIELD) instanceof Document);
+	}
+
+	/**
+	 * Check whether the given write error is a duplicate key error on the {@code _id} index for the identifier of an
+	 * insert re-sent after an unacknowledged attempt. The key pattern and value are read from the
+	 * {@link BulkWriteError#getDetails() error details}. Servers not reporting them in the details are matched by the
+	 * index name and the identifier within the error message.
+	 */
+	private boolean isAppliedByUnacknowledgedAttempt(int index, BulkWriteError error) {
+
+		if (!unacknowledgedAttempt || !(writeModels.get(index) instanceof InsertOneModel<Document> insert)
+				|| !MongoDbErrorCodes.isDuplicateKeyCode(error.getCode())) {
+			return false;
+		}
+
+		Object id = insert.getDocument().get(ID_FIELD);
+		BsonDocument details = error.getDetails();
+
+		if (details.isDocument("keyPattern") && details.isDocument("keyValue")) {
+
+			BsonDocument keyValue = details.getDocument("keyValue");
+			return ID_KEY_PATTERN.equals(details.getDocument("keyPattern")) && keyValue.size() == 1
+					&& isSameId(id, keyValue.get(ID_FIELD));
+		}
+
+		String message = error.getMessage();
+		return id != null && message != null && message.contains(" index: " + ID_INDEX_NAME + " ")
+				&& message.contains(id instanceof ObjectId objectId ? objectId.toHexString() : id.toString());
+	}
+
+	private static boolean isSameId(@Nullable Object id, @Nullable BsonValue keyValue) {
+
+		if (id == null || keyValue == null) {
+			return false;
+		}
+
+		try {
+			return keyValue.equals(BsonUtils.simpleToBsonValue(id));
+		} catch (IllegalArgumentException ex) {
+			return false;
+		}
+	}
+
+	private void record(com.mongodb.bulk.BulkWriteResult result) {
+
+		if (!result.wasAcknowledged()) {
+			acknowledged = false;
+			return;
+		}
+
+		insertCount += result.getInsertedCount();
+		modifiedCount += result.getModifiedCount();
+		deleteCount += result.getDeletedCount();
+		upsertCount += result.getUpserts().size();
+		matchedCount += result.getMatchedCount();
+	}
+
+	private void complete(BulkOperationOutcome outcome) {
+
+		outcomes[outcome.index()] = outcome;
+
+		if (outcomeCallback != null) {
+			outcomeCallback.accept(outcome);
+		}
+	}
+
+	record TrackedBulkWriteResult(long insertCount, long modifiedCount, long deleteCount, long upsertCount,
+			long matchedCount, boolean acknowledged, List<BulkOperationOutcome> outcomes) implements BulkWriteResult {
+	}
+}
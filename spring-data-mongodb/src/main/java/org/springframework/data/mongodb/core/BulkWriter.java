@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 
 import org.bson.Document;
@@ -35,11 +37,13 @@ import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.util.Assert;
 
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 
@@ -64,6 +68,7 @@ class BulkWriter extends BulkWriterSupport {
 		if (namespaces.size() == 1) {
 			return writeToSingleCollection(defaultDatabase, bulk, options, namespaces.iterator().next());
 		}
+		Assert.state(!options.isTrackOutcomes(), TRACK_OUTCOMES_REQUIRES_SINGLE_COLLECTION);
 		return writeToMultipleCollections(defaultDatabase, bulk, options);
 	}
 
@@ -77,6 +82,10 @@ class BulkWriter extends BulkWriterSupport {
 		SingleCollectionCollector collector = new SingleCollectionCollector(mongoNamespace);
 		buildWriteModels(bulk, collector);
 
+		if (options.isTrackOutcomes()) {
+			return writeTrackingOutcomes(bulk, options, collector);
+		}
+
 		try {
 			com.mongodb.bulk.BulkWriteResult bulkWriteResult = template.execute(collector.getNamespace().getCollectionName(),
 					collection -> collection.bulkWrite(collector.getWriteModels(), new com.mongodb.client.model.BulkWriteOptions()
@@ -97,6 +106,60 @@ class BulkWriter extends BulkWriterSupport {
 		}
 	}
 
+	private BulkWriteResult writeTrackingOutcomes(Bulk bulk, BulkWriteOptions options,
+			SingleCollectionCollector collector) {
+
+		String collectionName = collector.getNamespace().getCollectionName();
+		BulkOutcomeTracker tracker = new BulkOutcomeTracker(bulk.operations(), collector.getWriteModels(), options);
+		com.mongodb.client.model.BulkWriteOptions driverOptions = new com.mongodb.client.model.BulkWriteOptions()
+				.ordered(false);
+
+		while (tracker.hasPending()) {
+
+			sleep(tracker.backoff());
+
+			List<WriteModel<Document>> writeModels = tracker.nextWriteModels();
+			template.execute(collectionName, collection -> {
+
+				try {
+					tracker.onSuccess(collection.bulkWrite(writeModels, driverOptions));
+				} catch (MongoBulkWriteException e) {
+					tracker.onError(e);
+				} catch (RuntimeException e) {
+					if (!tracker.onFailure(e)) {
+						throw e;
+					}
+				}
+				return null;
+			});
+		}
+
+		for (int i = 0; i < collector.getWriteModels().size(); i++) {
+
+			SourceAwareDocument<Object> callable = collector.getSourceDocument(i);
+			if (callable != null && tracker.succeeded(i)) {
+				template.maybeEmitEvent(new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()));
+				template.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName());
+			}
+		}
+
+		return tracker.getResult();
+	}
+
+	private static void sleep(Duration backoff) {
+
+		if (backoff.isZero()) {
+			return;
+		}
+
+		try {
+			Thread.sleep(backoff.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to retry bulk write", e);
+		}
+	}
+
 	@SuppressWarnings("NullAway")
 	private BulkWriteResult writeToMultipleCollections(String defaultDatabase, Bulk bulk,
 			BulkWriteOptions options) {
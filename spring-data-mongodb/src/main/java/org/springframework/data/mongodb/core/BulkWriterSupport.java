@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.mapping.context.MappingContext;
@@ -29,6 +30,7 @@ import org.springframework.data.mongodb.core.bulk.BulkOperation;
 import org.springframework.data.mongodb.core.bulk.BulkOperationContext;
 import org.springframework.data.mongodb.core.bulk.BulkOperationContext.TypedNamespace;
 import org.springframework.data.mongodb.core.mapping.CollectionName;
+import org.springframework.data.mongodb.core.mapping.FieldName;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 
@@ -48,6 +50,11 @@ import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
  */
 abstract class BulkWriterSupport {
 
+	static final String TRACK_OUTCOMES_REQUIRES_SINGLE_COLLECTION = "Retrying failed operations and reporting outcomes "
+			+ "requires all operations to target a single collection";
+	static final String INGEST_RETRY_REQUIRES_SINGLE_COLLECTION = "Retrying ingested windows requires all objects "
+			+ "of a window to target a single collection";
+
 	final EntityOperations entityOperations;
 	final QueryOperations queryOperations;
 	final MappingContext<? extends MongoPersistentEntity<?>, ? extends MongoPersistentProperty> mappingContext;
@@ -59,6 +66,20 @@ abstract class BulkWriterSupport {
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * Assign an {@link ObjectId} to an insert without identifier so that re-sending the insert on retry does not create
+	 * another document.
+	 *
+	 * @param writeModel the write model.
+	 * @since 5.2
+	 */
+	static void assignIdIfAbsent(WriteModel<Document> writeModel) {
+
+		if (writeModel instanceof InsertOneModel<Document> insert && !insert.getDocument().containsKey(FieldName.ID.name())) {
+			insert.getDocument().put(FieldName.ID.name(), new ObjectId());
+		}
+	}
+
 	static Set<TypedNamespace> getTypedNamespaces(Bulk bulk) {
 		return bulk.operations().stream().map(it -> it.context().namespace()).collect(Collectors.toSet());
 	}
@@ -122,6 +143,7 @@ abstract class BulkWriterSupport {
 
 		private final List<WriteModel<Document>> writeModels = new ArrayList<>();
 		private final List<SourceAwareDocument<Object>> afterSaveCallables = new ArrayList<>();
+		private final List<@Nullable SourceAwareDocument<Object>> sourceDocuments = new ArrayList<>();
 		private final MongoNamespace namespace;
 
 		public SingleCollectionCollector(MongoNamespace namespace) {
@@ -136,6 +158,17 @@ abstract class BulkWriterSupport {
 			return writeModels;
 		}
 
+		/**
+		 * @param index the write model index.
+		 * @return the source of the write model with the given index requiring after save callbacks. Can be
+		 *         {@literal null}.
+		 * @since 5.2
+		 */
+		@Nullable
+		SourceAwareDocument<Object> getSourceDocument(int index) {
+			return sourceDocuments.get(index);
+		}
+
 		@Override
 		public MongoNamespace resolveNamespace(String collectionName) {
 			return namespace;
@@ -145,6 +178,7 @@ abstract class BulkWriterSupport {
 		public void addInsert(MongoNamespace namespace, Document document, SourceAwareDocument<Object> sourceDoc) {
 			writeModels.add(new InsertOneModel<>(document));
 			afterSaveCallables.add(sourceDoc);
+			sourceDocuments.add(sourceDoc);
 		}
 
 		@Override
@@ -155,6 +189,7 @@ abstract class BulkWriterSupport {
 			} else {
 				writeModels.add(BulkWriteSupport.updateOne(query, update, options));
 			}
+			sourceDocuments.add(null);
 		}
 
 		@Override
@@ -164,6 +199,7 @@ abstract class BulkWriterSupport {
 			} else {
 				writeModels.add(BulkWriteSupport.removeMany(query, options));
 			}
+			sourceDocuments.add(null);
 		}
 
 		@Override
@@ -171,6 +207,7 @@ abstract class BulkWriterSupport {
 				SourceAwareDocument<Object> sourceDoc) {
 			writeModels.add(BulkWriteSupport.replaceOne(query, replacement, options));
 			afterSaveCallables.add(sourceDoc);
+			sourceDocuments.add(sourceDoc);
 		}
 
 		@Override
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.MergeOperationBuilder;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.UniqueMergeId;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsDontMatch;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsMatch;
+import org.springframework.data.mongodb.core.aggregation.UnsetOperation;
+import org.springframework.data.mongodb.core.mapping.FieldName;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.lang.Contract;
+import org.springframework.util.Assert;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Default implementation for {@link BulkMergeOperations} staging documents through {@link BulkOperations} and merging
+ * them via {@link MergeOperation}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class DefaultBulkMergeOperations implements BulkMergeOperations {
+
+	private static final String STAGING_COLLECTION_INFIX = ".staging.";
+
+	private final MongoOperations mongoOperations;
+	private final @Nullable Class<?> entityType;
+	private final String collectionName;
+	private final String stagingCollectionName;
+	private final BulkOperations stagingOperations;
+
+	private UniqueMergeId on = UniqueMergeId.id();
+	private boolean onId = true;
+	private @Nullable WhenDocumentsMatch whenMatched;
+	private @Nullable WhenDocumentsDontMatch whenNotMatched;
+	private int stagedCount;
+
+	/**
+	 * Creates a new {@link DefaultBulkMergeOperations}.
+	 *
+	 * @param mongoOperations must not be {@literal null}.
+	 * @param entityType can be {@literal null}.
+	 * @param collectionName the target collection, must not be {@literal null} or empty.
+	 * @param stagingCollectionName the staging collection, must not be {@literal null} or empty.
+	 * @param stagingOperations {@link BulkOperations} writing to the staging collection, must not be {@literal null}.
+	 */
+	DefaultBulkMergeOperations(MongoOperations mongoOperations, @Nullable Class<?> entityType, String collectionName,
+			String stagingCollectionName, BulkOperations stagingOperations) {
+
+		Assert.notNull(mongoOperations, "MongoOperations must not be null");
+		Assert.hasText(collectionName, "CollectionName must not be null nor empty");
+		Assert.hasText(stagingCollectionName, "Staging collection name must not be null nor empty");
+		Assert.notNull(stagingOperations, "Staging BulkOperations must not be null");
+		Assert.isTrue(!collectionName.equals(stagingCollectionName),
+				"Staging collection must not be the target collection");
+
+		this.mongoOperations = mongoOperations;
+		this.entityType = entityType;
+		this.collectionName = collectionName;
+		this.stagingCollectionName = stagingCollectionName;
+		this.stagingOperations = stagingOperations;
+	}
+
+	/**
+	 * Create a unique staging collection name for the given target collection.
+	 *
+	 * @param collectionName the target collection name.
+	 * @return new staging collection name.
+	 */
+	static String createStagingCollectionName(String collectionName) {
+		return collectionName + STAGING_COLLECTION_INFIX + UUID.randomUUID().toString().replace("-", "");
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public BulkMergeOperations insert(Object document) {
+
+		Assert.notNull(document, "Document must not be null");
+
+		stagingOperations.insert(document);
+		stagedCount++;
+
+		return this;
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public BulkMergeOperations insert(List<? extends Object> documents) {
+
+		Assert.notNull(documents, "Documents must not be null");
+
+		documents.forEach(this::insert);
+
+		return this;
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public BulkMergeOperations on(String... fields) {
+
+		this.on = UniqueMergeId.ofIdFields(fields);
+		this.onId = fields.length == 1 && isIdField(fields[0]);
+		return this;
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public BulkMergeOperations whenMatched(WhenDocumentsMatch whenMatched) {
+
+		Assert.notNull(whenMatched, "WhenDocumentsMatch must not be null");
+
+		this.whenMatched = whenMatched;
+		return this;
+	}
+
+	@Override
+	@Contract("_ -> this")
+	public BulkMergeOperations whenNotMatched(WhenDocumentsDontMatch whenNotMatched) {
+
+		Assert.notNull(whenNotMatched, "WhenDocumentsDontMatch must not be null");
+
+		this.whenNotMatched = whenNotMatched;
+		return this;
+	}
+
+	@Override
+	public BulkWriteResult execute() {
+
+		if (stagedCount == 0) {
+			return BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList(), Collections.emptyList());
+		}
+
+		try {
+
+			BulkWriteResult result = stagingOperations.execute();
+
+			List<AggregationOperation> pipeline = createPipeline();
+			Aggregation aggregation = entityType != null ? Aggregation.newAggregation(entityType, pipeline)
+					: Aggregation.newAggregation(pipeline);
+
+			mongoOperations.aggregate(aggregation.withOptions(AggregationOptions.builder().skipOutput().build()),
+					stagingCollectionName, Document.class);
+
+			return result;
+		} finally {
+			mongoOperations.dropCollection(stagingCollectionName);
+		}
+	}
+
+	/**
+	 * Create the pipeline merging the staging collection into the target. Unless documents are matched by their
+	 * {@literal _id}, the {@literal _id} of the staged documents is removed as {@code $merge} must not modify the
+	 * immutable {@literal _id} of matched documents.
+	 *
+	 * @return the pipeline stages.
+	 */
+	List<AggregationOperation> createPipeline() {
+		return onId ? List.of(createMergeOperation()) : List.of(UnsetOperation.unset("_id"), createMergeOperation());
+	}
+
+	private boolean isIdField(String field) {
+
+		if (FieldName.ID.name().equals(field)) {
+			return true;
+		}
+
+		if (entityType == null) {
+			return false;
+		}
+
+		MongoPersistentEntity<?> entity = mongoOperations.getConverter().getMappingContext()
+				.getPersistentEntity(entityType);
+		MongoPersistentProperty idProperty = entity != null ? entity.getIdProperty() : null;
+
+		return idProperty != null && idProperty.getName().equals(field);
+	}
+
+	MergeOperation createMergeOperation() {
+
+		MergeOperationBuilder builder = MergeOperation.builder().intoCollection(collectionName).id(on);
+
+		if (whenMatched != null) {
+			builder.whenMatched(whenMatched);
+		}
+		if (whenNotMatched != null) {
+			builder.whenNotMatched(whenNotMatched);
+		}
+
+		return builder.build();
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -43,6 +44,7 @@ import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
 
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.WriteConcern;
@@ -81,6 +83,7 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 	private final List<SourceAwareWriteModelHolder> models = new ArrayList<>();
 
 	private @Nullable WriteConcern defaultWriteConcern;
+	private @Nullable DataSize batchTargetSize;
 	private BulkWriteOptions bulkOptions;
 
 	/**
@@ -115,6 +118,17 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the target size of a single bulk write. Operations are written using multiple bulk writes if their
+	 * accumulated encoded size exceeds the target size. Defaults to {@literal null} leaving batching to the driver.
+	 *
+	 * @param batchTargetSize can be {@literal null}.
+	 * @since 5.2
+	 */
+	void setBatchTargetSize(@Nullable DataSize batchTargetSize) {
+		this.batchTargetSize = batchTargetSize;
+	}
+
 	@Override
 	@Contract("_ -> this")
 	public BulkOperations insert(Object document) {
@@ -279,11 +293,19 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 
 		try {
 
-			return collection.bulkWrite( //
-					models.stream() //
-							.map(this::extractAndMapWriteModel) //
-							.collect(Collectors.toList()), //
-					bulkOptions);
+			List<WriteModel<Document>> writeModels = models.stream() //
+					.map(this::extractAndMapWriteModel) //
+					.collect(Collectors.toList());
+
+			CodecRegistry codecRegistry = collection.getCodecRegistry();
+			List<List<WriteModel<Document>>> batches = partitionByEncodedSize(writeModels,
+					it -> getEncodedSize(it, codecRegistry), batchTargetSize);
+
+			if (batches.size() == 1) {
+				return collection.bulkWrite(writeModels, bulkOptions);
+			}
+
+			return bulkWriteBatches(collection, batches);
 		} catch (RuntimeException ex) {
 
 			if (ex instanceof MongoBulkWriteException mongoBulkWriteException) {
@@ -298,6 +320,29 @@ class DefaultBulkOperations extends BulkOperationsSupport implements BulkOperati
 		}
 	}
 
+	private BulkWriteResult bulkWriteBatches(MongoCollection<Document> collection,
+			List<List<WriteModel<Document>>> batches) {
+
+		BatchedBulkWriteResult result = new BatchedBulkWriteResult(bulkOptions.isOrdered());
+		int offset = 0;
+
+		for (List<WriteModel<Document>> batch : batches) {
+
+			if (!result.shouldContinue()) {
+				break;
+			}
+
+			try {
+				result.add(offset, collection.bulkWrite(batch, bulkOptions));
+			} catch (MongoBulkWriteException ex) {
+				result.addFailure(offset, ex);
+			}
+			offset += batch.size();
+		}
+
+		return result.getResult();
+	}
+
 	private WriteModel<Document> extractAndMapWriteModel(SourceAwareWriteModelHolder it) {
 
 		maybeEmitBeforeSaveEvent(it);
@@ -35,6 +35,7 @@ import org.springframework.util.NumberUtils;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -132,6 +133,35 @@ public class DefaultIndexOperations implements IndexOperations {
 		});
 	}
 
+	@Override
+	@SuppressWarnings("NullAway")
+	public List<String> createIndexes(List<? extends IndexDefinition> indexDefinitions) {
+
+		Assert.notNull(indexDefinitions, "IndexDefinitions must not be null");
+
+		if (indexDefinitions.isEmpty()) {
+			return List.of();
+		}
+
+		return execute(collection -> {
+
+			MongoPersistentEntity<?> entity = lookupPersistentEntity(type, collectionName);
+			List<IndexModel> indexes = new ArrayList<>(indexDefinitions.size());
+
+			for (IndexDefinition indexDefinition : indexDefinitions) {
+
+				IndexOptions indexOptions = IndexConverters.indexDefinitionToIndexOptionsConverter().convert(indexDefinition);
+
+				indexOptions = addPartialFilterIfPresent(indexOptions, indexDefinition.getIndexOptions(), entity);
+				indexOptions = addDefaultCollationIfRequired(indexOptions, entity);
+
+				indexes.add(new IndexModel(mapper.getMappedSort(indexDefinition.getIndexKeys(), entity), indexOptions));
+			}
+
+			return collection.createIndexes(indexes);
+		});
+	}
+
 	private @Nullable MongoPersistentEntity<?> lookupPersistentEntity(@Nullable Class<?> entityType, String collection) {
 
 		if (entityType != null) {
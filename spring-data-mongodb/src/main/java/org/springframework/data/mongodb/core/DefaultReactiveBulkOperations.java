@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -43,7 +44,9 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.WriteConcern;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
@@ -55,6 +58,7 @@ import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 
 /**
@@ -72,6 +76,7 @@ class DefaultReactiveBulkOperations extends BulkOperationsSupport implements Rea
 	private final List<Mono<SourceAwareWriteModelHolder>> models = new ArrayList<>();
 
 	private @Nullable WriteConcern defaultWriteConcern;
+	private @Nullable DataSize batchTargetSize;
 
 	private BulkWriteOptions bulkOptions;
 
@@ -107,6 +112,17 @@ class DefaultReactiveBulkOperations extends BulkOperationsSupport implements Rea
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the target size of a single bulk write. Operations are written using multiple bulk writes if their
+	 * accumulated encoded size exceeds the target size. Defaults to {@literal null} leaving batching to the driver.
+	 *
+	 * @param batchTargetSize can be {@literal null}.
+	 * @since 5.2
+	 */
+	void setBatchTargetSize(@Nullable DataSize batchTargetSize) {
+		this.batchTargetSize = batchTargetSize;
+	}
+
 	@Override
 	@Contract("_ -> this")
 	public ReactiveBulkOperations insert(Object document) {
@@ -250,9 +266,7 @@ class DefaultReactiveBulkOperations extends BulkOperationsSupport implements Rea
 		MongoCollection<Document> theCollection = collection;
 		return concat.collectList().flatMap(it -> {
 
-			return Mono
-					.from(theCollection
-							.bulkWrite(it.stream().map(SourceAwareWriteModelHolder::model).collect(Collectors.toList()), bulkOptions))
+			return bulkWrite(theCollection, it.stream().map(SourceAwareWriteModelHolder::model).collect(Collectors.toList()))
 					.doOnSuccess(state -> {
 						it.forEach(this::maybeEmitAfterSaveEvent);
 					}).flatMap(state -> {
@@ -263,6 +277,38 @@ class DefaultReactiveBulkOperations extends BulkOperationsSupport implements Rea
 		});
 	}
 
+	private Mono<BulkWriteResult> bulkWrite(MongoCollection<Document> collection, List<WriteModel<Document>> writeModels) {
+
+		CodecRegistry codecRegistry = collection.getCodecRegistry();
+		List<List<WriteModel<Document>>> batches = partitionByEncodedSize(writeModels,
+				it -> getEncodedSize(it, codecRegistry), batchTargetSize);
+
+		if (batches.size() == 1) {
+			return Mono.from(collection.bulkWrite(writeModels, bulkOptions));
+		}
+
+		BulkWriteOptions options = bulkOptions;
+		BatchedBulkWriteResult result = new BatchedBulkWriteResult(options.isOrdered());
+		int[] offsets = new int[batches.size()];
+		for (int i = 1; i < batches.size(); i++) {
+			offsets[i] = offsets[i - 1] + batches.get(i - 1).size();
+		}
+
+		return Flux.range(0, batches.size()).concatMap(i -> {
+
+			if (!result.shouldContinue()) {
+				return Mono.empty();
+			}
+
+			return Mono.from(collection.bulkWrite(batches.get(i), options)) //
+					.doOnNext(it -> result.add(offsets[i], it)) //
+					.onErrorResume(MongoBulkWriteException.class, ex -> {
+						result.addFailure(offsets[i], ex);
+						return Mono.empty();
+					});
+		}).then(Mono.fromSupplier(result::getResult));
+	}
+
 	/**
 	 * Performs update and upsert bulk operations.
 	 *
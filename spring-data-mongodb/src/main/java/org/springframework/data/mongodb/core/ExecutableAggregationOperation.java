@@ -15,11 +15,21 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationChunk;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.lang.Contract;
+import org.springframework.util.Assert;
 
 /**
  * {@link ExecutableAggregationOperation} allows creation and execution of MongoDB aggregation operations in a fluent
@@ -109,6 +119,63 @@ public interface ExecutableAggregationOperation {
 		 *         through a try-with-resources clause).
 		 */
 		Stream<T> stream();
+
+		/**
+		 * Apply pipeline operations as specified and stream all matching elements in {@link AggregationChunk chunks} of
+		 * the given size. Results are read lazily from the server cursor so that only the current chunk is held in memory.
+		 * Each chunk carries cursor metadata such as the number of batches fetched and the time spent waiting for the
+		 * server. Unless configured via {@link org.springframework.data.mongodb.core.aggregation.AggregationOptions}, the
+		 * cursor batch size is set to the chunk size.
+		 *
+		 * <p>
+		 * The default implementation groups the results of {@link #stream()} and does not expose cursor metadata, hence
+		 * {@link AggregationChunk#getBatchCount()} is {@literal 0}, {@link AggregationChunk#getServerUsed()} is
+		 * {@literal null} and {@link AggregationChunk#getFetchTime()} includes result mapping.
+		 *
+		 * @param chunkSize the maximum number of results per chunk. Must be greater than zero.
+		 * @return the {@link Stream} of chunks, needing to be closed once fully processed (e.g. through a
+		 *         try-with-resources clause).
+		 * @since 5.2
+		 */
+		default Stream<AggregationChunk<T>> chunked(int chunkSize) {
+
+			Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+			Stream<T> stream = stream();
+			Iterator<T> source = stream.iterator();
+
+			Iterator<AggregationChunk<T>> chunks = new Iterator<>() {
+
+				private int index;
+				private long totalCount;
+
+				@Override
+				public boolean hasNext() {
+					return source.hasNext();
+				}
+
+				@Override
+				public AggregationChunk<T> next() {
+
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					long start = System.nanoTime();
+					List<T> content = new ArrayList<>(chunkSize);
+					while (content.size() < chunkSize && source.hasNext()) {
+						content.add(source.next());
+					}
+					Duration fetchTime = Duration.ofNanos(System.nanoTime() - start);
+					totalCount += content.size();
+
+					return new AggregationChunk<>(index++, content, totalCount, 0, fetchTime, null, !source.hasNext());
+				}
+			};
+
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+					.onClose(stream::close);
+		}
 	}
 
 	/**
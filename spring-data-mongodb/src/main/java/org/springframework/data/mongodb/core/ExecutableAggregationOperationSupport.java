@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationChunk;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.util.Assert;
@@ -109,6 +110,14 @@ class ExecutableAggregationOperationSupport implements ExecutableAggregationOper
 			return template.doAggregateStream(aggregation, getCollectionName(aggregation), domainType, resultConverter, null);
 		}
 
+		@Override
+		public Stream<AggregationChunk<T>> chunked(int chunkSize) {
+
+			Assert.notNull(aggregation, "Aggregation must be set first");
+			return template.doAggregateChunked(aggregation, getCollectionName(aggregation), domainType, resultConverter,
+					chunkSize);
+		}
+
 		private String getCollectionName(@Nullable Aggregation aggregation) {
 
 			if (StringUtils.hasText(collection)) {
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reader for flat record and closed interface projections consisting of simple typed properties only. Documents are
+ * read in a single pass binding each field by its precomputed parameter index, bypassing property accessors, object
+ * paths and value providers of the {@link MappingMongoConverter}. Conversion of values follows the rules the converter
+ * applies to simple types.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class FlatProjectionReader<T> {
+
+	private final Map<String, Integer> indexByField;
+	private final Class<?>[] types;
+	private final ConversionService conversionService;
+	private final CustomConversions conversions;
+	private final Instantiator<T> instantiator;
+
+	private FlatProjectionReader(Map<String, Integer> indexByField, Class<?>[] types, MongoConverter converter,
+			Instantiator<T> instantiator) {
+
+		this.indexByField = indexByField;
+		this.types = types;
+		this.conversionService = converter.getConversionService();
+		this.conversions = converter.getCustomConversions();
+		this.instantiator = instantiator;
+	}
+
+	/**
+	 * Read the given {@link Document}.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return the projection.
+	 */
+	T read(Document document) {
+
+		@Nullable Object[] values = new Object[types.length];
+
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+
+			Integer index = indexByField.get(entry.getKey());
+			if (index != null) {
+				values[index] = convert(entry.getValue(), types[index]);
+			}
+		}
+
+		return instantiator.create(values);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private @Nullable Object convert(@Nullable Object value, Class<?> target) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (conversions.hasCustomReadTarget(value.getClass(), target)) {
+			return conversionService.convert(value, target);
+		}
+
+		if (ClassUtils.isAssignableValue(target, value)) {
+			return value;
+		}
+
+		if (Enum.class.isAssignableFrom(target)) {
+			return Enum.valueOf((Class<Enum>) target, value.toString());
+		}
+
+		return conversionService.convert(value, target);
+	}
+
+	/**
+	 * Creates and caches {@link FlatProjectionReader readers} for projection types. Readers are only created for the
+	 * default {@link MappingMongoConverter} as subclasses may customize reading.
+	 *
+	 * @author Mark Paluch
+	 * @since 5.2
+	 */
+	static class Factory {
+
+		private final MongoConverter converter;
+		private final CustomConversions conversions;
+		private final boolean enabled;
+		private final Map<ReaderKey, Optional<FlatProjectionReader<?>>> readers = new ConcurrentHashMap<>();
+
+		Factory(MongoConverter converter) {
+
+			this.converter = converter;
+			this.conversions = converter.getCustomConversions();
+			this.enabled = converter.getClass() == MappingMongoConverter.class;
+		}
+
+		/**
+		 * Obtain the reader for the given record type.
+		 *
+		 * @param type the record type.
+		 * @return the reader or {@literal null} if the type is no flat record.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> @Nullable FlatProjectionReader<T> forRecord(Class<T> type) {
+
+			if (!enabled || !type.isRecord()) {
+				return null;
+			}
+
+			return (FlatProjectionReader<T>) readers
+					.computeIfAbsent(new ReaderKey(type, null), key -> Optional.ofNullable(createRecordReader(type)))
+					.orElse(null);
+		}
+
+		/**
+		 * Obtain the reader for the given interface projecting the given domain type.
+		 *
+		 * @param type the interface type.
+		 * @param domainType the domain type.
+		 * @return the reader or {@literal null} if the type is no closed projection of simple typed properties.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> @Nullable FlatProjectionReader<T> forInterface(Class<T> type, Class<?> domainType) {
+
+			if (!enabled || !type.isInterface()) {
+				return null;
+			}
+
+			return (FlatProjectionReader<T>) readers.computeIfAbsent(new ReaderKey(type, domainType),
+					key -> Optional.ofNullable(createInterfaceReader(type, domainType))).orElse(null);
+		}
+
+		private <T> @Nullable FlatProjectionReader<T> createRecordReader(Class<T> type) {
+
+			if (conversions.hasCustomReadTarget(Document.class, type)) {
+				return null;
+			}
+
+			MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+			InstanceCreatorMetadata<MongoPersistentProperty> creator = entity != null ? entity.getInstanceCreatorMetadata()
+					: null;
+
+			if (!(creator instanceof PreferredConstructor<?, MongoPersistentProperty> preferredConstructor)
+					|| creator.getParameterCount() != type.getRecordComponents().length) {
+				return null;
+			}
+
+			List<Parameter<Object, MongoPersistentProperty>> parameters = preferredConstructor.getParameters();
+			Map<String, Integer> indexByField = new HashMap<>(parameters.size(), 1F);
+			Class<?>[] types = new Class<?>[parameters.size()];
+
+			for (int i = 0; i < parameters.size(); i++) {
+
+				Parameter<Object, MongoPersistentProperty> parameter = parameters.get(i);
+				MongoPersistentProperty property = parameter.getName() != null
+						? entity.getPersistentProperty(parameter.getName())
+						: null;
+
+				if (parameter.hasValueExpression() || !isFlat(property)
+						|| indexByField.put(property.getFieldName(), i) != null) {
+					return null;
+				}
+				types[i] = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			}
+
+			Constructor<?> constructor = preferredConstructor.getConstructor();
+			return new FlatProjectionReader<>(indexByField, types, converter,
+					values -> type.cast(BeanUtils.instantiateClass(constructor, values)));
+		}
+
+		private <T> @Nullable FlatProjectionReader<T> createInterfaceReader(Class<T> type, Class<?> domainType) {
+
+			ProjectionFactory projectionFactory = converter.getProjectionFactory();
+			ProjectionInformation information = projectionFactory.getProjectionInformation(type);
+			MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(domainType);
+
+			if (!information.isClosed() || entity == null) {
+				return null;
+			}
+
+			List<PropertyDescriptor> descriptors = information.getInputProperties();
+			Map<String, Integer> indexByField = new HashMap<>(descriptors.size(), 1F);
+			String[] names = new String[descriptors.size()];
+			Class<?>[] types = new Class<?>[descriptors.size()];
+
+			for (int i = 0; i < descriptors.size(); i++) {
+
+				PropertyDescriptor descriptor = descriptors.get(i);
+				MongoPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+
+				if (!isFlat(property) || descriptor.getPropertyType() != property.getType()
+						|| indexByField.put(property.getFieldName(), i) != null) {
+					return null;
+				}
+				names[i] = descriptor.getName();
+				types[i] = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			}
+
+			return new FlatProjectionReader<>(indexByField, types, converter, values -> {
+
+				Map<String, @Nullable Object> target = new HashMap<>(values.length, 1F);
+				for (int i = 0; i < values.length; i++) {
+					if (values[i] != null) {
+						target.put(names[i], values[i]);
+					}
+				}
+				return projectionFactory.createProjection(type, target);
+			});
+		}
+
+		private boolean isFlat(@Nullable MongoPersistentProperty property) {
+
+			if (property == null || property.isAssociation() || property.isEntity() || property.isUnwrapped()
+					|| conversions.hasValueConverter(property) || property.getFieldName().contains(".")) {
+				return false;
+			}
+
+			Class<?> type = property.getType();
+			return conversions.isSimpleType(type) && !type.isArray() && !Collection.class.isAssignableFrom(type)
+					&& !Map.class.isAssignableFrom(type) && type != Object.class;
+		}
+
+		private record ReaderKey(Class<?> type, @Nullable Class<?> domainType) {
+		}
+	}
+
+	private interface Instantiator<T> {
+		T create(@Nullable Object[] values);
+	}
+}
@@ -37,6 +37,7 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.bulk.Bulk;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
@@ -504,6 +505,27 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	BulkOperations bulkOps(BulkMode mode, @Nullable Class<?> entityType, String collectionName);
 
+	/**
+	 * Returns a new {@link BulkMergeOperations} merging documents into the collection associated with the given entity
+	 * type via a temporary staging collection.
+	 *
+	 * @param entityType the name of the entity class, must not be {@literal null}.
+	 * @return {@link BulkMergeOperations} on the named collection associated of the given entity class.
+	 * @since 5.2
+	 */
+	BulkMergeOperations bulkMergeOps(Class<?> entityType);
+
+	/**
+	 * Returns a new {@link BulkMergeOperations} merging documents into the given collection via a temporary staging
+	 * collection.
+	 *
+	 * @param entityType the name of the entity class. Can be {@literal null}.
+	 * @param collectionName the name of the collection to merge into, must not be {@literal null} or empty.
+	 * @return {@link BulkMergeOperations} on the named collection associated with the given entity class.
+	 * @since 5.2
+	 */
+	BulkMergeOperations bulkMergeOps(@Nullable Class<?> entityType, String collectionName);
+
 	/**
 	 * Query for a list of objects of type T from the collection used by the entity class. <br />
 	 * The object is converted from the MongoDB native representation using an instance of {@see MongoConverter}. Unless
@@ -580,6 +602,33 @@ public interface MongoOperations extends FluentMongoOperations {
 	 */
 	<O> AggregationResults<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
 
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution. The pipeline is rendered and mapped once against
+	 * the {@link TypedAggregation#getInputType() input type}. Each execution binds values for the
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} used within the
+	 * aggregation via {@link PreparedAggregation#bind(java.util.Map)}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 * @since 5.2
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation);
+
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution. The pipeline is rendered and mapped once against
+	 * the given input type. Each execution binds values for the
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} used within the
+	 * aggregation via {@link PreparedAggregation#bind(java.util.Map)}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param inputType the inputType where the aggregation operation will read from, must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 * @since 5.2
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType);
+
 	/**
 	 * Execute an aggregation operation backed by a Mongo DB {@link com.mongodb.client.AggregateIterable}.
 	 * <p>
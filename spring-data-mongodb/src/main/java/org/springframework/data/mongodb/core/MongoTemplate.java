@@ -20,16 +20,19 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.jspecify.annotations.Nullable;
 
@@ -72,11 +75,17 @@ import org.springframework.data.mongodb.core.QueryOperations.QueryContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.ScrollUtils.KeysetScrollQuery;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationChunk;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions.Builder;
 import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache.CacheKey;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.MaterializedAggregations;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.bulk.Bulk;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
@@ -90,8 +99,10 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.MongoJsonSchemaMapper;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.ReferenceLookupStages;
 import org.springframework.data.mongodb.core.convert.UpdateMapper;
 import org.springframework.data.mongodb.core.index.DefaultSearchIndexOperations;
+import org.springframework.data.mongodb.core.index.IndexAdvisor;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexOperationsProvider;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
@@ -114,11 +125,17 @@ import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
 import org.springframework.data.mongodb.core.timeseries.Granularity;
 import org.springframework.data.mongodb.core.validation.Validator;
+import org.springframework.data.mongodb.observability.ExplainPlanSampler;
+import org.springframework.data.mongodb.observability.MappingObservations;
+import org.springframework.data.mongodb.observability.MappingObservations.DocumentObservation;
+import org.springframework.data.mongodb.observability.MappingPhase;
+import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.projection.EntityProjection;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Contract;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
@@ -126,10 +143,13 @@ import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.MongoException;
 import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.*;
 import com.mongodb.client.model.*;
@@ -204,8 +224,16 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private final PropertyOperations propertyOperations;
 	private final QueryOperations queryOperations;
 	private final EntityLifecycleEventDelegate eventDelegate;
+	private final FlatProjectionReader.Factory flatProjectionReaders;
 
 	private @Nullable WriteConcern writeConcern;
+	private @Nullable DataSize writeBatchTargetSize;
+	private @Nullable AggregationResultCache aggregationResultCache;
+	private @Nullable MaterializedAggregations materializedAggregations;
+	private @Nullable ExplainPlanSampler explainPlanSampler;
+	private @Nullable MappingObservations mappingObservations;
+	private @Nullable IndexAdvisor indexAdvisor;
+	private boolean lookupEagerReferences;
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
@@ -265,6 +293,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.queryOperations = new QueryOperations(queryMapper, updateMapper, operations, propertyOperations,
 				mongoDbFactory);
 		this.eventDelegate = new EntityLifecycleEventDelegate();
+		this.flatProjectionReaders = new FlatProjectionReader.Factory(this.mongoConverter);
 
 		// We always have a mapping context in the converter, whether it's a simple one or not
 		mappingContext = this.mongoConverter.getMappingContext();
@@ -302,6 +331,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.propertyOperations = that.propertyOperations;
 		this.queryOperations = that.queryOperations;
 		this.eventDelegate = that.eventDelegate;
+		this.flatProjectionReaders = that.flatProjectionReaders;
+		this.writeBatchTargetSize = that.writeBatchTargetSize;
 	}
 
 	/**
@@ -324,6 +355,106 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures the target size of a single write batch. Documents inserted through {@code insert(Collection, …)}
+	 * and {@code insertAll(…)} as well as operations of {@link BulkOperations} are sent using multiple
+	 * {@code insertMany} respectively {@code bulkWrite} commands once their accumulated encoded BSON size exceeds the
+	 * target size. Setting {@literal null} (default) leaves batching to the driver.
+	 *
+	 * @param writeBatchTargetSize can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setWriteBatchTargetSize(@Nullable DataSize writeBatchTargetSize) {
+
+		Assert.isTrue(writeBatchTargetSize == null || writeBatchTargetSize.toBytes() > 0,
+				"Write batch target size must be greater than zero");
+		this.writeBatchTargetSize = writeBatchTargetSize;
+	}
+
+	/**
+	 * Configures the {@link AggregationResultCache} serving results of aggregations that opt in to caching via
+	 * {@link AggregationOptions.Builder#cacheResults(Duration)}. Setting {@literal null} (default) disables caching.
+	 *
+	 * @param aggregationResultCache can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setAggregationResultCache(@Nullable AggregationResultCache aggregationResultCache) {
+		this.aggregationResultCache = aggregationResultCache;
+	}
+
+	/**
+	 * Configures the {@link MaterializedAggregations} answering aggregations that render the same pipeline as a
+	 * registered {@link org.springframework.data.mongodb.core.aggregation.MaterializedAggregation} from its target
+	 * collection. Aggregations defining a collation, read concern, read preference or hint are always run against their
+	 * source collection. Setting {@literal null} (default) runs all aggregations against their source collection.
+	 *
+	 * @param materializedAggregations can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setMaterializedAggregations(@Nullable MaterializedAggregations materializedAggregations) {
+		this.materializedAggregations = materializedAggregations;
+	}
+
+	/**
+	 * Configures the {@link ExplainPlanSampler} capturing explain plans of sampled {@code find} and {@code aggregate}
+	 * executions. Setting {@literal null} (default) disables sampling. Executions within a transaction or using a
+	 * {@link com.mongodb.client.ClientSession} bound to the current thread are not sampled as sessions must not be
+	 * shared with the sampler and {@code explain} is not supported within transactions.
+	 *
+	 * @param explainPlanSampler can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setExplainPlanSampler(@Nullable ExplainPlanSampler explainPlanSampler) {
+		this.explainPlanSampler = explainPlanSampler;
+	}
+
+	/**
+	 * Configures the {@link MappingObservations} observing query mapping, reading and writing of domain types. Setting
+	 * {@literal null} (default) disables mapping observations. Encoded document sizes are measured using the
+	 * {@link MongoDatabaseFactory#getCodecRegistry() codec registry} of this template.
+	 *
+	 * @param mappingObservations can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setMappingObservations(@Nullable MappingObservations mappingObservations) {
+
+		if (mappingObservations != null) {
+			mappingObservations.setCodecRegistryProvider(mongoDbFactory);
+		}
+		this.mappingObservations = mappingObservations;
+	}
+
+	/**
+	 * Configures the {@link IndexAdvisor} recording the shapes of executed {@code find} queries. Setting {@literal null}
+	 * (default) disables recording.
+	 *
+	 * @param indexAdvisor can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setIndexAdvisor(@Nullable IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
+	}
+
+	/**
+	 * Configure whether {@link #find(Query, Class, String)} joins the documents of non lazy
+	 * {@link org.springframework.data.mongodb.core.mapping.DocumentReference} and
+	 * {@link org.springframework.data.mongodb.core.mapping.DBRef} properties through {@code $lookup} stages running an
+	 * aggregation, instead of resolving the references of each result after reading it. Queries defining a field
+	 * projection or cursor flags are not rewritten. References that cannot be joined are resolved as usual. Disabled by
+	 * default.
+	 * <p>
+	 * Joining {@link org.springframework.data.mongodb.core.mapping.DBRef} properties and
+	 * {@link org.springframework.data.mongodb.core.mapping.DocumentReference#sort() sorted} document references renders
+	 * {@code $lookup} stages combining {@code localField} with a {@code pipeline} which requires MongoDB 5.0 or later.
+	 *
+	 * @param lookupEagerReferences {@literal true} to join references.
+	 * @since 5.2
+	 * @see ReferenceLookupStages
+	 */
+	public void setLookupEagerReferences(boolean lookupEagerReferences) {
+		this.lookupEagerReferences = lookupEagerReferences;
+	}
+
 	/**
 	 * Configures the {@link WriteConcernResolver} to be used with the template.
 	 *
@@ -866,10 +997,26 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 						eventPublisher, entityCallbacks));
 
 		operations.setDefaultWriteConcern(writeConcern);
+		operations.setBatchTargetSize(writeBatchTargetSize);
 
 		return operations;
 	}
 
+	@Override
+	public BulkMergeOperations bulkMergeOps(Class<?> entityType) {
+		return bulkMergeOps(entityType, getCollectionName(entityType));
+	}
+
+	@Override
+	public BulkMergeOperations bulkMergeOps(@Nullable Class<?> entityType, String collectionName) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		String stagingCollectionName = DefaultBulkMergeOperations.createStagingCollectionName(collectionName);
+		return new DefaultBulkMergeOperations(this, entityType, collectionName, stagingCollectionName,
+				bulkOps(BulkMode.UNORDERED, entityType, stagingCollectionName));
+	}
+
 	@Override
 	public ScriptOperations scriptOps() {
 		return new DefaultScriptOperations(this);
@@ -942,10 +1089,95 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(collectionName, "CollectionName must not be null");
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
+		if (lookupEagerReferences && query.getFieldsObject().isEmpty() && query.getMeta().getFlags().isEmpty()
+				&& !containsOperatorNotAllowedInMatch(query.getQueryObject())) {
+
+			MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+			List<Document> lookups = entity != null ? new ReferenceLookupStages(mappingContext).createLookupStages(entity)
+					: Collections.emptyList();
+
+			if (entity != null && !lookups.isEmpty()) {
+				return doFindWithReferenceLookups(query, entity, entityClass, collectionName, lookups);
+			}
+		}
+
 		return doFind(collectionName, createDelegate(query), query.getQueryObject(), query.getFieldsObject(), entityClass,
 				new QueryCursorPreparer(query, entityClass));
 	}
 
+	private static boolean containsOperatorNotAllowedInMatch(@Nullable Object source) {
+
+		if (source instanceof Collection<?> collection) {
+			return collection.stream().anyMatch(MongoTemplate::containsOperatorNotAllowedInMatch);
+		}
+
+		if (source instanceof Document document) {
+			for (Map.Entry<String, Object> entry : document.entrySet()) {
+				if ("$near".equals(entry.getKey()) || "$nearSphere".equals(entry.getKey()) || "$where".equals(entry.getKey())
+						|| containsOperatorNotAllowedInMatch(entry.getValue())) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Run the given {@link Query} as aggregation appending the given {@code $lookup} stages joining referenced documents.
+	 *
+	 * @since 5.2
+	 */
+	private <T> List<T> doFindWithReferenceLookups(Query query, MongoPersistentEntity<?> entity, Class<T> entityClass,
+			String collectionName, List<Document> lookups) {
+
+		Document mappedQuery = queryOperations.createQueryContext(query).getMappedQuery(entity);
+		List<AggregationOperation> stages = new ArrayList<>(lookups.size() + 4);
+
+		if (!mappedQuery.isEmpty()) {
+			stages.add(Aggregation.stage(new Document("$match", mappedQuery)));
+		}
+		if (query.isSorted()) {
+			stages.add(Aggregation.stage(new Document("$sort", getMappedSortObject(query, entityClass))));
+		}
+		if (query.getSkip() > 0) {
+			stages.add(Aggregation.stage(new Document("$skip", query.getSkip())));
+		}
+		if (query.isLimited()) {
+			stages.add(Aggregation.stage(new Document("$limit", query.getLimit())));
+		}
+		for (Document lookup : lookups) {
+			stages.add(Aggregation.stage(lookup));
+		}
+
+		Meta meta = query.getMeta();
+		AggregationOptions.Builder options = AggregationOptions.builder() //
+				.collation(operations.forType(entityClass).getCollation(query).orElse(null)) //
+				.comment(meta.hasComment() ? meta.getRequiredComment() : null) //
+				.maxTime(meta.hasMaxTime() ? Duration.ofMillis(meta.getRequiredMaxTimeMsec()) : null) //
+				.readConcern(query.getReadConcern()) //
+				.readPreference(query.getReadPreference());
+
+		if (meta.getCursorBatchSize() != null) {
+			options.cursorBatchSize(meta.getCursorBatchSize());
+		}
+		if (meta.getAllowDiskUse() != null) {
+			options.allowDiskUse(meta.getAllowDiskUse());
+		}
+
+		String hint = query.getHint();
+		if (StringUtils.hasText(hint)) {
+			if (BsonUtils.isJsonDocument(hint)) {
+				options.hint(Document.parse(hint));
+			} else {
+				options.hint(hint);
+			}
+		}
+
+		Aggregation aggregation = Aggregation.newAggregation(stages).withOptions(options.build());
+		return doAggregate(aggregation, collectionName, entityClass, Aggregation.DEFAULT_CONTEXT).getMappedResults();
+	}
+
 	@Override
 	public <T> Window<T> scroll(Query query, Class<T> entityType) {
 
@@ -1453,7 +1685,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doInsert(String collectionName, T objectToSave) {
 
-		SourceAwareDocument<T> initialized = prepareObjectForSave(collectionName, objectToSave);
+		SourceAwareDocument<T> initialized = observeMapping(MappingPhase.WRITE, "insert",
+				ClassUtils.getUserClass(objectToSave), collectionName, () -> prepareObjectForSave(collectionName, objectToSave),
+				it -> List.of(it.document()));
 
 		Document dbDoc = initialized.document();
 		Object id = insertDocument(collectionName, dbDoc, initialized.source().getClass());
@@ -1522,24 +1756,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		List<Document> documentList = new ArrayList<>(batchToSave.size());
 		List<T> initializedBatchToSave = new ArrayList<>(batchToSave.size());
-		for (T uninitialized : batchToSave) {
-
-			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
-			T toConvert = maybeEmitEvent(event).getSource();
-			toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+		Class<?> entityType = batchToSave.isEmpty() ? null : ClassUtils.getUserClass(batchToSave.iterator().next());
 
-			AdaptibleEntity<T> entity = operations.forEntityUpsert(toConvert, mongoConverter.getConversionService());
-			T initialized = entity.initializeVersionProperty();
-			Document document = entity.toMappedDocument(writer).getDocument();
-			maybeEmitEvent(new BeforeSaveEvent<>(initialized, document, collectionName));
-			initialized = maybeCallBeforeSave(initialized, document, collectionName);
-
-			MappedDocument mappedDocument = queryOperations.createInsertContext(MappedDocument.of(document))
-					.prepareId(uninitialized.getClass());
+		observeMapping(MappingPhase.WRITE, "insert", entityType, collectionName, () -> {
 
-			documentList.add(mappedDocument.getDocument());
-			initializedBatchToSave.add(initialized);
-		}
+			prepareBatchForSave(collectionName, batchToSave, writer, documentList, initializedBatchToSave);
+			return documentList;
+		}, Function.identity());
 
 		List<Object> ids = insertDocumentList(collectionName, documentList);
 		List<T> savedObjects = new ArrayList<>(documentList.size());
@@ -1561,6 +1784,29 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return savedObjects;
 	}
 
+	private <T> void prepareBatchForSave(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<T> writer, List<Document> documentList, List<T> initializedBatchToSave) {
+
+		for (T uninitialized : batchToSave) {
+
+			BeforeConvertEvent<T> event = new BeforeConvertEvent<>(uninitialized, collectionName);
+			T toConvert = maybeEmitEvent(event).getSource();
+			toConvert = maybeCallBeforeConvert(toConvert, collectionName);
+
+			AdaptibleEntity<T> entity = operations.forEntityUpsert(toConvert, mongoConverter.getConversionService());
+			T initialized = entity.initializeVersionProperty();
+			Document document = entity.toMappedDocument(writer).getDocument();
+			maybeEmitEvent(new BeforeSaveEvent<>(initialized, document, collectionName));
+			initialized = maybeCallBeforeSave(initialized, document, collectionName);
+
+			MappedDocument mappedDocument = queryOperations.createInsertContext(MappedDocument.of(document))
+					.prepareId(uninitialized.getClass());
+
+			documentList.add(mappedDocument.getDocument());
+			initializedBatchToSave.add(initialized);
+		}
+	}
+
 	@Override
 	public <T> T save(T objectToSave) {
 
@@ -1626,18 +1872,24 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
-		objectToSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
-		objectToSave = maybeCallBeforeConvert(objectToSave, collectionName);
+		SourceAwareDocument<T> prepared = observeMapping(MappingPhase.WRITE, "save",
+				ClassUtils.getUserClass(objectToSave), collectionName, () -> {
+
+					T toSave = maybeEmitEvent(new BeforeConvertEvent<>(objectToSave, collectionName)).getSource();
+					toSave = maybeCallBeforeConvert(toSave, collectionName);
+
+					AdaptibleEntity<T> entity = operations.forEntityUpsert(toSave, mongoConverter.getConversionService());
+					Document dbDoc = entity.toMappedDocument(writer).getDocument();
 
-		AdaptibleEntity<T> entity = operations.forEntityUpsert(objectToSave, mongoConverter.getConversionService());
-		MappedDocument mapped = entity.toMappedDocument(writer);
-		Document dbDoc = mapped.getDocument();
+					maybeEmitEvent(new BeforeSaveEvent<>(toSave, dbDoc, collectionName));
+					return new SourceAwareDocument<>(maybeCallBeforeSave(toSave, dbDoc, collectionName), dbDoc, collectionName);
+				}, it -> List.of(it.document()));
 
-		maybeEmitEvent(new BeforeSaveEvent<>(objectToSave, dbDoc, collectionName));
-		objectToSave = maybeCallBeforeSave(objectToSave, dbDoc, collectionName);
-		Object id = saveDocument(collectionName, dbDoc, objectToSave.getClass());
+		T toSave = prepared.source();
+		Document dbDoc = prepared.document();
+		Object id = saveDocument(collectionName, dbDoc, toSave.getClass());
 
-		T saved = populateIdIfNecessary(objectToSave, id);
+		T saved = populateIdIfNecessary(toSave, id);
 		maybeEmitEvent(new AfterSaveEvent<>(saved, dbDoc, collectionName));
 
 		return maybeCallAfterSave(saved, dbDoc, collectionName);
@@ -1685,10 +1937,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					null, null);
 			WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
 
-			if (writeConcernToUse == null) {
-				collection.insertMany(documents);
-			} else {
-				collection.withWriteConcern(writeConcernToUse).insertMany(documents);
+			MongoCollection<Document> collectionToUse = writeConcernToUse == null ? collection
+					: collection.withWriteConcern(writeConcernToUse);
+			CodecRegistry codecRegistry = collectionToUse.getCodecRegistry();
+
+			for (List<Document> batch : BulkOperationsSupport.partitionByEncodedSize(documents,
+					it -> BsonUtils.getEncodedSize(it, codecRegistry), writeBatchTargetSize)) {
+				collectionToUse.insertMany(batch);
 			}
 
 			return null;
@@ -1810,10 +2065,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				: queryOperations.updateSingleContext(update, query, upsert);
 		updateContext.increaseVersionForUpdateIfNecessary(entity);
 
-		Document queryObj = updateContext.getMappedQuery(entity);
+		boolean aggregationUpdate = updateContext.isAggregationUpdate();
+		List<Document> mapped = observeMapping(MappingPhase.QUERY_MAPPING, "update", entityClass, collectionName,
+				() -> aggregationUpdate ? List.of(updateContext.getMappedQuery(entity))
+						: List.of(updateContext.getMappedQuery(entity), updateContext.getMappedUpdate(entity)));
+		Document queryObj = mapped.get(0);
 		UpdateOptions opts = updateContext.getUpdateOptions(entity, query);
 
-		if (updateContext.isAggregationUpdate()) {
+		if (aggregationUpdate) {
 
 			List<Document> pipeline = updateContext.getUpdatePipeline(entityClass);
 			MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
@@ -1833,7 +2092,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			});
 		}
 
-		Document updateObj = updateContext.getMappedUpdate(entity);
+		Document updateObj = mapped.get(1);
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName, entityClass,
 				updateObj, queryObj);
 		WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
@@ -1917,7 +2176,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		DeleteContext deleteContext = multi ? queryOperations.deleteQueryContext(query)
 				: queryOperations.deleteSingleContext(query);
-		Document queryObject = deleteContext.getMappedQuery(entity);
+		Document queryObject = observeMapping(MappingPhase.QUERY_MAPPING, "remove", entityClass, collectionName,
+				() -> deleteContext.getMappedQuery(entity));
 		DeleteOptions options = deleteContext.getDeleteOptions(entity);
 
 		MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.REMOVE, collectionName, entityClass,
@@ -2134,6 +2394,29 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		return doAggregate(aggregation, collectionName, outputType, QueryResultConverter.entity());
 	}
 
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
+
+		Class<?> inputType = aggregation instanceof TypedAggregation<?> typedAggregation ? typedAggregation.getInputType()
+				: null;
+		return doPrepareAggregation(aggregation, inputType);
+	}
+
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
+		Assert.notNull(inputType, "Input type must not be null");
+
+		return doPrepareAggregation(aggregation, inputType);
+	}
+
+	private PreparedAggregation doPrepareAggregation(Aggregation aggregation, @Nullable Class<?> inputType) {
+		return PreparedAggregation.of(aggregation, inputType, mongoConverter);
+	}
+
 	@Override
 	public <O> Stream<O> aggregateStream(TypedAggregation<?> aggregation, String inputCollectionName,
 			Class<O> outputType) {
@@ -2300,8 +2583,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	<T, O> AggregationResults<O> doAggregate(Aggregation aggregation, String collectionName, Class<T> outputType,
 			QueryResultConverter<? super T, ? extends O> resultConverter, AggregationOperationContext context) {
 
+		FlatProjectionReader<T> flatReader = aggregation instanceof TypedAggregation<?> ta
+				? flatProjectionReaders.forInterface(outputType, ta.getInputType())
+				: null;
+		if (flatReader == null) {
+			flatReader = flatProjectionReaders.forRecord(outputType);
+		}
+
 		final DocumentCallback<O> callback;
-		if (aggregation instanceof TypedAggregation<?> ta && outputType.isInterface()) {
+		if (flatReader != null) {
+			callback = new QueryResultConverterCallback<>(resultConverter,
+					new FlatProjectionReadCallback<>(flatReader, outputType, collectionName));
+		} else if (aggregation instanceof TypedAggregation<?> ta && outputType.isInterface()) {
 			EntityProjection<T, ?> projection = operations.introspectProjection(outputType, ta.getInputType());
 			ProjectingReadCallback cb = new ProjectingReadCallback(mongoConverter, projection, collectionName);
 			callback = new QueryResultConverterCallback<>(resultConverter, cb);
@@ -2329,11 +2622,44 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		List<Document> pipeline = aggregationUtil.createPipeline(aggregation, context);
 
+		MaterializedAggregations materialized = this.materializedAggregations;
+		if (materialized != null && canReadMaterialized(aggregation)) {
+
+			List<Document> rawResult = materialized.read(collectionName, pipeline);
+			if (rawResult != null) {
+				return new AggregationResults<>(rawResult.stream().map(callback::doWith).collect(Collectors.toList()),
+						new Document("results", rawResult).append("ok", 1.0D));
+			}
+		}
+
+		AggregationResultCache cache = this.aggregationResultCache;
+		CacheKey cacheKey = AggregationUtil.isCacheable(cache, aggregation)
+				? AggregationResultCache.key(doGetDatabase().getName(), collectionName, pipeline, options)
+				: null;
+		long evictionCount = 0;
+
+		if (cache != null && cacheKey != null) {
+
+			List<Document> cached = cache.get(cacheKey);
+			if (cached != null) {
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("Using cached aggregation results for %s", cacheKey));
+				}
+
+				return new AggregationResults<>(cached.stream().map(callback::doWith).collect(Collectors.toList()),
+						new Document("results", cached).append("ok", 1.0D));
+			}
+
+			evictionCount = cache.getEvictionCount();
+		}
+
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(
 					String.format("Executing aggregation: %s in collection %s", serializeToJsonSafely(pipeline), collectionName));
 		}
 
+		long evictionCountBefore = evictionCount;
 		return execute(collectionName, collection -> {
 
 			List<Document> rawResult = new ArrayList<>();
@@ -2377,17 +2703,53 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				return new AggregationResults<>(Collections.emptyList(), new Document());
 			}
 
+			DocumentObservation observation = observeReading("aggregate", callback, collectionName);
 			MongoIterable<O> iterable = aggregateIterable.map(val -> {
 
 				rawResult.add(val);
-				return callback.doWith(val);
+				return observation.map(val, callback::doWith);
 			});
 
-			return new AggregationResults<>(iterable.into(new ArrayList<>()),
-					new Document("results", rawResult).append("ok", 1.0D));
+			long start = System.nanoTime();
+			List<O> mappedResults;
+			try {
+				mappedResults = iterable.into(new ArrayList<>());
+			} catch (RuntimeException e) {
+
+				observation.error(e);
+				throw e;
+			} finally {
+				observation.stop();
+			}
+
+			AggregateIterable<Document> explainable = aggregateIterable;
+			maybeSampleExplainPlan(collectionName, "aggregate", start,
+					() -> explainable.explain(ExplainVerbosity.EXECUTION_STATS));
+
+			if (cache != null && cacheKey != null) {
+				cache.put(cacheKey, rawResult, options.getCacheTimeToLive().orElseThrow(), evictionCountBefore);
+			}
+
+			return new AggregationResults<>(mappedResults, new Document("results", rawResult).append("ok", 1.0D));
 		});
 	}
 
+	/**
+	 * Check whether the results of the given aggregation can be read from {@link MaterializedAggregations}, which do not
+	 * consider a collation, read concern, read preference or hint.
+	 */
+	private boolean canReadMaterialized(Aggregation aggregation) {
+
+		AggregationOptions options = aggregation.getOptions();
+		Class<?> domainType = aggregation instanceof TypedAggregation<?> typedAggregation
+				? typedAggregation.getInputType()
+				: null;
+
+		return !options.isSkipResults() && options.getCollation().isEmpty()
+				&& operations.forType(domainType).getCollation().isEmpty() && options.getReadConcern() == null
+				&& options.getReadPreference() == null && options.getHintObject().isEmpty();
+	}
+
 	protected <O> Stream<O> aggregateStream(Aggregation aggregation, String collectionName, Class<O> outputType,
 			@Nullable AggregationOperationContext context) {
 		return doAggregateStream(aggregation, collectionName, outputType, QueryResultConverter.entity(), context);
@@ -2417,41 +2779,93 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		return execute(collectionName, (CollectionCallback<Stream<O>>) collection -> {
 
-			CollectionPreparerDelegate delegate = CollectionPreparerDelegate.of(options);
+			AggregateIterable<Document> cursor = prepareAggregateCursor(collection, aggregation, pipeline);
+			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback).stream();
+		});
+	}
 
-			AggregateIterable<Document> cursor = delegate.prepare(collection).aggregate(pipeline, Document.class);
+	/**
+	 * Execute the given aggregation and read the results lazily in chunks of the given size. Unless
+	 * {@link AggregationOptions#getCursorBatchSize() configured otherwise}, the cursor batch size is set to the chunk size.
+	 *
+	 * @since 5.2
+	 */
+	@SuppressWarnings({ "ConstantConditions", "NullAway" })
+	<T, O> Stream<AggregationChunk<O>> doAggregateChunked(Aggregation aggregation, String collectionName,
+			Class<T> outputType, QueryResultConverter<? super T, ? extends O> resultConverter, int chunkSize) {
 
-			if (options.isAllowDiskUseSet()) {
-				cursor = cursor.allowDiskUse(options.isAllowDiskUse());
-			}
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(outputType, "Output type must not be null");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+		Assert.isTrue(!aggregation.getOptions().isExplain(), "Can't use explain option with streaming");
 
-			if (options.getCursorBatchSize() != null) {
-				cursor = cursor.batchSize(options.getCursorBatchSize());
-			}
+		AggregationDefinition aggregationDefinition = queryOperations.createAggregation(aggregation,
+				(AggregationOperationContext) null);
+		List<Document> pipeline = aggregationDefinition.getAggregationPipeline();
 
-			options.getComment().ifPresent(cursor::comment);
-			HintFunction hintFunction = options.getHintObject().map(HintFunction::from).orElseGet(HintFunction::empty);
-			if (options.getHintObject().isPresent()) {
-				cursor = hintFunction.apply(mongoDbFactory, cursor::hintString, cursor::hint);
-			}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Streaming aggregation in chunks of %s: %s in collection %s", chunkSize,
+					serializeToJsonSafely(pipeline), collectionName));
+		}
 
-			if (options.hasExecutionTimeLimit()) {
-				cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
-			}
+		DocumentCallback<O> readCallback = new QueryResultConverterCallback<>(resultConverter,
+				new ReadDocumentCallback<>(mongoConverter, outputType, collectionName));
 
-			Class<?> domainType = aggregation instanceof TypedAggregation<?> typedAggregation
-					? typedAggregation.getInputType()
-					: null;
+		return execute(collectionName, (CollectionCallback<Stream<AggregationChunk<O>>>) collection -> {
 
-			Optionals.firstNonEmpty(options::getCollation, //
-					() -> operations.forType(domainType).getCollation()) //
-					.map(Collation::toMongoCollation) //
-					.ifPresent(cursor::collation);
+			AggregateIterable<Document> cursor = prepareAggregateCursor(collection, aggregation, pipeline);
 
-			return new CloseableIterableCursorAdapter<>(cursor, exceptionTranslator, readCallback).stream();
+			if (aggregation.getOptions().getCursorBatchSize() == null) {
+				cursor = cursor.batchSize(chunkSize);
+			}
+
+			long start = System.nanoTime();
+			MongoCursor<Document> iterator = cursor.iterator();
+
+			return new ChunkingCursorAdapter<>(iterator, System.nanoTime() - start, exceptionTranslator, readCallback,
+					chunkSize).stream();
 		});
 	}
 
+	private AggregateIterable<Document> prepareAggregateCursor(MongoCollection<Document> collection,
+			Aggregation aggregation, List<Document> pipeline) {
+
+		AggregationOptions options = aggregation.getOptions();
+		CollectionPreparerDelegate delegate = CollectionPreparerDelegate.of(options);
+
+		AggregateIterable<Document> cursor = delegate.prepare(collection).aggregate(pipeline, Document.class);
+
+		if (options.isAllowDiskUseSet()) {
+			cursor = cursor.allowDiskUse(options.isAllowDiskUse());
+		}
+
+		if (options.getCursorBatchSize() != null) {
+			cursor = cursor.batchSize(options.getCursorBatchSize());
+		}
+
+		options.getComment().ifPresent(cursor::comment);
+		HintFunction hintFunction = options.getHintObject().map(HintFunction::from).orElseGet(HintFunction::empty);
+		if (options.getHintObject().isPresent()) {
+			cursor = hintFunction.apply(mongoDbFactory, cursor::hintString, cursor::hint);
+		}
+
+		if (options.hasExecutionTimeLimit()) {
+			cursor = cursor.maxTime(options.getMaxTime().toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		Class<?> domainType = aggregation instanceof TypedAggregation<?> typedAggregation
+				? typedAggregation.getInputType()
+				: null;
+
+		Optionals.firstNonEmpty(options::getCollation, //
+				() -> operations.forType(domainType).getCollation()) //
+				.map(Collation::toMongoCollation) //
+				.ifPresent(cursor::collation);
+
+		return cursor;
+	}
+
 	@Override
 	public <T> ExecutableFind<T> query(Class<T> domainType) {
 		return new ExecutableFindOperationSupport(this).query(domainType);
@@ -2699,8 +3113,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
-		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
-		Document mappedQuery = queryContext.getMappedQuery(entity);
+		List<Document> mapped = observeMapping(MappingPhase.QUERY_MAPPING, "findOne", entityClass, collectionName,
+				() -> List.of(queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass)),
+						queryContext.getMappedQuery(entity)));
+		Document mappedFields = mapped.get(0);
+		Document mappedQuery = mapped.get(1);
+
+		recordQueryShape(collectionName, mappedQuery, preparer, entity);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("findOne using query: %s fields: %s for class: %s in collection: %s",
@@ -2755,8 +3174,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
-		Document mappedFields = queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass));
-		Document mappedQuery = queryContext.getMappedQuery(entity);
+		List<Document> mapped = observeMapping(MappingPhase.QUERY_MAPPING, "find", entityClass, collectionName,
+				() -> List.of(queryContext.getMappedFields(entity, EntityProjection.nonProjecting(entityClass)),
+						queryContext.getMappedQuery(entity)));
+		Document mappedFields = mapped.get(0);
+		Document mappedQuery = mapped.get(1);
+
+		recordQueryShape(collectionName, mappedQuery, preparer, entity);
 
 		if (LOGGER.isDebugEnabled()) {
 
@@ -2786,8 +3210,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		EntityProjection<T, ?> projection = operations.introspectProjection(targetClass, sourceClass);
 
 		QueryContext queryContext = queryOperations.createQueryContext(new BasicQuery(query, fields));
-		Document mappedFields = queryContext.getMappedFields(entity, projection);
-		Document mappedQuery = queryContext.getMappedQuery(entity);
+		List<Document> mapped = observeMapping(MappingPhase.QUERY_MAPPING, "find", sourceClass, collectionName,
+				() -> List.of(queryContext.getMappedFields(entity, projection), queryContext.getMappedQuery(entity)));
+		Document mappedFields = mapped.get(0);
+		Document mappedQuery = mapped.get(1);
+
+		recordQueryShape(collectionName, mappedQuery, preparer, entity);
 
 		if (LOGGER.isDebugEnabled()) {
 
@@ -3066,7 +3494,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		try {
 
 			Document document = collectionCallback.doInCollection(getAndPrepareCollection(doGetDatabase(), collectionName));
-			return document != null ? documentCallback.doWith(document) : null;
+			return document != null ? observeMapping(MappingPhase.READ, "findOne", documentCallback.getType(),
+					collectionName, () -> documentCallback.doWith(document), it -> List.of(document)) : null;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e, exceptionTranslator);
 		}
@@ -3095,18 +3524,31 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		try {
 
-			try (MongoCursor<Document> cursor = preparer
-					.initiateFind(getAndPrepareCollection(doGetDatabase(), collectionName), collectionCallback::doInCollection)
-					.iterator()) {
+			long start = System.nanoTime();
+			FindIterable<Document> iterable = preparer
+					.initiateFind(getAndPrepareCollection(doGetDatabase(), collectionName), collectionCallback::doInCollection);
+
+			try (MongoCursor<Document> cursor = iterable.iterator()) {
 
 				int available = cursor.available();
 				List<T> result = available > 0 ? new ArrayList<>(available) : new ArrayList<>();
+				DocumentObservation observation = observeReading("find", documentCallback, collectionName);
 
-				while (cursor.hasNext()) {
-					Document object = cursor.next();
-					result.add(documentCallback.doWith(object));
+				try {
+					while (cursor.hasNext()) {
+						Document object = cursor.next();
+						result.add(observation.map(object, documentCallback::doWith));
+					}
+				} catch (RuntimeException e) {
+
+					observation.error(e);
+					throw e;
+				} finally {
+					observation.stop();
 				}
 
+				maybeSampleExplainPlan(collectionName, "find", start,
+						() -> iterable.explain(ExplainVerbosity.EXECUTION_STATS));
 				return result;
 			}
 		} catch (RuntimeException e) {
@@ -3114,6 +3556,59 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	private void recordQueryShape(String collectionName, Document mappedQuery, @Nullable CursorPreparer preparer,
+			@Nullable MongoPersistentEntity<?> entity) {
+
+		IndexAdvisor advisor = this.indexAdvisor;
+		if (advisor == null) {
+			return;
+		}
+
+		Document sort = preparer instanceof SortingQueryCursorPreparer sqcp ? sqcp.getSortObject() : null;
+		advisor.record(collectionName, mappedQuery, sort != null ? getMappedSortObject(sort, entity) : null);
+	}
+
+	private <T> T observeMapping(MappingPhase phase, String operation, @Nullable Class<?> entityType,
+			String collectionName, Supplier<T> action, Function<? super T, ? extends Collection<Document>> documents) {
+
+		MappingObservations observations = this.mappingObservations;
+		return observations != null
+				? observations.observe(phase, operation, entityType, collectionName, action, documents)
+				: action.get();
+	}
+
+	private <T> T observeMapping(MappingPhase phase, String operation, @Nullable Class<?> entityType,
+			String collectionName, Supplier<T> action) {
+
+		MappingObservations observations = this.mappingObservations;
+		return observations != null ? observations.observe(phase, operation, entityType, collectionName, action)
+				: action.get();
+	}
+
+	private DocumentObservation observeReading(String operation, DocumentCallback<?> documentCallback,
+			String collectionName) {
+
+		MappingObservations observations = this.mappingObservations;
+		return observations != null
+				? observations.observeDocuments(MappingPhase.READ, operation, documentCallback.getType(), collectionName)
+				: DocumentObservation.NONE;
+	}
+
+	private void maybeSampleExplainPlan(String collectionName, String operation, long startNanos,
+			Supplier<Document> explain) {
+
+		ExplainPlanSampler sampler = this.explainPlanSampler;
+		if (sampler == null || MongoDatabaseUtils.isTransactionActive(getMongoDatabaseFactory())
+				|| TransactionSynchronizationManager.hasResource(getMongoDatabaseFactory())) {
+			return;
+		}
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+		if (sampler.shouldSample(elapsed)) {
+			sampler.sample(collectionName, operation, elapsed, explain);
+		}
+	}
+
 	private void executeQueryInternal(CollectionCallback<FindIterable<Document>> collectionCallback,
 			CursorPreparer preparer, DocumentCallbackHandler callbackHandler, String collectionName) {
 
@@ -3458,6 +3953,14 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	protected interface DocumentCallback<T> {
 
 		T doWith(Document object);
+
+		/**
+		 * @return the type documents are read into. Can be {@literal null} if unknown.
+		 * @since 5.2
+		 */
+		default @Nullable Class<?> getType() {
+			return null;
+		}
 	}
 
 	/**
@@ -3496,6 +3999,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			return entity;
 		}
+
+		@Override
+		public Class<?> getType() {
+			return type;
+		}
 	}
 
 	static class QueryResultConverterCallback<T, R> implements DocumentCallback<R> {
@@ -3514,6 +4022,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			Lazy<T> lazy = Lazy.of(() -> delegate.doWith(object));
 			return converter.mapDocument(object, lazy::get);
 		}
+
+		@Override
+		public @Nullable Class<?> getType() {
+			return delegate.getType();
+		}
 	}
 
 	/**
@@ -3552,6 +4065,45 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
 			return (T) maybeCallAfterConvert(entity, document, collectionName);
 		}
+
+		@Override
+		public Class<?> getType() {
+			return projection.getDomainType().getType();
+		}
+	}
+
+	/**
+	 * {@link DocumentCallback} reading flat projections via a {@link FlatProjectionReader}.
+	 *
+	 * @since 5.2
+	 */
+	private class FlatProjectionReadCallback<T> implements DocumentCallback<T> {
+
+		private final FlatProjectionReader<T> reader;
+		private final Class<T> type;
+		private final String collectionName;
+
+		FlatProjectionReadCallback(FlatProjectionReader<T> reader, Class<T> type, String collectionName) {
+
+			this.reader = reader;
+			this.type = type;
+			this.collectionName = collectionName;
+		}
+
+		@Override
+		public T doWith(Document document) {
+
+			maybeEmitEvent(new AfterLoadEvent<>(document, type, collectionName));
+			T entity = reader.read(document);
+
+			maybeEmitEvent(new AfterConvertEvent<>(document, entity, collectionName));
+			return maybeCallAfterConvert(entity, document, collectionName);
+		}
+
+		@Override
+		public Class<?> getType() {
+			return type;
+		}
 	}
 
 	class QueryCursorPreparer implements SortingQueryCursorPreparer {
@@ -3698,6 +4250,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 			return new GeoResult<>(doWith, Distance.of(distance, metric));
 		}
+
+		@Override
+		public @Nullable Class<?> getType() {
+			return delegate.getType();
+		}
 	}
 
 	/**
@@ -3789,6 +4346,120 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		}
 	}
 
+	/**
+	 * {@link CloseableIterator} reading a {@link MongoCursor} in {@link AggregationChunk chunks} of mapped results.
+	 *
+	 * @author Mark Paluch
+	 * @since 5.2
+	 */
+	static class ChunkingCursorAdapter<T> implements CloseableIterator<AggregationChunk<T>> {
+
+		private final MongoCursor<Document> cursor;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+		private final DocumentCallback<T> objectReadCallback;
+		private final int chunkSize;
+
+		private int index;
+		private long totalCount;
+		private int batchCount = 1;
+		private long pendingFetchTime;
+		private @Nullable Boolean hasMore;
+
+		/**
+		 * @param cursor the cursor holding the initial batch.
+		 * @param initialFetchTime nanoseconds spent obtaining the cursor and its initial batch.
+		 */
+		ChunkingCursorAdapter(MongoCursor<Document> cursor, long initialFetchTime,
+				PersistenceExceptionTranslator exceptionTranslator, DocumentCallback<T> objectReadCallback, int chunkSize) {
+
+			this.cursor = cursor;
+			this.pendingFetchTime = initialFetchTime;
+			this.exceptionTranslator = exceptionTranslator;
+			this.objectReadCallback = objectReadCallback;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (hasMore == null) {
+				hasMore = fetch();
+			}
+			return hasMore;
+		}
+
+		@Override
+		public AggregationChunk<T> next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more chunks available");
+			}
+
+			List<T> content = new ArrayList<>(chunkSize);
+
+			while (content.size() < chunkSize && hasMore) {
+
+				Document document;
+				try {
+					document = cursor.next();
+				} catch (RuntimeException ex) {
+					throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+				}
+
+				totalCount++;
+				content.add(objectReadCallback.doWith(document));
+				hasMore = fetch();
+			}
+
+			AggregationChunk<T> chunk = new AggregationChunk<>(index++, content, totalCount, batchCount,
+					Duration.ofNanos(pendingFetchTime), getServerUsed(), !hasMore);
+
+			pendingFetchTime = 0;
+			return chunk;
+		}
+
+		/**
+		 * Check for further results counting and timing the batches requested from the server. Closes the cursor once
+		 * exhausted.
+		 */
+		private boolean fetch() {
+
+			try {
+
+				boolean requiresBatch = cursor.available() == 0;
+				long start = System.nanoTime();
+				boolean hasNext = cursor.hasNext();
+				pendingFetchTime += System.nanoTime() - start;
+
+				if (!hasNext) {
+					cursor.close();
+				} else if (requiresBatch) {
+					batchCount++;
+				}
+
+				return hasNext;
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+
+		private @Nullable String getServerUsed() {
+
+			ServerAddress serverAddress = cursor.getServerAddress();
+			return serverAddress != null ? serverAddress.toString() : null;
+		}
+
+		@Override
+		public void close() {
+
+			try {
+				cursor.close();
+			} catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, exceptionTranslator);
+			}
+		}
+	}
+
 	/**
 	 * {@link MongoTemplate} extension bound to a specific {@link ClientSession} that is applied when interacting with the
 	 * server through the driver API. <br />
@@ -18,11 +18,15 @@ package org.springframework.data.mongodb.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.bson.Document;
 
+import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mongodb.core.QueryOperations.DeleteContext;
 import org.springframework.data.mongodb.core.QueryOperations.UpdateContext;
 import org.springframework.data.mongodb.core.bulk.Bulk;
@@ -36,12 +40,15 @@ import org.springframework.data.mongodb.core.bulk.BulkOperation.UpdateFirst;
 import org.springframework.data.mongodb.core.bulk.BulkOperationContext.TypedNamespace;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.bulk.IngestOptions;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 
@@ -68,6 +75,9 @@ class ReactiveBulkWriter extends BulkWriterSupport {
 		if (namespaces.size() == 1) {
 			return writeToSingleCollection(defaultDatabase, bulk, options, namespaces.iterator().next());
 		}
+		if (options.isTrackOutcomes()) {
+			return Mono.error(new IllegalStateException(TRACK_OUTCOMES_REQUIRES_SINGLE_COLLECTION));
+		}
 		return writeToMultipleCollections(defaultDatabase, bulk, options);
 	}
 
@@ -77,6 +87,12 @@ class ReactiveBulkWriter extends BulkWriterSupport {
 		MongoNamespace mongoNamespace = new MongoNamespace(defaultDatabase, resolveCollectionName(namespace));
 
 		SingleCollectionCollector collector = new SingleCollectionCollector(mongoNamespace);
+
+		if (options.isTrackOutcomes()) {
+			return buildWriteModelsReactive(bulk, collector)
+					.then(Mono.defer(() -> writeTrackingOutcomes(bulk, options, collector)));
+		}
+
 		return buildWriteModelsReactive(bulk, collector).then(Mono.defer(() -> {
 
 			String collectionName = collector.getNamespace().getCollectionName();
@@ -98,6 +114,114 @@ class ReactiveBulkWriter extends BulkWriterSupport {
 		}));
 	}
 
+	private Mono<BulkWriteResult> writeTrackingOutcomes(Bulk bulk, BulkWriteOptions options,
+			SingleCollectionCollector collector) {
+
+		BulkOutcomeTracker tracker = new BulkOutcomeTracker(bulk.operations(), collector.getWriteModels(), options);
+		return writeTracked(tracker, collector, false, false);
+	}
+
+	/**
+	 * Write a {@link Bulk} of inserts ingested from a stream. If {@link IngestOptions#getMaxRetries() retries} are
+	 * enabled, write models are created once and each retry re-sends only the writes that failed with a transient error
+	 * or that were left unacknowledged by a failed attempt. Inserts keep the identifier assigned on the first attempt so
+	 * that a re-sent insert never creates a duplicate.
+	 *
+	 * @param defaultDatabase the database name.
+	 * @param bulk the inserts of one window.
+	 * @param options the {@link IngestOptions} to apply.
+	 * @return the accumulated {@link BulkWriteResult} of all attempts.
+	 */
+	Mono<BulkWriteResult> ingest(String defaultDatabase, Bulk bulk, IngestOptions options) {
+
+		if (options.getMaxRetries() == 0) {
+			return write(defaultDatabase, bulk, options.getBulkWriteOptions());
+		}
+
+		Set<String> collectionNames = new HashSet<>();
+		for (TypedNamespace namespace : getTypedNamespaces(bulk)) {
+			collectionNames.add(resolveCollectionName(namespace));
+		}
+		if (collectionNames.size() != 1) {
+			return Mono.error(new IllegalStateException(INGEST_RETRY_REQUIRES_SINGLE_COLLECTION));
+		}
+
+		SingleCollectionCollector collector = new SingleCollectionCollector(
+				new MongoNamespace(defaultDatabase, collectionNames.iterator().next()));
+		boolean ordered = options.getOrder().equals(BulkWriteOptions.Order.ORDERED);
+		PersistenceExceptionTranslator exceptionTranslator = template.getMongoDatabaseFactory().getExceptionTranslator();
+
+		return buildWriteModelsReactive(bulk, collector).then(Mono.defer(() -> {
+
+			collector.getWriteModels().forEach(BulkWriterSupport::assignIdIfAbsent);
+			BulkOutcomeTracker tracker = new BulkOutcomeTracker(bulk.operations(), collector.getWriteModels(),
+					options.getMaxRetries(), options.getRetryBackoff(), ordered,
+					e -> options.getRetryFilter().test(translate(e, exceptionTranslator)), null);
+
+			return writeTracked(tracker, collector, ordered, true);
+		}));
+	}
+
+	/**
+	 * Write the pending write models of the given {@link BulkOutcomeTracker} until none is left.
+	 *
+	 * @param failOnError whether to propagate write errors that are not retried instead of reporting them as
+	 *          {@link BulkWriteResult#failures() failures}.
+	 */
+	private Mono<BulkWriteResult> writeTracked(BulkOutcomeTracker tracker, SingleCollectionCollector collector,
+			boolean ordered, boolean failOnError) {
+
+		String collectionName = collector.getNamespace().getCollectionName();
+		com.mongodb.client.model.BulkWriteOptions driverOptions = new com.mongodb.client.model.BulkWriteOptions()
+				.ordered(ordered);
+
+		Mono<Void> attempt = Mono.defer(() -> {
+
+			Duration backoff = tracker.backoff();
+			List<WriteModel<Document>> writeModels = tracker.nextWriteModels();
+			Mono<Void> write = template.createMono(collectionName,
+					collection -> Mono.from(collection.bulkWrite(writeModels, driverOptions)) //
+							.doOnNext(tracker::onSuccess) //
+							.onErrorResume(MongoBulkWriteException.class, e -> {
+								tracker.onError(e);
+								return failOnError && tracker.hasFailures() ? Mono.error(e) : Mono.empty();
+							}) //
+							.onErrorResume(e -> e instanceof RuntimeException ex && tracker.onFailure(ex)
+									&& !(failOnError && tracker.hasFailures()), e -> Mono.empty())
+							.then());
+
+			return backoff.isZero() ? write : Mono.delay(backoff).then(write);
+		});
+
+		return attempt.repeat(tracker::hasPending).then(Mono.defer(() -> {
+
+			List<SourceAwareDocument<Object>> succeeded = new ArrayList<>();
+			for (int i = 0; i < collector.getWriteModels().size(); i++) {
+
+				SourceAwareDocument<Object> callable = collector.getSourceDocument(i);
+				if (callable != null && tracker.succeeded(i)) {
+					template.maybeEmitEvent(
+							new AfterSaveEvent<>(callable.source(), callable.document(), callable.collectionName()));
+					succeeded.add(callable);
+				}
+			}
+
+			return Flux.concat(succeeded.stream().map(
+					callable -> template.maybeCallAfterSave(callable.source(), callable.document(), callable.collectionName()))
+					.toList()).then(Mono.fromSupplier(tracker::getResult));
+		}));
+	}
+
+	private static Throwable translate(Throwable throwable, PersistenceExceptionTranslator exceptionTranslator) {
+
+		if (throwable instanceof RuntimeException runtimeException) {
+
+			RuntimeException translated = exceptionTranslator.translateExceptionIfPossible(runtimeException);
+			return translated != null ? translated : runtimeException;
+		}
+		return throwable;
+	}
+
 	private Mono<BulkWriteResult> writeToMultipleCollections(String defaultDatabase, Bulk bulk,
 			BulkWriteOptions options) {
 
@@ -39,10 +39,12 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.bulk.Bulk;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.bulk.IngestOptions;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
@@ -229,6 +231,27 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	Mono<BulkWriteResult> bulkWrite(Bulk bulk, BulkWriteOptions options);
 
+	/**
+	 * Ingest the objects emitted by the given {@link Flux} by cutting the stream into windows and writing each window as
+	 * one {@link Bulk} of inserts. Windows close once they reach {@link IngestOptions#getWindowSize() the window size} or
+	 * after {@link IngestOptions#getWindowTimeout() the window timeout} elapsed. At most
+	 * {@link IngestOptions#getConcurrency() concurrency} bulk writes are in flight; further objects are requested from
+	 * {@code source} only once a pending bulk write completes. Bulk writes failing with a retryable error are retried
+	 * according to {@link IngestOptions}.
+	 * <p>
+	 * Objects are written to the collection derived from their type unless
+	 * {@link IngestOptions#inCollection(String) a collection} is configured.
+	 * <p>
+	 * <strong>NOTE:</strong> windows containing objects targeting multiple collections require MongoDB 8.0+.
+	 *
+	 * @param source the objects to insert. Must not be {@literal null}.
+	 * @param options the {@link IngestOptions} to apply. Must not be {@literal null}.
+	 * @return a {@link Flux} emitting the {@link BulkWriteResult} of each window in the order of the windows. Never
+	 *         {@literal null}.
+	 * @since 5.2
+	 */
+	<T> Flux<BulkWriteResult> ingest(Flux<T> source, IngestOptions options);
+
 	/**
 	 * Create an uncapped collection with a name based on the provided entity class.
 	 * <p>
@@ -756,6 +779,33 @@ public interface ReactiveMongoOperations extends ReactiveFluentMongoOperations {
 	 */
 	<O> Flux<O> aggregate(Aggregation aggregation, String collectionName, Class<O> outputType);
 
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution. The pipeline is rendered and mapped once against
+	 * the {@link TypedAggregation#getInputType() input type}. Each execution binds values for the
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} used within the
+	 * aggregation via {@link PreparedAggregation#bind(java.util.Map)}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 * @since 5.2
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation);
+
+	/**
+	 * Prepare the given {@link Aggregation} for repeated execution. The pipeline is rendered and mapped once against
+	 * the given input type. Each execution binds values for the
+	 * {@link org.springframework.data.mongodb.core.aggregation.AggregationParameter parameters} used within the
+	 * aggregation via {@link PreparedAggregation#bind(java.util.Map)}.
+	 *
+	 * @param aggregation The {@link Aggregation} specification holding the aggregation operations, must not be
+	 *          {@literal null}.
+	 * @param inputType the inputType where the aggregation operation will read from, must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 * @since 5.2
+	 */
+	PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType);
+
 	/**
 	 * Returns {@link Flux} of {@link GeoResult} for all entities matching the given {@link NearQuery}. Will consider
 	 * entity mapping information to determine the collection the query is ran against. Note, that MongoDB limits the
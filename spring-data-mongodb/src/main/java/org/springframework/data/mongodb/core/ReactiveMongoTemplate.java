@@ -22,6 +22,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -42,6 +43,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
@@ -92,13 +94,18 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOperationCon
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions.Builder;
 import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache.CacheKey;
 import org.springframework.data.mongodb.core.aggregation.FieldLookupPolicy;
 import org.springframework.data.mongodb.core.aggregation.PrefixingDelegatingAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.PreparedAggregation;
 import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.bulk.Bulk;
+import org.springframework.data.mongodb.core.bulk.Bulk.BulkBuilder;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
 import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.core.bulk.IngestOptions;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -124,6 +131,7 @@ import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
 import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
+import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.projection.EntityProjection;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Contract;
@@ -134,6 +142,7 @@ import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 import com.mongodb.ClientSessionOptions;
 import com.mongodb.CursorType;
@@ -216,6 +225,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private final EntityLifecycleEventDelegate eventDelegate;
 
 	private @Nullable WriteConcern writeConcern;
+	private @Nullable DataSize writeBatchTargetSize;
+	private @Nullable AggregationResultCache aggregationResultCache;
 	private WriteConcernResolver writeConcernResolver = DefaultWriteConcernResolver.INSTANCE;
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private @Nullable ReadPreference readPreference;
@@ -322,6 +333,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.sessionSynchronization = that.sessionSynchronization;
 		this.queryOperations = that.queryOperations;
 		this.eventDelegate = that.eventDelegate;
+		this.writeBatchTargetSize = that.writeBatchTargetSize;
 	}
 
 	private void onCheckForIndexes(MongoPersistentEntity<?> entity, Consumer<Throwable> subscriptionExceptionHandler) {
@@ -355,6 +367,33 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.writeConcern = writeConcern;
 	}
 
+	/**
+	 * Configures the target size of a single write batch. Documents inserted through {@code insert(Collection, …)}
+	 * and {@code insertAll(…)} as well as operations of {@link BulkOperations} are sent using multiple
+	 * {@code insertMany} respectively {@code bulkWrite} commands once their accumulated encoded BSON size exceeds the
+	 * target size. Setting {@literal null} (default) leaves batching to the driver.
+	 *
+	 * @param writeBatchTargetSize can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setWriteBatchTargetSize(@Nullable DataSize writeBatchTargetSize) {
+
+		Assert.isTrue(writeBatchTargetSize == null || writeBatchTargetSize.toBytes() > 0,
+				"Write batch target size must be greater than zero");
+		this.writeBatchTargetSize = writeBatchTargetSize;
+	}
+
+	/**
+	 * Configures the {@link AggregationResultCache} serving results of aggregations that opt in to caching via
+	 * {@link AggregationOptions.Builder#cacheResults(Duration)}. Setting {@literal null} (default) disables caching.
+	 *
+	 * @param aggregationResultCache can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setAggregationResultCache(@Nullable AggregationResultCache aggregationResultCache) {
+		this.aggregationResultCache = aggregationResultCache;
+	}
+
 	/**
 	 * Configures the {@link WriteConcernResolver} to be used with the template.
 	 *
@@ -700,6 +739,44 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return doGetDatabase().flatMap(db -> new ReactiveBulkWriter(this).write(db.getName(), bulk, options));
 	}
 
+	@Override
+	public <T> Flux<BulkWriteResult> ingest(Flux<T> source, IngestOptions options) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		return source.bufferTimeout(options.getWindowSize(), options.getWindowTimeout(), true)
+				.flatMapSequential(window -> doGetDatabase()
+						.flatMap(db -> new ReactiveBulkWriter(this).ingest(db.getName(), createIngestBulk(window, options), options)),
+						options.getConcurrency(), 1);
+	}
+
+	private static Bulk createIngestBulk(List<?> window, IngestOptions options) {
+
+		BulkBuilder builder = Bulk.builder();
+		String collectionName = options.getCollectionName();
+
+		int from = 0;
+		while (from < window.size()) {
+
+			Class<?> type = ClassUtils.getUserClass(window.get(from));
+			int to = from + 1;
+			while (to < window.size() && ClassUtils.getUserClass(window.get(to)) == type) {
+				to++;
+			}
+
+			List<?> chunk = window.subList(from, to);
+			if (collectionName != null) {
+				builder.inCollection(type, collectionName, spec -> spec.insertAll(chunk));
+			} else {
+				builder.inCollection(type, spec -> spec.insertAll(chunk));
+			}
+			from = to;
+		}
+
+		return builder.build();
+	}
+
 	@Override
 	public <T> Mono<MongoCollection<Document>> createCollection(Class<T> entityClass) {
 		return createCollection(entityClass, Function.identity());
@@ -835,6 +912,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 						updateMapper, eventPublisher, entityCallbacks));
 
 		operations.setDefaultWriteConcern(writeConcern);
+		operations.setBatchTargetSize(writeBatchTargetSize);
 
 		return operations;
 	}
@@ -1075,6 +1153,29 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return doAggregate(aggregation, collectionName, null, outputType);
 	}
 
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
+
+		Class<?> inputType = aggregation instanceof TypedAggregation<?> typedAggregation ? typedAggregation.getInputType()
+				: null;
+		return doPrepareAggregation(aggregation, inputType);
+	}
+
+	@Override
+	public PreparedAggregation prepareAggregation(Aggregation aggregation, Class<?> inputType) {
+
+		Assert.notNull(aggregation, "Aggregation pipeline must not be null");
+		Assert.notNull(inputType, "Input type must not be null");
+
+		return doPrepareAggregation(aggregation, inputType);
+	}
+
+	private PreparedAggregation doPrepareAggregation(Aggregation aggregation, @Nullable Class<?> inputType) {
+		return PreparedAggregation.of(aggregation, inputType, mongoConverter);
+	}
+
 	protected <O> Flux<O> doAggregate(Aggregation aggregation, String collectionName, @Nullable Class<?> inputType,
 			Class<O> outputType) {
 
@@ -1099,16 +1200,53 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		AggregationOptions options = aggregation.getOptions();
 		Assert.isTrue(!options.isExplain(), "Cannot use explain option with streaming");
 
+		List<Document> pipeline = definition.getAggregationPipeline();
+		DocumentCallback<O> readCallback = new QueryResultConverterCallback<>(resultConverter,
+				new ReadDocumentCallback<>(mongoConverter, outputType, collectionName));
+
+		AggregationResultCache cache = this.aggregationResultCache;
+
+		if (cache == null || !AggregationUtil.isCacheable(cache, aggregation)) {
+			return doAggregateAndMap(collectionName, pipeline, definition, options, readCallback);
+		}
+
+		return doGetDatabase().flatMapMany(database -> {
+
+			CacheKey cacheKey = AggregationResultCache.key(database.getName(), collectionName, pipeline, options);
+
+			List<Document> cached = cache.get(cacheKey);
+			if (cached != null) {
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("Using cached aggregation results for %s", cacheKey));
+				}
+
+				return Flux.fromIterable(cached).flatMapSequential(readCallback::doWith);
+			}
+
+			long evictionCount = cache.getEvictionCount();
+			List<Document> rawResult = new ArrayList<>();
+			DocumentCallback<O> collectingCallback = document -> {
+
+				rawResult.add(document);
+				return readCallback.doWith(document);
+			};
+
+			return doAggregateAndMap(collectionName, pipeline, definition, options, collectingCallback)
+					.doOnComplete(() -> cache.put(cacheKey, rawResult, options.getCacheTimeToLive().orElseThrow(), evictionCount));
+		});
+	}
+
+	private <O> Flux<O> doAggregateAndMap(String collectionName, List<Document> pipeline, AggregationDefinition definition,
+			AggregationOptions options, DocumentCallback<O> readCallback) {
 
 		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug(String.format("Streaming aggregation: %s in collection %s",
-					serializeToJsonSafely(definition.getAggregationPipeline()), collectionName));
+			LOGGER.debug(
+					String.format("Streaming aggregation: %s in collection %s", serializeToJsonSafely(pipeline), collectionName));
 		}
 
-		DocumentCallback<O> readCallback = new QueryResultConverterCallback<>(resultConverter,
-				new ReadDocumentCallback<>(mongoConverter, outputType, collectionName));
-		return execute(collectionName, collection -> aggregateAndMap(collection, definition.getAggregationPipeline(),
-				definition.isOutOrMerge(), options, readCallback, definition.getInputType()));
+		return execute(collectionName, collection -> aggregateAndMap(collection, pipeline, definition.isOutOrMerge(),
+				options, readCallback, definition.getInputType()));
 	}
 
 	private <O> Flux<O> aggregateAndMap(MongoCollection<Document> collection, List<Document> pipeline,
@@ -1743,7 +1881,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			documents.addAll(toDocuments(dbDocList));
 
-			return collectionToUse.insertMany(documents);
+			CodecRegistry codecRegistry = collectionToUse.getCodecRegistry();
+			return Flux.fromIterable(BulkOperationsSupport.partitionByEncodedSize(documents,
+					it -> BsonUtils.getEncodedSize(it, codecRegistry), writeBatchTargetSize))
+					.concatMap(collectionToUse::insertMany).last();
 
 		}).flatMapSequential(s -> {
 
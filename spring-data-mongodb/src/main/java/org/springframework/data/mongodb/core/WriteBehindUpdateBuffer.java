@@ -0,0 +1,569 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Lock;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Write-behind buffer coalescing frequent updates of the same document. Updates are collected per collection and
+ * {@literal _id} and written periodically as one ordered {@link BulkOperations bulk write} per collection.
+ * <p>
+ * A buffered update is merged into the previous pending update of the same document when both consist of
+ * {@literal $set}, {@literal $inc} and {@literal $max} operations only and merging does not change the outcome:
+ * <ul>
+ * <li>{@literal $set} of the same field retains the last value.</li>
+ * <li>{@literal $inc} of the same field sums up integral or floating point increments.</li>
+ * <li>{@literal $max} of the same field retains the greater number or date.</li>
+ * </ul>
+ * Updates touching the same field, or a parent or nested path of it, with different operators are not merged but
+ * written one after another in the order they were buffered. The same applies to updates using other operators or
+ * {@literal arrayFilters}.
+ * <p>
+ * The buffer flushes pending updates every {@link #WriteBehindUpdateBuffer(MongoOperations, Duration) flush interval}
+ * once {@link #start() started}, when the number of pending documents reaches
+ * {@link #setMaxPendingDocuments(int) the limit} and when {@link #stop() stopped}. Updates are rejected once the buffer
+ * is stopped. Buffered updates are not durable: updates pending when the application terminates without stopping the
+ * buffer are lost. Updates not written by a failed flush are buffered again and written by the next flush. Updates
+ * whose outcome is unknown because writing them failed are not retried and reported as
+ * {@link Statistics#lostUpdates() lost}.
+ *
+ * <pre class="code">
+ * WriteBehindUpdateBuffer buffer = new WriteBehindUpdateBuffer(template, Duration.ofMillis(200));
+ * buffer.start();
+ *
+ * buffer.update(counterId, new Update().inc("hits", 1).max("lastSeen", now), Counter.class);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class WriteBehindUpdateBuffer implements SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(WriteBehindUpdateBuffer.class);
+
+	private static final Set<String> COALESCABLE_OPERATORS = Set.of("$set", "$inc", "$max");
+
+	private final MongoOperations operations;
+	private final Duration flushInterval;
+
+	private final Lock bufferLock = Lock.of(new ReentrantLock());
+	private final Lock flushLock = Lock.of(new ReentrantLock());
+	private final Lock lifecycleLock = Lock.of(new ReentrantLock());
+
+	private final AtomicLong receivedUpdates = new AtomicLong();
+	private final AtomicLong coalescedUpdates = new AtomicLong();
+	private final AtomicLong writtenUpdates = new AtomicLong();
+	private final AtomicLong flushes = new AtomicLong();
+	private final AtomicLong failedFlushes = new AtomicLong();
+	private final AtomicLong lostUpdates = new AtomicLong();
+
+	private Map<DocumentKey, List<PendingUpdate>> pending = new LinkedHashMap<>();
+	private boolean stopped;
+	private int maxPendingDocuments = 10_000;
+	private ErrorHandler errorHandler = error -> LOGGER.error("Failed to flush buffered updates", error);
+
+	private @Nullable ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a new {@link WriteBehindUpdateBuffer}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param flushInterval the interval to flush pending updates at. Must not be {@literal null} and must be positive.
+	 */
+	public WriteBehindUpdateBuffer(MongoOperations operations, Duration flushInterval) {
+
+		Assert.notNull(operations, "MongoOperations must not be null");
+		Assert.notNull(flushInterval, "Flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+
+		this.operations = operations;
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Set the number of documents with pending updates that triggers a flush in the calling thread. Defaults to
+	 * {@literal 10000}.
+	 *
+	 * @param maxPendingDocuments must be greater than zero.
+	 */
+	public void setMaxPendingDocuments(int maxPendingDocuments) {
+
+		Assert.isTrue(maxPendingDocuments > 0, "Max pending documents must be greater than zero");
+		this.maxPendingDocuments = maxPendingDocuments;
+	}
+
+	/**
+	 * Set the {@link ErrorHandler} notified about failed scheduled flushes and flushes on {@link #stop()}. Defaults to
+	 * logging the error.
+	 *
+	 * @param errorHandler must not be {@literal null}.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Buffer an update of the document with the given {@literal id} in the collection of the given entity type.
+	 *
+	 * @param id the document {@literal _id}. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 */
+	public void update(Object id, UpdateDefinition update, Class<?> entityType) {
+		update(id, update, entityType, operations.getCollectionName(entityType));
+	}
+
+	/**
+	 * Buffer an update of the document with the given {@literal id} in the given collection.
+	 *
+	 * @param id the document {@literal _id}. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entityType the entity type used to map the update. Can be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public void update(Object id, UpdateDefinition update, @Nullable Class<?> entityType, String collectionName) {
+		buffer(id, update, false, entityType, collectionName);
+	}
+
+	/**
+	 * Buffer an upsert of the document with the given {@literal id} in the collection of the given entity type.
+	 *
+	 * @param id the document {@literal _id}. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 */
+	public void upsert(Object id, UpdateDefinition update, Class<?> entityType) {
+		upsert(id, update, entityType, operations.getCollectionName(entityType));
+	}
+
+	/**
+	 * Buffer an upsert of the document with the given {@literal id} in the given collection.
+	 *
+	 * @param id the document {@literal _id}. Must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entityType the entity type used to map the update. Can be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public void upsert(Object id, UpdateDefinition update, @Nullable Class<?> entityType, String collectionName) {
+		buffer(id, update, true, entityType, collectionName);
+	}
+
+	/**
+	 * Write all pending updates. Updates buffered while flushing are written by the next flush. Updates not written
+	 * because writing a preceding update failed are buffered again.
+	 *
+	 * @throws org.springframework.dao.DataAccessException if writing the updates fails.
+	 */
+	public void flush() {
+
+		flushLock.executeWithoutResult(() -> {
+
+			Map<DocumentKey, List<PendingUpdate>> toFlush = bufferLock.execute(() -> {
+
+				Map<DocumentKey, List<PendingUpdate>> current = pending;
+				pending = new LinkedHashMap<>();
+				return current;
+			});
+
+			if (toFlush.isEmpty()) {
+				return;
+			}
+
+			flushes.incrementAndGet();
+
+			try {
+				write(toFlush);
+			} catch (RuntimeException e) {
+
+				failedFlushes.incrementAndGet();
+				throw e;
+			}
+		});
+	}
+
+	/**
+	 * @return a snapshot of the buffer {@link Statistics}.
+	 */
+	public Statistics getStatistics() {
+
+		int pendingDocuments = bufferLock.execute(pending::size);
+		return new Statistics(receivedUpdates.get(), coalescedUpdates.get(), writtenUpdates.get(), flushes.get(),
+				failedFlushes.get(), lostUpdates.get(), pendingDocuments);
+	}
+
+	@Override
+	public void start() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler != null) {
+				return;
+			}
+
+			bufferLock.executeWithoutResult(() -> stopped = false);
+			ScheduledExecutorService executor = Executors
+					.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mongo-write-behind-"));
+			long interval = flushInterval.toMillis();
+			executor.scheduleWithFixedDelay(this::flushAndHandleError, interval, interval, TimeUnit.MILLISECONDS);
+			scheduler = executor;
+		});
+	}
+
+	@Override
+	public void stop() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler != null) {
+				scheduler.shutdown();
+				scheduler = null;
+			}
+			bufferLock.executeWithoutResult(() -> stopped = true);
+		});
+
+		flushAndHandleError();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return lifecycleLock.execute(() -> scheduler != null);
+	}
+
+	private void buffer(Object id, UpdateDefinition update, boolean upsert, @Nullable Class<?> entityType,
+			String collectionName) {
+
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(update, "Update must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		PendingUpdate next = PendingUpdate.of(update, upsert);
+		DocumentKey key = new DocumentKey(collectionName, entityType, id);
+
+		boolean flushRequired = bufferLock.execute(() -> {
+
+			Assert.state(!stopped, "WriteBehindUpdateBuffer is stopped");
+			receivedUpdates.incrementAndGet();
+
+			List<PendingUpdate> updates = pending.computeIfAbsent(key, it -> new ArrayList<>(1));
+
+			if (!updates.isEmpty()) {
+
+				int last = updates.size() - 1;
+				PendingUpdate merged = updates.get(last).coalesce(next);
+
+				if (merged != null) {
+
+					updates.set(last, merged);
+					coalescedUpdates.incrementAndGet();
+					return false;
+				}
+			}
+
+			updates.add(next);
+			return pending.size() >= maxPendingDocuments;
+		});
+
+		if (flushRequired) {
+			flush();
+		}
+	}
+
+	private void write(Map<DocumentKey, List<PendingUpdate>> toFlush) {
+
+		Map<CollectionKey, List<Map.Entry<DocumentKey, PendingUpdate>>> byCollection = new LinkedHashMap<>();
+		for (Map.Entry<DocumentKey, List<PendingUpdate>> entry : toFlush.entrySet()) {
+
+			List<Map.Entry<DocumentKey, PendingUpdate>> updates = byCollection
+					.computeIfAbsent(entry.getKey().collection(), it -> new ArrayList<>());
+			for (PendingUpdate update : entry.getValue()) {
+				updates.add(Map.entry(entry.getKey(), update));
+			}
+		}
+
+		Iterator<List<Map.Entry<DocumentKey, PendingUpdate>>> collections = byCollection.values().iterator();
+		while (collections.hasNext()) {
+
+			List<Map.Entry<DocumentKey, PendingUpdate>> updates = collections.next();
+			CollectionKey collection = updates.get(0).getKey().collection();
+
+			try {
+
+				BulkOperations bulkOps = operations.bulkOps(BulkMode.ORDERED, collection.entityType(),
+						collection.collectionName());
+
+				for (Map.Entry<DocumentKey, PendingUpdate> update : updates) {
+
+					Query query = Query.query(Criteria.where("_id").is(update.getKey().id()));
+					if (update.getValue().upsert()) {
+						bulkOps.upsert(query, update.getValue().update());
+					} else {
+						bulkOps.updateOne(query, update.getValue().update());
+					}
+				}
+
+				bulkOps.execute();
+				writtenUpdates.addAndGet(updates.size());
+			} catch (RuntimeException e) {
+
+				int failed = e instanceof BulkOperationException bulk && !bulk.getErrors().isEmpty()
+						? bulk.getErrors().get(0).getIndex()
+						: -1;
+				List<Map.Entry<DocumentKey, PendingUpdate>> unwritten = new ArrayList<>();
+
+				if (failed >= 0) {
+
+					writtenUpdates.addAndGet(failed);
+					lostUpdates.incrementAndGet();
+					unwritten.addAll(updates.subList(failed + 1, updates.size()));
+				} else {
+					lostUpdates.addAndGet(updates.size());
+				}
+				collections.forEachRemaining(unwritten::addAll);
+
+				rebuffer(unwritten);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Buffer the given unwritten updates again, ahead of updates of the same document buffered in the meantime.
+	 */
+	private void rebuffer(List<Map.Entry<DocumentKey, PendingUpdate>> unwritten) {
+
+		if (unwritten.isEmpty()) {
+			return;
+		}
+
+		bufferLock.executeWithoutResult(() -> {
+
+			Map<DocumentKey, List<PendingUpdate>> merged = new LinkedHashMap<>();
+			for (Map.Entry<DocumentKey, PendingUpdate> update : unwritten) {
+				merged.computeIfAbsent(update.getKey(), it -> new ArrayList<>(1)).add(update.getValue());
+			}
+			pending.forEach((key, updates) -> merged.computeIfAbsent(key, it -> new ArrayList<>(updates.size()))
+					.addAll(updates));
+			pending = merged;
+		});
+	}
+
+	private void flushAndHandleError() {
+
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			errorHandler.handleError(e);
+		}
+	}
+
+	/**
+	 * Value object capturing the state of a {@link WriteBehindUpdateBuffer}.
+	 *
+	 * @param receivedUpdates number of updates buffered.
+	 * @param coalescedUpdates number of updates merged into a pending update of the same document.
+	 * @param writtenUpdates number of update operations written to the database.
+	 * @param flushes number of flushes writing at least one update.
+	 * @param failedFlushes number of flushes that failed.
+	 * @param lostUpdates number of updates that failed or whose outcome is unknown after a failed flush.
+	 * @param pendingDocuments number of documents with pending updates.
+	 */
+	public record Statistics(long receivedUpdates, long coalescedUpdates, long writtenUpdates, long flushes,
+			long failedFlushes, long lostUpdates, int pendingDocuments) {
+	}
+
+	record CollectionKey(String collectionName, @Nullable Class<?> entityType) {
+	}
+
+	record DocumentKey(CollectionKey collection, Object id) {
+
+		DocumentKey(String collectionName, @Nullable Class<?> entityType, Object id) {
+			this(new CollectionKey(collectionName, entityType), id);
+		}
+	}
+
+	/**
+	 * A pending update. {@link #coalescable()} holds the update document if it may be merged with other updates.
+	 */
+	record PendingUpdate(UpdateDefinition update, @Nullable Document coalescable, boolean upsert) {
+
+		static PendingUpdate of(UpdateDefinition update, boolean upsert) {
+
+			if (!(update instanceof Update) || update.hasArrayFilters()) {
+				return new PendingUpdate(update, null, upsert);
+			}
+
+			Document source = update.getUpdateObject();
+			Document copy = new Document();
+
+			for (Map.Entry<String, Object> entry : source.entrySet()) {
+
+				if (!COALESCABLE_OPERATORS.contains(entry.getKey())
+						|| !(entry.getValue() instanceof Document fields)) {
+					return new PendingUpdate(update, null, upsert);
+				}
+				copy.put(entry.getKey(), new Document(fields));
+			}
+
+			return new PendingUpdate(Update.fromDocument(copy), copy, upsert);
+		}
+
+		/**
+		 * Merge {@code next} into this update.
+		 *
+		 * @return the merged update or {@literal null} if both updates cannot be merged.
+		 */
+		@Nullable
+		PendingUpdate coalesce(PendingUpdate next) {
+
+			if (coalescable == null || next.coalescable == null || upsert != next.upsert) {
+				return null;
+			}
+
+			Document merged = coalesce(coalescable, next.coalescable);
+			return merged != null ? new PendingUpdate(Update.fromDocument(merged), merged, upsert) : null;
+		}
+
+		private static @Nullable Document coalesce(Document current, Document next) {
+
+			Document merged = new Document();
+			current.forEach((operator, fields) -> merged.put(operator, new Document((Document) fields)));
+
+			for (Map.Entry<String, Object> operation : next.entrySet()) {
+
+				String operator = operation.getKey();
+
+				for (Map.Entry<String, Object> field : ((Document) operation.getValue()).entrySet()) {
+
+					String path = field.getKey();
+					Object value = field.getValue();
+
+					Object existing = null;
+					boolean present = false;
+
+					for (Map.Entry<String, Object> currentOperation : merged.entrySet()) {
+						for (Map.Entry<String, Object> currentField : ((Document) currentOperation.getValue()).entrySet()) {
+
+							if (!overlaps(path, currentField.getKey())) {
+								continue;
+							}
+							if (!operator.equals(currentOperation.getKey()) || !path.equals(currentField.getKey())) {
+								return null;
+							}
+
+							existing = currentField.getValue();
+							present = true;
+						}
+					}
+
+					Object combined = value;
+					if (present && !"$set".equals(operator)) {
+
+						combined = "$inc".equals(operator) ? sum(existing, value) : max(existing, value);
+						if (combined == null) {
+							return null;
+						}
+					}
+
+					merged.computeIfAbsent(operator, it -> new Document());
+					merged.get(operator, Document.class).put(path, combined);
+				}
+			}
+
+			return merged;
+		}
+
+		private static @Nullable Object sum(@Nullable Object left, @Nullable Object right) {
+
+			if (isIntegral(left) && isIntegral(right)) {
+
+				long a = ((Number) left).longValue();
+				long b = ((Number) right).longValue();
+				long sum = a + b;
+
+				if (((a ^ sum) & (b ^ sum)) < 0) {
+					return null;
+				}
+				return left instanceof Integer && right instanceof Integer && sum == (int) sum ? (Object) (int) sum : sum;
+			}
+
+			if (isNumeric(left) && isNumeric(right)) {
+				return ((Number) left).doubleValue() + ((Number) right).doubleValue();
+			}
+
+			return null;
+		}
+
+		private static @Nullable Object max(@Nullable Object left, @Nullable Object right) {
+
+			if (isIntegral(left) && isIntegral(right)) {
+				return ((Number) left).longValue() >= ((Number) right).longValue() ? left : right;
+			}
+
+			if (isNumeric(left) && isNumeric(right)) {
+				return ((Number) left).doubleValue() >= ((Number) right).doubleValue() ? left : right;
+			}
+
+			if (left instanceof Date leftDate && right instanceof Date rightDate) {
+				return leftDate.compareTo(rightDate) >= 0 ? left : right;
+			}
+
+			return null;
+		}
+
+		private static boolean isIntegral(@Nullable Object value) {
+			return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+		}
+
+		private static boolean isNumeric(@Nullable Object value) {
+			return isIntegral(value) || value instanceof Double || value instanceof Float;
+		}
+
+		private static boolean overlaps(String path, String other) {
+			return path.equals(other) || path.startsWith(other + ".") || other.startsWith(path + ".");
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A chunk of mapped aggregation results read lazily from the server cursor along with metadata about the cursor
+ * progress. Only the results of the current chunk are held in memory.
+ *
+ * @author Mark Paluch
+ * @param <T> The class in which the results are mapped onto.
+ * @since 5.2
+ */
+public final class AggregationChunk<T> implements Iterable<T> {
+
+	private final int index;
+	private final List<T> content;
+	private final long totalCount;
+	private final int batchCount;
+	private final Duration fetchTime;
+	private final @Nullable String serverUsed;
+	private final boolean last;
+
+	/**
+	 * Creates a new {@link AggregationChunk}.
+	 *
+	 * @param index the zero based chunk index.
+	 * @param content the mapped results of the chunk. Must not be {@literal null}.
+	 * @param totalCount the number of results read from the cursor so far including this chunk.
+	 * @param batchCount the number of batches fetched from the server so far.
+	 * @param fetchTime the time spent waiting for the server while reading this chunk. Must not be {@literal null}.
+	 * @param serverUsed the server address the cursor is bound to. Can be {@literal null}.
+	 * @param last whether this is the last chunk.
+	 */
+	public AggregationChunk(int index, List<T> content, long totalCount, int batchCount, Duration fetchTime,
+			@Nullable String serverUsed, boolean last) {
+
+		Assert.notNull(content, "Content must not be null");
+		Assert.notNull(fetchTime, "Fetch time must not be null");
+
+		this.index = index;
+		this.content = Collections.unmodifiableList(content);
+		this.totalCount = totalCount;
+		this.batchCount = batchCount;
+		this.fetchTime = fetchTime;
+		this.serverUsed = serverUsed;
+		this.last = last;
+	}
+
+	/**
+	 * @return the zero based index of the chunk.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the mapped results of this chunk.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return the number of results in this chunk.
+	 */
+	public int size() {
+		return content.size();
+	}
+
+	/**
+	 * @return the number of results read from the cursor so far including the ones of this chunk.
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * @return the number of batches fetched from the server so far, including the initial one.
+	 */
+	public int getBatchCount() {
+		return batchCount;
+	}
+
+	/**
+	 * @return the time spent reading the results of this chunk from the cursor, including server round trips but
+	 *         excluding result mapping.
+	 */
+	public Duration getFetchTime() {
+		return fetchTime;
+	}
+
+	/**
+	 * @return the server address the cursor is bound to or {@literal null} if not known.
+	 */
+	public @Nullable String getServerUsed() {
+		return serverUsed;
+	}
+
+	/**
+	 * @return {@literal true} if the cursor is exhausted.
+	 */
+	public boolean isLast() {
+		return last;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return "AggregationChunk{index=%d, size=%d, totalCount=%d, batchCount=%d, fetchTime=%s, last=%s}".formatted(index,
+				content.size(), totalCount, batchCount, fetchTime, last);
+	}
+}
@@ -70,6 +70,8 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 	private Duration maxTime = Duration.ZERO;
 	private ResultOptions resultOptions = ResultOptions.READ;
 	private DomainTypeMapping domainTypeMapping = DomainTypeMapping.RELAXED;
+	private boolean optimizePipeline;
+	private Optional<Duration> cacheTimeToLive = Optional.empty();
 
 	/**
 	 * Creates a new {@link AggregationOptions}.
@@ -352,6 +354,30 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 		return domainTypeMapping;
 	}
 
+	/**
+	 * @return {@literal true} to rewrite the mapped pipeline on the client before sending it to the server.
+	 * @since 5.2
+	 */
+	public boolean isOptimizePipeline() {
+		return optimizePipeline;
+	}
+
+	/**
+	 * @return {@literal true} if the results may be served from and stored in an {@link AggregationResultCache}.
+	 * @since 5.2
+	 */
+	public boolean isCacheResults() {
+		return cacheTimeToLive.isPresent();
+	}
+
+	/**
+	 * @return the time to live of cached results. Empty if results are not cached.
+	 * @since 5.2
+	 */
+	public Optional<Duration> getCacheTimeToLive() {
+		return cacheTimeToLive;
+	}
+
 	/**
 	 * Returns a new potentially adjusted copy for the given {@code aggregationCommandObject} with the configuration
 	 * applied.
@@ -451,6 +477,8 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 		private @Nullable Duration maxTime;
 		private @Nullable ResultOptions resultOptions;
 		private @Nullable DomainTypeMapping domainTypeMapping;
+		private boolean optimizePipeline;
+		private @Nullable Duration cacheTimeToLive;
 
 		/**
 		 * Defines whether to off-load intensive sort-operations to disk.
@@ -674,6 +702,41 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 			return this;
 		}
 
+		/**
+		 * Rewrite the mapped pipeline before sending it to the server by merging adjacent {@code $match} stages, moving
+		 * {@code $match} stages ahead of projections not affecting the filtered fields, coalescing consecutive
+		 * {@code $project} and {@code $unset} stages, dropping no-op stages and bounding {@code $sort} stages followed by
+		 * a {@code $limit}. Rewrites preserve the result of the aggregation.
+		 *
+		 * @return this.
+		 * @since 5.2
+		 */
+		@Contract("-> this")
+		public Builder optimizePipeline() {
+
+			this.optimizePipeline = true;
+			return this;
+		}
+
+		/**
+		 * Allow serving the results from the {@link AggregationResultCache} configured on the template and caching them
+		 * for the given time to live. The hint has no effect if no cache is configured, or if the aggregation
+		 * {@link #explain(boolean) explains} or {@link #skipOutput() skips} its output.
+		 *
+		 * @param timeToLive must not be {@literal null} and positive.
+		 * @return this.
+		 * @since 5.2
+		 */
+		@Contract("_ -> this")
+		public Builder cacheResults(Duration timeToLive) {
+
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+			this.cacheTimeToLive = timeToLive;
+			return this;
+		}
+
 		/**
 		 * Returns a new {@link AggregationOptions} instance with the given configuration.
 		 *
@@ -692,6 +755,8 @@ public class AggregationOptions implements ReadConcernAware, ReadPreferenceAware
 			if (domainTypeMapping != null) {
 				options.domainTypeMapping = domainTypeMapping;
 			}
+			options.optimizePipeline = optimizePipeline;
+			options.cacheTimeToLive = Optional.ofNullable(cacheTimeToLive);
 			if (readConcern != null) {
 				options.readConcern = Optional.of(readConcern);
 			}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Typed placeholder for a value of a {@link PreparedAggregation} that is bound on each execution. Use a parameter in
+ * place of a value when defining the {@link Aggregation}, eg. within a {@link MatchOperation} criteria.
+ *
+ * <pre class="code">
+ * AggregationParameter&lt;Integer&gt; minAge = AggregationParameter.of("minAge", Integer.class);
+ *
+ * PreparedAggregation prepared = template
+ * 		.prepareAggregation(newAggregation(Person.class, match(where("age").gte(minAge)), group("city").count().as("count")));
+ *
+ * template.aggregate(prepared.bind(Map.of("minAge", 21)), Result.class);
+ * </pre>
+ *
+ * Parameters replace a single value. They are not mapped against the domain type, which means bound values are not
+ * subject to property specific conversion (eg. {@link String} to {@link org.bson.types.ObjectId} for identifiers).
+ * Declare the parameter with the store type instead.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @param <T> the parameter value type.
+ */
+public final class AggregationParameter<T> {
+
+	private final String name;
+	private final Class<T> type;
+
+	private AggregationParameter(String name, Class<T> type) {
+
+		this.name = name;
+		this.type = type;
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} accepting values of the given type.
+	 *
+	 * @param name the parameter name. Must not be {@literal null} or empty.
+	 * @param type the value type. Must not be {@literal null}.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static <T> AggregationParameter<T> of(String name, Class<T> type) {
+
+		Assert.hasText(name, "Parameter name must not be null or empty");
+		Assert.notNull(type, "Parameter type must not be null");
+
+		return new AggregationParameter<>(name, type);
+	}
+
+	/**
+	 * Create a new {@link AggregationParameter} accepting any value.
+	 *
+	 * @param name the parameter name. Must not be {@literal null} or empty.
+	 * @return new instance of {@link AggregationParameter}.
+	 */
+	public static AggregationParameter<Object> of(String name) {
+		return of(name, Object.class);
+	}
+
+	/**
+	 * @return the parameter name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the parameter value type.
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof AggregationParameter<?> that)) {
+			return false;
+		}
+		return ObjectUtils.nullSafeEquals(name, that.name) && ObjectUtils.nullSafeEquals(type, that.type);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(name, type);
+	}
+
+	@Override
+	public String toString() {
+		return "?%s (%s)".formatted(name, type.getSimpleName());
+	}
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * Cache for raw aggregation results keyed by database, collection, rendered pipeline, read concern and collation. Results are
+ * cached for aggregations {@link AggregationOptions.Builder#cacheResults(Duration) opting in} on a template the cache is
+ * {@link org.springframework.data.mongodb.core.MongoTemplate#setAggregationResultCache(AggregationResultCache)
+ * configured} with. Cached results are mapped into the requested output type on each read.
+ * <p>
+ * Entries expire after their time to live and the least recently used entries are evicted once the cache exceeds its
+ * maximum size. Entries are {@link #evict(String) evicted} for a collection if the collection is either the source of
+ * the aggregation or referenced through {@code $lookup}, {@code $graphLookup} or {@code $unionWith}. Use
+ * {@link #invalidateOnChange(MessageListenerContainer, String)} or {@link #onChange(ChangeStreamEvent)} to evict entries
+ * when a change stream reports modifications. Results computed while an eviction happened are not cached, see
+ * {@link #put(CacheKey, List, Duration, long)}.
+ * <p>
+ * The cache holds copies of the results and hands out copies on each read so that result mapping cannot alter cached
+ * entries.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see AggregationOptions.Builder#cacheResults(Duration)
+ */
+public class AggregationResultCache {
+
+	private final int maxSize;
+	private final Clock clock;
+	private final Map<CacheKey, CacheEntry> entries;
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Creates a new {@link AggregationResultCache} holding at most {@code maxSize} results.
+	 *
+	 * @param maxSize the maximum number of cached aggregation results. Must be greater than zero.
+	 */
+	public AggregationResultCache(int maxSize) {
+		this(maxSize, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new {@link AggregationResultCache} holding at most {@code maxSize} results using the given
+	 * {@link Clock} to expire entries.
+	 *
+	 * @param maxSize the maximum number of cached aggregation results. Must be greater than zero.
+	 * @param clock must not be {@literal null}.
+	 */
+	public AggregationResultCache(int maxSize, Clock clock) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maxSize = maxSize;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				return size() > AggregationResultCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Create the {@link CacheKey} for the given rendered pipeline.
+	 *
+	 * @param databaseName the name of the database the aggregation runs against. Must not be {@literal null}.
+	 * @param collectionName the name of the collection the aggregation runs against. Must not be {@literal null}.
+	 * @param pipeline the rendered pipeline. Must not be {@literal null}.
+	 * @param options the options of the aggregation. Must not be {@literal null}.
+	 * @return new instance of {@link CacheKey}.
+	 */
+	public static CacheKey key(String databaseName, String collectionName, List<Document> pipeline,
+			AggregationOptions options) {
+
+		Assert.hasText(databaseName, "Database name must not be null or empty");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		Assert.notNull(pipeline, "Pipeline must not be null");
+		Assert.notNull(options, "AggregationOptions must not be null");
+
+		return new CacheKey(databaseName, collectionName, pipeline, options.getReadConcern(),
+				options.getCollation().map(Collation::toDocument).orElse(null));
+	}
+
+	/**
+	 * Obtain the cached results for the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return a copy of the cached raw results or {@literal null} if not present or expired.
+	 */
+	public @Nullable List<Document> get(CacheKey key) {
+
+		Assert.notNull(key, "CacheKey must not be null");
+
+		synchronized (entries) {
+
+			CacheEntry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.isExpired(clock.instant())) {
+				entries.remove(key);
+				return null;
+			}
+
+			return copy(entry.results());
+		}
+	}
+
+	/**
+	 * Obtain the number of {@link #evict(String) evictions} and {@link #clear() clear} operations so far. Capture the
+	 * count before running an aggregation and pass it on to {@link #put(CacheKey, List, Duration, long)} to avoid
+	 * caching results that were read before a change evicted them.
+	 *
+	 * @return the number of evictions so far.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Cache a copy of the given results.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param results the raw results. Must not be {@literal null}.
+	 * @param timeToLive must not be {@literal null}.
+	 */
+	public void put(CacheKey key, List<Document> results, Duration timeToLive) {
+		doPut(key, results, timeToLive, null);
+	}
+
+	/**
+	 * Cache a copy of the given results unless entries were evicted since {@code evictionCount} was
+	 * {@link #getEvictionCount() obtained}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param results the raw results. Must not be {@literal null}.
+	 * @param timeToLive must not be {@literal null}.
+	 * @param evictionCount the {@link #getEvictionCount() eviction count} captured before reading the results.
+	 * @return {@literal true} if the results were cached.
+	 */
+	public boolean put(CacheKey key, List<Document> results, Duration timeToLive, long evictionCount) {
+		return doPut(key, results, timeToLive, evictionCount);
+	}
+
+	private boolean doPut(CacheKey key, List<Document> results, Duration timeToLive, @Nullable Long evictionCount) {
+
+		Assert.notNull(key, "CacheKey must not be null");
+		Assert.notNull(results, "Results must not be null");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+
+		CacheEntry entry = new CacheEntry(copy(results), clock.instant().plus(timeToLive));
+
+		synchronized (entries) {
+
+			if (evictionCount != null && evictionCount != this.evictionCount.get()) {
+				return false;
+			}
+
+			entries.put(key, entry);
+			return true;
+		}
+	}
+
+	/**
+	 * Evict all results of aggregations reading from the given collection either as their source or through
+	 * {@code $lookup}, {@code $graphLookup} or {@code $unionWith} stages.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 */
+	public void evict(String collectionName) {
+
+		Assert.notNull(collectionName, "Collection name must not be null");
+
+		synchronized (entries) {
+			evictionCount.incrementAndGet();
+			entries.keySet().removeIf(key -> key.readsFrom(collectionName));
+		}
+	}
+
+	/**
+	 * Evict all cached results.
+	 */
+	public void clear() {
+
+		synchronized (entries) {
+			evictionCount.incrementAndGet();
+			entries.clear();
+		}
+	}
+
+	/**
+	 * @return the number of cached results including expired ones not yet evicted.
+	 */
+	public int size() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Evict the results affected by the given change. Events not referring to a collection, such as
+	 * {@code dropDatabase}, evict all results. Use as a consumer of reactive change streams, e.g.
+	 * {@code template.changeStream("orders", options, Document.class).subscribe(cache::onChange)}.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	public void onChange(ChangeStreamEvent<?> event) {
+
+		Assert.notNull(event, "ChangeStreamEvent must not be null");
+
+		onChange(event.getCollectionName());
+	}
+
+	/**
+	 * Obtain a {@link MessageListener} evicting the results affected by the received change stream events.
+	 *
+	 * @return new instance of {@link MessageListener}.
+	 * @see ChangeStreamRequest
+	 */
+	public MessageListener<ChangeStreamDocument<Document>, Object> invalidationListener() {
+
+		return message -> {
+
+			ChangeStreamDocument<Document> raw = message.getRaw();
+			onChange(raw != null && raw.getNamespace() != null ? raw.getNamespace().getCollectionName()
+					: message.getProperties().getCollectionName());
+		};
+	}
+
+	/**
+	 * Register a change stream for the given collection on the given {@link MessageListenerContainer} evicting the
+	 * affected results on each change.
+	 *
+	 * @param container must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return the {@link Subscription} of the change stream.
+	 */
+	public Subscription invalidateOnChange(MessageListenerContainer container, String collectionName) {
+
+		Assert.notNull(container, "MessageListenerContainer must not be null");
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+
+		return container.register(ChangeStreamRequest.builder(invalidationListener()).collection(collectionName).build(),
+				Object.class);
+	}
+
+	private void onChange(@Nullable String collectionName) {
+
+		if (collectionName == null) {
+			clear();
+		} else {
+			evict(collectionName);
+		}
+	}
+
+	private static List<Document> copy(List<Document> documents) {
+
+		List<Document> copy = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			copy.add(copy(document));
+		}
+		return copy;
+	}
+
+	private static Document copy(Document document) {
+
+		Document copy = new Document();
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+			copy.put(entry.getKey(), copyValue(entry.getValue()));
+		}
+		return copy;
+	}
+
+	private static @Nullable Object copyValue(@Nullable Object value) {
+
+		if (value instanceof Document document) {
+			return copy(document);
+		}
+
+		if (value instanceof Collection<?> collection) {
+
+			List<@Nullable Object> copy = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				copy.add(copyValue(element));
+			}
+			return copy;
+		}
+
+		return value;
+	}
+
+	private record CacheEntry(List<Document> results, Instant expiresAt) {
+
+		boolean isExpired(Instant now) {
+			return !now.isBefore(expiresAt);
+		}
+	}
+
+	/**
+	 * Key of cached aggregation results.
+	 *
+	 * @author Mark Paluch
+	 * @since 5.2
+	 */
+	public static final class CacheKey {
+
+		private final String databaseName;
+		private final String collectionName;
+		private final List<Document> pipeline;
+		private final @Nullable ReadConcern readConcern;
+		private final @Nullable Document collation;
+		private final Set<String> collections;
+		private final int hashCode;
+
+		private CacheKey(String databaseName, String collectionName, List<Document> pipeline,
+				@Nullable ReadConcern readConcern, @Nullable Document collation) {
+
+			this.databaseName = databaseName;
+			this.collectionName = collectionName;
+			this.pipeline = List.copyOf(pipeline);
+			this.readConcern = readConcern;
+			this.collation = collation;
+			this.collections = new HashSet<>();
+			this.collections.add(collectionName);
+			collectReferencedCollections(this.pipeline, this.collections);
+			this.hashCode = Objects.hash(databaseName, collectionName, this.pipeline, readConcern, collation);
+		}
+
+		/**
+		 * @return the name of the database the aggregation runs against.
+		 */
+		public String getDatabaseName() {
+			return databaseName;
+		}
+
+		/**
+		 * @return the name of the collection the aggregation runs against.
+		 */
+		public String getCollectionName() {
+			return collectionName;
+		}
+
+		/**
+		 * @return the names of all collections the aggregation reads from.
+		 */
+		public Set<String> getCollections() {
+			return Collections.unmodifiableSet(collections);
+		}
+
+		boolean readsFrom(String collectionName) {
+			return collections.contains(collectionName);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey that)) {
+				return false;
+			}
+
+			return hashCode == that.hashCode && databaseName.equals(that.databaseName)
+					&& collectionName.equals(that.collectionName)
+					&& ObjectUtils.nullSafeEquals(readConcern, that.readConcern)
+					&& ObjectUtils.nullSafeEquals(collation, that.collation) && pipeline.equals(that.pipeline);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "CacheKey{database=%s, collection=%s, stages=%d, hash=%d}".formatted(databaseName, collectionName,
+					pipeline.size(), hashCode);
+		}
+
+		private static void collectReferencedCollections(@Nullable Object source, Set<String> collections) {
+
+			if (source instanceof List<?> list) {
+				for (Object element : list) {
+					collectReferencedCollections(element, collections);
+				}
+				return;
+			}
+
+			if (!(source instanceof Document document)) {
+				return;
+			}
+
+			for (Map.Entry<String, Object> entry : document.entrySet()) {
+
+				Object value = entry.getValue();
+
+				switch (entry.getKey()) {
+					case "$lookup", "$graphLookup" -> {
+						if (value instanceof Document stage && stage.get("from") instanceof String from) {
+							collections.add(from);
+						}
+					}
+					case "$unionWith" -> {
+						if (value instanceof String coll) {
+							collections.add(coll);
+						} else if (value instanceof Document stage && stage.get("coll") instanceof String coll) {
+							collections.add(coll);
+						}
+					}
+					default -> {}
+				}
+
+				collectReferencedCollections(value, collections);
+			}
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.lang.Contract;
+import org.springframework.util.Assert;
+
+/**
+ * Definition of an {@link Aggregation} whose output is materialized into a target collection via {@code $out} and kept
+ * up to date by {@link MaterializedAggregations}.
+ *
+ * <pre class="code">
+ * MaterializedAggregation revenueByRegion = MaterializedAggregation.builder(newAggregation(Order.class,
+ * 		group("region").sum("total").as("revenue"), sort(Direction.DESC, "revenue")))
+ * 	.into("revenue_by_region")
+ * 	.refreshEvery(Duration.ofMinutes(5))
+ * 	.refreshOnChange(Duration.ofSeconds(2))
+ * 	.partitionBy("region", "_id")
+ * 	.build();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MaterializedAggregations
+ */
+public class MaterializedAggregation {
+
+	private final Aggregation aggregation;
+	private final @Nullable String sourceCollection;
+	private final String targetCollection;
+	private final @Nullable Duration refreshInterval;
+	private final @Nullable Duration changeDelay;
+	private final @Nullable String partitionField;
+	private final @Nullable String viewPartitionField;
+
+	private MaterializedAggregation(Builder builder) {
+
+		this.aggregation = builder.aggregation;
+		this.sourceCollection = builder.sourceCollection;
+		this.targetCollection = builder.targetCollection;
+		this.refreshInterval = builder.refreshInterval;
+		this.changeDelay = builder.changeDelay;
+		this.partitionField = builder.partitionField;
+		this.viewPartitionField = builder.viewPartitionField;
+	}
+
+	/**
+	 * Obtain a new {@link Builder} for the given {@link Aggregation}. The aggregation must not write its output via
+	 * {@code $out} or {@code $merge} itself.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @return new instance of {@link Builder}.
+	 */
+	public static Builder builder(Aggregation aggregation) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		return new Builder(aggregation);
+	}
+
+	/**
+	 * @return the {@link Aggregation} to materialize.
+	 */
+	public Aggregation getAggregation() {
+		return aggregation;
+	}
+
+	/**
+	 * @return the name of the collection to run the aggregation on. {@literal null} to derive it from the
+	 *         {@link TypedAggregation#getInputType() input type}.
+	 */
+	public @Nullable String getSourceCollection() {
+		return sourceCollection;
+	}
+
+	/**
+	 * @return the name of the collection holding the aggregation output.
+	 */
+	public String getTargetCollection() {
+		return targetCollection;
+	}
+
+	/**
+	 * @return the interval to recompute the entire output at, if any.
+	 */
+	public Optional<Duration> getRefreshInterval() {
+		return Optional.ofNullable(refreshInterval);
+	}
+
+	/**
+	 * @return the delay to refresh the output after a change of the source collection, if any.
+	 */
+	public Optional<Duration> getChangeDelay() {
+		return Optional.ofNullable(changeDelay);
+	}
+
+	/**
+	 * @return {@literal true} if changes of the source collection trigger a refresh.
+	 */
+	public boolean isRefreshOnChange() {
+		return changeDelay != null;
+	}
+
+	/**
+	 * @return the source document field partitioning the output. {@literal null} if not partitioned.
+	 */
+	public @Nullable String getPartitionField() {
+		return partitionField;
+	}
+
+	/**
+	 * @return the output document field holding the {@link #getPartitionField() partition} value. {@literal null} if
+	 *         not partitioned.
+	 */
+	public @Nullable String getViewPartitionField() {
+		return viewPartitionField;
+	}
+
+	/**
+	 * @return {@literal true} if the output is partitioned and can be refreshed incrementally.
+	 */
+	public boolean isPartitioned() {
+		return partitionField != null && viewPartitionField != null;
+	}
+
+	/**
+	 * Builder for {@link MaterializedAggregation}.
+	 *
+	 * @author Mark Paluch
+	 * @since 5.2
+	 */
+	public static class Builder {
+
+		private final Aggregation aggregation;
+		private @Nullable String sourceCollection;
+		private @Nullable String targetCollection;
+		private @Nullable Duration refreshInterval;
+		private @Nullable Duration changeDelay;
+		private @Nullable String partitionField;
+		private @Nullable String viewPartitionField;
+
+		private Builder(Aggregation aggregation) {
+			this.aggregation = aggregation;
+		}
+
+		/**
+		 * Set the name of the collection to run the aggregation on. Can be omitted for a {@link TypedAggregation}.
+		 *
+		 * @param collectionName must not be {@literal null} or empty.
+		 * @return this.
+		 */
+		@Contract("_ -> this")
+		public Builder from(String collectionName) {
+
+			Assert.hasText(collectionName, "Source collection name must not be null or empty");
+
+			this.sourceCollection = collectionName;
+			return this;
+		}
+
+		/**
+		 * Set the name of the collection to materialize the output into.
+		 *
+		 * @param collectionName must not be {@literal null} or empty.
+		 * @return this.
+		 */
+		@Contract("_ -> this")
+		public Builder into(String collectionName) {
+
+			Assert.hasText(collectionName, "Target collection name must not be null or empty");
+
+			this.targetCollection = collectionName;
+			return this;
+		}
+
+		/**
+		 * Recompute the entire output periodically.
+		 *
+		 * @param interval must not be {@literal null} and must be positive.
+		 * @return this.
+		 */
+		@Contract("_ -> this")
+		public Builder refreshEvery(Duration interval) {
+
+			Assert.notNull(interval, "Refresh interval must not be null");
+			Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Refresh interval must be positive");
+
+			this.refreshInterval = interval;
+			return this;
+		}
+
+		/**
+		 * Refresh the output when a change stream reports changes of the source collection. Changes arriving within the
+		 * given delay are collected and applied by a single refresh.
+		 *
+		 * @param delay must not be {@literal null} or negative.
+		 * @return this.
+		 */
+		@Contract("_ -> this")
+		public Builder refreshOnChange(Duration delay) {
+
+			Assert.notNull(delay, "Delay must not be null");
+			Assert.isTrue(!delay.isNegative(), "Delay must not be negative");
+
+			this.changeDelay = delay;
+			return this;
+		}
+
+		/**
+		 * Declare that each output document is computed from the source documents sharing the value of
+		 * {@code sourceField} only, and holds that value in {@code viewField}, like {@code group("region")} storing the
+		 * {@literal region} in {@literal _id}. Changes are then applied by recomputing the affected partitions instead of
+		 * the entire output.
+		 *
+		 * @param sourceField the field of the source documents. Must not be {@literal null} or empty.
+		 * @param viewField the field of the output documents. Must not be {@literal null} or empty.
+		 * @return this.
+		 */
+		@Contract("_, _ -> this")
+		public Builder partitionBy(String sourceField, String viewField) {
+
+			Assert.hasText(sourceField, "Source field must not be null or empty");
+			Assert.hasText(viewField, "View field must not be null or empty");
+
+			this.partitionField = sourceField;
+			this.viewPartitionField = viewField;
+			return this;
+		}
+
+		/**
+		 * @return new instance of {@link MaterializedAggregation}.
+		 */
+		@Contract("-> new")
+		public MaterializedAggregation build() {
+
+			Assert.state(targetCollection != null, "Target collection must be set");
+			Assert.state(sourceCollection != null || aggregation instanceof TypedAggregation<?>,
+					"Source collection must be set for untyped aggregations");
+			Assert.state(!targetCollection.equals(sourceCollection), "Source and target collection must not be the same");
+			Assert.state(!aggregation.getPipeline().isOutOrMerge(),
+					"Aggregation must not write its output via $out or $merge");
+
+			return new MaterializedAggregation(this);
+		}
+	}
+}
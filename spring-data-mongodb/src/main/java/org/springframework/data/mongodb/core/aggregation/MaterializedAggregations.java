@@ -0,0 +1,593 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.util.Lock;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+/**
+ * Registry of {@link MaterializedAggregation materialized aggregations} keeping their output up to date in the
+ * respective target collection. Aggregations issued through {@link org.springframework.data.mongodb.core.MongoTemplate}
+ * that render the very same pipeline on the source collection as a registered one are answered from the target
+ * collection once it has been materialized, see
+ * {@link org.springframework.data.mongodb.core.MongoTemplate#setMaterializedAggregations(MaterializedAggregations)}.
+ * <p>
+ * A refresh writes the output via {@code $out} into a temporary collection carrying the indexes of the target collection
+ * and renames it to the target collection afterwards, so that readers observe either the previous or the refreshed
+ * output but never a mix of both. Once {@link #start() started}, aggregations are refreshed
+ * initially, every {@link MaterializedAggregation#getRefreshInterval() refresh interval} and, using the configured
+ * {@link #setMessageListenerContainer(MessageListenerContainer) MessageListenerContainer}, after changes to the source
+ * collection. Changes are applied incrementally by recomputing the affected partitions of a
+ * {@link MaterializedAggregation.Builder#partitionBy(String, String) partitioned} aggregation only and copying the
+ * remaining output of the target collection, falling back to a full refresh if the affected partitions cannot be
+ * determined from the change event.
+ *
+ * <pre class="code">
+ * MaterializedAggregations views = new MaterializedAggregations(template);
+ * views.setMessageListenerContainer(container);
+ * views.register(revenueByRegion);
+ * views.start();
+ *
+ * template.setMaterializedAggregations(views);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class MaterializedAggregations implements SmartLifecycle {
+
+	/**
+	 * Name of the field holding the refresh generation in materialized documents.
+	 */
+	public static final String GENERATION_FIELD = "__generation";
+
+	private static final String REFRESH_COLLECTION_SUFFIX = "__refresh_";
+
+	private static final Log LOGGER = LogFactory.getLog(MaterializedAggregations.class);
+
+	private final MongoOperations operations;
+	private final Clock clock;
+	private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+	private final Lock lifecycleLock = Lock.of(new ReentrantLock());
+
+	private @Nullable MessageListenerContainer container;
+	private ErrorHandler errorHandler = error -> LOGGER.error("Failed to refresh materialized aggregation", error);
+
+	private @Nullable ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a new {@link MaterializedAggregations} registry.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public MaterializedAggregations(MongoOperations operations) {
+		this(operations, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new {@link MaterializedAggregations} registry using the given {@link Clock} to derive refresh
+	 * generations.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 */
+	public MaterializedAggregations(MongoOperations operations, Clock clock) {
+
+		Assert.notNull(operations, "MongoOperations must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.operations = operations;
+		this.clock = clock;
+	}
+
+	/**
+	 * Set the {@link MessageListenerContainer} to subscribe to changes of the source collections of aggregations
+	 * {@link MaterializedAggregation#isRefreshOnChange() refreshing on change}.
+	 *
+	 * @param container can be {@literal null}.
+	 */
+	public void setMessageListenerContainer(@Nullable MessageListenerContainer container) {
+		this.container = container;
+	}
+
+	/**
+	 * Set the {@link ErrorHandler} notified about failed background refreshes. Defaults to logging the error.
+	 *
+	 * @param errorHandler must not be {@literal null}.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Register the given {@link MaterializedAggregation}. Registering an aggregation for a target collection that is
+	 * already in use replaces the previous registration. Aggregations registered after {@link #start()} are refreshed
+	 * right away.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 */
+	public void register(MaterializedAggregation aggregation) {
+
+		Assert.notNull(aggregation, "MaterializedAggregation must not be null");
+
+		Aggregation source = aggregation.getAggregation();
+		String sourceCollection = aggregation.getSourceCollection() != null ? aggregation.getSourceCollection()
+				: operations.getCollectionName(((TypedAggregation<?>) source).getInputType());
+
+		Registration registration = new Registration(aggregation, sourceCollection,
+				operations.prepareAggregation(source).getPipeline(Collections.emptyMap()));
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			Registration previous = registrations.put(aggregation.getTargetCollection(), registration);
+			if (previous != null) {
+				previous.cancel();
+			}
+			if (scheduler != null) {
+				start(registration, scheduler);
+			}
+		});
+	}
+
+	/**
+	 * Recompute the entire output of the aggregation materialized into the given collection.
+	 *
+	 * @param targetCollection must not be {@literal null}.
+	 * @throws IllegalArgumentException if no aggregation is registered for the given collection.
+	 */
+	public void refresh(String targetCollection) {
+
+		Registration registration = registrations.get(targetCollection);
+		Assert.notNull(registration, () -> "No materialized aggregation registered for '%s'".formatted(targetCollection));
+
+		refresh(registration, null);
+	}
+
+	/**
+	 * Check whether the aggregation materialized into the given collection has been refreshed at least once.
+	 *
+	 * @param targetCollection must not be {@literal null}.
+	 * @return {@literal true} if the target collection holds the aggregation output.
+	 */
+	public boolean isMaterialized(String targetCollection) {
+
+		Registration registration = registrations.get(targetCollection);
+		return registration != null && registration.generation > 0;
+	}
+
+	/**
+	 * Read the materialized output of the registered aggregation rendering the given pipeline on the given collection.
+	 * The order of a trailing {@code $sort} stage is retained.
+	 *
+	 * @param collectionName the name of the collection the pipeline is run on. Must not be {@literal null}.
+	 * @param pipeline the rendered pipeline. Must not be {@literal null}.
+	 * @return the materialized output or {@literal null} if no such aggregation has been materialized.
+	 */
+	public @Nullable List<Document> read(String collectionName, List<Document> pipeline) {
+
+		for (Registration registration : registrations.values()) {
+
+			if (registration.generation > 0 && registration.sourceCollection.equals(collectionName)
+					&& registration.pipeline.equals(pipeline)) {
+
+				String targetCollection = registration.definition.getTargetCollection();
+				Document sort = trailingSort(pipeline);
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Reading materialized aggregation output from %s".formatted(targetCollection));
+				}
+
+				return operations.execute(targetCollection,
+						collection -> collection.find().projection(new Document(GENERATION_FIELD, 0))
+								.sort(sort).into(new ArrayList<>()));
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public void start() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler != null) {
+				return;
+			}
+
+			ScheduledExecutorService executor = Executors
+					.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mongo-materialized-aggregation-"));
+			for (Registration registration : registrations.values()) {
+				start(registration, executor);
+			}
+			scheduler = executor;
+		});
+	}
+
+	@Override
+	public void stop() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler != null) {
+
+				registrations.values().forEach(Registration::cancel);
+				scheduler.shutdown();
+				scheduler = null;
+			}
+		});
+	}
+
+	@Override
+	public boolean isRunning() {
+		return lifecycleLock.execute(() -> scheduler != null);
+	}
+
+	private void start(Registration registration, ScheduledExecutorService executor) {
+
+		MaterializedAggregation definition = registration.definition;
+
+		if (definition.isRefreshOnChange()) {
+
+			Assert.state(container != null, () -> "MessageListenerContainer required to refresh '%s' on change"
+					.formatted(definition.getTargetCollection()));
+
+			ChangeStreamRequest<Object> request = ChangeStreamRequest
+					.<Object> builder(message -> onChange(registration, message.getRaw())) //
+					.collection(registration.sourceCollection) //
+					.fullDocumentLookup(FullDocument.UPDATE_LOOKUP) //
+					.fullDocumentBeforeChangeLookup(FullDocumentBeforeChange.WHEN_AVAILABLE) //
+					.build();
+			registration.subscription = container.register(request, Object.class);
+		}
+
+		registration.scheduler = executor;
+
+		Runnable refresh = () -> refreshAndHandleError(registration, null);
+		if (definition.getRefreshInterval().isPresent()) {
+
+			long interval = definition.getRefreshInterval().get().toMillis();
+			registration.refreshTask = executor.scheduleWithFixedDelay(refresh, 0, interval, TimeUnit.MILLISECONDS);
+		} else {
+			registration.refreshTask = executor.schedule(refresh, 0, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void onChange(Registration registration, @Nullable ChangeStreamDocument<Document> change) {
+
+		Set<@Nullable Object> partitions = change != null ? affectedPartitions(registration.definition, change) : null;
+
+		registration.pendingLock.executeWithoutResult(() -> {
+
+			if (partitions == null) {
+				registration.fullRefreshPending = true;
+			} else {
+				registration.pendingPartitions.addAll(partitions);
+			}
+
+			ScheduledExecutorService executor = registration.scheduler;
+			if (registration.refreshScheduled || executor == null || executor.isShutdown()) {
+				return;
+			}
+
+			registration.refreshScheduled = true;
+			executor.schedule(() -> refreshPending(registration),
+					registration.definition.getChangeDelay().orElseThrow().toMillis(), TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private void refreshPending(Registration registration) {
+
+		Set<@Nullable Object> partitions = registration.pendingLock.execute(() -> {
+
+			Set<@Nullable Object> pending = registration.fullRefreshPending ? null
+					: new HashSet<>(registration.pendingPartitions);
+
+			registration.pendingPartitions.clear();
+			registration.fullRefreshPending = false;
+			registration.refreshScheduled = false;
+			return pending;
+		});
+
+		refreshAndHandleError(registration, partitions);
+	}
+
+	private void refreshAndHandleError(Registration registration, @Nullable Collection<@Nullable Object> partitions) {
+
+		try {
+			refresh(registration, partitions);
+		} catch (RuntimeException e) {
+			errorHandler.handleError(e);
+		}
+	}
+
+	private void refresh(Registration registration, @Nullable Collection<@Nullable Object> partitions) {
+
+		MaterializedAggregation definition = registration.definition;
+
+		registration.refreshLock.executeWithoutResult(() -> {
+
+			boolean incremental = partitions != null && registration.generation > 0;
+			if (incremental && partitions.isEmpty()) {
+				return;
+			}
+
+			long generation = Math.max(registration.generation + 1, clock.millis());
+			String targetCollection = definition.getTargetCollection();
+			String refreshCollection = targetCollection + REFRESH_COLLECTION_SUFFIX + generation;
+
+			List<AggregationOperation> stages = new ArrayList<>(registration.pipeline.size() + 3);
+			if (incremental) {
+
+				List<@Nullable Object> values = new ArrayList<>(partitions);
+				List<Document> partitionPipeline = new ArrayList<>(registration.pipeline.size() + 1);
+				partitionPipeline.add(new Document("$match",
+						new Document(definition.getPartitionField(), new Document("$in", values))));
+				partitionPipeline.addAll(registration.pipeline);
+
+				stages.add(Aggregation.stage(new Document("$match",
+						new Document(definition.getViewPartitionField(), new Document("$nin", values)))));
+				stages.add(Aggregation.stage(new Document("$unionWith",
+						new Document("coll", registration.sourceCollection).append("pipeline", partitionPipeline))));
+			} else {
+				registration.pipeline.forEach(stage -> stages.add(Aggregation.stage(stage)));
+			}
+			stages.add(Aggregation.stage(new Document("$set", new Document(GENERATION_FIELD, generation))));
+			stages.add(Aggregation.out(refreshCollection));
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Refreshing materialized aggregation %s%s".formatted(targetCollection,
+						incremental ? " for partitions " + partitions : ""));
+			}
+
+			boolean renamed = false;
+			try {
+
+				copyIndexes(targetCollection, refreshCollection);
+
+				operations.aggregate(Aggregation.newAggregation(stages).withOptions(refreshOptions(definition)),
+						incremental ? targetCollection : registration.sourceCollection, Document.class);
+
+				operations.execute(refreshCollection, collection -> {
+
+					collection.renameCollection(
+							new MongoNamespace(collection.getNamespace().getDatabaseName(), targetCollection),
+							new RenameCollectionOptions().dropTarget(true));
+					return null;
+				});
+				renamed = true;
+			} finally {
+				if (!renamed) {
+					dropRefreshCollection(refreshCollection);
+				}
+			}
+
+			registration.generation = generation;
+		});
+	}
+
+	private void dropRefreshCollection(String refreshCollection) {
+
+		try {
+			operations.dropCollection(refreshCollection);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Failed to drop refresh collection %s".formatted(refreshCollection), e);
+		}
+	}
+
+	/**
+	 * Create the indexes of the given source collection, other than the one on {@literal _id}, on the given target
+	 * collection so that {@code $out} retains them.
+	 */
+	private void copyIndexes(String sourceCollection, String targetCollection) {
+
+		List<Document> indexes = operations.execute(sourceCollection,
+				collection -> collection.listIndexes().into(new ArrayList<>()));
+
+		indexes.removeIf(index -> "_id_".equals(index.get("name")));
+		if (indexes.isEmpty()) {
+			return;
+		}
+
+		indexes.forEach(index -> index.remove("ns"));
+		operations.executeCommand(new Document("createIndexes", targetCollection).append("indexes", indexes));
+	}
+
+	private static AggregationOptions refreshOptions(MaterializedAggregation definition) {
+
+		AggregationOptions options = definition.getAggregation().getOptions();
+		AggregationOptions.Builder builder = AggregationOptions.builder().noMapping().skipOutput();
+
+		if (options.isAllowDiskUseSet()) {
+			builder.allowDiskUse(options.isAllowDiskUse());
+		}
+		options.getCollation().ifPresent(builder::collation);
+		options.getComment().ifPresent(builder::comment);
+		if (options.hasExecutionTimeLimit()) {
+			builder.maxTime(options.getMaxTime());
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Determine the partitions affected by the given change. {@literal null} if the entire output needs to be
+	 * recomputed.
+	 */
+	static @Nullable Set<@Nullable Object> affectedPartitions(MaterializedAggregation definition,
+			ChangeStreamDocument<Document> change) {
+
+		String field = definition.getPartitionField();
+		if (!definition.isPartitioned() || field == null || change.getOperationType() == null) {
+			return null;
+		}
+
+		Document before = change.getFullDocumentBeforeChange();
+		Document after = change.getFullDocument();
+		Set<@Nullable Object> partitions = new HashSet<>(2);
+
+		switch (change.getOperationType()) {
+			case INSERT -> {
+				if (after == null) {
+					return null;
+				}
+				partitions.add(BsonUtils.resolveValue((Bson) after, field));
+			}
+			case UPDATE, REPLACE -> {
+				if (before != null) {
+					partitions.add(BsonUtils.resolveValue((Bson) before, field));
+				} else if (change.getOperationType() == OperationType.REPLACE
+						|| touches(change.getUpdateDescription(), field)) {
+					return null;
+				}
+				if (after != null) {
+					partitions.add(BsonUtils.resolveValue((Bson) after, field));
+				} else if (before == null) {
+					return null;
+				}
+			}
+			case DELETE -> {
+				if (before == null) {
+					return null;
+				}
+				partitions.add(BsonUtils.resolveValue((Bson) before, field));
+			}
+			default -> {
+				return null;
+			}
+		}
+
+		return partitions;
+	}
+
+	private static boolean touches(@Nullable UpdateDescription description, String field) {
+
+		if (description == null) {
+			return true;
+		}
+
+		Set<String> paths = new HashSet<>();
+		if (description.getUpdatedFields() != null) {
+			paths.addAll(description.getUpdatedFields().keySet());
+		}
+		if (description.getRemovedFields() != null) {
+			paths.addAll(description.getRemovedFields());
+		}
+
+		for (String path : paths) {
+			if (path.equals(field) || path.startsWith(field + ".") || field.startsWith(path + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Obtain the sort of a trailing {@code $sort} stage that is only followed by {@code $skip} and {@code $limit}.
+	 */
+	static @Nullable Document trailingSort(List<Document> pipeline) {
+
+		for (int i = pipeline.size() - 1; i >= 0; i--) {
+
+			Document stage = pipeline.get(i);
+			if (stage.get("$sort") instanceof Document sort) {
+				return sort;
+			}
+			if (!stage.containsKey("$skip") && !stage.containsKey("$limit")) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static class Registration {
+
+		final MaterializedAggregation definition;
+		final String sourceCollection;
+		final List<Document> pipeline;
+
+		final Lock refreshLock = Lock.of(new ReentrantLock());
+		final Lock pendingLock = Lock.of(new ReentrantLock());
+		final Set<@Nullable Object> pendingPartitions = new HashSet<>();
+
+		volatile long generation;
+		boolean fullRefreshPending;
+		boolean refreshScheduled;
+
+		@Nullable Subscription subscription;
+		@Nullable ScheduledFuture<?> refreshTask;
+		volatile @Nullable ScheduledExecutorService scheduler;
+
+		Registration(MaterializedAggregation definition, String sourceCollection, List<Document> pipeline) {
+
+			this.definition = definition;
+			this.sourceCollection = sourceCollection;
+			this.pipeline = pipeline;
+		}
+
+		void cancel() {
+
+			if (subscription != null) {
+				subscription.cancel();
+				subscription = null;
+			}
+			if (refreshTask != null) {
+				refreshTask.cancel(false);
+				refreshTask = null;
+			}
+			scheduler = null;
+		}
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions.DomainTypeMapping;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * An {@link Aggregation} that has been rendered and mapped once and can be executed multiple times by binding values
+ * for its {@link AggregationParameter parameters}. Binding a prepared aggregation skips rendering, field reference
+ * resolution and property mapping of the original {@link Aggregation}, and only converts the bound values.
+ * <p>
+ * Pipeline parts that do not contain parameters are shared between all bound aggregations and must not be modified.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see AggregationParameter
+ */
+public class PreparedAggregation {
+
+	private final @Nullable Class<?> inputType;
+	private final AggregationOptions options;
+	private final MongoConverter converter;
+	private final Map<String, AggregationParameter<?>> parameters;
+	private final List<Binder> stages;
+
+	private PreparedAggregation(@Nullable Class<?> inputType, AggregationOptions options, MongoConverter converter,
+			List<Document> pipeline) {
+
+		this.inputType = inputType;
+		this.options = options;
+		this.converter = converter;
+		this.parameters = new LinkedHashMap<>();
+		this.stages = new ArrayList<>(pipeline.size());
+
+		for (Document stage : pipeline) {
+			stages.add(compile(stage));
+		}
+	}
+
+	/**
+	 * Prepare the given {@link Aggregation} by rendering and mapping its pipeline against the input type. Mapping follows
+	 * the {@link AggregationOptions#getDomainTypeMapping() domain type mapping} of the aggregation while leaving
+	 * {@link AggregationParameter parameters} in place.
+	 *
+	 * @param aggregation the aggregation to prepare. Must not be {@literal null}.
+	 * @param inputType the input type. Can be {@literal null}. Defaults to the input type of a {@link TypedAggregation}.
+	 * @param converter the converter used to map the pipeline and convert bound values. Must not be {@literal null}.
+	 * @return new instance of {@link PreparedAggregation}.
+	 */
+	public static PreparedAggregation of(Aggregation aggregation, @Nullable Class<?> inputType,
+			MongoConverter converter) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		Assert.notNull(converter, "MongoConverter must not be null");
+
+		Class<?> type = inputType == null && aggregation instanceof TypedAggregation<?> typedAggregation
+				? typedAggregation.getInputType()
+				: inputType;
+
+		return new PreparedAggregation(type, aggregation.getOptions(), converter,
+				aggregation.toPipeline(createContext(aggregation, type, converter)));
+	}
+
+	private static AggregationOperationContext createContext(Aggregation aggregation, @Nullable Class<?> inputType,
+			MongoConverter converter) {
+
+		DomainTypeMapping domainTypeMapping = aggregation.getOptions().getDomainTypeMapping();
+
+		if (domainTypeMapping == DomainTypeMapping.NONE) {
+			return Aggregation.DEFAULT_CONTEXT;
+		}
+
+		FieldLookupPolicy lookupPolicy = inputType != null && domainTypeMapping == DomainTypeMapping.STRICT
+				&& !aggregation.getPipeline().containsUnionWith() ? FieldLookupPolicy.strict() : FieldLookupPolicy.relaxed();
+
+		return new TypeBasedAggregationOperationContext(inputType != null ? inputType : Object.class,
+				converter.getMappingContext(), new ParameterRetainingQueryMapper(converter), lookupPolicy);
+	}
+
+	/**
+	 * @return the input type used for collection name resolution. Can be {@literal null}.
+	 */
+	public @Nullable Class<?> getInputType() {
+		return inputType;
+	}
+
+	/**
+	 * @return the {@link AggregationOptions} of the original {@link Aggregation}.
+	 */
+	public AggregationOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return the names of all parameters in order of their appearance within the pipeline.
+	 */
+	public Set<String> getParameterNames() {
+		return Collections.unmodifiableSet(parameters.keySet());
+	}
+
+	/**
+	 * @return all parameters in order of their appearance within the pipeline.
+	 */
+	public Collection<AggregationParameter<?>> getParameters() {
+		return Collections.unmodifiableCollection(parameters.values());
+	}
+
+	/**
+	 * Create the pipeline using the given parameter values.
+	 *
+	 * @param values parameter values by {@link AggregationParameter#getName() name}. Must not be {@literal null}.
+	 * @return the bound pipeline.
+	 * @throws IllegalArgumentException if a parameter value is missing or cannot be converted into the parameter type.
+	 */
+	public List<Document> getPipeline(Map<String, ? extends @Nullable Object> values) {
+
+		Assert.notNull(values, "Parameter values must not be null");
+
+		List<Document> pipeline = new ArrayList<>(stages.size());
+		for (Binder stage : stages) {
+			pipeline.add((Document) stage.bind(values));
+		}
+		return pipeline;
+	}
+
+	/**
+	 * Create an executable {@link Aggregation} using the given parameter values. The resulting aggregation is a
+	 * {@link TypedAggregation} if the {@link #getInputType() input type} is known.
+	 *
+	 * @param values parameter values by {@link AggregationParameter#getName() name}. Must not be {@literal null}.
+	 * @return new instance of {@link Aggregation}.
+	 * @throws IllegalArgumentException if a parameter value is missing or cannot be converted into the parameter type.
+	 */
+	public Aggregation bind(Map<String, ? extends @Nullable Object> values) {
+
+		List<AggregationOperation> operations = new ArrayList<>(stages.size());
+		for (Document stage : getPipeline(values)) {
+			operations.add(new BasicAggregationOperation(stage));
+		}
+
+		Aggregation aggregation = inputType != null ? Aggregation.newAggregation(inputType, operations)
+				: Aggregation.newAggregation(operations);
+
+		return aggregation.withOptions(options);
+	}
+
+	private Binder compile(@Nullable Object value) {
+
+		if (value instanceof AggregationParameter<?> parameter) {
+
+			AggregationParameter<?> existing = parameters.putIfAbsent(parameter.getName(), parameter);
+			if (existing != null && !existing.equals(parameter)) {
+				throw new IllegalArgumentException("Parameter '%s' is declared with different types %s and %s"
+						.formatted(parameter.getName(), existing.getType().getName(), parameter.getType().getName()));
+			}
+			return new ParameterBinder(parameter);
+		}
+
+		if (value instanceof Document document) {
+
+			Map<String, Binder> entries = new LinkedHashMap<>(document.size(), 1F);
+			boolean constant = true;
+
+			for (Entry<String, Object> entry : document.entrySet()) {
+
+				Binder binder = compile(entry.getValue());
+				constant &= binder instanceof Constant;
+				entries.put(entry.getKey(), binder);
+			}
+
+			return constant ? new Constant(document) : new DocumentBinder(entries);
+		}
+
+		if (value instanceof List<?> list) {
+
+			List<Binder> elements = new ArrayList<>(list.size());
+			boolean constant = true;
+
+			for (Object element : list) {
+
+				Binder binder = compile(element);
+				constant &= binder instanceof Constant;
+				elements.add(binder);
+			}
+
+			return constant ? new Constant(list) : new ListBinder(elements);
+		}
+
+		return new Constant(value);
+	}
+
+	private @Nullable Object convert(AggregationParameter<?> parameter, Map<String, ? extends @Nullable Object> values) {
+
+		if (!values.containsKey(parameter.getName())) {
+			throw new IllegalArgumentException("No value bound for parameter '%s'".formatted(parameter.getName()));
+		}
+
+		Object value = values.get(parameter.getName());
+
+		if (value != null && !ClassUtils.isAssignableValue(parameter.getType(), value)) {
+
+			ConversionService conversionService = converter.getConversionService();
+
+			if (!conversionService.canConvert(value.getClass(), parameter.getType())) {
+				throw new IllegalArgumentException("Cannot convert value of type %s into %s for parameter '%s'"
+						.formatted(value.getClass().getName(), parameter.getType().getName(), parameter.getName()));
+			}
+
+			value = conversionService.convert(value, parameter.getType());
+		}
+
+		return converter.convertToMongoType(value);
+	}
+
+	/**
+	 * Creates the pipeline value for a compiled part of the pipeline.
+	 */
+	private interface Binder {
+
+		@Nullable
+		Object bind(Map<String, ? extends @Nullable Object> values);
+	}
+
+	private record Constant(@Nullable Object value) implements Binder {
+
+		@Override
+		public @Nullable Object bind(Map<String, ? extends @Nullable Object> values) {
+			return value;
+		}
+	}
+
+	private record DocumentBinder(Map<String, Binder> entries) implements Binder {
+
+		@Override
+		public Document bind(Map<String, ? extends @Nullable Object> values) {
+
+			Document document = new Document();
+			for (Entry<String, Binder> entry : entries.entrySet()) {
+				document.put(entry.getKey(), entry.getValue().bind(values));
+			}
+			return document;
+		}
+	}
+
+	private record ListBinder(List<Binder> elements) implements Binder {
+
+		@Override
+		public List<@Nullable Object> bind(Map<String, ? extends @Nullable Object> values) {
+
+			List<@Nullable Object> list = new ArrayList<>(elements.size());
+			for (Binder element : elements) {
+				list.add(element.bind(values));
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * {@link QueryMapper} mapping the pipeline while retaining {@link AggregationParameter parameters} as they are so
+	 * that they can be replaced with the actual values on binding.
+	 */
+	private static class ParameterRetainingQueryMapper extends QueryMapper {
+
+		ParameterRetainingQueryMapper(MongoConverter converter) {
+			super(converter);
+		}
+
+		@Override
+		protected @Nullable Object getMappedValue(QueryMapper.Field documentField, @Nullable Object sourceValue) {
+			return sourceValue instanceof AggregationParameter<?> ? sourceValue
+					: super.getMappedValue(documentField, sourceValue);
+		}
+
+		@Override
+		protected @Nullable Object convertSimpleOrDocument(Object source, @Nullable MongoPersistentEntity<?> entity) {
+			return source instanceof AggregationParameter<?> ? source : super.convertSimpleOrDocument(source, entity);
+		}
+
+		@Override
+		protected @Nullable Object delegateConvertToMongoType(Object source, @Nullable MongoPersistentEntity<?> entity) {
+
+			if (source instanceof AggregationParameter<?>) {
+				return source;
+			}
+
+			if (source instanceof Collection<?> collection
+					&& collection.stream().anyMatch(AggregationParameter.class::isInstance)) {
+
+				List<@Nullable Object> target = new ArrayList<>(collection.size());
+				for (Object element : collection) {
+					target.add(element == null ? null : delegateConvertToMongoType(element, entity));
+				}
+				return target;
+			}
+
+			return super.delegateConvertToMongoType(source, entity);
+		}
+
+		@Override
+		public @Nullable Object convertId(@Nullable Object id, Class<?> targetType) {
+			return id instanceof AggregationParameter<?> ? id : super.convertId(id, targetType);
+		}
+	}
+
+	private class ParameterBinder implements Binder {
+
+		private final AggregationParameter<?> parameter;
+
+		ParameterBinder(AggregationParameter<?> parameter) {
+			this.parameter = parameter;
+		}
+
+		@Override
+		public @Nullable Object bind(Map<String, ? extends @Nullable Object> values) {
+			return convert(parameter, values);
+		}
+	}
+}
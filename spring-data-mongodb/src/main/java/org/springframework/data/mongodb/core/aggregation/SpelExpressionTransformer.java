@@ -44,6 +44,7 @@ import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -59,6 +60,14 @@ class SpelExpressionTransformer implements AggregationExpressionTransformer {
 	// TODO: remove explicit usage of a configuration once SPR-11031 gets fixed
 	private static final SpelParserConfiguration CONFIG = new SpelParserConfiguration(false, false);
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser(CONFIG);
+
+	/**
+	 * Parsed expressions by their expression string. Parsing is independent of the {@link AggregationOperationContext}
+	 * and the parameters and the resulting AST can be evaluated concurrently against different {@link ExpressionState}s.
+	 */
+	private static final ConcurrentLruCache<String, SpelExpression> EXPRESSION_CACHE = new ConcurrentLruCache<>(256,
+			it -> (SpelExpression) PARSER.parseExpression(it));
+
 	private final List<ExpressionNodeConversion<? extends ExpressionNode>> conversions;
 
 	/**
@@ -89,7 +98,7 @@ class SpelExpressionTransformer implements AggregationExpressionTransformer {
 		Assert.notNull(context, "AggregationOperationContext must not be null");
 		Assert.notNull(params, "Parameters must not be null");
 
-		SpelExpression spelExpression = (SpelExpression) PARSER.parseExpression(expression);
+		SpelExpression spelExpression = EXPRESSION_CACHE.get(expression);
 		ExpressionState state = new ExpressionState(new StandardEvaluationContext(params), CONFIG);
 		ExpressionNode node = ExpressionNode.from(spelExpression.getAST(), state);
 
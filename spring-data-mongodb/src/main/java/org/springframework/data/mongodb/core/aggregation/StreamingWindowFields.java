@@ -0,0 +1,709 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.data.util.Lock;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Incremental evaluation of a {@link SetWindowFieldsOperation} on documents inserted into a source collection. Instead
+ * of re-running the entire pipeline, documents received through a change stream are evaluated against window state
+ * kept in memory and the resulting documents, carrying the computed output fields, are periodically written to the
+ * target collection replacing documents by {@literal _id}.
+ * <p>
+ * Windows are required to end at the {@literal current} document and may start at a fixed offset, a range relative to
+ * the value of the sort field, or be {@literal unbounded}. The operators {@code $sum}, {@code $avg}, {@code $min},
+ * {@code $max} and {@code $count} are supported for field references and constant arguments. Partitions are
+ * determined by a field reference and sorted by at most one field in ascending order.
+ * <p>
+ * Documents are evaluated in the order they arrive. A document sorting before one already seen in its partition is
+ * evaluated as if it was the latest one. State is bounded by the {@link #setMaxPartitions(int) number of partitions}
+ * and {@link #setMaxDocumentsPerPartition(int) documents per partition}. The least recently used partition is evicted
+ * once the limit is exceeded, restarting its windows, and bounded windows exceeding the document limit are truncated
+ * to the most recent documents. Running values of {@literal unbounded} windows require no document state.
+ *
+ * <pre class="code">
+ * SetWindowFieldsOperation movingAverage = SetWindowFieldsOperation.builder() //
+ * 		.partitionByField("sensor") //
+ * 		.sortBy(Sort.by("timestamp")) //
+ * 		.output(AccumulatorOperators.valueOf("temperature").avg()) //
+ * 		.within(Windows.range().from(-10).toCurrent().unit(WindowUnits.MINUTE).build()) //
+ * 		.as("avgTemperature") //
+ * 		.build();
+ *
+ * StreamingWindowFields rolling = new StreamingWindowFields(template, movingAverage, "readings", "readings_rolling");
+ * rolling.setMessageListenerContainer(container);
+ * rolling.start();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class StreamingWindowFields implements SmartLifecycle {
+
+	private static final Log LOGGER = LogFactory.getLog(StreamingWindowFields.class);
+
+	private static final String CURRENT = "current";
+	private static final String UNBOUNDED = "unbounded";
+
+	private final MongoOperations operations;
+	private final String sourceCollection;
+	private final String targetCollection;
+	private final @Nullable String partitionField;
+	private final @Nullable String sortField;
+	private final List<WindowField> fields;
+
+	private final Lock stateLock = Lock.of(new ReentrantLock());
+	private final Lock lifecycleLock = Lock.of(new ReentrantLock());
+	private final LinkedHashMap<@Nullable Object, Partition> partitions = new LinkedHashMap<>(16, 0.75F, true);
+	private final Map<Object, Document> pendingWrites = new LinkedHashMap<>();
+
+	private @Nullable MessageListenerContainer container;
+	private ErrorHandler errorHandler = error -> LOGGER.error("Failed to write window fields", error);
+	private int maxPartitions = 10_000;
+	private int maxDocumentsPerPartition = 1_000;
+	private int maxPendingWrites = 1_000;
+	private Duration flushInterval = Duration.ofSeconds(1);
+
+	private @Nullable ScheduledExecutorService scheduler;
+	private @Nullable Subscription subscription;
+
+	/**
+	 * Creates a new {@link StreamingWindowFields} evaluating the given operation on documents inserted into the source
+	 * collection.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @param sourceCollection must not be {@literal null} or empty.
+	 * @param targetCollection must not be {@literal null} or empty.
+	 * @throws IllegalArgumentException if the operation cannot be evaluated incrementally.
+	 */
+	public StreamingWindowFields(MongoOperations operations, SetWindowFieldsOperation operation, String sourceCollection,
+			String targetCollection) {
+
+		Assert.notNull(operations, "MongoOperations must not be null");
+		Assert.notNull(operation, "SetWindowFieldsOperation must not be null");
+		Assert.hasText(sourceCollection, "Source collection must not be null or empty");
+		Assert.hasText(targetCollection, "Target collection must not be null or empty");
+		Assert.isTrue(!sourceCollection.equals(targetCollection), "Source and target collection must differ");
+
+		Document definition = operation.toDocument(Aggregation.DEFAULT_CONTEXT).get(operation.getOperator(),
+				Document.class);
+
+		this.operations = operations;
+		this.sourceCollection = sourceCollection;
+		this.targetCollection = targetCollection;
+		this.partitionField = partitionField(definition.get("partitionBy"));
+		this.sortField = sortField(definition.get("sortBy", Document.class));
+
+		List<WindowField> fields = new ArrayList<>();
+		definition.get("output", Document.class).forEach((name, output) -> fields.add(windowField(name, (Document) output)));
+		this.fields = List.copyOf(fields);
+	}
+
+	/**
+	 * Set the {@link MessageListenerContainer} used to subscribe to inserts into the source collection.
+	 *
+	 * @param container can be {@literal null}.
+	 */
+	public void setMessageListenerContainer(@Nullable MessageListenerContainer container) {
+		this.container = container;
+	}
+
+	/**
+	 * Set the {@link ErrorHandler} notified about failures evaluating or writing documents. Defaults to logging the
+	 * error.
+	 *
+	 * @param errorHandler must not be {@literal null}.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the maximum number of partitions to keep state for. Defaults to {@literal 10000}.
+	 *
+	 * @param maxPartitions must be greater than zero.
+	 */
+	public void setMaxPartitions(int maxPartitions) {
+
+		Assert.isTrue(maxPartitions > 0, "Max partitions must be greater than zero");
+		this.maxPartitions = maxPartitions;
+	}
+
+	/**
+	 * Set the maximum number of documents to retain per partition for bounded windows. Defaults to {@literal 1000}.
+	 *
+	 * @param maxDocumentsPerPartition must be greater than zero.
+	 */
+	public void setMaxDocumentsPerPartition(int maxDocumentsPerPartition) {
+
+		Assert.isTrue(maxDocumentsPerPartition > 0, "Max documents per partition must be greater than zero");
+		this.maxDocumentsPerPartition = maxDocumentsPerPartition;
+	}
+
+	/**
+	 * Set the number of computed documents that, once reached, are written right away instead of waiting for the next
+	 * {@link #setFlushInterval(Duration) flush}. Defaults to {@literal 1000}.
+	 *
+	 * @param maxPendingWrites must be greater than zero.
+	 */
+	public void setMaxPendingWrites(int maxPendingWrites) {
+
+		Assert.isTrue(maxPendingWrites > 0, "Max pending writes must be greater than zero");
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
+	/**
+	 * Set the interval computed documents are written to the target collection. Defaults to one second.
+	 *
+	 * @param flushInterval must not be {@literal null} and positive.
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+
+		Assert.notNull(flushInterval, "Flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Evaluate the window fields for the given document inserted into the source collection and enqueue the result for
+	 * writing.
+	 *
+	 * @param document must not be {@literal null}.
+	 */
+	public void onInsert(Document document) {
+
+		Assert.notNull(document, "Document must not be null");
+
+		Document result = evaluate(document);
+		Object id = result.get("_id");
+		Assert.notNull(id, "Document must have an _id");
+
+		boolean flush = stateLock.execute(() -> {
+			pendingWrites.put(id, result);
+			return pendingWrites.size() >= maxPendingWrites;
+		});
+
+		if (flush) {
+			flush();
+		}
+	}
+
+	/**
+	 * Write all pending documents to the target collection. Documents are kept pending if writing fails unless a newer
+	 * result for the same {@literal _id} has been computed in the meantime.
+	 *
+	 * @return the number of documents written.
+	 */
+	public int flush() {
+
+		Map<Object, Document> documents = stateLock.execute(() -> {
+
+			Map<Object, Document> pending = new LinkedHashMap<>(pendingWrites);
+			pendingWrites.clear();
+			return pending;
+		});
+
+		if (documents.isEmpty()) {
+			return 0;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Writing %s window field documents to %s".formatted(documents.size(), targetCollection));
+		}
+
+		try {
+
+			BulkOperations bulk = operations.bulkOps(BulkMode.UNORDERED, targetCollection);
+			for (Document document : documents.values()) {
+				bulk.replaceOne(Query.query(where("_id").is(document.get("_id"))), document,
+						FindAndReplaceOptions.options().upsert());
+			}
+			bulk.execute();
+		} catch (RuntimeException e) {
+
+			stateLock.executeWithoutResult(() -> documents.forEach(pendingWrites::putIfAbsent));
+			throw e;
+		}
+
+		return documents.size();
+	}
+
+	@Override
+	public void start() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler != null) {
+				return;
+			}
+
+			Assert.state(container != null, "MessageListenerContainer required to receive inserts");
+
+			ScheduledExecutorService executor = Executors
+					.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mongo-window-fields-"));
+			long interval = flushInterval.toMillis();
+			executor.scheduleWithFixedDelay(this::flushAndHandleError, interval, interval, TimeUnit.MILLISECONDS);
+
+			ChangeStreamRequest<Document> request = ChangeStreamRequest.<Document> builder(message -> {
+
+				Document body = message.getBody();
+				if (body != null) {
+					try {
+						onInsert(body);
+					} catch (RuntimeException e) {
+						errorHandler.handleError(e);
+					}
+				}
+			}).collection(sourceCollection) //
+					.filter(new Document("$match", new Document("operationType", "insert"))) //
+					.build();
+
+			subscription = container.register(request, Document.class);
+			scheduler = executor;
+		});
+	}
+
+	@Override
+	public void stop() {
+
+		lifecycleLock.executeWithoutResult(() -> {
+
+			if (scheduler == null) {
+				return;
+			}
+
+			if (subscription != null) {
+				subscription.cancel();
+				subscription = null;
+			}
+			scheduler.shutdown();
+			scheduler = null;
+			flushAndHandleError();
+		});
+	}
+
+	@Override
+	public boolean isRunning() {
+		return lifecycleLock.execute(() -> scheduler != null);
+	}
+
+	/**
+	 * Evaluate the window fields for the given document updating the window state.
+	 *
+	 * @return a copy of the given document carrying the computed fields.
+	 */
+	Document evaluate(Document document) {
+
+		Object partitionKey = partitionField != null ? BsonUtils.resolveValue((Bson) document, partitionField) : null;
+		Object sortValue = sortField != null ? BsonUtils.resolveValue((Bson) document, sortField) : null;
+
+		@Nullable Object[] values = new Object[fields.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = fields.get(i).argument(document);
+		}
+
+		Document result = new Document(document);
+
+		stateLock.executeWithoutResult(() -> {
+
+			Partition partition = partitions.computeIfAbsent(partitionKey, key -> new Partition(fields.size()));
+			if (partitions.size() > maxPartitions) {
+
+				Iterator<Partition> eldest = partitions.values().iterator();
+				eldest.next();
+				eldest.remove();
+			}
+
+			Entry current = new Entry(partition.latest(sortValue), values);
+			partition.entries.addLast(current);
+
+			for (int i = 0; i < fields.size(); i++) {
+				result.put(fields.get(i).name, partition.compute(i, fields.get(i), current));
+			}
+
+			partition.evict(current, fields, maxDocumentsPerPartition);
+		});
+
+		return result;
+	}
+
+	private void flushAndHandleError() {
+
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			errorHandler.handleError(e);
+		}
+	}
+
+	private static @Nullable String partitionField(@Nullable Object partitionBy) {
+
+		if (partitionBy == null) {
+			return null;
+		}
+
+		Assert.isTrue(partitionBy instanceof String field && field.startsWith("$"),
+				() -> "Only field references are supported for partitionBy; Offending value: %s".formatted(partitionBy));
+		return ((String) partitionBy).substring(1);
+	}
+
+	private static @Nullable String sortField(@Nullable Document sortBy) {
+
+		if (sortBy == null || sortBy.isEmpty()) {
+			return null;
+		}
+
+		Assert.isTrue(sortBy.size() == 1, () -> "Only a single sort field is supported; Offending sort: %s".formatted(sortBy));
+		Map.Entry<String, Object> sort = sortBy.entrySet().iterator().next();
+		Assert.isTrue(sort.getValue() instanceof Number direction && direction.intValue() == 1,
+				() -> "Only ascending sort is supported; Offending sort: %s".formatted(sortBy));
+		return sort.getKey();
+	}
+
+	private WindowField windowField(String name, Document output) {
+
+		Document window = output.get("window", Document.class);
+		Assert.notNull(window, () -> "Window required for output field '%s'".formatted(name));
+
+		Document operator = new Document(output);
+		operator.remove("window");
+		Assert.isTrue(operator.size() == 1, () -> "Unsupported window operator for '%s': %s".formatted(name, operator));
+
+		Map.Entry<String, Object> entry = operator.entrySet().iterator().next();
+		Operator op = Operator.from(entry.getKey());
+		Assert.notNull(op, () -> "Unsupported window operator %s for '%s'".formatted(entry.getKey(), name));
+
+		Object argument = entry.getValue();
+		Assert.isTrue(op == Operator.COUNT || argument instanceof Number
+				|| argument instanceof String path && path.startsWith("$"),
+				() -> "Only field references and numbers are supported as argument of '%s'".formatted(name));
+
+		boolean range = window.containsKey("range");
+		List<?> bounds = bounds(range ? window.get("range") : window.get("documents"));
+		Assert.isTrue(bounds.size() == 2, () -> "Unsupported window for '%s': %s".formatted(name, window));
+
+		Object lower = bounds.get(0);
+		Object upper = bounds.get(1);
+		Assert.isTrue(CURRENT.equals(upper) || upper instanceof Number number && number.doubleValue() == 0,
+				() -> "Window of '%s' must end at the current document".formatted(name));
+		Assert.isTrue(UNBOUNDED.equals(lower) || CURRENT.equals(lower)
+				|| lower instanceof Number number && number.doubleValue() <= 0,
+				() -> "Window of '%s' must start at or before the current document".formatted(name));
+
+		double offset = lower instanceof Number number ? -number.doubleValue() : 0;
+		ChronoUnit unit = null;
+		if (range && window.get("unit") instanceof String unitName) {
+
+			unit = chronoUnit(unitName);
+			offset = "quarter".equalsIgnoreCase(unitName) ? offset * 3 : offset;
+		}
+		Assert.isTrue(!range || sortField != null, () -> "Range window of '%s' requires a sort field".formatted(name));
+
+		return new WindowField(name, op, argument instanceof String path ? path.substring(1) : null,
+				argument instanceof Number number ? number : null, UNBOUNDED.equals(lower), range, offset, unit);
+	}
+
+	private static List<?> bounds(@Nullable Object bounds) {
+
+		if (bounds instanceof Object[] array) {
+			return Arrays.asList(array);
+		}
+		return bounds instanceof List<?> list ? list : List.of();
+	}
+
+	private static ChronoUnit chronoUnit(String unit) {
+
+		return switch (unit.toLowerCase(Locale.ROOT)) {
+			case "year" -> ChronoUnit.YEARS;
+			case "quarter" -> ChronoUnit.MONTHS;
+			case "month" -> ChronoUnit.MONTHS;
+			case "week" -> ChronoUnit.WEEKS;
+			case "day" -> ChronoUnit.DAYS;
+			case "hour" -> ChronoUnit.HOURS;
+			case "minute" -> ChronoUnit.MINUTES;
+			case "second" -> ChronoUnit.SECONDS;
+			case "millisecond" -> ChronoUnit.MILLIS;
+			default -> throw new IllegalArgumentException("Unsupported window unit %s".formatted(unit));
+		};
+	}
+
+	enum Operator {
+
+		SUM, AVG, MIN, MAX, COUNT;
+
+		static @Nullable Operator from(String operator) {
+
+			for (Operator candidate : values()) {
+				if (operator.equalsIgnoreCase("$" + candidate.name())) {
+					return candidate;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static class WindowField {
+
+		final String name;
+		final Operator operator;
+		final @Nullable String path;
+		final @Nullable Number constant;
+		final boolean unbounded;
+		final boolean range;
+		final double offset;
+		final @Nullable ChronoUnit unit;
+
+		WindowField(String name, Operator operator, @Nullable String path, @Nullable Number constant, boolean unbounded,
+				boolean range, double offset, @Nullable ChronoUnit unit) {
+
+			this.name = name;
+			this.operator = operator;
+			this.path = path;
+			this.constant = constant;
+			this.unbounded = unbounded;
+			this.range = range;
+			this.offset = offset;
+			this.unit = unit;
+		}
+
+		@Nullable
+		Object argument(Document document) {
+			return path != null ? BsonUtils.resolveValue((Bson) document, path) : constant;
+		}
+
+		/**
+		 * @return whether the given entry is within the window ending at the current one.
+		 */
+		boolean includes(Entry candidate, Entry current, int position) {
+
+			if (unbounded) {
+				return true;
+			}
+			if (!range) {
+				return position <= offset;
+			}
+			return compare(candidate.sortValue, lowerBound(current.sortValue)) >= 0;
+		}
+
+		@Nullable
+		Object lowerBound(@Nullable Object sortValue) {
+
+			if (sortValue instanceof Date date && unit != null) {
+
+				return Date.from(date.toInstant().atZone(ZoneOffset.UTC).minus((long) offset, unit).toInstant());
+			}
+			if (sortValue instanceof Number number) {
+				return number.doubleValue() - offset;
+			}
+			return sortValue;
+		}
+	}
+
+	private static int compare(@Nullable Object left, @Nullable Object right) {
+
+		if (left instanceof Date leftDate && right instanceof Date rightDate) {
+			return leftDate.compareTo(rightDate);
+		}
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+			return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+		}
+		return Objects.equals(left, right) ? 0 : left == null ? -1 : 1;
+	}
+
+	private record Entry(@Nullable Object sortValue, @Nullable Object[] values) {
+	}
+
+	private static class Partition {
+
+		final ArrayDeque<Entry> entries = new ArrayDeque<>();
+		final Accumulator[] running;
+
+		Partition(int fields) {
+
+			this.running = new Accumulator[fields];
+			for (int i = 0; i < fields; i++) {
+				running[i] = new Accumulator();
+			}
+		}
+
+		/**
+		 * Clamp the given sort value to the latest one of the partition.
+		 */
+		@Nullable
+		Object latest(@Nullable Object sortValue) {
+
+			Entry last = entries.peekLast();
+			return last != null && compare(sortValue, last.sortValue) < 0 ? last.sortValue : sortValue;
+		}
+
+		@Nullable
+		Object compute(int index, WindowField field, Entry current) {
+
+			if (field.unbounded) {
+
+				running[index].add(current.values[index]);
+				return running[index].result(field.operator);
+			}
+
+			Accumulator accumulator = new Accumulator();
+			Iterator<Entry> iterator = entries.descendingIterator();
+			for (int position = 0; iterator.hasNext(); position++) {
+
+				Entry candidate = iterator.next();
+				if (!field.includes(candidate, current, position)) {
+					break;
+				}
+				accumulator.add(candidate.values[index]);
+			}
+			return accumulator.result(field.operator);
+		}
+
+		/**
+		 * Remove entries no bounded window ending at the given current entry can include anymore. Entries outside of all
+		 * range windows are only removed as long as the most recent ones required by {@literal documents} windows remain.
+		 */
+		void evict(Entry current, List<WindowField> fields, int maxDocuments) {
+
+			boolean bounded = false;
+			int retain = 1;
+			Object lowestBound = null;
+
+			for (WindowField field : fields) {
+
+				if (field.unbounded) {
+					continue;
+				}
+				bounded = true;
+
+				if (!field.range) {
+					retain = Math.max(retain, (int) Math.min(field.offset, maxDocuments) + 1);
+				} else {
+					Object bound = field.lowerBound(current.sortValue);
+					lowestBound = lowestBound == null || compare(bound, lowestBound) < 0 ? bound : lowestBound;
+				}
+			}
+
+			if (!bounded) {
+				entries.clear();
+				return;
+			}
+
+			int limit = lowestBound != null ? maxDocuments : Math.min(retain, maxDocuments);
+			while (entries.size() > limit || (lowestBound != null && entries.size() > retain
+					&& compare(entries.peekFirst().sortValue, lowestBound) < 0)) {
+				entries.removeFirst();
+			}
+		}
+	}
+
+	/**
+	 * Accumulates numeric values following the semantics of the window operators, ignoring non numeric ones.
+	 */
+	static class Accumulator {
+
+		private long documents;
+		private long count;
+		private double sum;
+		private long integralSum;
+		private boolean integral = true;
+		private @Nullable Number min;
+		private @Nullable Number max;
+
+		void add(@Nullable Object value) {
+
+			documents++;
+
+			if (!(value instanceof Number number)) {
+				return;
+			}
+
+			count++;
+			sum += number.doubleValue();
+
+			if (integral && (number instanceof Integer || number instanceof Long)) {
+				try {
+					integralSum = Math.addExact(integralSum, number.longValue());
+				} catch (ArithmeticException e) {
+					integral = false;
+				}
+			} else {
+				integral = false;
+			}
+
+			if (min == null || number.doubleValue() < min.doubleValue()) {
+				min = number;
+			}
+			if (max == null || number.doubleValue() > max.doubleValue()) {
+				max = number;
+			}
+		}
+
+		@Nullable
+		Object result(Operator operator) {
+
+			return switch (operator) {
+				case SUM -> !integral ? (Object) sum
+						: integralSum == (int) integralSum ? (Object) (int) integralSum : (Object) integralSum;
+				case AVG -> count == 0 ? null : sum / count;
+				case MIN -> min;
+				case MAX -> max;
+				case COUNT -> documents == (int) documents ? (Object) (int) documents : (Object) documents;
+			};
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.bulk;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Final outcome of a single {@link BulkOperation} within a {@link Bulk} write. Outcomes are reported when
+ * {@link BulkWriteOptions#retryFailed(int) retrying failed operations} or
+ * {@link BulkWriteOptions#onOutcome(java.util.function.Consumer) listening to outcomes}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class BulkOperationOutcome {
+
+	private final int index;
+	private final BulkOperation operation;
+	private final int attempts;
+	private final @Nullable Integer errorCode;
+	private final @Nullable String errorMessage;
+	private final boolean outcomeUnknown;
+
+	private BulkOperationOutcome(int index, BulkOperation operation, int attempts, @Nullable Integer errorCode,
+			@Nullable String errorMessage, boolean outcomeUnknown) {
+
+		this.index = index;
+		this.operation = operation;
+		this.attempts = attempts;
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+		this.outcomeUnknown = outcomeUnknown;
+	}
+
+	/**
+	 * Create an outcome for an operation that was applied successfully.
+	 *
+	 * @param index the index of the operation within {@link Bulk#operations()}.
+	 * @param operation the operation; must not be {@literal null}.
+	 * @param attempts number of attempts required to apply the operation.
+	 * @return new instance of {@link BulkOperationOutcome}.
+	 */
+	public static BulkOperationOutcome succeeded(int index, BulkOperation operation, int attempts) {
+
+		Assert.notNull(operation, "BulkOperation must not be null");
+		return new BulkOperationOutcome(index, operation, attempts, null, null, false);
+	}
+
+	/**
+	 * Create an outcome for an operation that failed.
+	 *
+	 * @param index the index of the operation within {@link Bulk#operations()}.
+	 * @param operation the operation; must not be {@literal null}.
+	 * @param attempts number of attempts made to apply the operation.
+	 * @param errorCode the server error code of the last attempt.
+	 * @param errorMessage the server error message of the last attempt; can be {@literal null}.
+	 * @return new instance of {@link BulkOperationOutcome}.
+	 */
+	public static BulkOperationOutcome failed(int index, BulkOperation operation, int attempts, int errorCode,
+			@Nullable String errorMessage) {
+
+		Assert.notNull(operation, "BulkOperation must not be null");
+		return new BulkOperationOutcome(index, operation, attempts, errorCode, errorMessage, false);
+	}
+
+	/**
+	 * Create an outcome for a non-idempotent operation of an attempt that failed without reporting per-write results.
+	 * The operation may or may not have been applied and is not retried.
+	 *
+	 * @param index the index of the operation within {@link Bulk#operations()}.
+	 * @param operation the operation; must not be {@literal null}.
+	 * @param attempts number of attempts made to apply the operation.
+	 * @param errorCode the error code of the failed attempt.
+	 * @param errorMessage the error message of the failed attempt; can be {@literal null}.
+	 * @return new instance of {@link BulkOperationOutcome}.
+	 */
+	public static BulkOperationOutcome unknown(int index, BulkOperation operation, int attempts, int errorCode,
+			@Nullable String errorMessage) {
+
+		Assert.notNull(operation, "BulkOperation must not be null");
+		return new BulkOperationOutcome(index, operation, attempts, errorCode, errorMessage, true);
+	}
+
+	/**
+	 * @return the index of the operation within {@link Bulk#operations()}.
+	 */
+	public int index() {
+		return index;
+	}
+
+	/**
+	 * @return the operation.
+	 */
+	public BulkOperation operation() {
+		return operation;
+	}
+
+	/**
+	 * @return the number of attempts made to apply the operation.
+	 */
+	public int attempts() {
+		return attempts;
+	}
+
+	/**
+	 * @return {@literal true} if the operation was applied.
+	 */
+	public boolean succeeded() {
+		return errorCode == null;
+	}
+
+	/**
+	 * @return {@literal true} if the operation failed.
+	 */
+	public boolean failed() {
+		return errorCode != null;
+	}
+
+	/**
+	 * @return {@literal true} if the operation {@link #failed()} without knowing whether it was applied.
+	 */
+	public boolean isOutcomeUnknown() {
+		return outcomeUnknown;
+	}
+
+	/**
+	 * @return the server error code of the last attempt or {@literal null} if the operation {@link #succeeded()}.
+	 */
+	public @Nullable Integer errorCode() {
+		return errorCode;
+	}
+
+	/**
+	 * @return the server error message of the last attempt or {@literal null} if the operation {@link #succeeded()}.
+	 */
+	public @Nullable String errorMessage() {
+		return errorMessage;
+	}
+
+	@Override
+	public String toString() {
+
+		if (succeeded()) {
+			return "BulkOperationOutcome{index=%d, succeeded, attempts=%d}".formatted(index, attempts);
+		}
+		return "BulkOperationOutcome{index=%d, %s, attempts=%d, errorCode=%d, errorMessage=%s}".formatted(index,
+				outcomeUnknown ? "unknown" : "failed", attempts, errorCode, errorMessage);
+	}
+}
@@ -15,19 +15,45 @@
  */
 package org.springframework.data.mongodb.core.bulk;
 
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
 /**
  * Options for executing a {@link Bulk} write, such as whether operations run in {@link Order#ORDERED ordered} or
  * {@link Order#UNORDERED unordered} mode.
- * 
+ * <p>
+ * Unordered bulk writes can {@link #retryFailed(int) retry operations} failing with a transient error and report the
+ * {@link BulkOperationOutcome outcome} of each operation instead of failing the entire bulk write.
+ *
  * @author Christoph Strobl
  * @since 5.1
  */
 public class BulkWriteOptions {
 
+	private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(100);
+
 	private final Order order;
+	private final int maxRetries;
+	private final Duration retryBackoff;
+	private final boolean trackOutcomes;
+	private final @Nullable Consumer<BulkOperationOutcome> outcomeCallback;
 
 	BulkWriteOptions(Order order) {
+		this(order, 0, DEFAULT_RETRY_BACKOFF, false, null);
+	}
+
+	private BulkWriteOptions(Order order, int maxRetries, Duration retryBackoff, boolean trackOutcomes,
+			@Nullable Consumer<BulkOperationOutcome> outcomeCallback) {
+
 		this.order = order;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+		this.trackOutcomes = trackOutcomes;
+		this.outcomeCallback = outcomeCallback;
 	}
 
 	/**
@@ -49,6 +75,72 @@ public class BulkWriteOptions {
 		return new BulkWriteOptions(Order.UNORDERED);
 	}
 
+	/**
+	 * Retry operations of an {@link Order#UNORDERED unordered} bulk write that failed with a transient error, such as a
+	 * write conflict or a primary step down, up to {@code maxRetries} times applying exponential backoff starting at
+	 * {@literal 100ms}. Only the failed operations are sent again. Operations failing with a non-transient error, such as
+	 * a duplicate key, are not retried.
+	 * <p>
+	 * Failed operations do not fail the bulk write but are reported as {@link BulkWriteResult#failures()}.
+	 *
+	 * @param maxRetries the maximum number of retries per operation; must not be negative. Use {@literal 0} to report
+	 *          failures without retrying.
+	 * @return new instance of {@link BulkWriteOptions}.
+	 * @throws IllegalStateException if the options define {@link Order#ORDERED ordered} execution.
+	 * @since 5.2
+	 * @see #retryFailed(int, Duration)
+	 */
+	public BulkWriteOptions retryFailed(int maxRetries) {
+		return retryFailed(maxRetries, retryBackoff);
+	}
+
+	/**
+	 * Retry operations of an {@link Order#UNORDERED unordered} bulk write that failed with a transient error up to
+	 * {@code maxRetries} times. Attempts that fail entirely with a retryable error, such as a network error, a timeout or
+	 * an error labeled {@literal RetryableWriteError}, are retried as well for idempotent operations while all others are
+	 * reported with an {@link BulkOperationOutcome#isOutcomeUnknown() unknown outcome}. Each retry sends only the
+	 * operations still pending and waits for a backoff starting at {@code backoff} that doubles with every attempt up to a
+	 * maximum of {@literal 5} seconds.
+	 * <p>
+	 * Failed operations do not fail the bulk write but are reported as {@link BulkWriteResult#failures()}.
+	 *
+	 * @param maxRetries the maximum number of retries per operation; must not be negative. Use {@literal 0} to report
+	 *          failures without retrying.
+	 * @param backoff the backoff before the first retry; must not be {@literal null} or negative.
+	 * @return new instance of {@link BulkWriteOptions}.
+	 * @throws IllegalStateException if the options define {@link Order#ORDERED ordered} execution.
+	 * @since 5.2
+	 */
+	public BulkWriteOptions retryFailed(int maxRetries, Duration backoff) {
+
+		Assert.isTrue(maxRetries >= 0, "Max retries must not be negative");
+		Assert.notNull(backoff, "Backoff must not be null");
+		Assert.isTrue(!backoff.isNegative(), "Backoff must not be negative");
+		Assert.state(order == Order.UNORDERED, "Retrying failed operations requires unordered execution");
+
+		return new BulkWriteOptions(order, maxRetries, backoff, true, outcomeCallback);
+	}
+
+	/**
+	 * Register a callback notified about the {@link BulkOperationOutcome outcome} of each operation of an
+	 * {@link Order#UNORDERED unordered} bulk write as soon as it is known. The callback is invoked once per operation on
+	 * the thread completing the bulk write.
+	 * <p>
+	 * Failed operations do not fail the bulk write but are reported as {@link BulkWriteResult#failures()}.
+	 *
+	 * @param outcomeCallback must not be {@literal null}.
+	 * @return new instance of {@link BulkWriteOptions}.
+	 * @throws IllegalStateException if the options define {@link Order#ORDERED ordered} execution.
+	 * @since 5.2
+	 */
+	public BulkWriteOptions onOutcome(Consumer<BulkOperationOutcome> outcomeCallback) {
+
+		Assert.notNull(outcomeCallback, "Outcome callback must not be null");
+		Assert.state(order == Order.UNORDERED, "Reporting outcomes requires unordered execution");
+
+		return new BulkWriteOptions(order, maxRetries, retryBackoff, true, outcomeCallback);
+	}
+
 	/**
 	 * Returns the execution order for the bulk write.
 	 *
@@ -58,6 +150,47 @@ public class BulkWriteOptions {
 		return order;
 	}
 
+	/**
+	 * Returns the maximum number of retries for operations failing with a transient error.
+	 *
+	 * @return the maximum number of retries; {@literal 0} if failed operations are not retried.
+	 * @since 5.2
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * Returns the backoff before the first retry. Subsequent retries double the backoff.
+	 *
+	 * @return the initial retry backoff; never {@literal null}.
+	 * @since 5.2
+	 */
+	public Duration getRetryBackoff() {
+		return retryBackoff;
+	}
+
+	/**
+	 * Returns whether the {@link BulkOperationOutcome outcome} of each operation is tracked instead of failing the bulk
+	 * write on the first write error.
+	 *
+	 * @return {@literal true} if outcomes are tracked.
+	 * @since 5.2
+	 */
+	public boolean isTrackOutcomes() {
+		return trackOutcomes;
+	}
+
+	/**
+	 * Returns the callback to notify about the {@link BulkOperationOutcome outcome} of each operation.
+	 *
+	 * @return the callback; can be {@literal null}.
+	 * @since 5.2
+	 */
+	public @Nullable Consumer<BulkOperationOutcome> getOutcomeCallback() {
+		return outcomeCallback;
+	}
+
 	/**
 	 * Execution order for bulk write operations.
 	 */
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.mongodb.core.bulk;
 
+import java.util.List;
+
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 
 /**
@@ -150,4 +152,26 @@ public interface BulkWriteResult {
 	 */
 	long matchedCount();
 
+	/**
+	 * Returns the {@link BulkOperationOutcome outcome} of each operation ordered by {@link BulkOperationOutcome#index()}
+	 * if {@link BulkWriteOptions#isTrackOutcomes() outcome tracking} is enabled.
+	 *
+	 * @return the outcomes; empty if outcomes are not tracked.
+	 * @since 5.2
+	 */
+	default List<BulkOperationOutcome> outcomes() {
+		return List.of();
+	}
+
+	/**
+	 * Returns the {@link BulkOperationOutcome outcome} of each operation that failed after all retries if
+	 * {@link BulkWriteOptions#isTrackOutcomes() outcome tracking} is enabled.
+	 *
+	 * @return the failed outcomes; empty if all operations succeeded or outcomes are not tracked.
+	 * @since 5.2
+	 */
+	default List<BulkOperationOutcome> failures() {
+		return outcomes().stream().filter(BulkOperationOutcome::failed).toList();
+	}
+
 }
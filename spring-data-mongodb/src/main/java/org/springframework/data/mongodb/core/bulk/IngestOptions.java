@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.bulk;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.mongodb.core.bulk.BulkWriteOptions.Order;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.MongoException;
+
+/**
+ * Options for ingesting an unbounded stream of objects through a series of {@link Bulk} writes. The stream is cut into
+ * windows that close once they reach {@link #getWindowSize() the window size} or after
+ * {@link #getWindowTimeout() the window timeout} elapsed, whichever comes first. Each window is written as one
+ * {@link Bulk} with up to {@link #getConcurrency() concurrency} bulk writes in flight.
+ * <p>
+ * Bulk writes failing with a {@link #getRetryFilter() retryable error} or with transient write errors are retried up to
+ * {@link #getMaxRetries()} times using exponential backoff starting at {@link #getRetryBackoff()}. A retry re-sends
+ * only the writes of a window that failed or were left unacknowledged by the previous attempt. Inserts keep the
+ * identifier assigned on the first attempt so that a re-sent insert that was already applied fails with a duplicate key
+ * error on the {@code _id} index which is then considered successful. Retries are counted per write across all attempts
+ * of a window and require all objects of a window to target a single collection.
+ * <p>
+ * Instances are immutable. Configuration methods return a new instance.
+ *
+ * <pre class="code">
+ * IngestOptions options = IngestOptions.defaults().windowSize(500).windowTimeout(Duration.ofMillis(200))
+ * 		.concurrency(4).retry(3, Duration.ofMillis(100));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class IngestOptions {
+
+	private static final int DEFAULT_WINDOW_SIZE = 1000;
+	private static final Duration DEFAULT_WINDOW_TIMEOUT = Duration.ofSeconds(1);
+	private static final int DEFAULT_CONCURRENCY = 4;
+	private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(100);
+	private static final String RETRYABLE_WRITE_ERROR_LABEL = "RetryableWriteError";
+
+	private static final IngestOptions DEFAULTS = new IngestOptions(DEFAULT_WINDOW_SIZE, DEFAULT_WINDOW_TIMEOUT,
+			DEFAULT_CONCURRENCY, Order.UNORDERED, null, 0, DEFAULT_RETRY_BACKOFF, IngestOptions::isTransientFailure);
+
+	private final int windowSize;
+	private final Duration windowTimeout;
+	private final int concurrency;
+	private final Order order;
+	private final @Nullable String collectionName;
+	private final long maxRetries;
+	private final Duration retryBackoff;
+	private final Predicate<Throwable> retryFilter;
+
+	private IngestOptions(int windowSize, Duration windowTimeout, int concurrency, Order order,
+			@Nullable String collectionName, long maxRetries, Duration retryBackoff, Predicate<Throwable> retryFilter) {
+
+		this.windowSize = windowSize;
+		this.windowTimeout = windowTimeout;
+		this.concurrency = concurrency;
+		this.order = order;
+		this.collectionName = collectionName;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+		this.retryFilter = retryFilter;
+	}
+
+	/**
+	 * Returns the default {@link IngestOptions} using windows of {@code 1000} objects, a window timeout of one second, up
+	 * to {@code 4} concurrent {@link Order#UNORDERED unordered} bulk writes and no retries.
+	 *
+	 * @return the default {@link IngestOptions}; never {@literal null}.
+	 */
+	public static IngestOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Set the maximum number of objects written by a single {@link Bulk}.
+	 *
+	 * @param windowSize must be greater than zero.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions windowSize(int windowSize) {
+
+		Assert.isTrue(windowSize > 0, "Window size must be greater than zero");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff,
+				retryFilter);
+	}
+
+	/**
+	 * Set the maximum time to wait for a window to fill up before it is written.
+	 *
+	 * @param windowTimeout must not be {@literal null} and must be positive.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions windowTimeout(Duration windowTimeout) {
+
+		Assert.notNull(windowTimeout, "Window timeout must not be null");
+		Assert.isTrue(!windowTimeout.isNegative() && !windowTimeout.isZero(), "Window timeout must be positive");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff,
+				retryFilter);
+	}
+
+	/**
+	 * Set the maximum number of bulk writes in flight. Windows are requested from the source only while fewer bulk
+	 * writes are pending.
+	 *
+	 * @param concurrency must be greater than zero.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions concurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff,
+				retryFilter);
+	}
+
+	/**
+	 * Execute the operations of each window in {@link Order#ORDERED ordered} mode.
+	 *
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions ordered() {
+		return new IngestOptions(windowSize, windowTimeout, concurrency, Order.ORDERED, collectionName, maxRetries,
+				retryBackoff, retryFilter);
+	}
+
+	/**
+	 * Execute the operations of each window in {@link Order#UNORDERED unordered} mode.
+	 *
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions unordered() {
+		return new IngestOptions(windowSize, windowTimeout, concurrency, Order.UNORDERED, collectionName, maxRetries,
+				retryBackoff, retryFilter);
+	}
+
+	/**
+	 * Write all objects into the given collection instead of the collection derived from their type.
+	 *
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions inCollection(String collectionName) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff,
+				retryFilter);
+	}
+
+	/**
+	 * Retry bulk writes failing with a retryable error up to {@code maxRetries} times applying exponential backoff. Only
+	 * writes that failed or remained unacknowledged are re-sent.
+	 *
+	 * @param maxRetries the maximum number of retries per window; must not be negative. Use {@literal 0} to disable
+	 *          retries.
+	 * @param backoff the minimum backoff between two attempts; must not be {@literal null}.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions retry(long maxRetries, Duration backoff) {
+
+		Assert.isTrue(maxRetries >= 0, "Max retries must not be negative");
+		Assert.notNull(backoff, "Backoff must not be null");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, backoff,
+				retryFilter);
+	}
+
+	/**
+	 * Set the {@link Predicate} deciding whether a bulk write failing without reporting per-write results is retried.
+	 * Write errors are retried if their error code is transient. Defaults to retrying
+	 * {@link TransientDataAccessException transient} and {@link DataAccessResourceFailureException resource} failures as
+	 * well as errors carrying the {@literal RetryableWriteError} label.
+	 *
+	 * @param retryFilter must not be {@literal null}.
+	 * @return new instance of {@link IngestOptions}.
+	 */
+	public IngestOptions retryOn(Predicate<Throwable> retryFilter) {
+
+		Assert.notNull(retryFilter, "Retry filter must not be null");
+		return new IngestOptions(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff,
+				retryFilter);
+	}
+
+	/**
+	 * @return the maximum number of objects per {@link Bulk}.
+	 */
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	/**
+	 * @return the maximum time to wait for a window to fill up.
+	 */
+	public Duration getWindowTimeout() {
+		return windowTimeout;
+	}
+
+	/**
+	 * @return the maximum number of bulk writes in flight.
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * @return the execution {@link Order} of each window.
+	 */
+	public Order getOrder() {
+		return order;
+	}
+
+	/**
+	 * @return the {@link BulkWriteOptions} to use for each window.
+	 */
+	public BulkWriteOptions getBulkWriteOptions() {
+		return new BulkWriteOptions(order);
+	}
+
+	/**
+	 * @return the target collection name. Can be {@literal null} if the collection is derived from the object type.
+	 */
+	public @Nullable String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the maximum number of retries per window. {@literal 0} if retries are disabled.
+	 */
+	public long getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the minimum backoff between two attempts.
+	 */
+	public Duration getRetryBackoff() {
+		return retryBackoff;
+	}
+
+	/**
+	 * @return the {@link Predicate} deciding whether a failed bulk write is retried.
+	 */
+	public Predicate<Throwable> getRetryFilter() {
+		return retryFilter;
+	}
+
+	private static boolean isTransientFailure(Throwable throwable) {
+
+		if (throwable instanceof TransientDataAccessException
+				|| throwable instanceof DataAccessResourceFailureException) {
+			return true;
+		}
+
+		Throwable cause = throwable;
+		while (cause != null) {
+			if (cause instanceof MongoException mongoException
+					&& mongoException.hasErrorLabel(RETRYABLE_WRITE_ERROR_LABEL)) {
+				return true;
+			}
+			cause = cause.getCause() != cause ? cause.getCause() : null;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IngestOptions that)) {
+			return false;
+		}
+		return windowSize == that.windowSize && concurrency == that.concurrency && maxRetries == that.maxRetries
+				&& order == that.order && ObjectUtils.nullSafeEquals(windowTimeout, that.windowTimeout)
+				&& ObjectUtils.nullSafeEquals(collectionName, that.collectionName)
+				&& ObjectUtils.nullSafeEquals(retryBackoff, that.retryBackoff)
+				&& ObjectUtils.nullSafeEquals(retryFilter, that.retryFilter);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries,
+				retryBackoff);
+	}
+
+	@Override
+	public String toString() {
+		return "IngestOptions{windowSize=%d, windowTimeout=%s, concurrency=%d, order=%s, collectionName=%s, maxRetries=%d, retryBackoff=%s}"
+				.formatted(windowSize, windowTimeout, concurrency, order, collectionName, maxRetries, retryBackoff);
+	}
+}
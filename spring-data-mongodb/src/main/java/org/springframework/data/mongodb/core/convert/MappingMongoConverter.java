@@ -715,9 +715,18 @@ public class MappingMongoConverter extends AbstractMongoConverter
 				return conversionService.convert(pointer, property.getActualType());
 			} else {
 
-				return dbRefResolver.resolveReference(property,
-						new DocumentReferenceSource(documentAccessor.getDocument(), documentAccessor.get(property)),
-						referenceLookupDelegate, context.forProperty(property)::convert);
+				DocumentReferenceSource source = new DocumentReferenceSource(documentAccessor.getDocument(),
+						documentAccessor.get(property));
+				List<Document> joined = ReferenceLookupStages.getJoinedDocuments(documentAccessor.getDocument(), property);
+
+				if (joined != null && !property.getDocumentReference().lazy()) {
+					return referenceLookupDelegate.readReference(property, source,
+							(query, collection) -> property.isCollectionLike() ? query.restoreOrder(joined) : joined,
+							context.forProperty(property)::convert);
+				}
+
+				return dbRefResolver.resolveReference(property, source, referenceLookupDelegate,
+						context.forProperty(property)::convert);
 			}
 		}
 
@@ -725,8 +734,34 @@ public class MappingMongoConverter extends AbstractMongoConverter
 			return null;
 		}
 
+		List<Document> joined = ReferenceLookupStages.getJoinedDocuments(documentAccessor.getDocument(), property);
+
 		if (value instanceof DBRef dbref) {
-			return dbRefResolver.resolveDbRef(property, dbref, callback, handler);
+
+			Document document = joined != null ? findJoined(joined, dbref) : null;
+			return document != null
+					? readJoinedDBRef(context.forProperty(property), dbref, document, property.getTypeInformation())
+					: dbRefResolver.resolveDbRef(property, dbref, callback, handler);
+		}
+
+		if (joined != null && value instanceof Collection<?> collection && property.isCollectionLike()) {
+
+			TypeInformation<?> componentType = property.getTypeInformation().getRequiredComponentType();
+			ConversionContext propertyContext = context.forProperty(property);
+			List<Object> objects = new ArrayList<>(collection.size());
+
+			for (Object element : collection) {
+
+				Document document = element instanceof DBRef dbref ? findJoined(joined, dbref) : null;
+				if (document == null) {
+					break;
+				}
+				objects.add(readJoinedDBRef(propertyContext, (DBRef) element, document, componentType));
+			}
+
+			if (objects.size() == collection.size()) {
+				return getPotentiallyConvertedSimpleRead(objects, property.getType());
+			}
 		}
 
 		/*
@@ -752,6 +787,26 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		}
 	}
 
+	/**
+	 * Read a document joined for the given {@link DBRef} the same way as a resolved one.
+	 */
+	private @Nullable Object readJoinedDBRef(ConversionContext context, DBRef dbref, Document document,
+			TypeInformation<?> type) {
+
+		Object object = context.getPath().getPathItem(dbref.getId(), dbref.getCollectionName(), type.getType());
+		return object != null ? object : readReferencedDocument(context, document, type, dbref.getCollectionName());
+	}
+
+	private static @Nullable Document findJoined(List<Document> joined, DBRef dbref) {
+
+		for (Document document : joined) {
+			if (ObjectUtils.nullSafeEquals(document.get(FieldName.ID.name()), dbref.getId())) {
+				return document;
+			}
+		}
+		return null;
+	}
+
 	@SuppressWarnings("NullAway")
 	private @Nullable Object readUnwrapped(ConversionContext context, DocumentAccessor documentAccessor,
 			MongoPersistentProperty prop, MongoPersistentEntity<?> unwrappedEntity) {
@@ -1798,23 +1853,25 @@ public class MappingMongoConverter extends AbstractMongoConverter
 		List<T> targetList = new ArrayList<>(dbrefs.size());
 
 		for (Document document : referencedRawDocuments) {
+			targetList.add(document != null ? (T) readReferencedDocument(context, document, type, collectionName) : null);
+		}
 
-			T target = null;
-			if (document != null) {
+		return targetList;
+	}
 
-				maybeEmitEvent(new AfterLoadEvent<>(document, (Class<T>) type.getType(), collectionName));
-				target = (T) readDocument(context, document, type);
-			}
+	@SuppressWarnings("unchecked")
+	private <T> @Nullable T readReferencedDocument(ConversionContext context, Document document, TypeInformation<?> type,
+			String collectionName) {
 
-			if (target != null) {
-				maybeEmitEvent(new AfterConvertEvent<>(document, target, collectionName));
-				target = maybeCallAfterConvert(target, document, collectionName);
-			}
+		maybeEmitEvent(new AfterLoadEvent<>(document, (Class<T>) type.getType(), collectionName));
+		T target = (T) readDocument(context, document, type);
 
-			targetList.add(target);
+		if (target != null) {
+			maybeEmitEvent(new AfterConvertEvent<>(document, target, collectionName));
+			target = maybeCallAfterConvert(target, document, collectionName);
 		}
 
-		return targetList;
+		return target;
 	}
 
 	@SuppressWarnings("NullAway")
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates {@code $lookup} aggregation stages joining the documents referenced by non lazy {@link DocumentReference} and
+ * {@link DBRef} properties of an entity, so that references can be read from the joined documents instead of resolving
+ * them one by one. Joined documents are placed in the {@value #JOINED_REFERENCES} field of the source document by the
+ * {@link MongoPersistentProperty#getFieldName() field name} of the reference property, where
+ * {@link MappingMongoConverter} picks them up.
+ * <p>
+ * Only references that can be expressed as a join within the same database are considered:
+ * <ul>
+ * <li>{@link DocumentReference} with a {@link DocumentReference#lookup() lookup} matching a single field against the
+ * {@code #target} or a property path of it, e.g. {@code { '_id' : ?#{#target} }} or
+ * {@code { 'acronym' : ?#{#target.acc} }}, an optional static {@link DocumentReference#sort() sort} and
+ * {@link DocumentReference#collection() collection}.</li>
+ * <li>{@link DBRef} not pointing to a different database.</li>
+ * </ul>
+ * Map-like references and references requiring expression evaluation are left to the regular reference resolution.
+ * Stages joining {@link DBRef} properties or applying a {@link DocumentReference#sort() sort} combine
+ * {@code localField} with a {@code pipeline} and require MongoDB 5.0 or later.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class ReferenceLookupStages {
+
+	/**
+	 * Name of the field holding the joined documents by reference field name.
+	 */
+	public static final String JOINED_REFERENCES = "__joinedReferences";
+
+	private static final Pattern TARGET_LOOKUP = Pattern
+			.compile("^\\{\\s*(['\"]?)([\\w.]+)\\1\\s*:\\s*\\?#\\{\\s*#target(\\.[\\w.]+)?\\s*}\\s*}$");
+
+	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+
+	/**
+	 * Creates a new {@link ReferenceLookupStages} instance.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public ReferenceLookupStages(
+			MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Create the {@code $lookup} stages for all references of the given entity that can be joined.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@code $lookup} stages. Empty if none of the references can be joined.
+	 */
+	public List<Document> createLookupStages(MongoPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		List<Document> stages = new ArrayList<>();
+
+		for (MongoPersistentProperty property : entity) {
+
+			if (!property.isAssociation() || property.isMap()) {
+				continue;
+			}
+
+			Document stage = property.isDocumentReference() ? documentReferenceLookup(property)
+					: property.isDbReference() ? dbRefLookup(property) : null;
+
+			if (stage != null) {
+				stages.add(new Document("$lookup", stage));
+			}
+		}
+
+		return stages;
+	}
+
+	/**
+	 * Obtain the joined documents for the given property from the given source document.
+	 *
+	 * @param source the raw source document. Can be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the joined documents or {@literal null} if the reference has not been joined.
+	 */
+	@SuppressWarnings("unchecked")
+	static @Nullable List<Document> getJoinedDocuments(@Nullable Bson source, MongoPersistentProperty property) {
+
+		if (!(source instanceof Document document)
+				|| !(document.get(JOINED_REFERENCES) instanceof Document joinedReferences)) {
+			return null;
+		}
+
+		return joinedReferences.get(property.getFieldName()) instanceof List<?> joined ? (List<Document>) joined : null;
+	}
+
+	private @Nullable Document documentReferenceLookup(MongoPersistentProperty property) {
+
+		DocumentReference reference = property.getDocumentReference();
+
+		if (reference == null || reference.lazy() || StringUtils.hasText(reference.db())) {
+			return null;
+		}
+
+		Matcher matcher = TARGET_LOOKUP.matcher(reference.lookup().trim());
+		if (!matcher.matches()) {
+			return null;
+		}
+
+		String collection = targetCollection(property, reference.collection());
+		if (collection == null) {
+			return null;
+		}
+
+		String localField = property.getFieldName() + (matcher.group(3) != null ? matcher.group(3) : "");
+
+		Document lookup = new Document("from", collection) //
+				.append("localField", localField) //
+				.append("foreignField", matcher.group(2));
+
+		if (StringUtils.hasText(reference.sort())) {
+
+			if (!BsonUtils.isJsonDocument(reference.sort()) || reference.sort().contains("?")
+					|| reference.sort().contains("#{")) {
+				return null;
+			}
+			lookup.append("pipeline", List.of(new Document("$sort", Document.parse(reference.sort()))));
+		}
+
+		return lookup.append("as", joinedField(property));
+	}
+
+	private @Nullable Document dbRefLookup(MongoPersistentProperty property) {
+
+		DBRef reference = property.getDBRef();
+
+		if (reference == null || reference.lazy() || StringUtils.hasText(reference.db())) {
+			return null;
+		}
+
+		String collection = targetCollection(property, "");
+		if (collection == null) {
+			return null;
+		}
+
+		String field = "$" + property.getFieldName();
+		Object ids = property.isCollectionLike()
+				? new Document("$map",
+						new Document("input", new Document("$ifNull", List.of(field, List.of()))).append("in", dbRefId("$$this")))
+				: List.of(dbRefId(field));
+
+		return new Document("from", collection) //
+				.append("let", new Document("ids", ids)) //
+				.append("pipeline",
+						List.of(new Document("$match",
+								new Document("$expr", new Document("$in", List.of("$_id", "$$ids"))))))
+				.append("as", joinedField(property));
+	}
+
+	private @Nullable String targetCollection(MongoPersistentProperty property, String collection) {
+
+		if (StringUtils.hasText(collection)) {
+			return collection.contains("#{") || collection.contains("?") ? null : collection;
+		}
+
+		MongoPersistentEntity<?> target = mappingContext.getPersistentEntity(property.getAssociationTargetType());
+		return target != null ? target.getCollection() : null;
+	}
+
+	private static Document dbRefId(String reference) {
+		return new Document("$getField",
+				new Document("field", new Document("$literal", "$id")).append("input", reference));
+	}
+
+	private static String joinedField(MongoPersistentProperty property) {
+		return JOINED_REFERENCES + "." + property.getFieldName();
+	}
+}
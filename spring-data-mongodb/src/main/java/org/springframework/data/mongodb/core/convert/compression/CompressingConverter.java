@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert.compression;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+import org.springframework.data.mongodb.core.mapping.Compressed;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * {@link MongoValueConverter} compressing {@code byte[]} and {@link Binary} properties annotated with
+ * {@link Compressed}. Compressed values are stored as {@code { _compression : 'deflate', _data : BinData(…) }} so that
+ * the algorithm is recorded along with the value. Values that do not get smaller are stored uncompressed. Reading
+ * accepts both forms, so existing uncompressed values remain readable.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class CompressingConverter implements MongoValueConverter<Object, Object> {
+
+	static final String COMPRESSION_FIELD = "_compression";
+	static final String DATA_FIELD = "_data";
+
+	@Override
+	public @Nullable Object read(Object value, MongoConversionContext context) {
+
+		if (value instanceof Document document && document.get(COMPRESSION_FIELD) instanceof String name) {
+
+			Object data = document.get(DATA_FIELD);
+			byte[] compressed = data instanceof Binary binary ? binary.getData() : (byte[]) data;
+			return toPropertyValue(Compression.of(name).decompress(compressed), context.getProperty());
+		}
+
+		if (value instanceof Binary binary) {
+			return toPropertyValue(binary.getData(), context.getProperty());
+		}
+
+		return value;
+	}
+
+	@Override
+	public @Nullable Object write(Object value, MongoConversionContext context) {
+
+		byte[] data;
+		if (value instanceof byte[] bytes) {
+			data = bytes;
+		} else if (value instanceof Binary binary) {
+			data = binary.getData();
+		} else {
+			throw new IllegalArgumentException("Cannot compress value of type %s for property %s; Use byte[] or Binary"
+					.formatted(value.getClass().getName(), context.getProperty().getName()));
+		}
+
+		Compression compression = getCompression(context.getProperty());
+		byte[] compressed = compression.compress(data);
+
+		if (compressed.length >= data.length) {
+			return new Binary(data);
+		}
+
+		return new Document(COMPRESSION_FIELD, compression.getName()).append(DATA_FIELD, new Binary(compressed));
+	}
+
+	private static Compression getCompression(MongoPersistentProperty property) {
+
+		Compressed compressed = property.findAnnotation(Compressed.class);
+		return Compression.of(compressed != null ? compressed.algorithm() : Compression.DEFLATE);
+	}
+
+	private static Object toPropertyValue(byte[] data, MongoPersistentProperty property) {
+		return Binary.class.isAssignableFrom(property.getType()) ? new Binary(data) : data;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert.compression;
+
+import org.springframework.util.Assert;
+
+/**
+ * Codec compressing binary content. Implementations are pure Java and identified by their {@link #getName() name}
+ * that is recorded along with the compressed content to decompress it on read. The set of compressions is closed as
+ * {@link #of(String)} has to resolve each recorded name on read.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public sealed interface Compression permits JdkCompression {
+
+	/**
+	 * Name of the {@link #deflate() Deflate} compression.
+	 */
+	String DEFLATE = "deflate";
+
+	/**
+	 * Name of the {@link #gzip() GZIP} compression.
+	 */
+	String GZIP = "gzip";
+
+	/**
+	 * @return the name identifying the compression.
+	 */
+	String getName();
+
+	/**
+	 * Compress the given data.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @return the compressed data.
+	 */
+	byte[] compress(byte[] data);
+
+	/**
+	 * Decompress the given data.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @return the decompressed data.
+	 * @throws IllegalArgumentException if the data is not valid for this compression.
+	 */
+	byte[] decompress(byte[] data);
+
+	/**
+	 * @return {@link Compression} using the {@literal zlib} format (RFC 1950) wrapping {@literal Deflate} compressed data.
+	 */
+	static Compression deflate() {
+		return JdkCompression.DEFLATE;
+	}
+
+	/**
+	 * @return {@link Compression} using the {@literal GZIP} format.
+	 */
+	static Compression gzip() {
+		return JdkCompression.GZIP;
+	}
+
+	/**
+	 * Obtain the {@link Compression} for the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the {@link Compression} for the given name.
+	 * @throws IllegalArgumentException if the name is unknown.
+	 */
+	static Compression of(String name) {
+
+		Assert.notNull(name, "Name must not be null");
+
+		for (JdkCompression compression : JdkCompression.values()) {
+			if (compression.getName().equals(name)) {
+				return compression;
+			}
+		}
+
+		throw new IllegalArgumentException("Unknown compression %s".formatted(name));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * {@link Compression} implementations using {@link java.util.zip}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+enum JdkCompression implements Compression {
+
+	DEFLATE(Compression.DEFLATE) {
+
+		@Override
+		public byte[] compress(byte[] data) {
+
+			Deflater deflater = new Deflater();
+			try {
+
+				deflater.setInput(data);
+				deflater.finish();
+
+				ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+				byte[] buffer = new byte[BUFFER_SIZE];
+				while (!deflater.finished()) {
+					out.write(buffer, 0, deflater.deflate(buffer));
+				}
+				return out.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+
+		@Override
+		public byte[] decompress(byte[] data) {
+
+			Inflater inflater = new Inflater();
+			try {
+
+				inflater.setInput(data);
+
+				ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 2);
+				byte[] buffer = new byte[BUFFER_SIZE];
+				while (!inflater.finished()) {
+
+					int read = inflater.inflate(buffer);
+					if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						throw new IllegalArgumentException("Truncated deflate data");
+					}
+					out.write(buffer, 0, read);
+				}
+				return out.toByteArray();
+			} catch (DataFormatException ex) {
+				throw new IllegalArgumentException("Invalid deflate data", ex);
+			} finally {
+				inflater.end();
+			}
+		}
+	},
+
+	GZIP(Compression.GZIP) {
+
+		@Override
+		public byte[] compress(byte[] data) {
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+			try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+				gzip.write(data);
+			} catch (IOException ex) {
+				throw new IllegalStateException("Failed to compress data", ex);
+			}
+			return out.toByteArray();
+		}
+
+		@Override
+		public byte[] decompress(byte[] data) {
+
+			try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data), BUFFER_SIZE)) {
+				return gzip.readAllBytes();
+			} catch (IOException ex) {
+				throw new IllegalArgumentException("Invalid gzip data", ex);
+			}
+		}
+	};
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String name;
+
+	JdkCompression(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Compression codecs and converters to store binary content compressed.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.mongodb.core.convert.compression;
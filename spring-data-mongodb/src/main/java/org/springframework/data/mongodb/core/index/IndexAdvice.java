@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Report of an {@link IndexAdvisor} comparing the executed query shapes with the existing indexes. Recommendations are
+ * ordered by the number of affected executions, highest first.
+ *
+ * @param recommendations the recommendations.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public record IndexAdvice(List<Recommendation> recommendations) {
+
+	/**
+	 * @return {@literal true} if there are no recommendations.
+	 */
+	public boolean isEmpty() {
+		return recommendations.isEmpty();
+	}
+
+	/**
+	 * Obtain the recommendations of the given {@link Type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the matching recommendations.
+	 */
+	public List<Recommendation> getRecommendations(Type type) {
+		return recommendations.stream().filter(it -> it.type() == type).toList();
+	}
+
+	/**
+	 * A single recommendation.
+	 *
+	 * @param type the recommendation type.
+	 * @param collection the collection name.
+	 * @param shape the query shape the recommendation is based on. {@literal null} for {@link Type#NOT_OBSERVED_IN_FINDS}.
+	 * @param index name of the affected existing index. {@literal null} for {@link Type#COLLECTION_SCAN} and
+	 *          {@link Type#MISSING_COMPOUND_INDEX}.
+	 * @param suggestedIndex the suggested index keys. {@literal null} for {@link Type#NOT_OBSERVED_IN_FINDS}.
+	 * @param executions number of executions of the query shape. {@literal 0} for {@link Type#NOT_OBSERVED_IN_FINDS}.
+	 */
+	public record Recommendation(Type type, String collection, IndexAdvisor.@Nullable QueryShape shape,
+			@Nullable String index, @Nullable Document suggestedIndex, long executions) {
+
+	}
+
+	/**
+	 * Recommendation types.
+	 */
+	public enum Type {
+
+		/**
+		 * No index can be used for the query shape, resulting in a collection scan.
+		 */
+		COLLECTION_SCAN,
+
+		/**
+		 * An index can be used, but none covers all fields of the query shape.
+		 */
+		MISSING_COMPOUND_INDEX,
+
+		/**
+		 * Indexes covering the query shape do not follow the equality, sort, range rule.
+		 */
+		ESR_VIOLATION,
+
+		/**
+		 * The index is not used by any recorded query shape. Only {@code find} queries are recorded, so the index may still
+		 * be used by aggregations, updates, deletes or counts. Unique, TTL, partial and hidden indexes are not reported.
+		 */
+		NOT_OBSERVED_IN_FINDS
+	}
+}
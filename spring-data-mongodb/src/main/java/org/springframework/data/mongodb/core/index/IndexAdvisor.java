@@ -0,0 +1,370 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.index.IndexAdvice.Recommendation;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Type;
+import org.springframework.util.Assert;
+
+/**
+ * Opt-in advisor collecting the shapes of executed queries to compare them with the existing indexes. A query shape
+ * consists of the fields used for equality matches, the sort fields and the fields used for range predicates of the
+ * mapped query. {@link #advise(IndexOperationsProvider)} reports query shapes that cannot use any index, query shapes
+ * not covered by a compound index, covering indexes violating the equality, sort, range (ESR) rule and indexes not used
+ * by any of the recorded query shapes.
+ * <p>
+ * Only {@code find} queries are recorded. Indexes reported as {@link Type#NOT_OBSERVED_IN_FINDS} may still be used by
+ * aggregations, updates, deletes or counts and must be verified (e.g. using {@code $indexStats}) before dropping them.
+ * Unique, TTL, partial and hidden indexes are never reported as such.
+ * <p>
+ * Predicates nested in {@code $or}, {@code $nor}, {@code $expr} and {@code $text} are not considered. Only the
+ * leading field of an index is taken into account to decide whether it can be used.
+ *
+ * <pre class="code">
+ * IndexAdvisor advisor = new IndexAdvisor();
+ * template.setIndexAdvisor(advisor);
+ *
+ * // run the application or test suite
+ *
+ * IndexAdvice advice = advisor.advise(template);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see IndexAdvice
+ */
+public class IndexAdvisor {
+
+	private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in", "$all", "$elemMatch");
+	private static final String ID_INDEX = "_id_";
+
+	private final int maxShapesPerCollection;
+	private final Map<String, Map<String, ShapeExecutions>> shapes = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link IndexAdvisor} recording up to {@literal 100} query shapes per collection.
+	 */
+	public IndexAdvisor() {
+		this(100);
+	}
+
+	/**
+	 * Creates a new {@link IndexAdvisor} recording up to the given number of query shapes per collection.
+	 *
+	 * @param maxShapesPerCollection must be greater than zero.
+	 */
+	public IndexAdvisor(int maxShapesPerCollection) {
+
+		Assert.isTrue(maxShapesPerCollection > 0, "Max shapes per collection must be greater than zero");
+		this.maxShapesPerCollection = maxShapesPerCollection;
+	}
+
+	/**
+	 * Record the execution of a query. Shapes beyond the configured maximum per collection are ignored.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param filter the mapped filter. Must not be {@literal null}.
+	 * @param sort the mapped sort. Can be {@literal null}.
+	 */
+	public void record(String collection, Document filter, @Nullable Document sort) {
+
+		Assert.notNull(collection, "Collection must not be null");
+		Assert.notNull(filter, "Filter must not be null");
+
+		QueryShape shape = QueryShape.of(filter, sort);
+		if (shape.isEmpty()) {
+			return;
+		}
+
+		Map<String, ShapeExecutions> collectionShapes = shapes.computeIfAbsent(collection,
+				key -> new ConcurrentHashMap<>());
+		ShapeExecutions executions = collectionShapes.get(shape.toString());
+
+		if (executions == null) {
+
+			if (collectionShapes.size() >= maxShapesPerCollection) {
+				return;
+			}
+			executions = collectionShapes.computeIfAbsent(shape.toString(), key -> new ShapeExecutions(shape));
+		}
+
+		executions.count.increment();
+	}
+
+	/**
+	 * Obtain the recorded query shapes of the given collection along with their number of executions.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @return the recorded query shapes.
+	 */
+	public Map<QueryShape, Long> getShapes(String collection) {
+
+		Map<QueryShape, Long> result = new LinkedHashMap<>();
+		shapes.getOrDefault(collection, Map.of()).values().forEach(it -> result.put(it.shape, it.count.sum()));
+		return result;
+	}
+
+	/**
+	 * Compare the recorded query shapes with the existing indexes of their collections.
+	 *
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @return the {@link IndexAdvice}.
+	 */
+	public IndexAdvice advise(IndexOperationsProvider indexOperationsProvider) {
+
+		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null");
+
+		List<Recommendation> recommendations = new ArrayList<>();
+		shapes.forEach((collection, collectionShapes) -> recommendations.addAll(advise(collection,
+				indexOperationsProvider.indexOps(collection).getIndexInfo(), collectionShapes.values())));
+
+		recommendations.sort(Comparator.comparingLong(Recommendation::executions).reversed());
+		return new IndexAdvice(List.copyOf(recommendations));
+	}
+
+	/**
+	 * Remove all recorded query shapes.
+	 */
+	public void clear() {
+		shapes.clear();
+	}
+
+	private static List<Recommendation> advise(String collection, List<IndexInfo> indexes,
+			Iterable<ShapeExecutions> executed) {
+
+		List<Recommendation> recommendations = new ArrayList<>();
+		Set<String> usedIndexes = new LinkedHashSet<>();
+
+		for (ShapeExecutions executions : executed) {
+
+			QueryShape shape = executions.shape;
+			long count = executions.count.sum();
+
+			List<IndexInfo> usable = new ArrayList<>();
+			List<IndexInfo> covering = new ArrayList<>();
+			IndexInfo following = null;
+
+			for (IndexInfo index : indexes) {
+
+				List<String> keys = keys(index);
+				if (keys.isEmpty() || !shape.fields().contains(keys.get(0))) {
+					continue;
+				}
+
+				usable.add(index);
+				if (keys.size() >= shape.fields().size()
+						&& Set.copyOf(keys.subList(0, shape.fields().size())).equals(shape.fields())) {
+
+					covering.add(index);
+					if (following == null && shape.isFollowedBy(keys)) {
+						following = index;
+					}
+				}
+			}
+
+			usable.forEach(it -> usedIndexes.add(it.getName()));
+
+			if (usable.isEmpty()) {
+				recommendations.add(new Recommendation(Type.COLLECTION_SCAN, collection, shape, null,
+						shape.getSuggestedIndex(), count));
+			} else if (covering.isEmpty()) {
+				recommendations.add(new Recommendation(Type.MISSING_COMPOUND_INDEX, collection, shape, null,
+						shape.getSuggestedIndex(), count));
+			} else if (following == null) {
+				recommendations.add(new Recommendation(Type.ESR_VIOLATION, collection, shape, covering.get(0).getName(),
+						shape.getSuggestedIndex(), count));
+			}
+		}
+
+		for (IndexInfo index : indexes) {
+			if (isQueryOnlyIndex(index) && !usedIndexes.contains(index.getName())) {
+				recommendations
+						.add(new Recommendation(Type.NOT_OBSERVED_IN_FINDS, collection, null, index.getName(), null, 0));
+			}
+		}
+
+		return recommendations;
+	}
+
+	/**
+	 * Check whether the given index serves queries only. Unique, TTL and partial indexes enforce constraints, expire
+	 * documents or exclude documents regardless of their usage by queries and hidden indexes are not used for queries at
+	 * all, so none of them is reported as not observed.
+	 *
+	 * @param index the index to inspect.
+	 * @return {@literal true} if the index exists to serve queries only.
+	 */
+	private static boolean isQueryOnlyIndex(IndexInfo index) {
+		return !ID_INDEX.equals(index.getName()) && !index.isUnique() && index.getExpireAfter().isEmpty()
+				&& index.getPartialFilterExpression() == null && !index.isHidden();
+	}
+
+	private static List<String> keys(IndexInfo index) {
+		return index.getIndexFields().stream().map(IndexField::getKey).toList();
+	}
+
+	/**
+	 * Shape of a query.
+	 *
+	 * @param equality fields used for equality matches in alphabetical order.
+	 * @param sort the sort fields and directions in sort order.
+	 * @param range fields used for range predicates in alphabetical order, excluding fields used for equality matches.
+	 */
+	public record QueryShape(List<String> equality, Document sort, List<String> range) {
+
+		/**
+		 * Create the {@link QueryShape} of the given mapped filter and sort.
+		 *
+		 * @param filter must not be {@literal null}.
+		 * @param sort can be {@literal null}.
+		 * @return new instance of {@link QueryShape}.
+		 */
+		public static QueryShape of(Document filter, @Nullable Document sort) {
+
+			Set<String> equality = new TreeSet<>();
+			Set<String> range = new TreeSet<>();
+			collect(filter, equality, range);
+			range.removeAll(equality);
+
+			Document sortToUse = new Document();
+			if (sort != null) {
+				sort.forEach(
+						(key, value) -> sortToUse.put(key, value instanceof Number number && number.intValue() < 0 ? -1 : 1));
+			}
+
+			return new QueryShape(List.copyOf(equality), sortToUse, List.copyOf(range));
+		}
+
+		private static void collect(Document filter, Set<String> equality, Set<String> range) {
+
+			for (Map.Entry<String, Object> entry : filter.entrySet()) {
+
+				String key = entry.getKey();
+				Object value = entry.getValue();
+
+				if ("$and".equals(key) && value instanceof List<?> list) {
+					for (Object element : list) {
+						if (element instanceof Document document) {
+							collect(document, equality, range);
+						}
+					}
+					continue;
+				}
+
+				if (key.startsWith("$")) {
+					continue;
+				}
+
+				if (value instanceof Document document && !document.isEmpty()
+						&& document.keySet().iterator().next().startsWith("$")) {
+
+					if (EQUALITY_OPERATORS.containsAll(document.keySet())) {
+						equality.add(key);
+					} else {
+						range.add(key);
+					}
+				} else {
+					equality.add(key);
+				}
+			}
+		}
+
+		/**
+		 * @return all fields of the query shape.
+		 */
+		public Set<String> fields() {
+
+			Set<String> fields = new LinkedHashSet<>(equality);
+			fields.addAll(sort.keySet());
+			fields.addAll(range);
+			return fields;
+		}
+
+		/**
+		 * @return {@literal true} if the query shape neither filters nor sorts.
+		 */
+		public boolean isEmpty() {
+			return equality.isEmpty() && sort.isEmpty() && range.isEmpty();
+		}
+
+		/**
+		 * @return the index keys following the equality, sort, range rule.
+		 */
+		public Document getSuggestedIndex() {
+
+			Document index = new Document();
+			equality.forEach(it -> index.put(it, 1));
+			sort.forEach(index::putIfAbsent);
+			range.forEach(it -> index.putIfAbsent(it, 1));
+			return index;
+		}
+
+		/**
+		 * Check whether the given leading index keys follow the equality, sort, range rule for this query shape.
+		 */
+		boolean isFollowedBy(List<String> keys) {
+
+			List<String> sortFields = new ArrayList<>(sort.keySet());
+			sortFields.removeAll(equality);
+
+			int sortPosition = 0;
+			int previousRank = 0;
+
+			for (String key : keys.subList(0, fields().size())) {
+
+				int rank = equality.contains(key) ? 0 : sort.containsKey(key) ? 1 : 2;
+				if (rank < previousRank) {
+					return false;
+				}
+				if (rank == 1 && !key.equals(sortFields.get(sortPosition++))) {
+					return false;
+				}
+				previousRank = rank;
+			}
+
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "equality " + equality + " sort " + sort.toJson() + " range " + range;
+		}
+	}
+
+	private static class ShapeExecutions {
+
+		final QueryShape shape;
+		final LongAdder count = new LongAdder();
+
+		ShapeExecutions(QueryShape shape) {
+			this.shape = shape;
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.mongodb.core.index;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -51,6 +52,24 @@ public interface IndexOperations {
 	 */
 	String createIndex(IndexDefinition indexDefinition);
 
+	/**
+	 * Create the indexes for the provided {@link IndexDefinition}s. Implementations may create all indexes with a single
+	 * {@code createIndexes} command. Might error if the collection already defines an index with the same name but
+	 * different settings.
+	 *
+	 * @param indexDefinitions must not be {@literal null}.
+	 * @return the index names in the order of the given definitions.
+	 * @since 5.2
+	 */
+	default List<String> createIndexes(List<? extends IndexDefinition> indexDefinitions) {
+
+		List<String> names = new ArrayList<>(indexDefinitions.size());
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			names.add(createIndex(indexDefinition));
+		}
+		return names;
+	}
+
 	/**
 	 * Alters the index with given {@literal name}.
 	 *
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Component creating the indexes of all {@link MongoPersistentEntity entities} known to a {@link MongoMappingContext}
+ * in one go. In contrast to {@link MongoPersistentEntityIndexCreator}, creating indexes one at a time as entities are
+ * added to the mapping context, the bootstrapper resolves all index definitions up front, reads the existing indexes
+ * with a single {@code listIndexes} per collection and issues only the missing or changed ones via a single
+ * {@code createIndexes} command per collection. Collections are processed concurrently.
+ * <p>
+ * Indexes are considered present if the collection defines an index with the same name, either the configured one or
+ * the name derived from the index keys, and the same {@code unique}, {@code sparse} and {@code expireAfterSeconds}
+ * settings. Changed indexes are issued again so that the server reports the conflict. Existing indexes are never
+ * dropped.
+ * <p>
+ * The bootstrapper only considers entities known to the mapping context when it runs, typically the initial entity
+ * set. Disable {@link MongoMappingContext#setAutoIndexCreation(boolean) automatic index creation} when using it.
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * MongoPersistentEntityIndexBootstrapper indexBootstrapper(MongoMappingContext mappingContext, MongoTemplate template) {
+ *
+ * 	MongoPersistentEntityIndexBootstrapper bootstrapper = new MongoPersistentEntityIndexBootstrapper(mappingContext,
+ * 			template);
+ * 	bootstrapper.setBackground(true);
+ * 	return bootstrapper;
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class MongoPersistentEntityIndexBootstrapper implements SmartInitializingSingleton {
+
+	private static final Log LOGGER = LogFactory.getLog(MongoPersistentEntityIndexBootstrapper.class);
+
+	private final MongoMappingContext mappingContext;
+	private final IndexOperationsProvider indexOperationsProvider;
+	private final IndexResolver indexResolver;
+
+	private @Nullable Executor executor;
+	private int concurrency = 4;
+	private boolean background;
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexBootstrapper} for the given {@link MongoMappingContext} and
+	 * {@link IndexOperationsProvider}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 */
+	public MongoPersistentEntityIndexBootstrapper(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider) {
+		this(mappingContext, indexOperationsProvider, IndexResolver.create(mappingContext));
+	}
+
+	/**
+	 * Creates a new {@link MongoPersistentEntityIndexBootstrapper} for the given {@link MongoMappingContext},
+	 * {@link IndexOperationsProvider} and {@link IndexResolver}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param indexOperationsProvider must not be {@literal null}.
+	 * @param indexResolver must not be {@literal null}.
+	 */
+	public MongoPersistentEntityIndexBootstrapper(MongoMappingContext mappingContext,
+			IndexOperationsProvider indexOperationsProvider, IndexResolver indexResolver) {
+
+		Assert.notNull(mappingContext, "MongoMappingContext must not be null");
+		Assert.notNull(indexOperationsProvider, "IndexOperationsProvider must not be null");
+		Assert.notNull(indexResolver, "IndexResolver must not be null");
+
+		this.mappingContext = mappingContext;
+		this.indexOperationsProvider = indexOperationsProvider;
+		this.indexResolver = indexResolver;
+	}
+
+	/**
+	 * Set the {@link Executor} to process collections with. Defaults to {@literal null}, using a thread pool limited to
+	 * {@link #setConcurrency(int) concurrency} threads that is shut down once all indexes are created.
+	 *
+	 * @param executor can be {@literal null}.
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the number of collections to process concurrently when using the default executor. Defaults to {@literal 4}.
+	 *
+	 * @param concurrency must be greater than zero.
+	 */
+	public void setConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Configure whether to create indexes in the background without blocking application startup. Failures are logged
+	 * instead of failing startup if {@literal true}. Defaults to {@literal false}.
+	 *
+	 * @param background
+	 */
+	public void setBackground(boolean background) {
+		this.background = background;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		CompletableFuture<Void> indexes = createIndexes();
+
+		if (background) {
+
+			indexes.whenComplete((result, ex) -> {
+				if (ex != null) {
+					LOGGER.error("Failed to create indexes", ex instanceof CompletionException ? ex.getCause() : ex);
+				}
+			});
+			return;
+		}
+
+		try {
+			indexes.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Create the missing indexes of all entities known to the {@link MongoMappingContext}.
+	 *
+	 * @return a {@link CompletableFuture} completing once the indexes of all collections are created.
+	 */
+	public CompletableFuture<Void> createIndexes() {
+
+		Map<String, List<IndexDefinitionHolder>> indexes = resolveIndexes();
+
+		if (indexes.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		Executor executor = this.executor != null ? this.executor
+				: createDefaultExecutor(Math.min(concurrency, indexes.size()));
+
+		List<CompletableFuture<?>> futures = new ArrayList<>(indexes.size());
+		for (Map.Entry<String, List<IndexDefinitionHolder>> entry : indexes.entrySet()) {
+			futures.add(CompletableFuture.runAsync(() -> createIndexes(entry.getKey(), entry.getValue()), executor));
+		}
+
+		CompletableFuture<Void> result = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+
+		if (executor != this.executor && executor instanceof ExecutorService executorService) {
+			result.whenComplete((ignore, ex) -> executorService.shutdown());
+		}
+
+		return result;
+	}
+
+	private static ExecutorService createDefaultExecutor(int threads) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mongo-index-");
+		threadFactory.setDaemon(true);
+
+		return Executors.newFixedThreadPool(threads, threadFactory);
+	}
+
+	/**
+	 * Resolve the index definitions of all entities known to the {@link MongoMappingContext} grouped by collection.
+	 *
+	 * @return the index definitions by collection name.
+	 */
+	Map<String, List<IndexDefinitionHolder>> resolveIndexes() {
+
+		Map<String, Map<String, IndexDefinitionHolder>> indexes = new LinkedHashMap<>();
+
+		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+
+			if (!entity.isAnnotationPresent(Document.class)) {
+				continue;
+			}
+
+			String collection = entity.getCollection();
+
+			for (IndexDefinition indexDefinition : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+
+				IndexDefinitionHolder holder = indexDefinition instanceof IndexDefinitionHolder definitionHolder
+						? definitionHolder
+						: new IndexDefinitionHolder("", indexDefinition, collection);
+
+				indexes.computeIfAbsent(holder.getCollection(), key -> new LinkedHashMap<>())
+						.putIfAbsent(getIndexName(holder), holder);
+			}
+		}
+
+		Map<String, List<IndexDefinitionHolder>> result = new LinkedHashMap<>(indexes.size());
+		indexes.forEach((collection, definitions) -> result.put(collection, List.copyOf(definitions.values())));
+		return result;
+	}
+
+	/**
+	 * Create the given indexes not present in the collection.
+	 *
+	 * @param collection the collection name.
+	 * @param definitions the index definitions.
+	 * @return the index definitions that have been issued.
+	 */
+	List<IndexDefinitionHolder> createIndexes(String collection, List<IndexDefinitionHolder> definitions) {
+
+		IndexOperations indexOperations = indexOperationsProvider.indexOps(collection);
+		List<IndexDefinitionHolder> missing = missingOrChanged(indexOperations.getIndexInfo(), definitions);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Creating %d of %d indexes for collection '%s'".formatted(missing.size(), definitions.size(),
+					collection));
+		}
+
+		if (missing.isEmpty()) {
+			return missing;
+		}
+
+		try {
+			indexOperations.createIndexes(missing);
+		} catch (DataIntegrityViolationException ex) {
+			throw new DataIntegrityViolationException(
+					"Cannot create indexes %s in collection '%s'".formatted(missing, collection), ex.getCause());
+		}
+
+		return missing;
+	}
+
+	/**
+	 * Determine the index definitions not present in the given existing indexes.
+	 *
+	 * @param existing the existing indexes.
+	 * @param definitions the index definitions.
+	 * @return the missing or changed index definitions.
+	 */
+	static List<IndexDefinitionHolder> missingOrChanged(List<IndexInfo> existing,
+			List<IndexDefinitionHolder> definitions) {
+
+		Map<String, IndexInfo> existingByName = new LinkedHashMap<>(existing.size());
+		for (IndexInfo indexInfo : existing) {
+			existingByName.put(indexInfo.getName(), indexInfo);
+		}
+
+		List<IndexDefinitionHolder> missing = new ArrayList<>(definitions.size());
+		for (IndexDefinitionHolder definition : definitions) {
+
+			IndexInfo indexInfo = existingByName.get(getIndexName(definition));
+			if (indexInfo == null || !matches(indexInfo, definition.getIndexOptions())) {
+				missing.add(definition);
+			}
+		}
+
+		return missing;
+	}
+
+	/**
+	 * Obtain the configured index name or the one the server derives from the index keys, such as
+	 * {@code lastname_1_age_-1}.
+	 */
+	static String getIndexName(IndexDefinition definition) {
+
+		if (definition.getIndexOptions().get("name") instanceof String name) {
+			return name;
+		}
+
+		StringBuilder name = new StringBuilder();
+		for (Map.Entry<String, Object> key : definition.getIndexKeys().entrySet()) {
+
+			if (!name.isEmpty()) {
+				name.append('_');
+			}
+			name.append(key.getKey()).append('_')
+					.append(key.getValue() instanceof Number number ? number.intValue() : key.getValue());
+		}
+		return name.toString();
+	}
+
+	private static boolean matches(IndexInfo indexInfo, org.bson.Document options) {
+
+		Optional<Long> expireAfter = Optional.ofNullable(options.get("expireAfterSeconds"))
+				.map(it -> ((Number) it).longValue());
+
+		return indexInfo.isUnique() == Boolean.TRUE.equals(options.get("unique"))
+				&& indexInfo.isSparse() == Boolean.TRUE.equals(options.get("sparse"))
+				&& Objects.equals(indexInfo.getExpireAfter().map(Duration::getSeconds), expireAfter);
+	}
+}
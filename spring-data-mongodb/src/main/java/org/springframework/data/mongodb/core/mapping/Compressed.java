@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.data.convert.PropertyValueConverter;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.convert.compression.CompressingConverter;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+
+/**
+ * Marks a {@code byte[]} or {@link org.bson.types.Binary} property to be stored compressed. The algorithm is recorded
+ * along with the value and the value is decompressed transparently on read.
+ *
+ * <pre class="code">
+ * class Message {
+ *
+ * 	&#64;Compressed byte[] payload;
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CompressingConverter
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@ValueConverter
+public @interface Compressed {
+
+	/**
+	 * @return the name of the {@link Compression} to use. {@link Compression#DEFLATE} by default.
+	 */
+	String algorithm() default Compression.DEFLATE;
+
+	/**
+	 * The {@link PropertyValueConverter} type handling the compression of the annotated property.
+	 *
+	 * @return the configured {@link PropertyValueConverter}. A {@link CompressingConverter} by default.
+	 */
+	@AliasFor(annotation = ValueConverter.class, value = "value")
+	Class<? extends PropertyValueConverter> value() default CompressingConverter.class;
+}
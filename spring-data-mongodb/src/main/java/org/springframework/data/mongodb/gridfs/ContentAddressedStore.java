@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+import org.springframework.data.mongodb.util.BsonUtils;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoGridFSException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+
+/**
+ * Content-addressed GridFS storage. Chunks are stored once per content digest and referenced from the {@code files}
+ * documents through {@link #CONTENT_ID_FIELD} and {@link #CONTENT_DIGEST_FIELD} within their metadata. The
+ * {@code <bucket>.contents} collection holds one document per digest with the number of referencing files.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ContentAddressing
+ */
+class ContentAddressedStore {
+
+	static final String CONTENT_ID_FIELD = "_contentId";
+	static final String CONTENT_DIGEST_FIELD = "_contentDigest";
+
+	private static final String REF_COUNT = "refCount";
+	private static final FindOneAndUpdateOptions RETURN_UPDATED = new FindOneAndUpdateOptions()
+			.returnDocument(ReturnDocument.AFTER);
+
+	private final MongoCollection<Document> files;
+	private final MongoCollection<Document> contents;
+	private final GridFsChunkTransfer transfer;
+	private final ContentAddressing options;
+
+	ContentAddressedStore(GridFSBucket bucket, MongoDatabase database, GridFsChunkTransfer transfer,
+			ContentAddressing options) {
+
+		this.files = collection(bucket, database, ".files");
+		this.contents = collection(bucket, database, ".contents");
+		this.transfer = transfer;
+		this.options = options;
+	}
+
+	private static MongoCollection<Document> collection(GridFSBucket bucket, MongoDatabase database, String suffix) {
+		return database.getCollection(bucket.getBucketName() + suffix).withWriteConcern(bucket.getWriteConcern())
+				.withReadPreference(bucket.getReadPreference()).withReadConcern(bucket.getReadConcern());
+	}
+
+	/**
+	 * @return {@literal true} if the given file references content-addressed chunks.
+	 */
+	static boolean isContentAddressed(GridFSFile file) {
+		return file.getMetadata() != null && file.getMetadata().containsKey(CONTENT_ID_FIELD);
+	}
+
+	/**
+	 * Store the given content unless content with the same digest exists already and write the {@code files} document
+	 * referencing it.
+	 */
+	void store(BsonValue fileId, @Nullable String filename, InputStream content, int chunkSize,
+			@Nullable Document metadata) {
+
+		Compression compression = GridFsChunks.compressionOf(metadata);
+		MessageDigest digest = options.createDigest();
+		DigestInputStream source = new DigestInputStream(content, digest);
+		byte[] head = read(source, options.getInMemoryThreshold());
+
+		Content stored;
+		if (head.length < options.getInMemoryThreshold()) {
+
+			String key = key(digest, compression);
+			Content existing = reference(key);
+			stored = existing != null ? existing : upload(key, new ByteArrayInputStream(head), chunkSize, compression);
+		} else {
+
+			BsonObjectId contentId = new BsonObjectId(new ObjectId());
+			long length = transfer.uploadChunks(contentId,
+					new SequenceInputStream(new ByteArrayInputStream(head), source), chunkSize, compression);
+			stored = register(key(digest, compression), contentId, length, chunkSize);
+		}
+
+		Document fileMetadata = metadata != null ? new Document(metadata) : new Document();
+		fileMetadata.append(CONTENT_ID_FIELD, stored.id()).append(CONTENT_DIGEST_FIELD, stored.key());
+
+		try {
+			files.insertOne(GridFsChunks.file(fileId, filename, stored.length(), stored.chunkSize(), fileMetadata));
+		} catch (RuntimeException ex) {
+			release(stored.key());
+			throw ex;
+		}
+	}
+
+	/**
+	 * Open an {@link InputStream} reading the shared content of the given file.
+	 */
+	InputStream download(GridFSFile file) {
+		return transfer.download(contentOf(file));
+	}
+
+	/**
+	 * Open an {@link InputStream} reading up to {@code length} bytes of the shared content of the given file starting at
+	 * {@code offset}.
+	 */
+	InputStream download(GridFSFile file, long offset, long length) {
+		return transfer.download(contentOf(file), offset, length);
+	}
+
+	/**
+	 * Remove the {@code files} document of the given file and its shared content once no longer referenced.
+	 */
+	void delete(GridFSFile file) {
+
+		if (files.deleteOne(Filters.eq("_id", file.getId())).getDeletedCount() > 0 && file.getMetadata() != null) {
+			release(file.getMetadata().getString(CONTENT_DIGEST_FIELD));
+		}
+	}
+
+	/**
+	 * Identical content stored with different compression does not share chunks.
+	 */
+	private String key(MessageDigest digest, @Nullable Compression compression) {
+
+		String key = options.key(digest.digest());
+		return compression != null ? key + "+" + compression.getName() : key;
+	}
+
+	private Content upload(String key, InputStream content, int chunkSize, @Nullable Compression compression) {
+
+		BsonObjectId contentId = new BsonObjectId(new ObjectId());
+		long length = transfer.uploadChunks(contentId, content, chunkSize, compression);
+		return register(key, contentId, length, chunkSize);
+	}
+
+	private Content register(String key, BsonObjectId contentId, long length, int chunkSize) {
+
+		Content content = new Content(key, contentId.getValue(), length, chunkSize);
+
+		try {
+			contents.insertOne(content.toDocument());
+			return content;
+		} catch (MongoWriteException ex) {
+
+			transfer.deleteChunks(contentId);
+
+			if (ex.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+				throw ex;
+			}
+
+			Content existing = reference(key);
+			if (existing == null) {
+				throw new MongoGridFSException("Content %s has been removed concurrently".formatted(key), ex);
+			}
+			return existing;
+		}
+	}
+
+	private @Nullable Content reference(String key) {
+
+		Document content = contents.findOneAndUpdate(Filters.eq("_id", key), Updates.inc(REF_COUNT, 1), RETURN_UPDATED);
+		return content != null ? Content.from(content) : null;
+	}
+
+	private void release(String key) {
+
+		Document content = contents.findOneAndUpdate(Filters.eq("_id", key), Updates.inc(REF_COUNT, -1), RETURN_UPDATED);
+
+		if (content == null || content.get(REF_COUNT, Number.class).longValue() > 0) {
+			return;
+		}
+
+		if (contents.findOneAndDelete(Filters.and(Filters.eq("_id", key), Filters.lte(REF_COUNT, 0))) != null) {
+			transfer.deleteChunks(BsonUtils.simpleToBsonValue(content.get("filesId")));
+		}
+	}
+
+	private static GridFSFile contentOf(GridFSFile file) {
+
+		Object contentId = file.getMetadata() != null ? file.getMetadata().get(CONTENT_ID_FIELD) : null;
+		if (contentId == null) {
+			throw new MongoGridFSException("File %s does not reference content".formatted(file.getId()));
+		}
+
+		return new GridFSFile(BsonUtils.simpleToBsonValue(contentId), file.getFilename(), file.getLength(),
+				file.getChunkSize(), file.getUploadDate(), file.getMetadata());
+	}
+
+	private static byte[] read(InputStream content, int length) {
+
+		try {
+			return content.readNBytes(length);
+		} catch (IOException ex) {
+			throw new MongoGridFSException("IOException when reading from the InputStream", ex);
+		}
+	}
+
+	/**
+	 * Shared content stored once per digest.
+	 */
+	private record Content(String key, Object id, long length, int chunkSize) {
+
+		static Content from(Document source) {
+			return new Content(source.getString("_id"), source.get("filesId"), source.get("length", Number.class).longValue(),
+					source.get("chunkSize", Number.class).intValue());
+		}
+
+		Document toDocument() {
+			return new Document("_id", key).append("filesId", id).append("length", length).append("chunkSize", chunkSize)
+					.append(REF_COUNT, 1);
+		}
+	}
+}
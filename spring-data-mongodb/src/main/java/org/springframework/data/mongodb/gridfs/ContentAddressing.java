@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for content-addressed GridFS storage. Content is hashed while uploading and its chunks are stored once per
+ * digest. Files with identical content reference the shared content through a reference count. Content no larger than
+ * {@link #getInMemoryThreshold()} is hashed before any chunk is written so that storing a duplicate only writes the
+ * {@code files} document. Larger content is hashed while its chunks are uploaded and the chunks are discarded if the
+ * content turns out to be a duplicate.
+ *
+ * <pre class="code">
+ * gridFsTemplate.setContentAddressing(ContentAddressing.sha256().inMemoryThreshold(1024 * 1024));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class ContentAddressing {
+
+	private static final int DEFAULT_IN_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+	private final String algorithm;
+	private final int inMemoryThreshold;
+
+	private ContentAddressing(String algorithm, int inMemoryThreshold) {
+
+		this.algorithm = algorithm;
+		this.inMemoryThreshold = inMemoryThreshold;
+	}
+
+	/**
+	 * Create new {@link ContentAddressing} options using {@literal SHA-256} digests.
+	 *
+	 * @return new instance of {@link ContentAddressing}.
+	 */
+	public static ContentAddressing sha256() {
+		return using("SHA-256");
+	}
+
+	/**
+	 * Create new {@link ContentAddressing} options using the given {@link MessageDigest} algorithm.
+	 *
+	 * @param algorithm must not be {@literal null}.
+	 * @return new instance of {@link ContentAddressing}.
+	 * @throws IllegalArgumentException if the algorithm is not available.
+	 */
+	public static ContentAddressing using(String algorithm) {
+
+		Assert.hasText(algorithm, "Algorithm must not be null or empty");
+
+		try {
+			MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalArgumentException("Digest algorithm %s is not available".formatted(algorithm), ex);
+		}
+
+		return new ContentAddressing(algorithm, DEFAULT_IN_MEMORY_THRESHOLD);
+	}
+
+	/**
+	 * Set the maximum number of bytes to buffer for hashing content before writing any chunk. Defaults to
+	 * {@literal 4 MB}.
+	 *
+	 * @param inMemoryThreshold must not be negative. {@literal 0} hashes all content while uploading its chunks.
+	 * @return new instance of {@link ContentAddressing}.
+	 */
+	public ContentAddressing inMemoryThreshold(int inMemoryThreshold) {
+
+		Assert.isTrue(inMemoryThreshold >= 0, "In memory threshold must not be negative");
+		return new ContentAddressing(algorithm, inMemoryThreshold);
+	}
+
+	/**
+	 * @return the {@link MessageDigest} algorithm.
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * @return the maximum number of bytes to buffer for hashing content before writing any chunk.
+	 */
+	public int getInMemoryThreshold() {
+		return inMemoryThreshold;
+	}
+
+	MessageDigest createDigest() {
+
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * @return the content key for the given digest, e.g. {@code sha-256:9f86d0…}.
+	 */
+	String key(byte[] digest) {
+		return algorithm.toLowerCase(Locale.ROOT) + ":" + HexFormat.of().formatHex(digest);
+	}
+}
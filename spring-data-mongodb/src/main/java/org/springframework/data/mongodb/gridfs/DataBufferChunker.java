@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Stateful splitter reading {@link DataBuffer buffers} of arbitrary size into GridFS chunks of a fixed size. Readable
+ * bytes are copied once, straight into the chunk arrays, and each {@link DataBuffer} is released as soon as it has been
+ * read, so pooled buffers, for example those of Netty, go back to their pool right away.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class DataBufferChunker {
+
+	private final int chunkSize;
+	private byte[] current;
+	private int position;
+	private long length;
+
+	DataBufferChunker(int chunkSize) {
+
+		this.chunkSize = chunkSize;
+		this.current = new byte[chunkSize];
+	}
+
+	/**
+	 * Split the given content into chunks of {@code chunkSize} bytes. Only the last chunk may be shorter.
+	 *
+	 * @param content the content to split.
+	 * @param chunkSize the size of the chunks.
+	 * @return a {@link Flux} emitting the chunks.
+	 */
+	static Flux<byte[]> split(Publisher<DataBuffer> content, int chunkSize) {
+		return Flux.defer(() -> new DataBufferChunker(chunkSize).chunks(content));
+	}
+
+	/**
+	 * Split the given content into chunks. Must be subscribed to only once.
+	 */
+	Flux<byte[]> chunks(Publisher<DataBuffer> content) {
+
+		return Flux.from(content) //
+				.concatMapIterable(this::append) //
+				.concatWith(Mono.fromSupplier(this::remaining)) //
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * @return the number of bytes read so far.
+	 */
+	long length() {
+		return length;
+	}
+
+	List<byte[]> append(DataBuffer buffer) {
+
+		List<byte[]> completed = new ArrayList<>(1);
+
+		try {
+			while (buffer.readableByteCount() > 0) {
+
+				int read = Math.min(chunkSize - position, buffer.readableByteCount());
+				buffer.read(current, position, read);
+				position += read;
+				length += read;
+
+				if (position == chunkSize) {
+					completed.add(current);
+					current = new byte[chunkSize];
+					position = 0;
+				}
+			}
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+
+		return completed;
+	}
+
+	byte @Nullable [] remaining() {
+		return position == 0 ? null : Arrays.copyOf(current, position);
+	}
+}
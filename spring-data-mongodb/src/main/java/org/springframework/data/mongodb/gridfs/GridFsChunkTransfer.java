@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Blocking GridFS chunk transfer inserting and fetching batches of chunks concurrently using an {@link Executor}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ParallelChunkTransfer
+ */
+class GridFsChunkTransfer {
+
+	private final MongoCollection<Document> files;
+	private final MongoCollection<Document> chunks;
+	private final ParallelChunkTransfer options;
+	private final Executor executor;
+
+	GridFsChunkTransfer(GridFSBucket bucket, MongoDatabase database, ParallelChunkTransfer options, Executor executor) {
+
+		this.files = collection(bucket, database, ".files");
+		this.chunks = collection(bucket, database, ".chunks");
+		this.options = options;
+		this.executor = executor;
+	}
+
+	private static MongoCollection<Document> collection(GridFSBucket bucket, MongoDatabase database, String suffix) {
+		return database.getCollection(bucket.getBucketName() + suffix).withWriteConcern(bucket.getWriteConcern())
+				.withReadPreference(bucket.getReadPreference()).withReadConcern(bucket.getReadConcern());
+	}
+
+	/**
+	 * Create the indexes required by GridFS if the {@code files} collection is empty.
+	 */
+	void ensureIndexes() {
+
+		if (files.withReadPreference(ReadPreference.primary()).find().projection(new Document("_id", 1))
+				.first() != null) {
+			return;
+		}
+
+		files.createIndex(GridFsChunks.FILES_INDEX);
+		chunks.createIndex(GridFsChunks.CHUNKS_INDEX, new IndexOptions().unique(true));
+	}
+
+	/**
+	 * Read the given content in chunks of {@code chunkSize} bytes, insert them in concurrent batches and write the
+	 * {@code files} document once all chunks have been stored. Already inserted chunks are removed if the upload fails.
+	 *
+	 * @throws MongoGridFSException if the content cannot be read or a chunk cannot be stored.
+	 */
+	void upload(BsonValue fileId, @Nullable String filename, InputStream content, int chunkSize,
+			@Nullable Document metadata) {
+
+		long length = uploadChunks(fileId, content, chunkSize, GridFsChunks.compressionOf(metadata));
+		files.insertOne(GridFsChunks.file(fileId, filename, length, chunkSize, metadata));
+	}
+
+	/**
+	 * Read the given content in chunks of {@code chunkSize} bytes and insert them in concurrent batches referencing the
+	 * given {@code filesId}. Already inserted chunks are removed if the upload fails.
+	 *
+	 * @return the number of bytes stored.
+	 * @throws MongoGridFSException if the content cannot be read or a chunk cannot be stored.
+	 */
+	long uploadChunks(BsonValue filesId, InputStream content, int chunkSize) {
+		return uploadChunks(filesId, content, chunkSize, null);
+	}
+
+	/**
+	 * Read the given content in chunks of {@code chunkSize} bytes, compress each one using the given
+	 * {@link Compression} and insert them in concurrent batches referencing the given {@code filesId}.
+	 *
+	 * @return the number of uncompressed bytes stored.
+	 * @throws MongoGridFSException if the content cannot be read or a chunk cannot be stored.
+	 */
+	long uploadChunks(BsonValue filesId, InputStream content, int chunkSize, @Nullable Compression compression) {
+
+		Semaphore permits = new Semaphore(options.getParallelism());
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<CompletableFuture<Void>> inserts = new ArrayList<>();
+
+		long length = 0;
+		int n = 0;
+
+		try {
+
+			List<Document> batch = new ArrayList<>(options.getChunksPerBatch());
+			byte[] data;
+
+			while (failure.get() == null && (data = read(content, chunkSize)).length > 0) {
+
+				length += data.length;
+				batch.add(GridFsChunks.chunk(filesId, n++, data, compression));
+
+				if (batch.size() == options.getChunksPerBatch()) {
+					inserts.add(insert(batch, permits, failure));
+					batch = new ArrayList<>(options.getChunksPerBatch());
+				}
+			}
+
+			if (!batch.isEmpty() && failure.get() == null) {
+				inserts.add(insert(batch, permits, failure));
+			}
+		} catch (RuntimeException ex) {
+			failure.compareAndSet(null, ex);
+		}
+
+		awaitQuietly(inserts);
+
+		if (failure.get() != null) {
+			deleteChunks(filesId);
+			throw rethrow(failure.get());
+		}
+
+		return length;
+	}
+
+	/**
+	 * Remove all chunks referencing the given {@code filesId}.
+	 */
+	void deleteChunks(BsonValue filesId) {
+		chunks.deleteMany(GridFsChunks.chunksOf(filesId));
+	}
+
+	/**
+	 * Open an {@link InputStream} reading the content of the given file while prefetching chunk batches concurrently.
+	 * Fetching starts with the first read.
+	 */
+	InputStream download(GridFSFile file) {
+		return download(file, 0, file.getLength());
+	}
+
+	/**
+	 * Open an {@link InputStream} reading up to {@code length} bytes of the given file starting at {@code offset}. Only
+	 * the chunks covering the range are fetched.
+	 */
+	InputStream download(GridFSFile file, long offset, long length) {
+		return new PrefetchingInputStream(file, offset, length);
+	}
+
+	private CompletableFuture<Void> insert(List<Document> batch, Semaphore permits, AtomicReference<Throwable> failure) {
+
+		try {
+			permits.acquire();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MongoGridFSException("Interrupted while uploading chunks", ex);
+		}
+
+		return CompletableFuture.runAsync(() -> chunks.insertMany(batch, new InsertManyOptions().ordered(false)), executor)
+				.whenComplete((result, ex) -> {
+					permits.release();
+					if (ex != null) {
+						failure.compareAndSet(null, ex);
+					}
+				});
+	}
+
+	private static byte[] read(InputStream content, int chunkSize) {
+
+		try {
+			return content.readNBytes(chunkSize);
+		} catch (IOException ex) {
+			throw new MongoGridFSException("IOException when reading from the InputStream", ex);
+		}
+	}
+
+	private static void awaitQuietly(List<CompletableFuture<Void>> inserts) {
+		CompletableFuture.allOf(inserts.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+	}
+
+	private static RuntimeException rethrow(Throwable ex) {
+
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		return cause instanceof RuntimeException runtimeException ? runtimeException
+				: new MongoGridFSException("Failed to transfer chunks", cause);
+	}
+
+	/**
+	 * {@link InputStream} over a byte range of a file keeping up to {@link ParallelChunkTransfer#getParallelism()} chunk
+	 * batches in flight.
+	 */
+	class PrefetchingInputStream extends InputStream {
+
+		private final GridFSFile file;
+		private final int endChunk;
+		private final Deque<CompletableFuture<List<byte[]>>> pending = new ArrayDeque<>();
+
+		private Iterator<byte[]> batch = Collections.emptyIterator();
+		private byte[] current = new byte[0];
+		private int position;
+		private int skip;
+		private long remaining;
+		private int nextChunk;
+		private boolean closed;
+
+		PrefetchingInputStream(GridFSFile file, long offset, long length) {
+
+			this.file = file;
+			this.remaining = Math.max(0, Math.min(length, file.getLength() - offset));
+
+			if (remaining == 0) {
+				this.endChunk = 0;
+				return;
+			}
+
+			this.nextChunk = Math.toIntExact(offset / file.getChunkSize());
+			this.skip = Math.toIntExact(offset % file.getChunkSize());
+			this.endChunk = Math.toIntExact((offset + remaining + file.getChunkSize() - 1) / file.getChunkSize());
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			if (!advance()) {
+				return -1;
+			}
+
+			remaining--;
+			return current[position++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			if (len == 0) {
+				return 0;
+			}
+
+			if (!advance()) {
+				return -1;
+			}
+
+			int read = (int) Math.min(Math.min(len, current.length - position), remaining);
+			System.arraycopy(current, position, b, off, read);
+			position += read;
+			remaining -= read;
+			return read;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(current.length - position, remaining);
+		}
+
+		@Override
+		public void close() {
+
+			closed = true;
+			pending.forEach(it -> it.cancel(true));
+			pending.clear();
+		}
+
+		private boolean advance() throws IOException {
+
+			if (closed) {
+				throw new IOException("Stream already closed");
+			}
+
+			if (remaining == 0) {
+				return false;
+			}
+
+			while (position == current.length) {
+
+				if (batch.hasNext()) {
+					current = batch.next();
+					position = Math.min(skip, current.length);
+					skip = 0;
+					continue;
+				}
+
+				prefetch();
+
+				CompletableFuture<List<byte[]>> next = pending.poll();
+				if (next == null) {
+					return false;
+				}
+
+				try {
+					batch = next.join().iterator();
+				} catch (CompletionException ex) {
+					close();
+					throw rethrow(ex);
+				}
+				prefetch();
+			}
+
+			return true;
+		}
+
+		private void prefetch() {
+
+			while (pending.size() < options.getParallelism() && nextChunk < endChunk) {
+
+				int from = nextChunk;
+				int to = Math.min(from + options.getChunksPerBatch(), endChunk);
+				nextChunk = to;
+
+				pending.add(CompletableFuture.supplyAsync(() -> fetch(from, to), executor));
+			}
+		}
+
+		private List<byte[]> fetch(int from, int to) {
+
+			List<Document> documents = chunks.find(GridFsChunks.chunksOf(file.getId(), from, to))
+					.sort(GridFsChunks.CHUNK_ORDER).into(new ArrayList<>(to - from));
+			return GridFsChunks.data(documents, file, from, to);
+		}
+	}
+}
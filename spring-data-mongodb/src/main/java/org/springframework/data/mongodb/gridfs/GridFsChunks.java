@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Utility methods to read and write GridFS {@code files} and {@code chunks} documents in the layout used by the MongoDB
+ * drivers.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+final class GridFsChunks {
+
+	static final String FILES_ID = "files_id";
+	static final String COMPRESSION_FIELD = "_compression";
+	static final Document FILES_INDEX = new Document("filename", 1).append("uploadDate", 1);
+	static final Document CHUNKS_INDEX = new Document(FILES_ID, 1).append("n", 1);
+	static final Bson CHUNK_ORDER = Sorts.ascending("n");
+
+	private GridFsChunks() {}
+
+	/**
+	 * Create a {@code chunks} document.
+	 */
+	static Document chunk(BsonValue fileId, int n, byte[] data) {
+		return chunk(fileId, n, data, null);
+	}
+
+	/**
+	 * Create a {@code chunks} document compressing the data with the given {@link Compression}.
+	 */
+	static Document chunk(BsonValue fileId, int n, byte[] data, @Nullable Compression compression) {
+
+		byte[] content = compression != null ? compression.compress(data) : data;
+		return new Document("_id", new ObjectId()).append(FILES_ID, fileId).append("n", n).append("data",
+				new Binary(content));
+	}
+
+	/**
+	 * @return the {@link Compression} recorded in the given file metadata or {@literal null} if not compressed.
+	 */
+	static @Nullable Compression compressionOf(@Nullable Document metadata) {
+		return metadata != null && metadata.get(COMPRESSION_FIELD) instanceof String name ? Compression.of(name) : null;
+	}
+
+	/**
+	 * @return {@literal true} if the chunks of the given file are compressed.
+	 */
+	static boolean isCompressed(GridFSFile file) {
+		return compressionOf(file.getMetadata()) != null;
+	}
+
+	/**
+	 * Create a {@code files} document.
+	 */
+	static Document file(BsonValue fileId, @Nullable String filename, long length, int chunkSize,
+			@Nullable Document metadata) {
+
+		Document file = new Document("_id", fileId).append("filename", filename).append("length", length)
+				.append("chunkSize", chunkSize).append("uploadDate", new Date());
+
+		if (metadata != null) {
+			file.append("metadata", metadata);
+		}
+		return file;
+	}
+
+	/**
+	 * Filter for all chunks of the given file.
+	 */
+	static Bson chunksOf(BsonValue fileId) {
+		return Filters.eq(FILES_ID, fileId);
+	}
+
+	/**
+	 * Filter for the chunks of the given file within the range {@code [from, to)}.
+	 */
+	static Bson chunksOf(BsonValue fileId, int from, int to) {
+		return Filters.and(Filters.eq(FILES_ID, fileId), Filters.gte("n", from), Filters.lt("n", to));
+	}
+
+	/**
+	 * @return the number of chunks of the given file.
+	 */
+	static int numberOfChunks(GridFSFile file) {
+		return file.getChunkSize() == 0 ? 0 : Math.toIntExact((file.getLength() + file.getChunkSize() - 1) / file.getChunkSize());
+	}
+
+	/**
+	 * Extract the data of the given chunks ordered by {@code n} verifying that the chunks {@code [from, to)} are complete.
+	 *
+	 * @throws MongoGridFSException if chunks are missing or their size does not match the file.
+	 */
+	static List<byte[]> data(List<Document> chunks, GridFSFile file, int from, int to) {
+
+		int last = numberOfChunks(file) - 1;
+		Compression compression = compressionOf(file.getMetadata());
+		List<byte[]> data = new ArrayList<>(to - from);
+
+		for (int n = from; n < to; n++) {
+
+			Document chunk = n - from < chunks.size() ? chunks.get(n - from) : null;
+			if (chunk == null || !(chunk.get("n") instanceof Number index) || index.intValue() != n) {
+				throw new MongoGridFSException(
+						"Could not find file chunk for file_id: %s at chunk index %s".formatted(file.getId(), n));
+			}
+
+			byte[] bytes = chunk.get("data") instanceof Binary binary ? binary.getData() : new byte[0];
+			if (compression != null) {
+				bytes = compression.decompress(bytes);
+			}
+			long expected = n < last ? file.getChunkSize() : file.getLength() - (long) last * file.getChunkSize();
+
+			if (bytes.length != expected) {
+				throw new MongoGridFSException(
+						"Chunk size data length is not the expected size. The size was %s for file_id: %s chunk index %s it should be %s bytes"
+								.formatted(bytes.length, file.getId(), n, expected));
+			}
+			data.add(bytes);
+		}
+
+		return data;
+	}
+}
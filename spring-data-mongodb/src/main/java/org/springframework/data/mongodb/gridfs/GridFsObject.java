@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.gridfs;
 
 import org.bson.Document;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import org.springframework.lang.Contract;
@@ -120,12 +121,40 @@ public interface GridFsObject<ID, CONTENT> {
 		}
 
 		/**
+		 * Set the file metadata. A {@link #compression(Compression) compression} configured before is retained unless the
+		 * given metadata records a compression itself.
+		 *
 		 * @param metadata
 		 * @return new instance of {@link Options}.
 		 */
 		@Contract("_ -> new")
 		public Options metadata(Document metadata) {
-			return new Options(metadata, chunkSize);
+
+			if (this.metadata == null || !this.metadata.containsKey(GridFsChunks.COMPRESSION_FIELD)
+					|| metadata.containsKey(GridFsChunks.COMPRESSION_FIELD)) {
+				return new Options(metadata, chunkSize);
+			}
+
+			Options target = new Options(new Document(metadata), chunkSize);
+			target.metadata.put(GridFsChunks.COMPRESSION_FIELD, this.metadata.get(GridFsChunks.COMPRESSION_FIELD));
+			return target;
+		}
+
+		/**
+		 * Compress each chunk with the given {@link Compression}. The {@link Compression#getName() name} is recorded in the
+		 * file metadata and chunks are decompressed transparently on read. Requires chunks to be written by the template
+		 * instead of the driver.
+		 *
+		 * @param compression must not be {@literal null}.
+		 * @return new instance of {@link Options}.
+		 * @since 5.2
+		 */
+		@Contract("_ -> new")
+		public Options compression(Compression compression) {
+
+			Options target = new Options(new Document(metadata), chunkSize);
+			target.metadata.put(GridFsChunks.COMPRESSION_FIELD, compression.getName());
+			return target;
 		}
 
 		/**
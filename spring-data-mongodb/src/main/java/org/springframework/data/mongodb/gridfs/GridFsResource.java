@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
@@ -45,6 +46,7 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 	private final @Nullable GridFSFile file;
 	private final String filename;
+	private final @Nullable RangeReader rangeReader;
 
 	/**
 	 * Creates a new, absent {@link GridFsResource}.
@@ -58,6 +60,7 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 
 		this.file = null;
 		this.filename = filename;
+		this.rangeReader = null;
 	}
 
 	/**
@@ -76,11 +79,25 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 	 * @param inputStream must not be {@literal null}.
 	 */
 	public GridFsResource(GridFSFile file, InputStream inputStream) {
+		this(file, inputStream, null);
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} from the given {@link GridFSFile} and {@link InputStream} using the given
+	 * {@link RangeReader} for {@link #read(long, long) ranged reads}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param inputStream must not be {@literal null}.
+	 * @param rangeReader can be {@literal null} to read ranges from the {@link InputStream}.
+	 * @since 5.2
+	 */
+	GridFsResource(GridFSFile file, InputStream inputStream, @Nullable RangeReader rangeReader) {
 
 		super(inputStream, String.format("GridFs resource [%s]", file.getFilename()));
 
 		this.file = file;
 		this.filename = file.getFilename();
+		this.rangeReader = rangeReader;
 	}
 
 	/**
@@ -104,6 +121,42 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 		return super.getInputStream();
 	}
 
+	/**
+	 * Read up to {@code length} bytes of the content starting at {@code offset}. Resources obtained from
+	 * {@link GridFsTemplate} fetch only the chunks covering the range and may be read repeatedly. Otherwise, the range is
+	 * read from the {@link #getInputStream() InputStream} that can be consumed only once.
+	 *
+	 * @param offset the position of the first byte to read, must not be negative.
+	 * @param length the maximum number of bytes to read, must not be negative.
+	 * @return the {@link InputStream} to read the range from. Empty if {@code offset} exceeds the content length.
+	 * @throws IOException if the content cannot be read.
+	 * @since 5.2
+	 */
+	public InputStream read(long offset, long length) throws IOException {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative");
+		Assert.isTrue(length >= 0, "Length must not be negative");
+
+		long contentLength = contentLength();
+		long position = Math.min(offset, contentLength);
+
+		return getRangeReader().read(position, Math.min(length, contentLength - position));
+	}
+
+	/**
+	 * Obtain a read-only {@link SeekableByteChannel} over the content. Resources obtained from {@link GridFsTemplate}
+	 * fetch only the chunks covering the current position. Otherwise, the channel reads from the
+	 * {@link #getInputStream() InputStream} and cannot move backwards once read.
+	 *
+	 * @return a new {@link SeekableByteChannel}.
+	 * @throws IOException if the file does not {@link #exists()}.
+	 * @since 5.2
+	 */
+	@Override
+	public SeekableByteChannel readableChannel() throws IOException {
+		return new GridFsSeekableByteChannel(getRangeReader(), contentLength());
+	}
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public long contentLength() throws IOException {
@@ -197,10 +250,124 @@ public class GridFsResource extends InputStreamResource implements GridFsObject<
 		return Options.from(getGridFSFile());
 	}
 
+	private RangeReader getRangeReader() throws IOException {
+
+		verifyExists();
+		return rangeReader != null ? rangeReader : RangeReader.sequential(super.getInputStream());
+	}
+
 	private void verifyExists() throws FileNotFoundException {
 
 		if (!exists()) {
 			throw new FileNotFoundException(String.format("%s does not exist.", getDescription()));
 		}
 	}
+
+	/**
+	 * Strategy to read a byte range of the content.
+	 *
+	 * @since 5.2
+	 */
+	@FunctionalInterface
+	interface RangeReader {
+
+		/**
+		 * Read up to {@code length} bytes starting at {@code offset}.
+		 *
+		 * @param offset the position of the first byte to read.
+		 * @param length the maximum number of bytes to read.
+		 * @return the {@link InputStream} to read the range from.
+		 * @throws IOException if the range cannot be read.
+		 */
+		InputStream read(long offset, long length) throws IOException;
+
+		/**
+		 * Create a {@link RangeReader} reading ranges from the given {@link InputStream} by skipping forward. Reading a
+		 * range before an already read one fails.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @return new instance of {@link RangeReader}.
+		 */
+		static RangeReader sequential(InputStream source) {
+			return new SequentialRangeReader(source, false);
+		}
+	}
+
+	/**
+	 * {@link RangeReader} skipping forward through an {@link InputStream}.
+	 */
+	static class SequentialRangeReader implements RangeReader {
+
+		private final InputStream source;
+		private final boolean closeSource;
+		private long position;
+
+		/**
+		 * @param source the content to read ranges from.
+		 * @param closeSource whether to close {@code source} when closing a range.
+		 */
+		SequentialRangeReader(InputStream source, boolean closeSource) {
+
+			this.source = source;
+			this.closeSource = closeSource;
+		}
+
+		@Override
+		public InputStream read(long offset, long length) throws IOException {
+
+			if (offset < position) {
+				throw new IOException(
+						"Cannot read range starting at %s; Content has already been read up to %s".formatted(offset, position));
+			}
+
+			source.skipNBytes(offset - position);
+			position = offset;
+
+			return new InputStream() {
+
+				long remaining = length;
+
+				@Override
+				public int read() throws IOException {
+
+					if (remaining <= 0) {
+						return -1;
+					}
+
+					int read = source.read();
+					if (read >= 0) {
+						remaining--;
+						position++;
+					}
+					return read;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+
+					if (len == 0) {
+						return 0;
+					}
+					if (remaining <= 0) {
+						return -1;
+					}
+
+					int read = source.read(b, off, (int) Math.min(len, remaining));
+					if (read > 0) {
+						remaining -= read;
+						position += read;
+					}
+					return read;
+				}
+
+				@Override
+				public void close() throws IOException {
+
+					if (closeSource) {
+						source.close();
+					}
+				}
+			};
+		}
+	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.gridfs.GridFsResource.RangeReader;
+
+/**
+ * Read-only {@link SeekableByteChannel} over GridFS content. Reading starts a ranged read at the current position that
+ * is continued until the position is changed.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class GridFsSeekableByteChannel implements SeekableByteChannel {
+
+	private final RangeReader reader;
+	private final long size;
+
+	private long position;
+	private @Nullable InputStream stream;
+	private @Nullable ReadableByteChannel channel;
+	private boolean open = true;
+
+	GridFsSeekableByteChannel(RangeReader reader, long size) {
+
+		this.reader = reader;
+		this.size = size;
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+
+		ensureOpen();
+
+		if (position >= size) {
+			return -1;
+		}
+
+		if (channel == null) {
+			stream = reader.read(position, size - position);
+			channel = Channels.newChannel(stream);
+		}
+
+		int read = channel.read(dst);
+		if (read > 0) {
+			position += read;
+		}
+		return read;
+	}
+
+	@Override
+	public int write(ByteBuffer src) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public long position() throws IOException {
+
+		ensureOpen();
+		return position;
+	}
+
+	@Override
+	public SeekableByteChannel position(long newPosition) throws IOException {
+
+		ensureOpen();
+
+		if (newPosition < 0) {
+			throw new IllegalArgumentException("Position must not be negative");
+		}
+
+		if (newPosition != position) {
+			closeStream();
+			position = newPosition;
+		}
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+
+		ensureOpen();
+		return size;
+	}
+
+	@Override
+	public SeekableByteChannel truncate(long size) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		open = false;
+		closeStream();
+	}
+
+	private void closeStream() throws IOException {
+
+		InputStream current = stream;
+		stream = null;
+		channel = null;
+
+		if (current != null) {
+			current.close();
+		}
+	}
+
+	private void ensureOpen() throws ClosedChannelException {
+
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+	}
+}
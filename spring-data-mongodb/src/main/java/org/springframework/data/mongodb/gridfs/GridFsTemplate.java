@@ -22,15 +22,20 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsResource.SequentialRangeReader;
 import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
@@ -59,6 +64,12 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOperations, ResourcePatternResolver {
 
 	private final Supplier<GridFSBucket> bucketSupplier;
+	private final @Nullable MongoDatabaseFactory dbFactory;
+
+	private @Nullable ParallelChunkTransfer parallelChunkTransfer;
+	private @Nullable ContentAddressing contentAddressing;
+	private @Nullable Executor defaultExecutor;
+	private volatile boolean indexesChecked;
 
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDatabaseFactory} and {@link MongoConverter}.
@@ -86,7 +97,7 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 	 * @param bucket can be {@literal null}.
 	 */
 	public GridFsTemplate(MongoDatabaseFactory dbFactory, MongoConverter converter, @Nullable String bucket) {
-		this(converter, Lazy.of(() -> getGridFs(dbFactory, bucket)));
+		this(converter, Lazy.of(() -> getGridFs(dbFactory, bucket)), dbFactory);
 	}
 
 	/**
@@ -98,12 +109,52 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 	 * @since 4.2
 	 */
 	public GridFsTemplate(MongoConverter converter, Supplier<GridFSBucket> gridFSBucket) {
+		this(converter, gridFSBucket, null);
+	}
+
+	private GridFsTemplate(MongoConverter converter, Supplier<GridFSBucket> gridFSBucket,
+			@Nullable MongoDatabaseFactory dbFactory) {
 
 		super(converter);
 
 		Assert.notNull(gridFSBucket, "GridFSBucket supplier must not be null");
 
 		this.bucketSupplier = gridFSBucket;
+		this.dbFactory = dbFactory;
+	}
+
+	/**
+	 * Configure {@link ParallelChunkTransfer} to upload and download chunks in concurrent batches instead of sequentially
+	 * through the driver. Requires the template to be created with a {@link MongoDatabaseFactory}.
+	 *
+	 * @param parallelChunkTransfer can be {@literal null} to use sequential chunk transfer.
+	 * @throws IllegalStateException if the template has been created with a {@link GridFSBucket} {@link Supplier}.
+	 * @since 5.2
+	 */
+	public void setParallelChunkTransfer(@Nullable ParallelChunkTransfer parallelChunkTransfer) {
+
+		Assert.state(parallelChunkTransfer == null || dbFactory != null,
+				"Parallel chunk transfer requires a GridFsTemplate created with a MongoDatabaseFactory");
+
+		this.parallelChunkTransfer = parallelChunkTransfer;
+	}
+
+	/**
+	 * Configure {@link ContentAddressing} to store the content of files once per digest. Files with identical content
+	 * share their chunks, and chunks are removed once the last file referencing them is deleted. Requires the template to
+	 * be created with a {@link MongoDatabaseFactory}. Files stored this way cannot be read through the plain
+	 * {@link GridFSBucket}.
+	 *
+	 * @param contentAddressing can be {@literal null} to store the content of each file separately.
+	 * @throws IllegalStateException if the template has been created with a {@link GridFSBucket} {@link Supplier}.
+	 * @since 5.2
+	 */
+	public void setContentAddressing(@Nullable ContentAddressing contentAddressing) {
+
+		Assert.state(contentAddressing == null || dbFactory != null,
+				"Content addressing requires a GridFsTemplate created with a MongoDatabaseFactory");
+
+		this.contentAddressing = contentAddressing;
 	}
 
 	@Override
@@ -123,6 +174,15 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 			uploadOptions.chunkSizeBytes(upload.getOptions().getChunkSize());
 		}
 
+		if (parallelChunkTransfer != null || contentAddressing != null
+				|| GridFsChunks.compressionOf(uploadOptions.getMetadata()) != null) {
+
+			BsonValue fileId = upload.getFileId() != null ? BsonUtils.simpleToBsonValue(upload.getFileId())
+					: new BsonObjectId(new ObjectId());
+			storeChunks(fileId, upload.getFilename(), upload.getContent(), uploadOptions);
+			return upload.getFileId() != null ? upload.getFileId() : (T) fileId.asObjectId().getValue();
+		}
+
 		if (upload.getFileId() == null) {
 			return (T) getGridFs().uploadFromStream(upload.getFilename(), upload.getContent(), uploadOptions);
 		}
@@ -162,7 +222,12 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 	public void delete(Query query) {
 
 		for (GridFSFile gridFSFile : find(query)) {
-			getGridFs().delete(gridFSFile.getId());
+
+			if (ContentAddressedStore.isContentAddressed(gridFSFile)) {
+				getContentAddressedStore().delete(gridFSFile);
+			} else {
+				getGridFs().delete(gridFSFile.getId());
+			}
 		}
 	}
 
@@ -184,7 +249,25 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 
 		Assert.notNull(file, "GridFSFile must not be null");
 
-		return new GridFsResource(file, getGridFs().openDownloadStream(file.getId()));
+		if (dbFactory != null && ContentAddressedStore.isContentAddressed(file)) {
+
+			ContentAddressedStore store = getContentAddressedStore();
+			return new GridFsResource(file, store.download(file), (offset, length) -> store.download(file, offset, length));
+		}
+
+		if (dbFactory != null) {
+
+			GridFsChunkTransfer transfer = getChunkTransfer();
+			InputStream content = parallelChunkTransfer != null || GridFsChunks.isCompressed(file)
+					? transfer.download(file)
+					: getGridFs().openDownloadStream(file.getId());
+
+			return new GridFsResource(file, content, (offset, length) -> transfer.download(file, offset, length));
+		}
+
+		return new GridFsResource(file, getGridFs().openDownloadStream(file.getId()),
+				(offset, length) -> new SequentialRangeReader(getGridFs().openDownloadStream(file.getId()), true).read(offset,
+						length));
 	}
 
 	@Override
@@ -215,6 +298,64 @@ public class GridFsTemplate extends GridFsOperationsSupport implements GridFsOpe
 		return this.bucketSupplier.get();
 	}
 
+	private void storeChunks(BsonValue fileId, @Nullable String filename, InputStream content,
+			GridFSUploadOptions uploadOptions) {
+
+		GridFsChunkTransfer transfer = getChunkTransfer();
+
+		if (!indexesChecked) {
+			transfer.ensureIndexes();
+			indexesChecked = true;
+		}
+
+		Integer chunkSize = uploadOptions.getChunkSizeBytes();
+		int chunkSizeBytes = chunkSize != null ? chunkSize : getGridFs().getChunkSizeBytes();
+
+		if (contentAddressing != null) {
+			getContentAddressedStore().store(fileId, filename, content, chunkSizeBytes,
+					uploadOptions.getMetadata());
+		} else {
+			transfer.upload(fileId, filename, content, chunkSizeBytes, uploadOptions.getMetadata());
+		}
+	}
+
+	private ContentAddressedStore getContentAddressedStore() {
+
+		Assert.state(dbFactory != null, "Content addressing requires a MongoDatabaseFactory");
+
+		// reading and deleting content-addressed files does not depend on the configured digest
+		return new ContentAddressedStore(getGridFs(), dbFactory.getMongoDatabase(), getChunkTransfer(),
+				contentAddressing != null ? contentAddressing : ContentAddressing.sha256());
+	}
+
+	private GridFsChunkTransfer getChunkTransfer() {
+		return getChunkTransfer(parallelChunkTransfer != null ? parallelChunkTransfer : ParallelChunkTransfer.SEQUENTIAL);
+	}
+
+	private GridFsChunkTransfer getChunkTransfer(ParallelChunkTransfer options) {
+
+		Assert.state(dbFactory != null,
+				"Parallel chunk transfer and chunk compression require a GridFsTemplate created with a MongoDatabaseFactory");
+
+		Executor executor = options.getExecutor();
+		if (executor == null) {
+			executor = getDefaultExecutor();
+		}
+
+		return new GridFsChunkTransfer(getGridFs(), dbFactory.getMongoDatabase(), options, executor);
+	}
+
+	private synchronized Executor getDefaultExecutor() {
+
+		if (defaultExecutor == null) {
+
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("gridfs-");
+			executor.setDaemon(true);
+			defaultExecutor = executor;
+		}
+		return defaultExecutor;
+	}
+
 	private static GridFSBucket getGridFs(MongoDatabaseFactory dbFactory, @Nullable String bucket) {
 
 		Assert.notNull(dbFactory, "MongoDatabaseFactory must not be null");
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
@@ -177,7 +178,7 @@ public class GridFsUpload<ID> implements GridFsObject<ID, InputStream> {
 		}
 
 		/**
-		 * Set the file metadata.
+		 * Set the file metadata. A {@link #compression(Compression) compression} set before is retained.
 		 *
 		 * @param metadata must not be {@literal null}.
 		 * @return this.
@@ -234,6 +235,21 @@ public class GridFsUpload<ID> implements GridFsObject<ID, InputStream> {
 			return this;
 		}
 
+		/**
+		 * Compress each chunk with the given {@link Compression}.
+		 *
+		 * @param compression must not be {@literal null}.
+		 * @return this.
+		 * @since 5.2
+		 * @see Options#compression(Compression)
+		 */
+		@Contract("_ -> this")
+		public GridFsUploadBuilder<T> compression(Compression compression) {
+
+			this.options = this.options.compression(compression);
+			return this;
+		}
+
 		@Contract("-> new")
 		public GridFsUpload<T> build() {
 
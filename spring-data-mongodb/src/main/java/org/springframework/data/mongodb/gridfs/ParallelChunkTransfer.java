@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for transferring GridFS chunks in parallel. Uploads read ahead and insert up to {@link #getParallelism()}
+ * batches of {@link #getChunksPerBatch()} chunks concurrently, each with a single {@code insertMany}, and write the
+ * {@code files} document once all chunks are stored so that the file becomes visible atomically. Downloads prefetch up
+ * to {@link #getParallelism()} batches of chunks concurrently while preserving their order.
+ *
+ * <pre class="code">
+ * gridFsTemplate.setParallelChunkTransfer(ParallelChunkTransfer.of(4).chunksPerBatch(8));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class ParallelChunkTransfer {
+
+	/**
+	 * Fetch chunk batches one after another on the calling thread.
+	 */
+	static final ParallelChunkTransfer SEQUENTIAL = new ParallelChunkTransfer(1, 4, Runnable::run);
+
+	private final int parallelism;
+	private final int chunksPerBatch;
+	private final @Nullable Executor executor;
+
+	private ParallelChunkTransfer(int parallelism, int chunksPerBatch, @Nullable Executor executor) {
+
+		this.parallelism = parallelism;
+		this.chunksPerBatch = chunksPerBatch;
+		this.executor = executor;
+	}
+
+	/**
+	 * Create new {@link ParallelChunkTransfer} options transferring up to the given number of chunk batches concurrently
+	 * using batches of {@literal 4} chunks.
+	 *
+	 * @param parallelism must be greater than zero.
+	 * @return new instance of {@link ParallelChunkTransfer}.
+	 */
+	public static ParallelChunkTransfer of(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+		return new ParallelChunkTransfer(parallelism, 4, null);
+	}
+
+	/**
+	 * Set the number of chunks to insert or fetch with a single command.
+	 *
+	 * @param chunksPerBatch must be greater than zero.
+	 * @return new instance of {@link ParallelChunkTransfer}.
+	 */
+	public ParallelChunkTransfer chunksPerBatch(int chunksPerBatch) {
+
+		Assert.isTrue(chunksPerBatch > 0, "Chunks per batch must be greater than zero");
+		return new ParallelChunkTransfer(parallelism, chunksPerBatch, executor);
+	}
+
+	/**
+	 * Set the {@link Executor} to run blocking chunk transfers of {@link GridFsTemplate} with. Not used by
+	 * {@link ReactiveGridFsTemplate}. Defaults to a {@link org.springframework.core.task.SimpleAsyncTaskExecutor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return new instance of {@link ParallelChunkTransfer}.
+	 */
+	public ParallelChunkTransfer executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+		return new ParallelChunkTransfer(parallelism, chunksPerBatch, executor);
+	}
+
+	/**
+	 * @return the maximum number of chunk batches transferred concurrently.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the number of chunks transferred with a single command.
+	 */
+	public int getChunksPerBatch() {
+		return chunksPerBatch;
+	}
+
+	/**
+	 * @return the {@link Executor} to use or {@literal null} to use the default one.
+	 */
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
+import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
+
+/**
+ * Reactive GridFS chunk transfer inserting and fetching batches of chunks concurrently.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ParallelChunkTransfer
+ */
+class ReactiveGridFsChunkTransfer {
+
+	private final MongoCollection<Document> files;
+	private final MongoCollection<Document> chunks;
+	private final ParallelChunkTransfer options;
+
+	ReactiveGridFsChunkTransfer(GridFSBucket bucket, MongoDatabase database, ParallelChunkTransfer options) {
+
+		this.files = collection(bucket, database, ".files");
+		this.chunks = collection(bucket, database, ".chunks");
+		this.options = options;
+	}
+
+	private static MongoCollection<Document> collection(GridFSBucket bucket, MongoDatabase database, String suffix) {
+		return database.getCollection(bucket.getBucketName() + suffix).withWriteConcern(bucket.getWriteConcern())
+				.withReadPreference(bucket.getReadPreference()).withReadConcern(bucket.getReadConcern());
+	}
+
+	/**
+	 * Create the indexes required by GridFS if the {@code files} collection is empty.
+	 */
+	Mono<Void> ensureIndexes() {
+
+		return Mono.from(files.withReadPreference(ReadPreference.primary()).find().projection(new Document("_id", 1)).first())
+				.hasElement() //
+				.flatMap(hasFiles -> hasFiles ? Mono.empty()
+						: Mono.from(files.createIndex(GridFsChunks.FILES_INDEX))
+								.then(Mono.from(chunks.createIndex(GridFsChunks.CHUNKS_INDEX, new IndexOptions().unique(true)))))
+				.then();
+	}
+
+	/**
+	 * Split the given content into chunks of {@code chunkSize} bytes, insert them in concurrent batches and write the
+	 * {@code files} document once all chunks have been stored. Consumed {@link DataBuffer buffers} are released. Already
+	 * inserted chunks are removed if the upload fails or is cancelled. Removal waits for in-flight inserts to terminate
+	 * so that no chunk is inserted after the cleanup.
+	 */
+	Mono<Void> upload(BsonValue fileId, @Nullable String filename, Publisher<DataBuffer> content, int chunkSize,
+			@Nullable Document metadata) {
+
+		return Mono.defer(() -> {
+
+			DataBufferChunker chunker = new DataBufferChunker(chunkSize);
+			Compression compression = GridFsChunks.compressionOf(metadata);
+			AtomicInteger n = new AtomicInteger();
+			Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+			return chunker.chunks(content) //
+					.map(data -> GridFsChunks.chunk(fileId, n.getAndIncrement(), data, compression)) //
+					.buffer(options.getChunksPerBatch()) //
+					.flatMap(batch -> insert(batch, inFlight), options.getParallelism()) //
+					.then(Mono.defer(() -> Mono.from(
+							files.insertOne(GridFsChunks.file(fileId, filename, chunker.length(), chunkSize, metadata))))) //
+					.then() //
+					.onErrorResume(ex -> removeChunks(fileId, inFlight).then(Mono.error(ex))) //
+					.doOnCancel(() -> removeChunks(fileId, inFlight).subscribe());
+		});
+	}
+
+	/**
+	 * Insert the given batch. The insert is not cancelled along with the upload but tracked in {@code inFlight} until it
+	 * terminates.
+	 */
+	private Mono<Void> insert(List<Document> batch, Set<CompletableFuture<?>> inFlight) {
+
+		CompletableFuture<?> insert = Mono.from(chunks.insertMany(batch, new InsertManyOptions().ordered(false)))
+				.toFuture();
+		inFlight.add(insert);
+		insert.whenComplete((result, ex) -> inFlight.remove(insert));
+
+		return Mono.fromFuture(insert, true).then();
+	}
+
+	private Mono<Void> removeChunks(BsonValue fileId, Set<CompletableFuture<?>> inFlight) {
+
+		return Flux.fromIterable(List.copyOf(inFlight)) //
+				.flatMap(it -> Mono.fromFuture(it, true).onErrorComplete()) //
+				.then(Mono.defer(() -> Mono.from(chunks.deleteMany(GridFsChunks.chunksOf(fileId))))) //
+				.onErrorComplete() //
+				.then();
+	}
+
+	/**
+	 * Create a {@link GridFSDownloadPublisher} emitting the content of the given file while prefetching chunk batches
+	 * concurrently.
+	 */
+	GridFSDownloadPublisher download(GridFSFile file) {
+		return download(file, 0, file.getLength());
+	}
+
+	/**
+	 * Create a {@link GridFSDownloadPublisher} emitting up to {@code length} bytes of the given file starting at
+	 * {@code offset}. Only the chunks covering the range are fetched.
+	 */
+	GridFSDownloadPublisher download(GridFSFile file, long offset, long length) {
+
+		long end = offset + Math.max(0, Math.min(length, file.getLength() - offset));
+		if (end <= offset) {
+			return new ChunkDownloadPublisher(file, Flux.empty());
+		}
+
+		int chunkSize = file.getChunkSize();
+		int firstChunk = Math.toIntExact(offset / chunkSize);
+		int endChunk = Math.toIntExact((end + chunkSize - 1) / chunkSize);
+		int batchSize = options.getChunksPerBatch();
+
+		Flux<ByteBuffer> content = Flux.range(0, (endChunk - firstChunk + batchSize - 1) / batchSize) //
+				.flatMapSequential(batch -> {
+
+					int from = firstChunk + batch * batchSize;
+					int to = Math.min(from + batchSize, endChunk);
+
+					return Flux.from(chunks.find(GridFsChunks.chunksOf(file.getId(), from, to)).sort(GridFsChunks.CHUNK_ORDER))
+							.collectList() //
+							.map(documents -> GridFsChunks.data(documents, file, from, to)) //
+							.flatMapIterable(data -> slice(data, from, chunkSize, offset, end));
+				}, options.getParallelism(), 1);
+
+		return new ChunkDownloadPublisher(file, content);
+	}
+
+	private static List<ByteBuffer> slice(List<byte[]> chunks, int from, int chunkSize, long offset, long end) {
+
+		List<ByteBuffer> buffers = new ArrayList<>(chunks.size());
+
+		for (int i = 0; i < chunks.size(); i++) {
+
+			byte[] data = chunks.get(i);
+			long start = (long) (from + i) * chunkSize;
+			int lower = (int) Math.max(offset - start, 0);
+			int upper = (int) Math.min(end - start, data.length);
+
+			buffers.add(ByteBuffer.wrap(data, lower, upper - lower).slice());
+		}
+
+		return buffers;
+	}
+
+	private record ChunkDownloadPublisher(GridFSFile file,
+			Flux<ByteBuffer> content) implements GridFSDownloadPublisher {
+
+		@Override
+		public Publisher<GridFSFile> getGridFSFile() {
+			return Mono.just(file);
+		}
+
+		@Override
+		public GridFSDownloadPublisher bufferSizeBytes(int bufferSizeBytes) {
+			return this;
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+			content.subscribe(subscriber);
+		}
+	}
+}
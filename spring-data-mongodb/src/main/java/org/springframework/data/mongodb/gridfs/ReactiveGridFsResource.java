@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bson.BsonValue;
@@ -52,6 +53,7 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	private final String filename;
 	private final @Nullable GridFSDownloadPublisher downloadPublisher;
 	private final DataBufferFactory dataBufferFactory;
+	private final @Nullable RangeReader rangeReader;
 
 	/**
 	 * Creates a new, absent {@link ReactiveGridFsResource}.
@@ -78,7 +80,12 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	}
 
 	ReactiveGridFsResource(GridFSFile file, @Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
-		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, dataBufferFactory);
+		this(file, downloadPublisher, dataBufferFactory, null);
+	}
+
+	ReactiveGridFsResource(GridFSFile file, @Nullable GridFSDownloadPublisher downloadPublisher,
+			DataBufferFactory dataBufferFactory, @Nullable RangeReader rangeReader) {
+		this(file.getId(), file.getFilename(), Options.from(file), downloadPublisher, dataBufferFactory, rangeReader);
 	}
 
 	/**
@@ -93,7 +100,14 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 	 */
 	ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
 			@Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory) {
+		this(id, filename, options, downloadPublisher, dataBufferFactory, null);
+	}
 
+	private ReactiveGridFsResource(@Nullable Object id, String filename, Options options,
+			@Nullable GridFSDownloadPublisher downloadPublisher, DataBufferFactory dataBufferFactory,
+			@Nullable RangeReader rangeReader) {
+
+		this.rangeReader = rangeReader;
 		this.id = id;
 		this.filename = filename;
 		this.options = options;
@@ -201,6 +215,33 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 		return createDownloadStream(downloadPublisher.bufferSizeBytes(chunkSize));
 	}
 
+	/**
+	 * Obtain the download stream emitting up to {@code length} bytes of data starting at {@code offset}. Resources
+	 * obtained from {@link ReactiveGridFsTemplate} fetch only the chunks covering the range and may be read repeatedly.
+	 * Otherwise, the range is read from the {@link #getDownloadStream() download stream} that can be consumed only once.
+	 *
+	 * @param offset the position of the first byte to emit, must not be negative.
+	 * @param length the maximum number of bytes to emit, must not be negative.
+	 * @return {@link Flux#empty()} if the file does not exist.
+	 * @throws IllegalStateException if the underlying {@link Publisher} has already been consumed.
+	 * @since 5.2
+	 */
+	public Flux<DataBuffer> getDownloadStream(long offset, long length) {
+
+		Assert.isTrue(offset >= 0, "Offset must not be negative");
+		Assert.isTrue(length >= 0, "Length must not be negative");
+
+		if (downloadPublisher == null || length == 0) {
+			return Flux.empty();
+		}
+
+		if (rangeReader != null) {
+			return Flux.from(rangeReader.read(offset, length)).map(dataBufferFactory::wrap);
+		}
+
+		return DataBufferUtils.takeUntilByteCount(DataBufferUtils.skipUntilByteCount(getDownloadStream(), offset), length);
+	}
+
 	private Flux<DataBuffer> createDownloadStream(GridFSDownloadPublisher publisher) {
 
 		return Flux.from(publisher) //
@@ -218,4 +259,22 @@ public class ReactiveGridFsResource implements GridFsObject<Object, Publisher<Da
 			throw new IllegalStateException("Stream already consumed.");
 		}
 	}
+
+	/**
+	 * Strategy to read a byte range of the content.
+	 *
+	 * @since 5.2
+	 */
+	@FunctionalInterface
+	interface RangeReader {
+
+		/**
+		 * Read up to {@code length} bytes starting at {@code offset}.
+		 *
+		 * @param offset the position of the first byte to read.
+		 * @param length the maximum number of bytes to read.
+		 * @return the {@link Publisher} emitting the range.
+		 */
+		Publisher<ByteBuffer> read(long offset, long length);
+	}
 }
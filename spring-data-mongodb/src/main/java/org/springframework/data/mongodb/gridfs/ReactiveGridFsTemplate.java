@@ -23,6 +23,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
 
+import org.bson.BsonObjectId;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -45,6 +46,7 @@ import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
 import com.mongodb.reactivestreams.client.gridfs.GridFSBuckets;
+import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
 import com.mongodb.reactivestreams.client.gridfs.GridFSFindPublisher;
 import com.mongodb.reactivestreams.client.gridfs.GridFSUploadPublisher;
 
@@ -63,6 +65,10 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 	private final DataBufferFactory dataBufferFactory;
 	private final Mono<GridFSBucket> bucketSupplier;
+	private final @Nullable ReactiveMongoDatabaseFactory dbFactory;
+
+	private @Nullable ParallelChunkTransfer parallelChunkTransfer;
+	private volatile boolean indexesChecked;
 
 	/**
 	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
@@ -114,7 +120,7 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 	 */
 	public ReactiveGridFsTemplate(DataBufferFactory dataBufferFactory, ReactiveMongoDatabaseFactory dbFactory,
 			MongoConverter converter, @Nullable String bucket) {
-		this(converter, Mono.defer(Lazy.of(() -> doGetBucket(dbFactory, bucket))), dataBufferFactory);
+		this(converter, Mono.defer(Lazy.of(() -> doGetBucket(dbFactory, bucket))), dataBufferFactory, dbFactory);
 	}
 
 	/**
@@ -128,6 +134,11 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 	 */
 	public ReactiveGridFsTemplate(MongoConverter converter, Mono<GridFSBucket> gridFSBucket,
 			DataBufferFactory dataBufferFactory) {
+		this(converter, gridFSBucket, dataBufferFactory, null);
+	}
+
+	private ReactiveGridFsTemplate(MongoConverter converter, Mono<GridFSBucket> gridFSBucket,
+			DataBufferFactory dataBufferFactory, @Nullable ReactiveMongoDatabaseFactory dbFactory) {
 
 		super(converter);
 
@@ -136,6 +147,24 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 		this.bucketSupplier = gridFSBucket;
 		this.dataBufferFactory = dataBufferFactory;
+		this.dbFactory = dbFactory;
+	}
+
+	/**
+	 * Configure {@link ParallelChunkTransfer} to upload and download chunks in concurrent batches instead of sequentially
+	 * through the driver. Requires the template to be created with a {@link ReactiveMongoDatabaseFactory}.
+	 * {@link ParallelChunkTransfer#getExecutor()} is not used.
+	 *
+	 * @param parallelChunkTransfer can be {@literal null} to use sequential chunk transfer.
+	 * @throws IllegalStateException if the template has been created with a {@link GridFSBucket} {@link Mono}.
+	 * @since 5.2
+	 */
+	public void setParallelChunkTransfer(@Nullable ParallelChunkTransfer parallelChunkTransfer) {
+
+		Assert.state(parallelChunkTransfer == null || dbFactory != null,
+				"Parallel chunk transfer requires a ReactiveGridFsTemplate created with a ReactiveMongoDatabaseFactory");
+
+		this.parallelChunkTransfer = parallelChunkTransfer;
 	}
 
 	@Override
@@ -156,9 +185,17 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		}
 
 		String filename = upload.getFilename();
-		Flux<ByteBuffer> source = Flux.from(upload.getContent()).map(DataBuffer::toByteBuffer);
 		T fileId = upload.getFileId();
 
+		if (parallelChunkTransfer != null || GridFsChunks.compressionOf(uploadOptions.getMetadata()) != null) {
+
+			BsonValue id = fileId != null ? BsonUtils.simpleToBsonValue(fileId) : new BsonObjectId(new ObjectId());
+			return storeChunks(id, filename, upload.getContent(), uploadOptions)
+					.then(Mono.fromSupplier(() -> fileId != null ? fileId : (T) id.asObjectId().getValue()));
+		}
+
+		Publisher<DataBuffer> source = upload.getContent();
+
 		if (fileId == null) {
 			return (Mono<T>) createMono(new AutoIdCreatingUploadCallback(filename, source, uploadOptions));
 		}
@@ -226,6 +263,22 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 
 		Assert.notNull(file, "GridFSFile must not be null");
 
+		if (dbFactory != null) {
+
+			return Mono.zip(getChunkTransfer(
+					parallelChunkTransfer != null ? parallelChunkTransfer : ParallelChunkTransfer.SEQUENTIAL), doGetBucket())
+					.map(it -> {
+
+						ReactiveGridFsChunkTransfer transfer = it.getT1();
+						GridFSDownloadPublisher content = parallelChunkTransfer != null || GridFsChunks.isCompressed(file)
+								? transfer.download(file)
+								: it.getT2().downloadToPublisher(file.getId());
+
+						return new ReactiveGridFsResource(file, content, dataBufferFactory,
+								(offset, length) -> transfer.download(file, offset, length));
+					});
+		}
+
 		return doGetBucket()
 				.map(it -> new ReactiveGridFsResource(file, it.downloadToPublisher(file.getId()), dataBufferFactory));
 	}
@@ -280,6 +333,32 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		return bucketSupplier;
 	}
 
+	private Mono<Void> storeChunks(BsonValue fileId, @Nullable String filename, Publisher<DataBuffer> content,
+			GridFSUploadOptions uploadOptions) {
+
+		return Mono.zip(getChunkTransfer(
+				parallelChunkTransfer != null ? parallelChunkTransfer : ParallelChunkTransfer.SEQUENTIAL), doGetBucket()).flatMap(it -> {
+
+			ReactiveGridFsChunkTransfer transfer = it.getT1();
+			Integer chunkSize = uploadOptions.getChunkSizeBytes();
+
+			Mono<Void> indexes = indexesChecked ? Mono.empty()
+					: transfer.ensureIndexes().doOnSuccess(ignore -> indexesChecked = true);
+
+			return indexes.then(transfer.upload(fileId, filename, content,
+					chunkSize != null ? chunkSize : it.getT2().getChunkSizeBytes(), uploadOptions.getMetadata()));
+		});
+	}
+
+	private Mono<ReactiveGridFsChunkTransfer> getChunkTransfer(ParallelChunkTransfer options) {
+
+		Assert.state(dbFactory != null, "Parallel chunk transfer and chunk compression require a ReactiveGridFsTemplate"
+				+ " created with a ReactiveMongoDatabaseFactory");
+
+		return Mono.zip(doGetBucket(), dbFactory.getMongoDatabase())
+				.map(it -> new ReactiveGridFsChunkTransfer(it.getT1(), it.getT2(), options));
+	}
+
 	private static Mono<GridFSBucket> doGetBucket(ReactiveMongoDatabaseFactory dbFactory, @Nullable String bucket) {
 
 		Assert.notNull(dbFactory, "ReactiveMongoDatabaseFactory must not be null");
@@ -348,24 +427,36 @@ public class ReactiveGridFsTemplate extends GridFsOperationsSupport implements R
 		}
 	}
 
-	private record UploadCallback(BsonValue fileId, String filename, Publisher<ByteBuffer> source,
+	private record UploadCallback(BsonValue fileId, String filename, Publisher<DataBuffer> source,
 			GridFSUploadOptions uploadOptions) implements ReactiveBucketCallback<Void> {
 
 		@Override
 		public GridFSUploadPublisher<Void> doInBucket(GridFSBucket bucket) {
-			return bucket.uploadFromPublisher(fileId, filename, source, uploadOptions);
+			return bucket.uploadFromPublisher(fileId, filename, toChunks(source, bucket, uploadOptions), uploadOptions);
 		}
 	}
 
-	private record AutoIdCreatingUploadCallback(String filename, Publisher<ByteBuffer> source,
+	private record AutoIdCreatingUploadCallback(String filename, Publisher<DataBuffer> source,
 			GridFSUploadOptions uploadOptions) implements ReactiveBucketCallback<ObjectId> {
 
 		@Override
 		public GridFSUploadPublisher<ObjectId> doInBucket(GridFSBucket bucket) {
-			return bucket.uploadFromPublisher(filename, source, uploadOptions);
+			return bucket.uploadFromPublisher(filename, toChunks(source, bucket, uploadOptions), uploadOptions);
 		}
 	}
 
+	/**
+	 * Split the given content into buffers matching the chunk size so that the driver can store them without combining
+	 * or copying them again. Source buffers are released once read.
+	 */
+	private static Publisher<ByteBuffer> toChunks(Publisher<DataBuffer> source, GridFSBucket bucket,
+			GridFSUploadOptions uploadOptions) {
+
+		Integer chunkSize = uploadOptions.getChunkSizeBytes();
+		return DataBufferChunker.split(source, chunkSize != null ? chunkSize : bucket.getChunkSizeBytes())
+				.map(ByteBuffer::wrap);
+	}
+
 	private record DeleteCallback(BsonValue id) implements ReactiveBucketCallback<Void> {
 
 		@Override
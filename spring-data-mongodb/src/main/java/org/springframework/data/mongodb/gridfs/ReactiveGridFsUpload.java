@@ -20,6 +20,7 @@ import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
 import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
 
@@ -157,7 +158,7 @@ public class ReactiveGridFsUpload<ID> implements GridFsObject<ID, Publisher<Data
 		}
 
 		/**
-		 * Set the file metadata.
+		 * Set the file metadata. A {@link #compression(Compression) compression} set before is retained.
 		 *
 		 * @param metadata must not be {@literal null}.
 		 * @return this.
@@ -214,6 +215,21 @@ public class ReactiveGridFsUpload<ID> implements GridFsObject<ID, Publisher<Data
 			return this;
 		}
 
+		/**
+		 * Compress each chunk with the given {@link Compression}.
+		 *
+		 * @param compression must not be {@literal null}.
+		 * @return this.
+		 * @since 5.2
+		 * @see Options#compression(Compression)
+		 */
+		@Contract("_ -> this")
+		public ReactiveGridFsUploadBuilder<T> compression(Compression compression) {
+
+			this.options = this.options.compression(compression);
+			return this;
+		}
+
 		@Contract("-> new")
 		public ReactiveGridFsUpload<T> build() {
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static org.springframework.data.mongodb.observability.ExplainPlanObservation.HighCardinalityKeyNames.*;
+import static org.springframework.data.mongodb.observability.ExplainPlanObservation.LowCardinalityKeyNames.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.data.mongodb.observability.ExplainPlanObservation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link ExplainPlanObservationConvention} implementation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class DefaultExplainPlanObservationConvention implements ExplainPlanObservationConvention {
+
+	/**
+	 * Shared instance of {@link DefaultExplainPlanObservationConvention}.
+	 */
+	public static final DefaultExplainPlanObservationConvention INSTANCE = new DefaultExplainPlanObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.mongodb.explain";
+	}
+
+	@Override
+	public String getContextualName(ExplainPlanContext context) {
+		return context.getCollectionName() + "." + context.getOperation() + " explain";
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ExplainPlanContext context) {
+
+		ExplainPlan plan = context.getPlan();
+
+		return KeyValues.of(DB_SYSTEM.withValue("mongodb"), //
+				COLLECTION.withValue(context.getCollectionName()), //
+				OPERATION.withValue(context.getOperation()), //
+				SLOW.withValue(Boolean.toString(context.isSlow())), //
+				plan != null && plan.stage() != null ? PLAN_STAGE.withValue(plan.stage()) : none(PLAN_STAGE), //
+				plan != null ? COLLECTION_SCAN.withValue(Boolean.toString(plan.collectionScan())) : none(COLLECTION_SCAN), //
+				plan != null && !plan.indexes().isEmpty() ? INDEXES.withValue(String.join(",", plan.indexes()))
+						: none(INDEXES));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ExplainPlanContext context) {
+
+		KeyValues keyValues = KeyValues.of(ELAPSED.withValue(Long.toString(context.getElapsed().toMillis())));
+		ExplainPlan plan = context.getPlan();
+
+		if (plan == null) {
+			return keyValues;
+		}
+
+		return keyValues.and(DOCS_EXAMINED.withValue(Long.toString(plan.docsExamined())),
+				KEYS_EXAMINED.withValue(Long.toString(plan.keysExamined())),
+				DOCS_RETURNED.withValue(Long.toString(plan.returned())),
+				EXECUTION_TIME.withValue(Long.toString(plan.executionTimeMillis())));
+	}
+
+	private static KeyValue none(LowCardinalityKeyNames keyName) {
+		return keyName.withValue(KeyValue.NONE_VALUE);
+	}
+}
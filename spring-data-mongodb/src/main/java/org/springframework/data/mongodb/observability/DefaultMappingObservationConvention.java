@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static org.springframework.data.mongodb.observability.MappingObservation.HighCardinalityKeyNames.*;
+import static org.springframework.data.mongodb.observability.MappingObservation.LowCardinalityKeyNames.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Default {@link MappingObservationConvention} implementation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class DefaultMappingObservationConvention implements MappingObservationConvention {
+
+	/**
+	 * Shared instance of {@link DefaultMappingObservationConvention}.
+	 */
+	public static final DefaultMappingObservationConvention INSTANCE = new DefaultMappingObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.mongodb.mapping";
+	}
+
+	@Override
+	public String getContextualName(MappingObservationContext context) {
+		return context.getCollectionName() + "." + context.getOperation() + " " + context.getPhase().getValue();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(MappingObservationContext context) {
+
+		Class<?> entityType = context.getEntityType();
+
+		return KeyValues.of(DB_SYSTEM.withValue("mongodb"), //
+				COLLECTION.withValue(context.getCollectionName()), //
+				OPERATION.withValue(context.getOperation()), //
+				PHASE.withValue(context.getPhase().getValue()), //
+				ENTITY.withValue(entityType != null ? entityType.getName() : KeyValue.NONE_VALUE));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(MappingObservationContext context) {
+
+		KeyValues keyValues = context.getDocumentCount() < 0 ? KeyValues.empty()
+				: KeyValues.of(DOCUMENTS.withValue(Integer.toString(context.getDocumentCount())));
+		return context.getEncodedBytes() < 0 ? keyValues
+				: keyValues.and(ENCODED_BYTES.withValue(Long.toString(context.getEncodedBytes())));
+	}
+}
@@ -41,7 +41,13 @@ class DefaultMongoHandlerObservationConvention implements MongoHandlerObservatio
 			throw new IllegalStateException("not command started event present");
 		}
 
-		return MongoObservation.LowCardinality.observe(context).toKeyValues();
+		KeyValues keyValues = MongoObservation.LowCardinality.observe(context).toKeyValues();
+
+		if (context.getQueryShape() != null) {
+			keyValues = keyValues.and(MongoObservation.LowCardinality.MONGODB_QUERY_SHAPE.valueOf(context));
+		}
+
+		return keyValues;
 	}
 
 	@Override
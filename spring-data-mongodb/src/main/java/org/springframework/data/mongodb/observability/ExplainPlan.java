@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Summary of the {@code executionStats} output of an {@code explain} command for a {@code find} or {@code aggregate}.
+ *
+ * @param stage the access stage of the winning plan, such as {@literal COLLSCAN} or {@literal IXSCAN}. {@literal null}
+ *          if the explain output does not contain a query plan, as for pipelines starting with {@code $collStats}.
+ * @param collectionScan whether the winning plan scans the entire collection.
+ * @param indexes names of the indexes used by the winning plan.
+ * @param docsExamined number of documents examined.
+ * @param keysExamined number of index keys examined.
+ * @param returned number of documents returned by the query stage.
+ * @param executionTimeMillis execution time reported by the server.
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public record ExplainPlan(@Nullable String stage, boolean collectionScan, List<String> indexes, long docsExamined,
+		long keysExamined, long returned, long executionTimeMillis) {
+
+	private static final String COLLECTION_SCAN = "COLLSCAN";
+
+	/**
+	 * Create a new {@link ExplainPlan} from the given {@code explain} command output. Query planner and execution
+	 * statistics are looked up at the top level, within the {@code $cursor} stage of aggregations and within the output
+	 * of the first shard.
+	 *
+	 * @param explain must not be {@literal null}.
+	 * @return new instance of {@link ExplainPlan}.
+	 */
+	public static ExplainPlan from(Document explain) {
+
+		Assert.notNull(explain, "Explain output must not be null");
+
+		Document queryPlanner = find(explain, "queryPlanner");
+		Document executionStats = find(explain, "executionStats");
+
+		Document winningPlan = queryPlanner != null ? queryPlanner.get("winningPlan", Document.class) : null;
+		if (winningPlan != null && winningPlan.get("queryPlan") instanceof Document queryPlan) {
+			winningPlan = queryPlan;
+		}
+
+		String stage = null;
+		for (Document current = winningPlan; current != null; current = next(current)) {
+			if (current.get("stage") instanceof String name) {
+				stage = name;
+			}
+		}
+
+		boolean collectionScan = false;
+		Set<String> indexes = new LinkedHashSet<>();
+		Deque<Object> pending = new ArrayDeque<>();
+		if (winningPlan != null) {
+			pending.add(winningPlan);
+		}
+
+		while (!pending.isEmpty()) {
+
+			if (pending.poll() instanceof Document current) {
+
+				collectionScan |= COLLECTION_SCAN.equals(current.get("stage"));
+				if (current.get("indexName") instanceof String indexName) {
+					indexes.add(indexName);
+				}
+				if (current.get("inputStage") instanceof Document inputStage) {
+					pending.add(inputStage);
+				}
+				if (current.get("inputStages") instanceof List<?> inputStages) {
+					pending.addAll(inputStages);
+				}
+			}
+		}
+
+		return new ExplainPlan(stage, collectionScan, List.copyOf(indexes), number(executionStats, "totalDocsExamined"),
+				number(executionStats, "totalKeysExamined"), number(executionStats, "nReturned"),
+				number(executionStats, "executionTimeMillis"));
+	}
+
+	/**
+	 * @return the ratio of examined documents to returned ones. {@literal 0} if no documents have been examined.
+	 */
+	public double getExaminedToReturnedRatio() {
+		return docsExamined == 0 ? 0 : (double) docsExamined / Math.max(returned, 1);
+	}
+
+	private static @Nullable Document next(Document stage) {
+
+		if (stage.get("inputStage") instanceof Document inputStage) {
+			return inputStage;
+		}
+		if (stage.get("inputStages") instanceof List<?> inputStages && !inputStages.isEmpty()
+				&& inputStages.get(0) instanceof Document first) {
+			return first;
+		}
+		return null;
+	}
+
+	private static @Nullable Document find(Object source, String key) {
+
+		if (source instanceof Document document) {
+
+			if (document.get(key) instanceof Document match) {
+				return match;
+			}
+			for (Object value : document.values()) {
+				Document match = find(value, key);
+				if (match != null) {
+					return match;
+				}
+			}
+		}
+
+		if (source instanceof List<?> list) {
+			for (Object value : list) {
+				Document match = find(value, key);
+				if (match != null) {
+					return match;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static long number(@Nullable Document source, String key) {
+		return source != null && source.get(key) instanceof Number number ? number.longValue() : 0;
+	}
+}
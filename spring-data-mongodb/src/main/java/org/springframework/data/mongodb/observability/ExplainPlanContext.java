@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.observation.Observation;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Observation.Context} for {@link ExplainPlan explain plans} captured for sampled {@code find} and
+ * {@code aggregate} executions.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ExplainPlanSampler
+ */
+public class ExplainPlanContext extends Observation.Context {
+
+	private final String collectionName;
+	private final String operation;
+	private final Duration elapsed;
+	private final boolean slow;
+
+	private @Nullable ExplainPlan plan;
+
+	/**
+	 * Creates a new {@link ExplainPlanContext}.
+	 *
+	 * @param collectionName the name of the collection the operation ran against.
+	 * @param operation the operation, such as {@literal find} or {@literal aggregate}.
+	 * @param elapsed the time it took to execute the operation.
+	 * @param slow whether the execution exceeded the configured threshold.
+	 */
+	public ExplainPlanContext(String collectionName, String operation, Duration elapsed, boolean slow) {
+
+		this.collectionName = collectionName;
+		this.operation = operation;
+		this.elapsed = elapsed;
+		this.slow = slow;
+	}
+
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public Duration getElapsed() {
+		return elapsed;
+	}
+
+	public boolean isSlow() {
+		return slow;
+	}
+
+	/**
+	 * @return the captured {@link ExplainPlan}. {@literal null} until the {@code explain} command completed.
+	 */
+	public @Nullable ExplainPlan getPlan() {
+		return plan;
+	}
+
+	void setPlan(ExplainPlan plan) {
+		this.plan = plan;
+	}
+}
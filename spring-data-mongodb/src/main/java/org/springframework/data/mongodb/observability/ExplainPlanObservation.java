@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observation capturing the {@link ExplainPlan} of a sampled MongoDB operation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public enum ExplainPlanObservation implements ObservationDocumentation {
+
+	/**
+	 * Observation created around the {@code explain} of a sampled {@code find} or {@code aggregate}.
+	 */
+	EXPLAIN_PLAN {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultExplainPlanObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+	};
+
+	/**
+	 * Low cardinality key names.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Database system.
+		 */
+		DB_SYSTEM {
+			@Override
+			public String asString() {
+				return "db.system";
+			}
+		},
+
+		/**
+		 * Name of the collection the operation ran against.
+		 */
+		COLLECTION {
+			@Override
+			public String asString() {
+				return "db.mongodb.collection";
+			}
+		},
+
+		/**
+		 * The explained operation, {@literal find} or {@literal aggregate}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "db.operation";
+			}
+		},
+
+		/**
+		 * Access stage of the winning plan, such as {@literal COLLSCAN} or {@literal IXSCAN}.
+		 */
+		PLAN_STAGE {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.stage";
+			}
+		},
+
+		/**
+		 * Whether the winning plan scans the entire collection.
+		 */
+		COLLECTION_SCAN {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.collection_scan";
+			}
+		},
+
+		/**
+		 * Comma separated names of the indexes used by the winning plan.
+		 */
+		INDEXES {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.indexes";
+			}
+		},
+
+		/**
+		 * Whether the execution exceeded the slow operation threshold.
+		 */
+		SLOW {
+			@Override
+			public String asString() {
+				return "db.mongodb.slow";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality key names.
+	 */
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Number of documents examined.
+		 */
+		DOCS_EXAMINED {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.docs_examined";
+			}
+		},
+
+		/**
+		 * Number of index keys examined.
+		 */
+		KEYS_EXAMINED {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.keys_examined";
+			}
+		},
+
+		/**
+		 * Number of documents returned by the query stage.
+		 */
+		DOCS_RETURNED {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.docs_returned";
+			}
+		},
+
+		/**
+		 * Execution time reported by the server in milliseconds.
+		 */
+		EXECUTION_TIME {
+			@Override
+			public String asString() {
+				return "db.mongodb.plan.execution_time_ms";
+			}
+		},
+
+		/**
+		 * Time it took the sampled operation to complete in milliseconds.
+		 */
+		ELAPSED {
+			@Override
+			public String asString() {
+				return "db.mongodb.elapsed_ms";
+			}
+		}
+	}
+}
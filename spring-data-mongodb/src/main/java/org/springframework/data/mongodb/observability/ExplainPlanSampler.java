@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Samples {@code find} and {@code aggregate} executions of a {@link org.springframework.data.mongodb.core.MongoTemplate}
+ * and captures the {@link ExplainPlan} of sampled ones as {@link ExplainPlanObservation#EXPLAIN_PLAN observation}.
+ * Executions are sampled at the configured {@link #setSampleRate(double) rate} and whenever they exceed the
+ * {@link #setSlowThreshold(Duration) slow threshold}. The {@code explain} command runs asynchronously with
+ * {@code executionStats} verbosity, re-executing the sampled operation without returning its results.
+ * <p>
+ * By default, explain commands are run by a single background thread. Explain requests exceeding the capacity of the
+ * queue are discarded so that sampling never slows down the application.
+ *
+ * <pre class="code">
+ * ExplainPlanSampler sampler = new ExplainPlanSampler(observationRegistry);
+ * sampler.setSampleRate(0.001);
+ * sampler.setSlowThreshold(Duration.ofMillis(200));
+ *
+ * template.setExplainPlanSampler(sampler);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class ExplainPlanSampler implements DisposableBean {
+
+	private static final Log LOGGER = LogFactory.getLog(ExplainPlanSampler.class);
+
+	private final ObservationRegistry observationRegistry;
+
+	private double sampleRate;
+	private @Nullable Duration slowThreshold;
+	private @Nullable ExplainPlanObservationConvention observationConvention;
+	private Executor executor;
+	private @Nullable ExecutorService defaultExecutor;
+
+	/**
+	 * Creates a new {@link ExplainPlanSampler} reporting to the given {@link ObservationRegistry}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 */
+	public ExplainPlanSampler(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mongo-explain-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(100), threadFactory, new ThreadPoolExecutor.DiscardPolicy());
+		this.defaultExecutor = executor;
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the fraction of executions to sample regardless of their duration. Defaults to {@literal 0}.
+	 *
+	 * @param sampleRate between {@literal 0} and {@literal 1}.
+	 */
+	public void setSampleRate(double sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Set the duration after which executions are considered slow and always sampled. Defaults to {@literal null} (no
+	 * threshold).
+	 *
+	 * @param slowThreshold can be {@literal null}. Must not be negative.
+	 */
+	public void setSlowThreshold(@Nullable Duration slowThreshold) {
+
+		Assert.isTrue(slowThreshold == null || !slowThreshold.isNegative(), "Slow threshold must not be negative");
+		this.slowThreshold = slowThreshold;
+	}
+
+	/**
+	 * Set a custom {@link ExplainPlanObservationConvention}. Defaults to
+	 * {@link DefaultExplainPlanObservationConvention}.
+	 *
+	 * @param observationConvention can be {@literal null}.
+	 */
+	public void setObservationConvention(@Nullable ExplainPlanObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the {@link Executor} to run explain commands with, replacing the default single threaded one.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		shutdownDefaultExecutor();
+		this.executor = executor;
+	}
+
+	/**
+	 * Check whether an execution that took the given time should be sampled.
+	 *
+	 * @param elapsed must not be {@literal null}.
+	 * @return {@literal true} to capture the explain plan.
+	 */
+	public boolean shouldSample(Duration elapsed) {
+		return isSlow(elapsed) || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	/**
+	 * Capture the explain plan of a sampled execution asynchronously.
+	 *
+	 * @param collectionName the name of the collection the operation ran against. Must not be {@literal null}.
+	 * @param operation the operation, such as {@literal find} or {@literal aggregate}. Must not be {@literal null}.
+	 * @param elapsed the time it took to execute the operation. Must not be {@literal null}.
+	 * @param explain runs the {@code explain} command for the sampled operation. Must not be {@literal null}.
+	 */
+	public void sample(String collectionName, String operation, Duration elapsed, Supplier<Document> explain) {
+
+		Assert.notNull(collectionName, "Collection name must not be null");
+		Assert.notNull(operation, "Operation must not be null");
+		Assert.notNull(elapsed, "Elapsed time must not be null");
+		Assert.notNull(explain, "Explain must not be null");
+
+		ExplainPlanContext context = new ExplainPlanContext(collectionName, operation, elapsed, isSlow(elapsed));
+		executor.execute(() -> capture(context, explain));
+	}
+
+	@Override
+	public void destroy() {
+		shutdownDefaultExecutor();
+	}
+
+	void capture(ExplainPlanContext context, Supplier<Document> explain) {
+
+		Observation observation = ExplainPlanObservation.EXPLAIN_PLAN.observation(observationConvention,
+				DefaultExplainPlanObservationConvention.INSTANCE, () -> context, observationRegistry);
+
+		try {
+			observation.observe(() -> context.setPlan(ExplainPlan.from(explain.get())));
+		} catch (RuntimeException e) {
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Failed to explain %s on %s".formatted(context.getOperation(), context.getCollectionName()), e);
+			}
+		}
+	}
+
+	private boolean isSlow(Duration elapsed) {
+		return slowThreshold != null && elapsed.compareTo(slowThreshold) >= 0;
+	}
+
+	private void shutdownDefaultExecutor() {
+
+		if (defaultExecutor != null) {
+			defaultExecutor.shutdown();
+			defaultExecutor = null;
+		}
+	}
+}
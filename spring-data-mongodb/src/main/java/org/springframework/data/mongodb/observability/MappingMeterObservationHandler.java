@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ObservationHandler} recording the {@link MappingObservationContext#getDocumentCount() document count},
+ * {@link MappingObservationContext#getEncodedBytes() encoded size} and
+ * {@link MappingObservationContext#getMappingTime() mapping time} of {@link MappingObservation#MAPPING mapping
+ * observations} as meters tagged with the low cardinality key values of the observation. Values that have not been
+ * measured are not recorded.
+ *
+ * <pre class="code">
+ * observationRegistry.observationConfig().observationHandler(new MappingMeterObservationHandler(meterRegistry));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MappingObservations
+ */
+public class MappingMeterObservationHandler implements ObservationHandler<MappingObservationContext> {
+
+	/**
+	 * Name of the {@link DistributionSummary} recording the number of documents read or written.
+	 */
+	public static final String DOCUMENTS = "spring.data.mongodb.mapping.documents";
+
+	/**
+	 * Name of the {@link DistributionSummary} recording the BSON encoded size of the documents read or written.
+	 */
+	public static final String ENCODED_BYTES = "spring.data.mongodb.mapping.encoded";
+
+	/**
+	 * Name of the {@link Timer} recording the time spent mapping documents read one by one from a cursor.
+	 */
+	public static final String MAPPING_TIME = "spring.data.mongodb.mapping.time";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Creates a new {@link MappingMeterObservationHandler} recording meters in the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public MappingMeterObservationHandler(MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void onStop(MappingObservationContext context) {
+
+		Tags tags = createTags(context);
+
+		if (context.getDocumentCount() >= 0) {
+			DistributionSummary.builder(DOCUMENTS).description("Number of documents read or written").tags(tags)
+					.register(meterRegistry).record(context.getDocumentCount());
+		}
+
+		if (context.getEncodedBytes() >= 0) {
+			DistributionSummary.builder(ENCODED_BYTES).description("BSON encoded size of documents read or written")
+					.baseUnit(BaseUnits.BYTES).tags(tags).register(meterRegistry).record(context.getEncodedBytes());
+		}
+
+		Duration mappingTime = context.getMappingTime();
+		if (mappingTime != null) {
+			Timer.builder(MAPPING_TIME).description("Time spent mapping documents read from a cursor").tags(tags)
+					.register(meterRegistry).record(mappingTime);
+		}
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof MappingObservationContext;
+	}
+
+	private static Tags createTags(MappingObservationContext context) {
+
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		return Tags.of(tags);
+	}
+}
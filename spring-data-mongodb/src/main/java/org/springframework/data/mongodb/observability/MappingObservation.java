@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observation of a {@link MappingPhase mapping phase} of a template operation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public enum MappingObservation implements ObservationDocumentation {
+
+	/**
+	 * Observation created around mapping query documents, reading or writing domain types.
+	 */
+	MAPPING {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultMappingObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+	};
+
+	/**
+	 * Low cardinality key names.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Database system.
+		 */
+		DB_SYSTEM {
+			@Override
+			public String asString() {
+				return "db.system";
+			}
+		},
+
+		/**
+		 * Name of the collection the operation runs against.
+		 */
+		COLLECTION {
+			@Override
+			public String asString() {
+				return "db.mongodb.collection";
+			}
+		},
+
+		/**
+		 * The template operation, such as {@literal find} or {@literal insert}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "db.operation";
+			}
+		},
+
+		/**
+		 * The mapping phase.
+		 */
+		PHASE {
+			@Override
+			public String asString() {
+				return "spring.data.mongodb.mapping.phase";
+			}
+		},
+
+		/**
+		 * Fully qualified name of the domain type.
+		 */
+		ENTITY {
+			@Override
+			public String asString() {
+				return "spring.data.mongodb.entity";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality key names.
+	 */
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Number of documents read or written. Not reported for {@link MappingPhase#QUERY_MAPPING}.
+		 */
+		DOCUMENTS {
+			@Override
+			public String asString() {
+				return "spring.data.mongodb.mapping.documents";
+			}
+		},
+
+		/**
+		 * BSON encoded size of all documents in bytes.
+		 */
+		ENCODED_BYTES {
+			@Override
+			public String asString() {
+				return "spring.data.mongodb.mapping.encoded_bytes";
+			}
+		}
+	}
+}
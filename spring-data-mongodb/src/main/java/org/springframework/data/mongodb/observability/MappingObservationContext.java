@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.observation.Observation;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Observation.Context} for a {@link MappingPhase mapping phase} of a template operation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MappingObservations
+ */
+public class MappingObservationContext extends Observation.Context {
+
+	private final MappingPhase phase;
+	private final String operation;
+	private final @Nullable Class<?> entityType;
+	private final String collectionName;
+
+	private int documentCount = -1;
+	private long encodedBytes = -1;
+	private long mappingNanos = -1;
+
+	/**
+	 * Creates a new {@link MappingObservationContext}.
+	 *
+	 * @param phase the mapping phase.
+	 * @param operation the template operation, such as {@literal find} or {@literal insert}.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation runs against.
+	 */
+	public MappingObservationContext(MappingPhase phase, String operation, @Nullable Class<?> entityType,
+			String collectionName) {
+
+		this.phase = phase;
+		this.operation = operation;
+		this.entityType = entityType;
+		this.collectionName = collectionName;
+	}
+
+	public MappingPhase getPhase() {
+		return phase;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public @Nullable Class<?> getEntityType() {
+		return entityType;
+	}
+
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the number of documents read or written or {@literal -1} if not counted, as for
+	 *         {@link MappingPhase#QUERY_MAPPING}.
+	 */
+	public int getDocumentCount() {
+		return documentCount;
+	}
+
+	void setDocumentCount(int documentCount) {
+		this.documentCount = documentCount;
+	}
+
+	/**
+	 * @return the BSON encoded size of all documents or {@literal -1} if not measured.
+	 * @see MappingObservations#setMeasureEncodedSize(boolean)
+	 */
+	public long getEncodedBytes() {
+		return encodedBytes;
+	}
+
+	void setEncodedBytes(long encodedBytes) {
+		this.encodedBytes = encodedBytes;
+	}
+
+	/**
+	 * @return the time spent mapping documents read one by one from a cursor or {@literal null} if the observation
+	 *         covers the mapping only.
+	 * @see MappingObservations#observeDocuments(MappingPhase, String, Class, String)
+	 */
+	public @Nullable Duration getMappingTime() {
+		return mappingNanos < 0 ? null : Duration.ofNanos(mappingNanos);
+	}
+
+	void startCounting(boolean measureEncodedSize) {
+
+		this.documentCount = 0;
+		this.mappingNanos = 0;
+		this.encodedBytes = measureEncodedSize ? 0 : -1;
+	}
+
+	void addDocument(long encodedBytes, long mappingNanos) {
+
+		this.documentCount++;
+		this.mappingNanos += mappingNanos;
+		if (this.encodedBytes >= 0) {
+			this.encodedBytes = encodedBytes < 0 ? -1 : this.encodedBytes + encodedBytes;
+		}
+	}
+}
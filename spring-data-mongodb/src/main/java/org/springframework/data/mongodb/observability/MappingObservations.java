@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mongodb.CodecRegistryProvider;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Observes the {@link MappingPhase mapping phases} of {@link org.springframework.data.mongodb.core.MongoTemplate}
+ * operations as {@link MappingObservation#MAPPING observations} tagged with the operation and domain type, reporting
+ * the number of documents read or written. Other than {@link MongoObservationCommandListener} timing the command on the
+ * wire, mapping observations capture the time spent in the {@link org.springframework.data.mongodb.core.convert.QueryMapper}
+ * and {@link org.springframework.data.mongodb.core.convert.MongoConverter}, including reference resolution, lifecycle
+ * events and entity callbacks.
+ * <p>
+ * Observing is skipped entirely for a {@link ObservationRegistry#isNoop() no-op} registry. Documents read from a cursor
+ * are {@link #observeDocuments(MappingPhase, String, Class, String) observed one by one} without retrieving all of them
+ * upfront. The observation then spans reading the cursor while the
+ * {@link MappingObservationContext#getMappingTime() mapping time} excludes fetching batches from the server. The BSON
+ * encoded size of documents is only {@link #setMeasureEncodedSize(boolean) measured on request} as it requires encoding
+ * each document once more. Use {@link MappingMeterObservationHandler} to record document counts, encoded sizes and
+ * mapping times as meters.
+ *
+ * <pre class="code">
+ * template.setMappingObservations(new MappingObservations(observationRegistry));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class MappingObservations {
+
+	private final ObservationRegistry observationRegistry;
+
+	private @Nullable MappingObservationConvention observationConvention;
+	private boolean measureEncodedSize;
+	private CodecRegistryProvider codecRegistryProvider = MongoClientSettings::getDefaultCodecRegistry;
+
+	/**
+	 * Creates a new {@link MappingObservations} reporting to the given {@link ObservationRegistry}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 */
+	public MappingObservations(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Set a custom {@link MappingObservationConvention}. Defaults to {@link DefaultMappingObservationConvention}.
+	 *
+	 * @param observationConvention can be {@literal null}.
+	 */
+	public void setObservationConvention(@Nullable MappingObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set whether to report the BSON encoded size of the documents involved. Defaults to {@literal false}.
+	 *
+	 * @param measureEncodedSize
+	 */
+	public void setMeasureEncodedSize(boolean measureEncodedSize) {
+		this.measureEncodedSize = measureEncodedSize;
+	}
+
+	/**
+	 * Set the {@link CodecRegistryProvider} providing the codecs to measure the BSON encoded size of documents with.
+	 * {@link org.springframework.data.mongodb.core.MongoTemplate} configures its own codec registry. Defaults to the
+	 * {@link MongoClientSettings#getDefaultCodecRegistry() default codec registry}.
+	 *
+	 * @param codecRegistryProvider must not be {@literal null}.
+	 */
+	public void setCodecRegistryProvider(CodecRegistryProvider codecRegistryProvider) {
+
+		Assert.notNull(codecRegistryProvider, "CodecRegistryProvider must not be null");
+		this.codecRegistryProvider = codecRegistryProvider;
+	}
+
+	/**
+	 * @return {@literal true} if phases are observed.
+	 */
+	public boolean isEnabled() {
+		return !observationRegistry.isNoop();
+	}
+
+	/**
+	 * Observe the given {@link MappingPhase} of a template operation without counting documents, as for
+	 * {@link MappingPhase#QUERY_MAPPING}.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param operation the template operation, such as {@literal find}. Must not be {@literal null}.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation runs against. Must not be {@literal null}.
+	 * @param action the mapping to run. Must not be {@literal null}.
+	 * @return the result of the action.
+	 */
+	public <T> T observe(MappingPhase phase, String operation, @Nullable Class<?> entityType, String collectionName,
+			Supplier<T> action) {
+
+		if (!isEnabled()) {
+			return action.get();
+		}
+
+		MappingObservationContext context = new MappingObservationContext(phase, operation, entityType, collectionName);
+		Observation observation = start(context);
+
+		try {
+			return action.get();
+		} catch (RuntimeException e) {
+
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	/**
+	 * Observe the given {@link MappingPhase} of a template operation.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param operation the template operation, such as {@literal find}. Must not be {@literal null}.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation runs against. Must not be {@literal null}.
+	 * @param action the mapping to run. Must not be {@literal null}.
+	 * @param documents function obtaining the documents read, written or mapped from the result of the action. Must
+	 *          not be {@literal null}.
+	 * @return the result of the action.
+	 */
+	public <T> T observe(MappingPhase phase, String operation, @Nullable Class<?> entityType, String collectionName,
+			Supplier<T> action, Function<? super T, ? extends Collection<Document>> documents) {
+
+		if (!isEnabled()) {
+			return action.get();
+		}
+
+		MappingObservationContext context = new MappingObservationContext(phase, operation, entityType, collectionName);
+		Observation observation = start(context);
+
+		try {
+
+			T result = action.get();
+
+			Collection<Document> involved = documents.apply(result);
+			context.setDocumentCount(involved.size());
+			if (measureEncodedSize) {
+				context.setEncodedBytes(encodedSize(involved));
+			}
+			return result;
+		} catch (RuntimeException e) {
+
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	/**
+	 * Start observing the given {@link MappingPhase} of a template operation processing documents one by one, such as
+	 * reading the documents of a cursor. The returned {@link DocumentObservation} must be
+	 * {@link DocumentObservation#stop() stopped} once all documents have been processed.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param operation the template operation, such as {@literal find}. Must not be {@literal null}.
+	 * @param entityType the domain type. Can be {@literal null}.
+	 * @param collectionName the name of the collection the operation runs against. Must not be {@literal null}.
+	 * @return the started {@link DocumentObservation}.
+	 */
+	public DocumentObservation observeDocuments(MappingPhase phase, String operation, @Nullable Class<?> entityType,
+			String collectionName) {
+
+		if (!isEnabled()) {
+			return DocumentObservation.NONE;
+		}
+
+		MappingObservationContext context = new MappingObservationContext(phase, operation, entityType, collectionName);
+		context.startCounting(measureEncodedSize);
+		return new DocumentObservation(start(context), context, measureEncodedSize ? codecRegistryProvider : null);
+	}
+
+	private Observation start(MappingObservationContext context) {
+		return MappingObservation.MAPPING.observation(observationConvention, DefaultMappingObservationConvention.INSTANCE,
+				() -> context, observationRegistry).start();
+	}
+
+	private long encodedSize(Collection<Document> documents) {
+
+		long size = 0;
+
+		for (Document document : documents) {
+
+			long documentSize = encodedSize(document, codecRegistryProvider);
+			if (documentSize < 0) {
+				return -1;
+			}
+			size += documentSize;
+		}
+
+		return size;
+	}
+
+	private static long encodedSize(Document document, CodecRegistryProvider codecRegistryProvider) {
+
+		try {
+			return BsonUtils.getEncodedSize(document, codecRegistryProvider.getCodecRegistry());
+		} catch (CodecConfigurationException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Observation of a {@link MappingPhase} processing documents one by one.
+	 *
+	 * @author Mark Paluch
+	 * @since 5.2
+	 * @see MappingObservations#observeDocuments(MappingPhase, String, Class, String)
+	 */
+	public static class DocumentObservation {
+
+		/**
+		 * {@link DocumentObservation} applying mappings without observing them.
+		 */
+		public static final DocumentObservation NONE = new DocumentObservation(null, null, null);
+
+		private final @Nullable Observation observation;
+		private final @Nullable MappingObservationContext context;
+		private final @Nullable CodecRegistryProvider codecRegistryProvider;
+
+		private DocumentObservation(@Nullable Observation observation, @Nullable MappingObservationContext context,
+				@Nullable CodecRegistryProvider codecRegistryProvider) {
+
+			this.observation = observation;
+			this.context = context;
+			this.codecRegistryProvider = codecRegistryProvider;
+		}
+
+		/**
+		 * Apply the given mapping to the given document, counting the document and timing the mapping.
+		 *
+		 * @param document must not be {@literal null}.
+		 * @param mapping must not be {@literal null}.
+		 * @return the mapped result.
+		 */
+		public <T> T map(Document document, Function<? super Document, ? extends T> mapping) {
+
+			MappingObservationContext context = this.context;
+			if (context == null) {
+				return mapping.apply(document);
+			}
+
+			long start = System.nanoTime();
+			T result = mapping.apply(document);
+			long mappingNanos = System.nanoTime() - start;
+
+			context.addDocument(codecRegistryProvider != null ? encodedSize(document, codecRegistryProvider) : -1,
+					mappingNanos);
+			return result;
+		}
+
+		/**
+		 * Record the given error.
+		 *
+		 * @param error must not be {@literal null}.
+		 */
+		public void error(Throwable error) {
+
+			if (observation != null) {
+				observation.error(error);
+			}
+		}
+
+		/**
+		 * Stop the observation.
+		 */
+		public void stop() {
+
+			if (observation != null) {
+				observation.stop();
+			}
+		}
+	}
+}
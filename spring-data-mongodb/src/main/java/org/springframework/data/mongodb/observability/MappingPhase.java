@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+/**
+ * Phases of a template operation spent mapping between domain types and {@link org.bson.Document documents}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MappingObservations
+ */
+public enum MappingPhase {
+
+	/**
+	 * Mapping of query, field, sort and update documents against the domain type.
+	 */
+	QUERY_MAPPING("query-mapping"),
+
+	/**
+	 * Reading documents into domain types including reference resolution, {@code AfterLoad} and {@code AfterConvert}
+	 * events and entity callbacks.
+	 */
+	READ("read"),
+
+	/**
+	 * Writing domain types into documents including {@code BeforeConvert} and {@code BeforeSave} events and entity
+	 * callbacks.
+	 */
+	WRITE("write");
+
+	private final String value;
+
+	MappingPhase(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * @return the value used to tag observations.
+	 */
+	public String getValue() {
+		return value;
+	}
+}
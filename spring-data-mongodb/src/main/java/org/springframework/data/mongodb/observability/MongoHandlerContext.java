@@ -64,6 +64,7 @@ public class MongoHandlerContext extends SenderContext<Object> {
 	private final @Nullable RequestContext requestContext;
 	private final @Nullable String collectionName;
 
+	private @Nullable String queryShape;
 	private @Nullable CommandSucceededEvent commandSucceededEvent;
 	private @Nullable CommandFailedEvent commandFailedEvent;
 
@@ -101,6 +102,19 @@ public class MongoHandlerContext extends SenderContext<Object> {
 		return connectionString;
 	}
 
+	/**
+	 * @return the fingerprint of the normalized query shape or {@literal null} if not computed.
+	 * @since 5.2
+	 * @see QueryShapes
+	 */
+	public @Nullable String getQueryShape() {
+		return queryShape;
+	}
+
+	void setQueryShape(@Nullable String queryShape) {
+		this.queryShape = queryShape;
+	}
+
 	void setCommandSucceededEvent(CommandSucceededEvent commandSucceededEvent) {
 		this.commandSucceededEvent = commandSucceededEvent;
 	}
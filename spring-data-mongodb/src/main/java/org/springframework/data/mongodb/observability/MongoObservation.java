@@ -76,6 +76,14 @@ enum MongoObservation implements ObservationDocumentation {
 		static MongoKeyName<MongoHandlerContext> MONGODB_COLLECTION = MongoKeyName.requiredString("db.mongodb.collection",
 				MongoHandlerContext::getCollectionName);
 
+		/**
+		 * Fingerprint of the normalized query shape. Only contributed if query shapes are computed.
+		 *
+		 * @since 5.2
+		 */
+		static MongoKeyName<MongoHandlerContext> MONGODB_QUERY_SHAPE = MongoKeyName.requiredString("db.mongodb.query_shape",
+				MongoHandlerContext::getQueryShape);
+
 		/**
 		 * MongoDB cluster identifier.
 		 */
@@ -112,7 +120,7 @@ enum MongoObservation implements ObservationDocumentation {
 		 * @return the key names for low cardinality keys.
 		 */
 		static KeyName[] getKeyNames() {
-			return observe(null).toKeyNames();
+			return KeyName.merge(observe(null).toKeyNames(), new KeyName[] { MONGODB_QUERY_SHAPE });
 		}
 	}
 }
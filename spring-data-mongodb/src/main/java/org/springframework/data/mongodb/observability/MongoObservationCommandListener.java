@@ -20,6 +20,7 @@ import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.ObservationView;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 
 import org.apache.commons.logging.Log;
@@ -58,6 +59,9 @@ public class MongoObservationCommandListener implements CommandListener {
 
 	private final MongoHandlerObservationConvention observationConvention;
 
+	private @Nullable QueryShapes queryShapes;
+	private CommandSampler sampler = CommandSampler.always();
+
 	/**
 	 * Create a new {@link MongoObservationCommandListener} to record {@link Observation}s.
 	 *
@@ -99,6 +103,31 @@ public class MongoObservationCommandListener implements CommandListener {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Configure the {@link QueryShapes} registry used to tag observations with the normalized shape of their query and
+	 * to collect per-shape statistics. Query shapes are not computed if {@literal null} (default).
+	 *
+	 * @param queryShapes can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setQueryShapes(@Nullable QueryShapes queryShapes) {
+		this.queryShapes = queryShapes;
+	}
+
+	/**
+	 * Configure the {@link CommandSampler} deciding which commands are observed. Commands that are not sampled, as well
+	 * as all commands if the {@link ObservationRegistry} is a no-op, are skipped without allocating an
+	 * {@link Observation}. Defaults to {@link CommandSampler#always()}.
+	 *
+	 * @param sampler must not be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setSampler(CommandSampler sampler) {
+
+		Assert.notNull(sampler, "CommandSampler must not be null");
+		this.sampler = sampler;
+	}
+
 	@Override
 	public void commandStarted(CommandStartedEvent event) {
 
@@ -114,15 +143,23 @@ public class MongoObservationCommandListener implements CommandListener {
 
 		RequestContext requestContext = event.getRequestContext();
 
-		if (requestContext == null) {
+		if (requestContext == null || observationRegistry.isNoop()) {
 			return;
 		}
 
 		Observation parent = observationFromContext(requestContext);
 
+		if (!sampler.isSampled(event, parent)) {
+			return;
+		}
+
 		MongoHandlerContext observationContext = new MongoHandlerContext(connectionString, event, requestContext);
 		observationContext.setRemoteServiceName("mongo");
 
+		if (queryShapes != null) {
+			observationContext.setQueryShape(queryShapes.getShape(event));
+		}
+
 		Observation observation = MongoObservation.MONGODB_COMMAND_OBSERVATION
 				.observation(this.observationRegistry, () -> observationContext) //
 				.observationConvention(this.observationConvention);
@@ -144,10 +181,19 @@ public class MongoObservationCommandListener implements CommandListener {
 	@Override
 	public void commandSucceeded(CommandSucceededEvent event) {
 
+		if (mongoObservation(event.getRequestContext()) == null) {
+			return;
+		}
+
 		stopObservation(event.getRequestContext(), (observation, context) -> {
 
 			context.setCommandSucceededEvent(event);
 
+			String queryShape = context.getQueryShape();
+			if (queryShapes != null && queryShape != null) {
+				queryShapes.record(queryShape, event);
+			}
+
 			if (log.isDebugEnabled()) {
 				log.debug("Command succeeded - will stop observation [" + observation + "]");
 			}
@@ -157,6 +203,10 @@ public class MongoObservationCommandListener implements CommandListener {
 	@Override
 	public void commandFailed(CommandFailedEvent event) {
 
+		if (mongoObservation(event.getRequestContext()) == null) {
+			return;
+		}
+
 		stopObservation(event.getRequestContext(), (observation, context) -> {
 
 			context.setCommandFailedEvent(event);
@@ -179,12 +229,9 @@ public class MongoObservationCommandListener implements CommandListener {
 	private void stopObservation(@Nullable RequestContext requestContext,
 			BiConsumer<Observation, MongoHandlerContext> action) {
 
-		if (requestContext == null) {
-			return;
-		}
-
-		Observation observation = requestContext.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
-		if (observation == null || !(observation.getContext() instanceof MongoHandlerContext context)) {
+		Observation observation = mongoObservation(requestContext);
+		if (requestContext == null || observation == null
+				|| !(observation.getContext() instanceof MongoHandlerContext context)) {
 			return;
 		}
 
@@ -208,6 +255,22 @@ public class MongoObservationCommandListener implements CommandListener {
 		}
 	}
 
+	/**
+	 * Extract the {@link Observation} of an ongoing command from MongoDB's {@link RequestContext}.
+	 *
+	 * @param requestContext can be {@literal null}.
+	 * @return the {@link Observation} or {@literal null} if the command is not observed.
+	 */
+	private static @Nullable Observation mongoObservation(@Nullable RequestContext requestContext) {
+
+		if (requestContext == null) {
+			return null;
+		}
+
+		Observation observation = requestContext.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+		return observation != null && observation.getContext() instanceof MongoHandlerContext ? observation : null;
+	}
+
 	/**
 	 * Extract the {@link Observation} from MongoDB's {@link RequestContext}.
 	 *
@@ -232,4 +295,51 @@ public class MongoObservationCommandListener implements CommandListener {
 
 		return null;
 	}
+
+	/**
+	 * Strategy deciding whether a command is observed. Implementations are invoked for every command and should neither
+	 * block nor allocate.
+	 *
+	 * @since 5.2
+	 */
+	@FunctionalInterface
+	public interface CommandSampler {
+
+		/**
+		 * Decide whether to observe the given command.
+		 *
+		 * @param event the started command.
+		 * @param parent the observation of the calling code. Can be {@literal null} if there is none.
+		 * @return {@literal true} to observe the command.
+		 */
+		boolean isSampled(CommandStartedEvent event, @Nullable Observation parent);
+
+		/**
+		 * @return a {@link CommandSampler} observing all commands.
+		 */
+		static CommandSampler always() {
+			return (event, parent) -> true;
+		}
+
+		/**
+		 * @return a {@link CommandSampler} observing only commands issued within an ongoing, non no-op observation such as
+		 *         a sampled trace.
+		 */
+		static CommandSampler withParentObservation() {
+			return (event, parent) -> parent != null && !parent.isNoop();
+		}
+
+		/**
+		 * Create a {@link CommandSampler} observing commands with the given probability.
+		 *
+		 * @param probability between {@literal 0} and {@literal 1}.
+		 * @return a new {@link CommandSampler}.
+		 */
+		static CommandSampler probability(double probability) {
+
+			Assert.isTrue(probability >= 0 && probability <= 1, "Probability must be between 0 and 1");
+
+			return (event, parent) -> probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+		}
+	}
 }
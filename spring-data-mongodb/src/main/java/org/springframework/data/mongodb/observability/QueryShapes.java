@@ -0,0 +1,544 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Bounded registry of normalized query shapes. A query shape is the structure of the filter, sort and projection of a
+ * {@code find}, the pipeline of an {@code aggregate} or the query of {@code count}, {@code distinct},
+ * {@code findAndModify}, {@code update} and {@code delete} commands with all values stripped, so that executions of
+ * the same repository method share the same shape regardless of their arguments. Field references and sort directions
+ * are retained. Shapes are identified by a 64 bit fingerprint computed from the command without allocating the
+ * normalized representation, which is only rendered once per distinct shape.
+ * <p>
+ * Once the configured number of distinct shapes is reached, further shapes are reported as {@link #OTHER} to keep the
+ * cardinality of observations bounded. Latency and the number of returned documents are tracked per shape, including
+ * {@code getMore} commands continuing a cursor opened by a shaped command. Open cursors are forgotten once exhausted
+ * or killed, and the least recently used ones are evicted when too many cursors remain open.
+ *
+ * <pre class="code">
+ * MongoObservationCommandListener listener = new MongoObservationCommandListener(observationRegistry);
+ * listener.setQueryShapes(new QueryShapes(200));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class QueryShapes {
+
+	/**
+	 * Shape reported once the maximum number of distinct shapes is reached.
+	 */
+	public static final String OTHER = "other";
+
+	private static final Set<String> COLLAPSED_OPERATORS = Set.of("$in", "$nin", "$all");
+	private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+	private static final int MAX_OPEN_CURSORS = 10_000;
+
+	private final int maxShapes;
+	private final Map<Long, Shape> shapes = new ConcurrentHashMap<>();
+	private final Map<Long, Shape> cursors = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75F, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Shape> eldest) {
+			return size() > MAX_OPEN_CURSORS;
+		}
+	});
+	private final Shape other = new Shape(OTHER, OTHER);
+
+	/**
+	 * Creates a new {@link QueryShapes} registry tracking up to {@literal 500} distinct shapes.
+	 */
+	public QueryShapes() {
+		this(500);
+	}
+
+	/**
+	 * Creates a new {@link QueryShapes} registry tracking up to the given number of distinct shapes.
+	 *
+	 * @param maxShapes must be greater than zero.
+	 */
+	public QueryShapes(int maxShapes) {
+
+		Assert.isTrue(maxShapes > 0, "Max shapes must be greater than zero");
+		this.maxShapes = maxShapes;
+	}
+
+	/**
+	 * Obtain the fingerprint of the query shape of the given command.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return the fingerprint, {@link #OTHER} if the registry is full or {@literal null} if the command has no query
+	 *         shape.
+	 */
+	public @Nullable String getShape(CommandStartedEvent event) {
+
+		Shape shape = shapeOf(event);
+		return shape != null ? shape.fingerprint : null;
+	}
+
+	/**
+	 * Obtain the normalized definition of the shape with the given fingerprint.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @return the definition or {@literal null} if no such shape has been registered.
+	 */
+	public @Nullable String getDefinition(String fingerprint) {
+
+		Shape shape = lookup(fingerprint);
+		return shape != null ? shape.definition : null;
+	}
+
+	/**
+	 * Record the successful execution of a command of the given shape.
+	 *
+	 * @param fingerprint the shape fingerprint obtained via {@link #getShape(CommandStartedEvent)}. Must not be
+	 *          {@literal null}.
+	 * @param event must not be {@literal null}.
+	 */
+	public void record(String fingerprint, CommandSucceededEvent event) {
+
+		Shape shape = lookup(fingerprint);
+		if (shape == null) {
+			return;
+		}
+
+		BsonDocument response = event.getResponse();
+		BsonDocument cursor = response.isDocument("cursor") ? response.getDocument("cursor") : null;
+
+		long returned = 0;
+		if (cursor != null) {
+
+			BsonValue batch = cursor.containsKey("firstBatch") ? cursor.get("firstBatch") : cursor.get("nextBatch");
+			returned = batch != null && batch.isArray() ? batch.asArray().size() : 0;
+
+			long cursorId = cursor.isNumber("id") ? cursor.getNumber("id").longValue() : 0;
+			if (cursorId != 0) {
+				cursors.put(cursorId, shape);
+			}
+		} else if (response.isNumber("n")) {
+			returned = response.getNumber("n").longValue();
+		}
+
+		shape.record(event.getElapsedTime(TimeUnit.NANOSECONDS), returned);
+	}
+
+	/**
+	 * Obtain the statistics of the shapes with the highest total execution time.
+	 *
+	 * @param limit maximum number of shapes to return.
+	 * @return the statistics ordered by total execution time, highest first.
+	 */
+	public List<QueryShapeStatistics> getTopShapes(int limit) {
+
+		List<QueryShapeStatistics> statistics = new ArrayList<>(shapes.size() + 1);
+		for (Shape shape : shapes.values()) {
+			statistics.add(shape.statistics());
+		}
+		if (other.count.sum() > 0) {
+			statistics.add(other.statistics());
+		}
+
+		statistics.sort(Comparator.comparing(QueryShapeStatistics::totalTime).reversed());
+		return statistics.size() > limit ? List.copyOf(statistics.subList(0, limit)) : List.copyOf(statistics);
+	}
+
+	/**
+	 * Remove all shapes and their statistics.
+	 */
+	public void clear() {
+
+		shapes.clear();
+		cursors.clear();
+		other.reset();
+	}
+
+	private @Nullable Shape lookup(String fingerprint) {
+
+		if (OTHER.equals(fingerprint)) {
+			return other;
+		}
+
+		try {
+			return shapes.get(Long.parseUnsignedLong(fingerprint, 16));
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	private @Nullable Shape shapeOf(CommandStartedEvent event) {
+
+		String commandName = event.getCommandName();
+		BsonDocument command = event.getCommand();
+
+		if ("getMore".equals(commandName)) {
+
+			if (!command.isNumber("getMore")) {
+				return null;
+			}
+			return cursors.remove(command.getNumber("getMore").longValue());
+		}
+
+		if ("killCursors".equals(commandName)) {
+
+			BsonValue cursorIds = command.get("cursors");
+			if (cursorIds != null && cursorIds.isArray()) {
+				for (BsonValue cursorId : cursorIds.asArray()) {
+					if (cursorId.isNumber()) {
+						cursors.remove(cursorId.asNumber().longValue());
+					}
+				}
+			}
+			return null;
+		}
+
+		HashSink hash = new HashSink();
+		if (!write(commandName, command, hash)) {
+			return null;
+		}
+
+		Shape shape = shapes.get(hash.value);
+		if (shape != null) {
+			return shape;
+		}
+
+		if (shapes.size() >= maxShapes) {
+			return other;
+		}
+
+		TextSink text = new TextSink();
+		write(commandName, command, text);
+
+		return shapes.computeIfAbsent(hash.value, key -> new Shape(Long.toHexString(key), text.toString()));
+	}
+
+	/**
+	 * Write the shape of the given command to the {@link Sink}.
+	 *
+	 * @return {@literal false} if the command has no query shape.
+	 */
+	private static boolean write(String commandName, BsonDocument command, Sink sink) {
+
+		BsonValue collection = command.get(commandName);
+
+		switch (commandName) {
+			case "find" -> {
+				begin(commandName, collection, sink);
+				section("filter", command.get("filter"), Mode.FILTER, sink);
+				section("sort", command.get("sort"), Mode.LITERAL, sink);
+				section("projection", command.get("projection"), Mode.LITERAL, sink);
+			}
+			case "aggregate" -> {
+				begin(commandName, collection, sink);
+				section("pipeline", command.get("pipeline"), Mode.PIPELINE, sink);
+			}
+			case "count" -> {
+				begin(commandName, collection, sink);
+				section("query", command.get("query"), Mode.FILTER, sink);
+			}
+			case "distinct" -> {
+				begin(commandName, collection, sink);
+				section("key", command.get("key"), Mode.LITERAL, sink);
+				section("query", command.get("query"), Mode.FILTER, sink);
+			}
+			case "findAndModify" -> {
+				begin(commandName, collection, sink);
+				section("query", command.get("query"), Mode.FILTER, sink);
+				section("sort", command.get("sort"), Mode.LITERAL, sink);
+				section("update", command.get("update"), Mode.PIPELINE, sink);
+				section("remove", command.get("remove"), Mode.LITERAL, sink);
+			}
+			case "update", "delete" -> {
+
+				BsonValue statements = command.get("update".equals(commandName) ? "updates" : "deletes");
+				if (statements == null || !statements.isArray() || statements.asArray().isEmpty()
+						|| !statements.asArray().get(0).isDocument()) {
+					return false;
+				}
+
+				BsonDocument statement = statements.asArray().get(0).asDocument();
+				begin(commandName, collection, sink);
+				section("q", statement.get("q"), Mode.FILTER, sink);
+				section("u", statement.get("u"), Mode.PIPELINE, sink);
+				section("multi", statement.get("multi"), Mode.LITERAL, sink);
+			}
+			default -> {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void begin(String commandName, @Nullable BsonValue collection, Sink sink) {
+
+		sink.append(commandName);
+		if (collection != null && collection.isString()) {
+			sink.append(' ').append(collection.asString().getValue());
+		}
+	}
+
+	private static void section(String name, @Nullable BsonValue value, Mode mode, Sink sink) {
+
+		if (value == null) {
+			return;
+		}
+
+		sink.append(' ').append(name).append(' ');
+		value(value, mode, sink);
+	}
+
+	private static void value(BsonValue value, Mode mode, Sink sink) {
+
+		if (value.isDocument()) {
+
+			BsonDocument document = value.asDocument();
+			sink.append('{');
+
+			boolean first = true;
+			for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+
+				if (!first) {
+					sink.append(',');
+				}
+				first = false;
+
+				String key = entry.getKey();
+				sink.append(key).append(':');
+
+				if (mode == Mode.FILTER && COLLAPSED_OPERATORS.contains(key)) {
+					sink.append('?');
+				} else if (mode == Mode.PIPELINE && "$match".equals(key)) {
+					value(entry.getValue(), Mode.FILTER, sink);
+				} else {
+					value(entry.getValue(), mode, sink);
+				}
+			}
+
+			sink.append('}');
+			return;
+		}
+
+		if (value.isArray()) {
+
+			if (mode == Mode.FILTER && !isDocumentArray(value.asArray())) {
+				sink.append('?');
+				return;
+			}
+
+			sink.append('[');
+			boolean first = true;
+			for (BsonValue element : value.asArray()) {
+
+				if (!first) {
+					sink.append(',');
+				}
+				first = false;
+				value(element, mode, sink);
+			}
+			sink.append(']');
+			return;
+		}
+
+		if (mode == Mode.LITERAL && (value.isNumber() || value.isBoolean() || value.isString())) {
+			sink.append(literal(value));
+			return;
+		}
+
+		if (mode == Mode.PIPELINE && value.isString() && value.asString().getValue().startsWith("$")) {
+			sink.append(value.asString().getValue());
+			return;
+		}
+
+		sink.append('?');
+	}
+
+	private static boolean isDocumentArray(BsonArray array) {
+
+		for (BsonValue element : array) {
+			if (!element.isDocument()) {
+				return false;
+			}
+		}
+		return !array.isEmpty();
+	}
+
+	private static String literal(BsonValue value) {
+
+		if (value.isString()) {
+			return value.asString().getValue();
+		}
+		if (value.isBoolean()) {
+			return Boolean.toString(value.asBoolean().getValue());
+		}
+		return value.isDouble() ? Double.toString(value.asDouble().getValue())
+				: Long.toString(value.asNumber().longValue());
+	}
+
+	/**
+	 * Statistics of a query shape.
+	 *
+	 * @param fingerprint the shape fingerprint.
+	 * @param definition the normalized shape.
+	 * @param count number of recorded executions.
+	 * @param totalTime total execution time.
+	 * @param maxTime longest execution time.
+	 * @param documentsReturned total number of documents returned.
+	 */
+	public record QueryShapeStatistics(String fingerprint, String definition, long count, Duration totalTime,
+			Duration maxTime, long documentsReturned) {
+
+		/**
+		 * @return the mean execution time. {@link Duration#ZERO} if no execution has been recorded.
+		 */
+		public Duration getMeanTime() {
+			return count == 0 ? Duration.ZERO : totalTime.dividedBy(count);
+		}
+	}
+
+	private enum Mode {
+
+		/**
+		 * Query filters: values and value lists are stripped, logical operators retained.
+		 */
+		FILTER,
+
+		/**
+		 * Sort and projection: keys and values are retained.
+		 */
+		LITERAL,
+
+		/**
+		 * Pipelines and updates: field references are retained, other values stripped.
+		 */
+		PIPELINE
+	}
+
+	private static class Shape {
+
+		final String fingerprint;
+		final String definition;
+		final LongAdder count = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		final LongAdder documents = new LongAdder();
+
+		Shape(String fingerprint, String definition) {
+
+			this.fingerprint = fingerprint;
+			this.definition = definition;
+		}
+
+		void record(long nanos, long returned) {
+
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			documents.add(returned);
+		}
+
+		void reset() {
+
+			count.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+			documents.reset();
+		}
+
+		QueryShapeStatistics statistics() {
+			return new QueryShapeStatistics(fingerprint, definition, count.sum(), Duration.ofNanos(totalNanos.sum()),
+					Duration.ofNanos(maxNanos.get()), documents.sum());
+		}
+	}
+
+	private interface Sink {
+
+		Sink append(char c);
+
+		Sink append(String s);
+	}
+
+	/**
+	 * 64 bit FNV-1a hash of the appended characters.
+	 */
+	private static class HashSink implements Sink {
+
+		long value = 0xcbf29ce484222325L;
+
+		@Override
+		public Sink append(char c) {
+
+			value ^= c;
+			value *= 0x100000001b3L;
+			return this;
+		}
+
+		@Override
+		public Sink append(String s) {
+
+			for (int i = 0; i < s.length(); i++) {
+				append(s.charAt(i));
+			}
+			return this;
+		}
+	}
+
+	private static class TextSink implements Sink {
+
+		private final StringBuilder builder = new StringBuilder();
+
+		@Override
+		public Sink append(char c) {
+
+			builder.append(c);
+			return this;
+		}
+
+		@Override
+		public Sink append(String s) {
+
+			builder.append(s);
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			return builder.toString();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mapping.model.ValueExpressionEvaluator;
+import org.springframework.data.mongodb.util.json.ParameterBindingContext;
+import org.springframework.data.mongodb.util.json.ParameterBindingDocumentCodec;
+import org.springframework.data.mongodb.util.json.ValueProvider;
+
+/**
+ * A string based aggregation pipeline stage that is parsed once and bound by replacing parameter placeholders on each
+ * invocation. Only stages using placeholders exclusively as plain values (eg. {@code { $match : { age : ?0 } }}) can be
+ * parsed upfront. Stages containing expressions, placeholders within strings, regular expressions or field names, or
+ * placeholders wrapped in extended JSON types such as {@code { $date : ?0 }} need to be parsed along with the actual
+ * values.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+final class ParsedPipelineStage {
+
+	private static final ParsedPipelineStage UNPARSED = new ParsedPipelineStage(null);
+
+	private static final Pattern PARAMETER = Pattern.compile("\\?\\d+");
+	private static final Pattern VALUE_PARAMETER = Pattern.compile("[:\\[,]\\s*\\?\\d+(?=\\s*[,}\\]])");
+	private static final Pattern EXTENDED_JSON_PARAMETER = Pattern.compile(
+			"['\"]?\\$(date|oid|numberInt|numberLong|numberDouble|numberDecimal|binary|uuid|regex|regularExpression|timestamp|symbol|code|dbPointer|minKey|maxKey|undefined)['\"]?\\s*:\\s*\\?\\d+");
+
+	private final @Nullable Document template;
+
+	private ParsedPipelineStage(@Nullable Document template) {
+		this.template = template;
+	}
+
+	/**
+	 * Parse the given stage if it does not require parameter values for parsing.
+	 *
+	 * @param source the JSON source of the stage.
+	 * @param codec the codec used for parsing.
+	 * @return the {@link ParsedPipelineStage}. Check {@link #isParsed()} before {@link #bind(ValueProvider) binding}.
+	 */
+	static ParsedPipelineStage parse(String source, ParameterBindingDocumentCodec codec) {
+
+		if (source.contains("#{") || source.contains("${") || count(PARAMETER, source) != count(VALUE_PARAMETER, source)
+				|| EXTENDED_JSON_PARAMETER.matcher(source).find()) {
+			return UNPARSED;
+		}
+
+		try {
+			return new ParsedPipelineStage(
+					codec.decode(source, new ParameterBindingContext(Placeholder::new, NoExpressionsEvaluator.INSTANCE)));
+		} catch (RuntimeException e) {
+			return UNPARSED;
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the stage has been parsed and can be {@link #bind(ValueProvider) bound}.
+	 */
+	boolean isParsed() {
+		return template != null;
+	}
+
+	/**
+	 * Create the stage {@link Document} replacing placeholders with the values obtained from the given
+	 * {@link ValueProvider}.
+	 *
+	 * @param values the parameter values.
+	 * @return new {@link Document}.
+	 * @throws IllegalStateException if the stage has not been {@link #isParsed() parsed}.
+	 */
+	Document bind(ValueProvider values) {
+
+		if (template == null) {
+			throw new IllegalStateException("Pipeline stage has not been parsed");
+		}
+
+		return (Document) bind(template, values);
+	}
+
+	private static @Nullable Object bind(@Nullable Object value, ValueProvider values) {
+
+		if (value instanceof Placeholder placeholder) {
+			return values.getBindableValue(placeholder.index());
+		}
+
+		if (value instanceof Document document) {
+
+			Document target = new Document();
+			for (Entry<String, Object> entry : document.entrySet()) {
+				target.put(entry.getKey(), bind(entry.getValue(), values));
+			}
+			return target;
+		}
+
+		if (value instanceof List<?> list) {
+
+			List<@Nullable Object> target = new ArrayList<>(list.size());
+			for (Object element : list) {
+				target.add(bind(element, values));
+			}
+			return target;
+		}
+
+		return value;
+	}
+
+	private static int count(Pattern pattern, String source) {
+
+		Matcher matcher = pattern.matcher(source);
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+		return count;
+	}
+
+	private record Placeholder(int index) {
+
+	}
+
+	private static class NoExpressionsEvaluator implements ValueExpressionEvaluator {
+
+		static final NoExpressionsEvaluator INSTANCE = new NoExpressionsEvaluator();
+
+		@Override
+		public <T> @Nullable T evaluate(String expression) {
+			throw new IllegalStateException("Expression '%s' cannot be evaluated upfront".formatted(expression));
+		}
+	}
+}
@@ -17,6 +17,8 @@ package org.springframework.data.mongodb.repository.query;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.bson.Document;
@@ -25,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
@@ -46,6 +49,7 @@ public class StringBasedAggregation extends AbstractMongoQuery {
 
 	private final MongoOperations mongoOperations;
 	private final MongoConverter mongoConverter;
+	private final Map<String, ParsedPipelineStage> parsedStages = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link StringBasedAggregation} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -124,6 +128,30 @@ public class StringBasedAggregation extends AbstractMongoQuery {
 				});
 	}
 
+	/**
+	 * Parses stages using placeholders only as plain values once and binds the parsed stage on each invocation.
+	 * Remaining stages are parsed along with the actual parameter values.
+	 */
+	@Override
+	protected List<AggregationOperation> parseAggregationPipeline(String[] sourcePipeline,
+			ConvertingParameterAccessor accessor) {
+
+		List<AggregationOperation> stages = new ArrayList<>(sourcePipeline.length);
+		for (String source : sourcePipeline) {
+
+			ParsedPipelineStage stage = parsedStages.computeIfAbsent(source,
+					it -> ParsedPipelineStage.parse(it, getParameterBindingCodec()));
+
+			if (stage.isParsed()) {
+				stages.add(new StringAggregationOperation(source, getQueryMethod().getDomainClass(),
+						it -> stage.bind(accessor::getBindableValue)));
+			} else {
+				stages.addAll(super.parseAggregationPipeline(new String[] { source }, accessor));
+			}
+		}
+		return stages;
+	}
+
 	private List<Object> convertResults(Class<?> targetType, List<Document> mappedResults) {
 
 		List<Object> list = new ArrayList<>(mappedResults.size());
@@ -36,6 +36,7 @@ import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.io.BsonOutput;
 import org.bson.json.JsonParseException;
 import org.bson.types.Binary;
 import org.bson.types.Decimal128;
@@ -439,6 +440,27 @@ public class BsonUtils {
 		return target;
 	}
 
+	/**
+	 * Compute the size of the given {@link Document} in bytes when encoded to BSON using the given {@link CodecRegistry}.
+	 * The document is encoded without retaining the encoded bytes.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the encoded size in bytes.
+	 * @since 5.2
+	 */
+	public static int getEncodedSize(Document document, CodecRegistry codecRegistry) {
+
+		Assert.notNull(document, "Document must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		SizeCountingBsonOutput output = new SizeCountingBsonOutput();
+		try (BsonBinaryWriter writer = new BsonBinaryWriter(output)) {
+			codecRegistry.get(Document.class).encode(writer, document, EncoderContext.builder().build());
+		}
+		return output.getSize();
+	}
+
 	/**
 	 * @param source
 	 * @param orElse
@@ -812,6 +834,110 @@ public class BsonUtils {
 		return joiner.toString();
 	}
 
+	/**
+	 * {@link BsonOutput} that keeps track of the number of bytes written without retaining them.
+	 */
+	static class SizeCountingBsonOutput implements BsonOutput {
+
+		private int position;
+		private int size;
+
+		@Override
+		public int getPosition() {
+			return position;
+		}
+
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		@Override
+		public void truncateToPosition(int newPosition) {
+			position = newPosition;
+			size = newPosition;
+		}
+
+		@Override
+		public void writeBytes(byte[] bytes) {
+			advance(bytes.length);
+		}
+
+		@Override
+		public void writeBytes(byte[] bytes, int offset, int length) {
+			advance(length);
+		}
+
+		@Override
+		public void writeByte(int value) {
+			advance(1);
+		}
+
+		@Override
+		public void writeCString(String value) {
+			advance(utf8Length(value) + 1);
+		}
+
+		@Override
+		public void writeString(String value) {
+			advance(4 + utf8Length(value) + 1);
+		}
+
+		@Override
+		public void writeDouble(double value) {
+			advance(8);
+		}
+
+		@Override
+		public void writeInt32(int value) {
+			advance(4);
+		}
+
+		@Override
+		public void writeInt32(int position, int value) {
+			// size backpatching does not change the size
+		}
+
+		@Override
+		public void writeInt64(long value) {
+			advance(8);
+		}
+
+		@Override
+		public void writeObjectId(ObjectId value) {
+			advance(12);
+		}
+
+		@Override
+		public void close() {}
+
+		private void advance(int bytes) {
+			position += bytes;
+			size = Math.max(size, position);
+		}
+
+		private static int utf8Length(String value) {
+
+			int length = 0;
+			for (int i = 0; i < value.length(); i++) {
+
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					length++;
+				} else if (c < 0x800) {
+					length += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+						&& Character.isLowSurrogate(value.charAt(i + 1))) {
+					length += 4;
+					i++;
+				} else {
+					length += 3;
+				}
+			}
+			return length;
+		}
+	}
+
 	static class BsonCapturingWriter extends AbstractBsonWriter {
 
 		private final List<BsonValue> values = new ArrayList<>(0);
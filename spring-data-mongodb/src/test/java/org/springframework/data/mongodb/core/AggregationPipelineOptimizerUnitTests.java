@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Unit tests for {@link AggregationPipelineOptimizer}.
+ *
+ * @author Mark Paluch
+ */
+class AggregationPipelineOptimizerUnitTests {
+
+	@Test
+	void mergesAdjacentMatches() {
+
+		assertThat(optimize("{ $match : { name : 'luke' } }", "{ $match : { age : { $gt : 18 } } }"))
+				.containsExactly(Document.parse("{ $match : { name : 'luke', age : { $gt : 18 } } }"));
+		assertThat(optimize("{ $match : { age : { $lt : 65 } } }", "{ $match : { age : { $gt : 18 } } }")).containsExactly(
+				Document.parse("{ $match : { $and : [ { age : { $lt : 65 } }, { age : { $gt : 18 } } ] } }"));
+	}
+
+	@Test
+	void movesMatchAheadOfStagesNotAffectingFilteredFields() {
+
+		assertThat(optimize("{ $addFields : { total : { $add : ['$a', '$b'] } } }", "{ $match : { name : 'luke' } }"))
+				.containsExactly(Document.parse("{ $match : { name : 'luke' } }"),
+						Document.parse("{ $addFields : { total : { $add : ['$a', '$b'] } } }"));
+		assertThat(optimize("{ $project : { name : 1, address : 1 } }", "{ $match : { 'address.city' : 'Seattle' } }"))
+				.containsExactly(Document.parse("{ $match : { 'address.city' : 'Seattle' } }"),
+						Document.parse("{ $project : { name : 1, address : 1 } }"));
+		assertThat(optimize("{ $unset : 'secret' }", "{ $match : { $or : [ { name : 'luke' }, { age : 18 } ] } }"))
+				.first().isEqualTo(Document.parse("{ $match : { $or : [ { name : 'luke' }, { age : 18 } ] } }"));
+	}
+
+	@Test
+	void retainsMatchOnComputedRenamedOrRemovedFields() {
+
+		assertUnchanged("{ $addFields : { total : { $add : ['$a', '$b'] } } }", "{ $match : { total : { $gt : 10 } } }");
+		assertUnchanged("{ $set : { address : { city : 'Seattle' } } }", "{ $match : { 'address.city' : 'Seattle' } }");
+		assertUnchanged("{ $project : { name : '$firstname' } }", "{ $match : { name : 'luke' } }");
+		assertUnchanged("{ $project : { name : 1 } }", "{ $match : { age : 18 } }");
+		assertUnchanged("{ $project : { 'address.street' : 1 } }", "{ $match : { address : { $exists : true } } }");
+		assertUnchanged("{ $project : { _id : 0, name : 1 } }", "{ $match : { _id : 1 } }");
+		assertUnchanged("{ $unset : [ 'address.city' ] }", "{ $match : { address : { $exists : true } } }");
+		assertUnchanged("{ $project : { name : 1 } }", "{ $match : { $expr : { $eq : [ '$name', 'luke' ] } } }");
+		assertUnchanged("{ $group : { _id : '$name' } }", "{ $match : { _id : 'luke' } }");
+	}
+
+	@Test
+	void coalescesProjectionsAndUnsetStages() {
+
+		assertThat(optimize("{ $unset : 'secret' }", "{ $unset : [ 'password', 'token' ] }"))
+				.containsExactly(Document.parse("{ $unset : [ 'secret', 'password', 'token' ] }"));
+		assertThat(optimize("{ $project : { _id : 0, name : 1, age : 1 } }", "{ $project : { name : 1 } }"))
+				.containsExactly(Document.parse("{ $project : { _id : 0, name : 1 } }"));
+		assertThat(optimize("{ $project : { secret : 0 } }", "{ $project : { password : 0 } }"))
+				.containsExactly(Document.parse("{ $project : { secret : 0, password : 0 } }"));
+
+		assertUnchanged("{ $project : { name : 1 } }", "{ $project : { age : 1 } }");
+		assertUnchanged("{ $project : { address : 0 } }", "{ $project : { 'address.city' : 0 } }");
+		assertUnchanged("{ $project : { name : 1 } }", "{ $project : { name : { $toUpper : '$name' } } }");
+	}
+
+	@Test
+	void dropsNoOpStages() {
+
+		assertThat(optimize("{ $match : { } }", "{ $skip : 0 }", "{ $addFields : { } }", "{ $unset : [ ] }",
+				"{ $group : { _id : '$name' } }")).containsExactly(Document.parse("{ $group : { _id : '$name' } }"));
+	}
+
+	@Test
+	void boundsSortByReachableLimit() {
+
+		assertThat(optimize("{ $sort : { age : -1 } }", "{ $project : { name : 1, age : 1 } }", "{ $skip : 10 }",
+				"{ $limit : 5 }")).containsExactly(Document.parse("{ $sort : { age : -1 } }"), new Document("$limit", 15L),
+						Document.parse("{ $project : { name : 1, age : 1 } }"), Document.parse("{ $skip : 10 }"),
+						Document.parse("{ $limit : 5 }"));
+
+		assertUnchanged("{ $sort : { age : -1 } }", "{ $limit : 5 }");
+		assertUnchanged("{ $sort : { age : -1 } }", "{ $match : { age : { $gt : 18 } } }", "{ $limit : 5 }");
+		assertUnchanged("{ $sort : { age : -1 } }", "{ $unwind : '$tags' }", "{ $limit : 5 }");
+	}
+
+	@Test
+	void appliesRewritesRepeatedly() {
+
+		assertThat(optimize("{ $match : { name : 'luke' } }", "{ $project : { name : 1, age : 1 } }",
+				"{ $match : { age : 18 } }", "{ $project : { name : 1 } }")).containsExactly(
+						Document.parse("{ $match : { name : 'luke', age : 18 } }"), Document.parse("{ $project : { name : 1 } }"));
+	}
+
+	@Test
+	void createPipelineOptimizesOnlyIfRequested() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+		AggregationUtil aggregationUtil = new AggregationUtil(new QueryMapper(converter), converter.getMappingContext());
+
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(Criteria.where("name").is("luke")),
+				Aggregation.match(Criteria.where("age").is(18)));
+
+		assertThat(aggregationUtil.createPipeline(aggregation, Aggregation.DEFAULT_CONTEXT)).hasSize(2);
+		assertThat(aggregationUtil.createPipeline(
+				aggregation.withOptions(AggregationOptions.builder().optimizePipeline().build()), Aggregation.DEFAULT_CONTEXT))
+				.containsExactly(Document.parse("{ $match : { name : 'luke', age : 18 } }"));
+	}
+
+	@Test
+	void doesNotModifySourcePipeline() {
+
+		List<Document> source = pipeline("{ $match : { name : 'luke' } }", "{ $match : { age : 18 } }");
+
+		AggregationPipelineOptimizer.optimize(source);
+
+		assertThat(source).hasSize(2);
+	}
+
+	private static void assertUnchanged(String... stages) {
+		assertThat(optimize(stages)).isEqualTo(pipeline(stages));
+	}
+
+	private static List<Document> optimize(String... stages) {
+		return AggregationPipelineOptimizer.optimize(pipeline(stages));
+	}
+
+	private static List<Document> pipeline(String... stages) {
+		return Arrays.stream(stages).map(Document::parse).toList();
+	}
+}
@@ -21,10 +21,15 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,7 +51,9 @@ import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mongodb.core.bulk.Bulk;
+import org.springframework.data.mongodb.core.bulk.BulkOperationOutcome;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
+import org.springframework.data.mongodb.core.bulk.BulkWriteResult;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -61,10 +68,17 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.util.BsonUtils;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.internal.client.model.bulk.AbstractClientNamespacedWriteModel;
 import com.mongodb.internal.client.model.bulk.ClientWriteModel;
@@ -386,6 +400,197 @@ class BulkWriterUnitTests {
 				.contains(new Document("$set", new Document("items.$.documents.0.the_file_id", "file-id")));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void retriesTransientFailuresOfUnorderedBulk() {
+
+		ops.insert(new BaseDoc()).insert(new BaseDoc()).insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(bulkWriteException(1, new BulkWriteError(112, "WriteConflict", new BsonDocument(), 1),
+						new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 2)))
+				.thenReturn(com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+		List<BulkOperationOutcome> reported = new ArrayList<>();
+		BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(2).onOutcome(reported::add));
+
+		ArgumentCaptor<List<WriteModel<Document>>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(models.capture(), any(com.mongodb.client.model.BulkWriteOptions.class));
+		assertThat(models.getAllValues()).extracting(List::size).containsExactly(3, 1);
+
+		assertThat(result.insertCount()).isEqualTo(2);
+		assertThat(result.outcomes()).extracting(BulkOperationOutcome::index, BulkOperationOutcome::succeeded,
+				BulkOperationOutcome::attempts).containsExactly(tuple(0, true, 1), tuple(1, true, 2), tuple(2, false, 1));
+		assertThat(result.failures()).singleElement().extracting(BulkOperationOutcome::errorCode).isEqualTo(11000);
+		assertThat(reported).extracting(BulkOperationOutcome::index).containsExactly(0, 2, 1);
+		assertThat(Mockito.mockingDetails(eventPublisher).getInvocations()).extracting(it -> it.getArgument(0))
+				.filteredOn(AfterSaveEvent.class::isInstance).hasSize(2);
+	}
+
+	@Test
+	void reportsTransientFailureOnceRetriesAreExhausted() {
+
+		ops.insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(bulkWriteException(0, new BulkWriteError(112, "WriteConflict", new BsonDocument(), 0)));
+
+		BulkWriteResult result = template.bulkWrite(builder.build(), BulkWriteOptions.unordered().retryFailed(1));
+
+		verify(collection, times(2)).bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class));
+		assertThat(result.failures()).singleElement().satisfies(it -> {
+			assertThat(it.attempts()).isEqualTo(2);
+			assertThat(it.errorCode()).isEqualTo(112);
+		});
+		verify(eventPublisher, never()).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retriesPendingOperationsAfterNetworkError() {
+
+		ops.insert(new BaseDoc()).insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(new MongoSocketReadException("connection reset", new ServerAddress()))
+				.thenAnswer(invocation -> {
+
+					List<WriteModel<Document>> models = invocation.getArgument(0);
+					Object id = ((InsertOneModel<Document>) models.get(0)).getDocument().get("_id");
+					throw bulkWriteException(1, duplicateKeyError(0, "_id", id));
+				});
+
+		BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(1, Duration.ofMillis(1)));
+
+		ArgumentCaptor<List<WriteModel<Document>>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(models.capture(), any(com.mongodb.client.model.BulkWriteOptions.class));
+
+		List<Object> firstAttempt = models.getAllValues().get(0).stream()
+				.map(it -> ((InsertOneModel<Document>) it).getDocument().get("_id")).toList();
+		List<Object> secondAttempt = models.getAllValues().get(1).stream()
+				.map(it -> ((InsertOneModel<Document>) it).getDocument().get("_id")).toList();
+
+		assertThat(firstAttempt).doesNotContainNull().hasSize(2);
+		assertThat(secondAttempt).isEqualTo(firstAttempt);
+		assertThat(result.failures()).isEmpty();
+		assertThat(result.outcomes()).extracting(BulkOperationOutcome::attempts).containsExactly(2, 2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void reportsNonIdempotentOperationsWithUnknownOutcomeAfterNetworkError() {
+
+		ops.insert(new BaseDoc()) //
+				.updateOne(new BasicQuery("{ _id : 'id-1' }"), new Update().inc("value", 1)) //
+				.updateOne(new BasicQuery("{ _id : 'id-1' }"), new Update().set("value", "v")) //
+				.updateMulti(new BasicQuery("{ value : 'v' }"), new Update().set("value", "w")) //
+				.remove(new BasicQuery("{ _id : 'id-1' }"));
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(new MongoSocketReadException("connection reset", new ServerAddress()))
+				.thenReturn(com.mongodb.bulk.BulkWriteResult.acknowledged(1, 1, 0, 1, List.of(), List.of()));
+
+		BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(1, Duration.ofMillis(1)));
+
+		ArgumentCaptor<List<WriteModel<Document>>> models = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(models.capture(), any(com.mongodb.client.model.BulkWriteOptions.class));
+		assertThat(models.getAllValues()).extracting(List::size).containsExactly(5, 2);
+
+		assertThat(result.outcomes()).extracting(BulkOperationOutcome::index, BulkOperationOutcome::succeeded,
+				BulkOperationOutcome::isOutcomeUnknown).containsExactly(tuple(0, true, false), tuple(1, false, true),
+						tuple(2, true, false), tuple(3, false, true), tuple(4, false, true));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void reportsDuplicateKeyOnOtherIndexAfterNetworkErrorAsFailure() {
+
+		ops.insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(new MongoSocketReadException("connection reset", new ServerAddress()))
+				.thenThrow(bulkWriteException(0, duplicateKeyError(0, "email", "luke@skywalker.com")));
+
+		BulkWriteResult result = template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(1, Duration.ofMillis(1)));
+
+		assertThat(result.failures()).singleElement().satisfies(it -> {
+			assertThat(it.errorCode()).isEqualTo(11000);
+			assertThat(it.isOutcomeUnknown()).isFalse();
+		});
+		verify(eventPublisher, never()).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	void propagatesNetworkErrorOnceRetriesAreExhausted() {
+
+		ops.insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(new MongoSocketReadException("connection reset", new ServerAddress()));
+
+		assertThatExceptionOfType(MongoSocketReadException.class).isThrownBy(() -> template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(2, Duration.ofMillis(1))));
+
+		verify(collection, times(3)).bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class));
+	}
+
+	@Test
+	void doesNotRetryNonRetryableErrorOfAttempt() {
+
+		ops.insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class)))
+				.thenThrow(new IllegalStateException("boom"));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.bulkWrite(builder.build(),
+				BulkWriteOptions.unordered().retryFailed(2, Duration.ofMillis(1))));
+
+		verify(collection).bulkWrite(anyList(), any(com.mongodb.client.model.BulkWriteOptions.class));
+	}
+
+	@Test
+	void retryBackoffDoublesUpToMaximum() {
+
+		BulkOutcomeTracker tracker = new BulkOutcomeTracker(List.of(), List.of(),
+				BulkWriteOptions.unordered().retryFailed(20, Duration.ofMillis(100)));
+
+		List<Duration> backoffs = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			backoffs.add(tracker.backoff());
+			tracker.nextWriteModels();
+		}
+
+		assertThat(backoffs).containsExactly(Duration.ZERO, Duration.ofMillis(100), Duration.ofMillis(200),
+				Duration.ofMillis(400));
+
+		for (int i = 0; i < 10; i++) {
+			tracker.nextWriteModels();
+		}
+		assertThat(tracker.backoff()).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void rejectsRetryOfOrderedBulk() {
+		assertThatIllegalStateException().isThrownBy(() -> BulkWriteOptions.ordered().retryFailed(1));
+	}
+
+	private static MongoBulkWriteException bulkWriteException(int insertedCount, BulkWriteError... errors) {
+		return new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(insertedCount, 0, 0, 0, List.of(), List.of()),
+				List.of(errors), null, new ServerAddress(), Set.of());
+	}
+
+	private static BulkWriteError duplicateKeyError(int index, String key, Object value) {
+
+		BsonDocument details = new BsonDocument("keyPattern", new BsonDocument(key, new BsonInt32(1))).append("keyValue",
+				new BsonDocument(key, BsonUtils.simpleToBsonValue(value)));
+		return new BulkWriteError(11000, "E11000 duplicate key", details, index);
+	}
+
 	static <T extends ClientWriteModel> T extractWriteModel(Class<T> type, ClientNamespacedWriteModel source) {
 
 		if (!(source instanceof AbstractClientNamespacedWriteModel cnwm)) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsDontMatch;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation.WhenDocumentsMatch;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Unit tests for {@link DefaultBulkMergeOperations}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultBulkMergeOperationsUnitTests {
+
+	@Mock MongoOperations operations;
+	@Mock BulkOperations stagingOperations;
+
+	DefaultBulkMergeOperations mergeOps;
+
+	@BeforeEach
+	void setUp() {
+		mergeOps = new DefaultBulkMergeOperations(operations, null, "target", "target.staging.1", stagingOperations);
+	}
+
+	@Test
+	void stagesDocumentsAndMergesIntoTarget() {
+
+		when(stagingOperations.execute())
+				.thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, Collections.emptyList(), Collections.emptyList()));
+
+		BulkWriteResult result = mergeOps.on("ssn").whenMatched(WhenDocumentsMatch.replaceDocument())
+				.whenNotMatched(WhenDocumentsDontMatch.discardDocument())
+				.insert(List.of(new Document("ssn", 1), new Document("ssn", 2))).execute();
+
+		assertThat(result.getInsertedCount()).isEqualTo(2);
+		verify(stagingOperations, times(2)).insert(any(Object.class));
+
+		ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+		verify(operations).aggregate(captor.capture(), eq("target.staging.1"), eq(Document.class));
+
+		Aggregation aggregation = captor.getValue();
+		assertThat(aggregation.getOptions().isSkipResults()).isTrue();
+		assertThat(aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT)).containsExactly(Document.parse("{ $unset : '_id' }"),
+				Document.parse(
+						"{ $merge : { into : 'target', on : 'ssn', whenMatched : 'replace', whenNotMatched : 'discard' } }"));
+
+		verify(operations).dropCollection("target.staging.1");
+	}
+
+	@Test
+	void retainsStagedIdWhenMergingOnId() {
+
+		when(stagingOperations.execute())
+				.thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, Collections.emptyList(), Collections.emptyList()));
+
+		mergeOps.whenMatched(WhenDocumentsMatch.mergeDocuments()).insert(new Document("_id", 1)).execute();
+
+		ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+		verify(operations).aggregate(captor.capture(), eq("target.staging.1"), eq(Document.class));
+
+		assertThat(captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT))
+				.containsExactly(Document.parse("{ $merge : { into : 'target', whenMatched : 'merge' } }"));
+	}
+
+	@Test
+	void dropsStagingCollectionWhenMergeFails() {
+
+		when(operations.aggregate(any(Aggregation.class), anyString(), eq(Document.class)))
+				.thenThrow(new DataAccessResourceFailureException("boom"));
+
+		mergeOps.insert(new Document("_id", 1));
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(mergeOps::execute);
+		verify(operations).dropCollection("target.staging.1");
+	}
+
+	@Test
+	void skipsMergeWithoutDocuments() {
+
+		assertThat(mergeOps.execute().getInsertedCount()).isZero();
+		verifyNoInteractions(operations, stagingOperations);
+	}
+
+	@Test
+	void stagingCollectionNamesAreUnique() {
+
+		assertThat(DefaultBulkMergeOperations.createStagingCollectionName("target")).startsWith("target.staging.")
+				.isNotEqualTo(DefaultBulkMergeOperations.createStagingCollectionName("target"));
+	}
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -64,8 +65,11 @@ import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.util.BsonUtils;
+import org.springframework.util.unit.DataSize;
 
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoWriteException;
 import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcern;
@@ -397,6 +401,64 @@ class DefaultBulkOperationsUnitTests {
 				.isThrownBy(() -> ops.insert(new SomeDomainType()).execute());
 	}
 
+	@Test
+	void splitsBulkWriteIntoBatchesByEncodedSize() {
+
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenAnswer(invocation -> BulkWriteResult.acknowledged(invocation.<List<?>> getArgument(0).size(), 0, 0, 0,
+						Collections.emptyList(), Collections.emptyList()));
+
+		ops.setBatchTargetSize(DataSize.ofBytes(2_500));
+
+		String payload = "x".repeat(1_000);
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			documents.add(new Document("n", i).append("payload", payload));
+		}
+		ops.insert(documents);
+
+		BulkWriteResult result = ops.execute();
+
+		verify(collection, times(3)).bulkWrite(captor.capture(), any());
+
+		List<List<Object>> batches = captor.getAllValues().stream()
+				.map(batch -> batch.stream().map(model -> ((InsertOneModel<Document>) model).getDocument().get("n")).toList())
+				.toList();
+		assertThat(batches).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+
+		assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch.stream()
+				.mapToInt(model -> BsonUtils.getEncodedSize(((InsertOneModel<Document>) model).getDocument(),
+						MongoClientSettings.getDefaultCodecRegistry()))
+				.sum()).isLessThanOrEqualTo(2_500));
+		assertThat(result.getInsertedCount()).isEqualTo(documents.size());
+	}
+
+	@Test
+	void shiftsErrorIndexesOfBatchedBulkWrite() {
+
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+				.thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, Collections.emptyList(), Collections.emptyList()))
+				.thenThrow(new MongoBulkWriteException(
+						BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList(), Collections.emptyList()),
+						List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)), null,
+						new ServerAddress("localhost"), Collections.emptySet()));
+
+		ops.setBatchTargetSize(DataSize.ofBytes(1_500));
+
+		String payload = "x".repeat(1_000);
+		ops.insert(List.of(new Document("payload", payload), new Document("payload", payload),
+				new Document("payload", payload)));
+
+		assertThatExceptionOfType(BulkOperationException.class).isThrownBy(() -> ops.execute()).satisfies(ex -> {
+			assertThat(ex.getErrors()).extracting(BulkWriteError::getIndex).containsExactly(1);
+			assertThat(ex.getResult().getInsertedCount()).isEqualTo(1);
+		});
+
+		verify(collection, times(2)).bulkWrite(anyList(), any());
+	}
+
 	static class OrderTest {
 
 		String id;
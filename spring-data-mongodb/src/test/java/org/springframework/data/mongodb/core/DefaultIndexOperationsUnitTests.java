@@ -18,6 +18,8 @@ package org.springframework.data.mongodb.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,7 @@ import org.springframework.data.mongodb.core.query.Collation;
 
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
 
 /**
@@ -64,7 +67,7 @@ public class DefaultIndexOperationsUnitTests {
 		when(factory.getMongoDatabase()).thenReturn(db);
 		when(factory.getExceptionTranslator()).thenReturn(exceptionTranslator);
 		when(db.getCollection(any(), any(Class.class))).thenReturn(collection);
-		when(collection.createIndex(any(), any(IndexOptions.class))).thenReturn("OK");
+		lenient().when(collection.createIndex(any(), any(IndexOptions.class))).thenReturn("OK");
 
 		this.mappingContext = new MongoMappingContext();
 		this.converter = spy(new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext));
@@ -131,6 +134,23 @@ public class DefaultIndexOperationsUnitTests {
 		verify(db).getCollection(eq("foo"), any(Class.class));
 	}
 
+	@Test
+	void createIndexesIssuesSingleCommand() {
+
+		when(collection.createIndexes(anyList())).thenReturn(List.of("firstname_-1", "age_1"));
+
+		indexOpsFor(Sith.class).createIndexes(List.of(new Index("name", Direction.DESC), new Index("age", Direction.ASC)));
+
+		ArgumentCaptor<List<IndexModel>> indexes = ArgumentCaptor.forClass(List.class);
+		verify(collection).createIndexes(indexes.capture());
+		verify(collection, never()).createIndex(any(), any(IndexOptions.class));
+
+		assertThat(indexes.getValue()).extracting(IndexModel::getKeys).containsExactly(new Document("firstname", -1),
+				new Document("age", 1));
+		assertThat(indexes.getValue()).extracting(it -> it.getOptions().getCollation())
+				.containsOnly(com.mongodb.client.model.Collation.builder().locale("de_AT").build());
+	}
+
 	private DefaultIndexOperations indexOpsFor(Class<?> type) {
 		return new DefaultIndexOperations(template, template.getCollectionName(type), type);
 	}
@@ -20,6 +20,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +31,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.mongodb.core.ExecutableAggregationOperation.TerminatingAggregation;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationChunk;
 
 /**
  * Unit tests for {@link ExecutableAggregationOperationSupport}.
@@ -67,6 +73,35 @@ public class ExecutableAggregationOperationSupportUnitTests {
 		assertThatIllegalArgumentException().isThrownBy(() -> opSupport.aggregateAndReturn(Person.class).by(null));
 	}
 
+	@Test
+	void chunkedDelegatesToTemplate() {
+
+		opSupport.aggregateAndReturn(Person.class).inCollection("star-wars").by(newAggregation(project("foo"))).chunked(10);
+
+		verify(template).doAggregateChunked(any(Aggregation.class), eq("star-wars"), eq(Person.class),
+				eq(QueryResultConverter.entity()), eq(10));
+	}
+
+	@Test
+	void defaultChunkedGroupsStreamedResults() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		TerminatingAggregation<String> aggregation = mock(TerminatingAggregation.class);
+		when(aggregation.stream()).thenReturn(Stream.of("a", "b", "c", "d", "e").onClose(() -> closed.set(true)));
+		when(aggregation.chunked(anyInt())).thenCallRealMethod();
+
+		List<AggregationChunk<String>> chunks;
+		try (Stream<AggregationChunk<String>> stream = aggregation.chunked(2)) {
+			chunks = stream.toList();
+		}
+
+		assertThat(chunks).extracting(AggregationChunk::getContent).containsExactly(List.of("a", "b"), List.of("c", "d"),
+				List.of("e"));
+		assertThat(chunks).extracting(AggregationChunk::getTotalCount).containsExactly(2L, 4L, 5L);
+		assertThat(chunks).extracting(AggregationChunk::isLast).containsExactly(false, false, true);
+		assertThat(closed).isTrue();
+	}
+
 	@Test // DATAMONGO-1563
 	void aggregateWithUntypedAggregationAndExplicitCollection() {
 
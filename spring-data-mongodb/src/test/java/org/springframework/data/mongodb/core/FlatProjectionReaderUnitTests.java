@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link FlatProjectionReader}.
+ *
+ * @author Mark Paluch
+ */
+class FlatProjectionReaderUnitTests {
+
+	MappingMongoConverter converter;
+	FlatProjectionReader.Factory readers;
+
+	@BeforeEach
+	void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		mappingContext.setSimpleTypeHolder(converter.getCustomConversions().getSimpleTypeHolder());
+		converter.afterPropertiesSet();
+		readers = new FlatProjectionReader.Factory(converter);
+	}
+
+	@Test
+	void readsFlatRecordsLikeTheConverter() {
+
+		ObjectId id = new ObjectId();
+		Date date = new Date();
+		Document source = new Document("_id", id).append("total_revenue", 42L).append("status", "SHIPPED")
+				.append("lastOrder", date).append("count", 3).append("ignored", "value");
+
+		FlatProjectionReader<Revenue> reader = readers.forRecord(Revenue.class);
+
+		assertThat(reader).isNotNull();
+		assertThat(reader.read(source)).isEqualTo(converter.read(Revenue.class, source))
+				.isEqualTo(new Revenue(id.toHexString(), 42L, Status.SHIPPED, date.toInstant(), 3));
+		assertThat(readers.forRecord(Revenue.class)).isSameAs(reader);
+	}
+
+	@Test
+	void readsClosedInterfaceProjectionsUsingDomainTypeFieldNames() {
+
+		FlatProjectionReader<RegionSummary> reader = readers.forInterface(RegionSummary.class, Order.class);
+
+		assertThat(reader).isNotNull();
+
+		RegionSummary summary = reader.read(new Document("region_code", "EMEA").append("total", 10));
+		assertThat(summary.getRegion()).isEqualTo("EMEA");
+		assertThat(summary.getTotal()).isEqualTo(10);
+	}
+
+	@Test
+	void rejectsTypesThatAreNotFlat() {
+
+		assertThat(readers.forRecord(WithNested.class)).isNull();
+		assertThat(readers.forRecord(WithList.class)).isNull();
+		assertThat(readers.forRecord(WithExpression.class)).isNull();
+		assertThat(readers.forInterface(OpenSummary.class, Order.class)).isNull();
+		assertThat(readers.forInterface(UnknownSummary.class, Order.class)).isNull();
+	}
+
+	@Test
+	void isDisabledForCustomConverters() {
+
+		MappingMongoConverter custom = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()) {};
+
+		assertThat(new FlatProjectionReader.Factory(custom).forRecord(Revenue.class)).isNull();
+	}
+
+	enum Status {
+		OPEN, SHIPPED
+	}
+
+	record Revenue(@Id String id, @Field("total_revenue") long revenue, Status status, Instant lastOrder, int count) {
+	}
+
+	record WithNested(String id, Revenue revenue) {
+	}
+
+	record WithList(String id, List<String> tags) {
+	}
+
+	record WithExpression(String id, @Value("#{root.total * 2}") Integer total) {
+	}
+
+	static class Order {
+
+		@Id String id;
+		@Field("region_code") String region;
+		Integer total;
+	}
+
+	interface RegionSummary {
+
+		String getRegion();
+
+		Integer getTotal();
+	}
+
+	interface OpenSummary {
+
+		@Value("#{target.region}")
+		String getName();
+	}
+
+	interface UnknownSummary {
+
+		String getCustomer();
+	}
+}
@@ -19,6 +19,9 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 import static org.springframework.data.mongodb.test.util.Assertions.*;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
@@ -34,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.bson.Document;
@@ -77,7 +81,10 @@ import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.IndexAdvisor;
+import org.springframework.data.mongodb.core.index.IndexAdvisor.QueryShape;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.Sharded;
@@ -98,12 +105,16 @@ import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.core.timeseries.Granularity;
+import org.springframework.data.mongodb.observability.ExplainPlanSampler;
+import org.springframework.data.mongodb.observability.MappingObservations;
 import org.springframework.data.mongodb.util.BsonUtils;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
 
+import com.mongodb.ExplainVerbosity;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
@@ -525,6 +536,189 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(aggregateIterable).maxTime(20000, TimeUnit.MILLISECONDS);
 	}
 
+	@Test
+	void aggregateChunkedReadsResultsLazilyInChunks() {
+
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+		when(cursor.getServerAddress()).thenReturn(new ServerAddress("localhost", 27017));
+		when(cursor.available()).thenReturn(2, 1, 0, 1, 0, 0);
+		when(cursor.hasNext()).thenReturn(true, true, true, true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", 1), new Document("_id", 2), new Document("_id", 3),
+				new Document("_id", 4), new Document("_id", 5));
+
+		List<AggregationChunk<Document>> chunks;
+		try (Stream<AggregationChunk<Document>> stream = template.aggregateAndReturn(Document.class)
+				.inCollection("collection-1").by(newAggregation(Aggregation.unwind("foo"))).chunked(2)) {
+			chunks = stream.toList();
+		}
+
+		verify(aggregateIterable).batchSize(2);
+		assertThat(chunks).extracting(AggregationChunk::size).containsExactly(2, 2, 1);
+		assertThat(chunks).extracting(AggregationChunk::getTotalCount).containsExactly(2L, 4L, 5L);
+		assertThat(chunks).extracting(AggregationChunk::getBatchCount).containsExactly(2, 3, 3);
+		assertThat(chunks).extracting(AggregationChunk::isLast).containsExactly(false, false, true);
+		assertThat(chunks.get(2).getContent()).containsExactly(new Document("_id", 5));
+		assertThat(chunks.get(0).getServerUsed()).isEqualTo("localhost:27017");
+		verify(cursor, atLeastOnce()).close();
+	}
+
+	@Test
+	void aggregateChunkedRetainsConfiguredBatchSize() {
+
+		when(aggregateIterable.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(false);
+
+		AggregationOptions options = AggregationOptions.builder().cursorBatchSize(100).build();
+
+		try (Stream<AggregationChunk<Document>> stream = template.aggregateAndReturn(Document.class)
+				.inCollection("collection-1").by(newAggregation(Aggregation.unwind("foo")).withOptions(options))
+				.chunked(10)) {
+			assertThat(stream).isEmpty();
+		}
+
+		verify(aggregateIterable).batchSize(100);
+		verify(aggregateIterable, never()).batchSize(10);
+	}
+
+	@Test
+	void aggregateServesCachedResultsIfRequested() {
+
+		when(db.getName()).thenReturn("db");
+		template.setAggregationResultCache(new AggregationResultCache(10));
+		AggregationOptions options = AggregationOptions.builder().cacheResults(Duration.ofMinutes(1)).build();
+		Aggregation aggregation = newAggregation(Aggregation.unwind("foo")).withOptions(options);
+
+		template.aggregate(aggregation, "collection-1", Wrapper.class);
+		template.aggregate(aggregation, "collection-1", Wrapper.class);
+		template.aggregate(newAggregation(Aggregation.unwind("foo")), "collection-1", Wrapper.class);
+
+		verify(collection, times(2)).aggregate(anyList(), any());
+	}
+
+	@Test
+	void aggregateReadsMaterializedOutputIfAvailable() {
+
+		MaterializedAggregations views = mock(MaterializedAggregations.class);
+		when(views.read(eq("collection-1"), anyList())).thenReturn(List.of(new Document("_id", "materialized")));
+		template.setMaterializedAggregations(views);
+
+		AggregationResults<Document> results = template.aggregate(newAggregation(Aggregation.unwind("foo")),
+				"collection-1", Document.class);
+
+		assertThat(results.getMappedResults()).containsExactly(new Document("_id", "materialized"));
+		verify(views).read("collection-1", List.of(Document.parse("{ $unwind : '$foo' }")));
+		verify(collection, never()).aggregate(anyList(), any());
+	}
+
+	@Test
+	void aggregateIgnoresMaterializedOutputIfReadOptionsAreSet() {
+
+		MaterializedAggregations views = mock(MaterializedAggregations.class);
+		template.setMaterializedAggregations(views);
+
+		template.aggregate(newAggregation(Aggregation.unwind("foo"))
+				.withOptions(AggregationOptions.builder().collation(Collation.of("de")).build()), "collection-1", Document.class);
+		template.aggregate(newAggregation(Aggregation.unwind("foo"))
+				.withOptions(AggregationOptions.builder().readConcern(ReadConcern.MAJORITY).build()), "collection-1",
+				Document.class);
+		template.aggregate(newAggregation(Aggregation.unwind("foo"))
+				.withOptions(AggregationOptions.builder().readPreference(ReadPreference.secondary()).build()), "collection-1",
+				Document.class);
+		template.aggregate(newAggregation(Aggregation.unwind("foo"))
+				.withOptions(AggregationOptions.builder().hint("foo_1").build()), "collection-1", Document.class);
+
+		verifyNoInteractions(views);
+		verify(collection, times(4)).aggregate(anyList(), any());
+	}
+
+	@Test
+	void findObservesQueryMappingAndReading() {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		template.setMappingObservations(new MappingObservations(observationRegistry));
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "id-1").append("firstname", "Luke"),
+				new Document("_id", "id-2").append("firstname", "Leia"));
+
+		List<Person> result = template.find(Query.query(Criteria.where("firstname").exists(true)), Person.class);
+
+		assertThat(result).extracting(Person::getFirstname).containsExactly("Luke", "Leia");
+		verify(findIterable, never()).into(any());
+
+		TestObservationRegistryAssert.assertThat(observationRegistry) //
+				.hasNumberOfObservationsWithNameEqualTo("spring.data.mongodb.mapping", 2) //
+				.hasAnObservation(observation -> observation
+						.hasLowCardinalityKeyValue("spring.data.mongodb.mapping.phase", "query-mapping")
+						.hasLowCardinalityKeyValue("spring.data.mongodb.entity", Person.class.getName())
+						.doesNotHaveHighCardinalityKeyValueWithKey("spring.data.mongodb.mapping.documents")) //
+				.hasAnObservation(observation -> observation.hasContextualNameEqualTo("star-wars.find read")
+						.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.documents", "2"));
+	}
+
+	@Test
+	void findSamplesExplainPlanOutsideOfTransactionsOnly() {
+
+		ExplainPlanSampler sampler = new ExplainPlanSampler(TestObservationRegistry.create());
+		sampler.setSampleRate(1.0);
+		sampler.setExecutor(Runnable::run);
+		template.setExplainPlanSampler(sampler);
+		when(findIterable.explain(any(ExplainVerbosity.class))).thenReturn(new Document());
+
+		when(factory.isTransactionActive()).thenReturn(true);
+		template.find(Query.query(Criteria.where("firstname").is("Luke")), Person.class);
+
+		verify(findIterable, never()).explain(any(ExplainVerbosity.class));
+
+		when(factory.isTransactionActive()).thenReturn(false);
+		template.find(Query.query(Criteria.where("firstname").is("Luke")), Person.class);
+
+		verify(findIterable).explain(ExplainVerbosity.EXECUTION_STATS);
+	}
+
+	@Test
+	void findRecordsQueryShapeWithIndexAdvisor() {
+
+		IndexAdvisor advisor = new IndexAdvisor();
+		template.setIndexAdvisor(advisor);
+
+		template.find(Query.query(Criteria.where("firstname").is("Luke")).with(Sort.by(Sort.Direction.DESC, "id")),
+				Person.class);
+
+		assertThat(advisor.getShapes("star-wars")).containsOnlyKeys(
+				new QueryShape(List.of("firstname"), new Document("_id", -1), List.of()));
+	}
+
+	@Test
+	void findJoinsReferencesViaLookupIfEnabled() {
+
+		template.setLookupEagerReferences(true);
+
+		template.find(Query.query(Criteria.where("name").is("Luke")).with(Sort.by("name")).limit(10),
+				WithDocumentReference.class);
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture(), eq(Document.class));
+		verify(collection, never()).find(any(Bson.class), any(Class.class));
+
+		assertThat(captor.getValue()).containsExactly(Document.parse("{ $match : { name : 'Luke' } }"),
+				Document.parse("{ $sort : { name : 1 } }"), Document.parse("{ $limit : 10 }"),
+				Document.parse("{ $lookup : { from : 'jedi', localField : 'mentor', foreignField : '_id', "
+						+ "as : '__joinedReferences.mentor' } }"));
+	}
+
+	@Test
+	void findDoesNotJoinReferencesForProjectingQueries() {
+
+		template.setLookupEagerReferences(true);
+
+		Query query = Query.query(Criteria.where("name").is("Luke"));
+		query.fields().include("name");
+		template.find(query, WithDocumentReference.class);
+
+		verify(collection, never()).aggregate(anyList(), any());
+		verify(collection).find(any(Bson.class), any(Class.class));
+	}
+
 	@Test // DATAMONGO-2153
 	void aggregateShouldHonorOptionsComment() {
 
@@ -1708,6 +1902,25 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(beforeSaveCallback, times(2)).onBeforeSave(any(), any(), anyString());
 	}
 
+	@Test
+	void insertAllSplitsInsertManyByEncodedSize() {
+
+		when(collection.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		template.setWriteBatchTargetSize(DataSize.ofBytes(2_500));
+
+		String payload = "x".repeat(1_000);
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			documents.add(new Document("_id", i).append("payload", payload));
+		}
+
+		template.insert(documents, "collection-1");
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(3)).insertMany(captor.capture());
+		assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+	}
+
 	@Test // DATAMONGO-2261
 	void findAndReplaceShouldInvokeCallbacks() {
 
@@ -2764,6 +2977,13 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		AutogenerateableId foo;
 	}
 
+	static class WithDocumentReference {
+
+		@Id String id;
+		String name;
+		@DocumentReference Jedi mentor;
+	}
+
 	static class EntityWithListOfSimple {
 		List<Integer> grades;
 	}
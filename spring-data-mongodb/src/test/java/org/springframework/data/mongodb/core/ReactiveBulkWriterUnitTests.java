@@ -21,12 +21,18 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +54,9 @@ import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mongodb.core.bulk.Bulk;
+import org.springframework.data.mongodb.core.bulk.BulkOperationOutcome;
 import org.springframework.data.mongodb.core.bulk.BulkWriteOptions;
+import org.springframework.data.mongodb.core.bulk.IngestOptions;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -63,7 +71,15 @@ import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCal
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Collation;
 import org.springframework.data.mongodb.core.query.Update;
-
+import org.springframework.data.mongodb.util.BsonUtils;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.internal.client.model.bulk.AbstractClientNamespacedWriteModel;
@@ -404,6 +420,218 @@ class ReactiveBulkWriterUnitTests {
 				.contains(new Document("$set", new Document("items.$.documents.0.the_file_id", "file-id")));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void ingestWritesWindowsAsSeparateBulks() {
+
+		when(collection.bulkWrite(anyList(), any()))
+				.thenReturn(Mono.just(Mockito.mock(com.mongodb.bulk.BulkWriteResult.class)));
+
+		Flux<Document> source = Flux.range(0, 5).map(it -> new Document("_id", it));
+
+		template.ingest(source, IngestOptions.defaults().windowSize(2).inCollection("default-collection")) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> writeModels = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(3)).bulkWrite(writeModels.capture(), any());
+		verifyNoInteractions(client);
+
+		assertThat(writeModels.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void ingestRetriesWindowOnRetryableError() {
+
+		MongoException retryable = new MongoException("connection reset");
+		retryable.addLabel("RetryableWriteError");
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(retryable),
+				Mono.just(Mockito.mock(com.mongodb.bulk.BulkWriteResult.class)));
+
+		template
+				.ingest(Flux.just(new Document("_id", 1)),
+						IngestOptions.defaults().inCollection("default-collection").retry(2, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verify(collection, times(2)).bulkWrite(anyList(), any());
+	}
+
+	@Test
+	void ingestDoesNotRetryNonRetryableError() {
+
+		MongoBulkWriteException duplicateKey = new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()),
+				List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)), null,
+				new ServerAddress(), Set.of());
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(duplicateKey));
+
+		template
+				.ingest(Flux.just(new Document("_id", 1)),
+						IngestOptions.defaults().inCollection("default-collection").retry(2, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.verifyError(MongoBulkWriteException.class);
+
+		verify(collection).bulkWrite(anyList(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void ingestRetriesOnlyFailedWritesOfWindow() {
+
+		MongoBulkWriteException writeConflict = new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()),
+				List.of(new BulkWriteError(112, "WriteConflict", new BsonDocument(), 1)), null, new ServerAddress(), Set.of());
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(writeConflict),
+				Mono.just(com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of())));
+
+		template
+				.ingest(Flux.just(new Document("_id", 1), new Document("_id", 2), new Document("_id", 3)),
+						IngestOptions.defaults().inCollection("default-collection").retry(2, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> assertThat(result.insertCount()).isEqualTo(3)) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> writeModels = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(writeModels.capture(), any());
+
+		assertThat(writeModels.getAllValues().get(1)).singleElement()
+				.extracting(it -> ((InsertOneModel<Document>) it).getDocument().get("_id")).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void ingestRetryKeepsIdentifiersOfUnacknowledgedWrites() {
+
+		MongoException retryable = new MongoException("connection reset");
+		retryable.addLabel("RetryableWriteError");
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(retryable)).thenAnswer(invocation -> {
+
+			List<WriteModel<Document>> models = invocation.getArgument(0);
+			Object id = ((InsertOneModel<Document>) models.get(0)).getDocument().get("_id");
+			BsonDocument details = new BsonDocument("keyPattern", new BsonDocument("_id", new BsonInt32(1)))
+					.append("keyValue", new BsonDocument("_id", BsonUtils.simpleToBsonValue(id)));
+
+			return Mono.error(new MongoBulkWriteException(
+					com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+					List.of(new BulkWriteError(11000, "E11000 duplicate key error", details, 0)), null, new ServerAddress(),
+					Set.of()));
+		});
+
+		template
+				.ingest(Flux.just(new Document("value", 1), new Document("value", 2)),
+						IngestOptions.defaults().inCollection("default-collection").retry(2, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> assertThat(result.insertCount()).isEqualTo(2)) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> writeModels = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(writeModels.capture(), any());
+
+		List<Object> firstAttempt = writeModels.getAllValues().get(0).stream()
+				.map(it -> ((InsertOneModel<Document>) it).getDocument().get("_id")).toList();
+		List<Object> secondAttempt = writeModels.getAllValues().get(1).stream()
+				.map(it -> ((InsertOneModel<Document>) it).getDocument().get("_id")).toList();
+
+		assertThat(firstAttempt).doesNotContainNull().hasSize(2);
+		assertThat(secondAttempt).isEqualTo(firstAttempt);
+	}
+
+	@Test
+	void ingestAppliesRetryFilterToFailedAttemptFollowingWriteErrors() {
+
+		MongoBulkWriteException writeConflict = new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()),
+				List.of(new BulkWriteError(112, "WriteConflict", new BsonDocument(), 0)), null, new ServerAddress(), Set.of());
+		MongoException retryable = new MongoException("connection reset");
+		retryable.addLabel("RetryableWriteError");
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(writeConflict), Mono.error(retryable));
+
+		template
+				.ingest(Flux.just(new Document("_id", 1)), IngestOptions.defaults().inCollection("default-collection")
+						.retry(2, Duration.ofMillis(1)).retryOn(it -> false)) //
+				.as(StepVerifier::create) //
+				.verifyError();
+
+		verify(collection, times(2)).bulkWrite(anyList(), any());
+	}
+
+	@Test
+	void ingestCountsRetriesPerWriteAcrossAttempts() {
+
+		MongoBulkWriteException writeConflict = new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()),
+				List.of(new BulkWriteError(112, "WriteConflict", new BsonDocument(), 0)), null, new ServerAddress(), Set.of());
+		MongoException retryable = new MongoException("connection reset");
+		retryable.addLabel("RetryableWriteError");
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(writeConflict), Mono.error(retryable),
+				Mono.error(retryable), Mono.just(com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of())));
+
+		template
+				.ingest(Flux.just(new Document("_id", 1)),
+						IngestOptions.defaults().inCollection("default-collection").retry(2, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.verifyError();
+
+		verify(collection, times(3)).bulkWrite(anyList(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retriesTransientFailuresOfUnorderedBulk() {
+
+		ops.insert(new BaseDoc()).insert(new BaseDoc());
+
+		MongoBulkWriteException writeConflict = new MongoBulkWriteException(
+				com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+				List.of(new BulkWriteError(112, "WriteConflict", new BsonDocument(), 0)), null, new ServerAddress(), Set.of());
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.error(writeConflict),
+				Mono.just(com.mongodb.bulk.BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of())));
+
+		template.bulkWrite(builder.build(), BulkWriteOptions.unordered().retryFailed(1)) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> {
+					assertThat(result.insertCount()).isEqualTo(2);
+					assertThat(result.failures()).isEmpty();
+					assertThat(result.outcomes()).extracting(BulkOperationOutcome::attempts).containsExactly(2, 1);
+				}).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> writeModels = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(writeModels.capture(), any());
+		assertThat(writeModels.getAllValues()).extracting(List::size).containsExactly(2, 1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retriesPendingOperationsOfUnorderedBulkAfterNetworkError() {
+
+		ops.insert(new BaseDoc()).insert(new BaseDoc());
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(
+				Mono.error(new MongoSocketReadException("connection reset", new ServerAddress())),
+				Mono.just(com.mongodb.bulk.BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of())));
+
+		template.bulkWrite(builder.build(), BulkWriteOptions.unordered().retryFailed(1, Duration.ofMillis(1))) //
+				.as(StepVerifier::create) //
+				.assertNext(result -> {
+					assertThat(result.insertCount()).isEqualTo(2);
+					assertThat(result.outcomes()).extracting(BulkOperationOutcome::attempts).containsExactly(2, 2);
+				}).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> writeModels = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(writeModels.capture(), any());
+		assertThat(writeModels.getAllValues().get(1)).isEqualTo(writeModels.getAllValues().get(0));
+	}
+
 	static <T extends ClientWriteModel> T extractWriteModel(Class<T> type, ClientNamespacedWriteModel source) {
 
 		if (!(source instanceof AbstractClientNamespacedWriteModel)) {
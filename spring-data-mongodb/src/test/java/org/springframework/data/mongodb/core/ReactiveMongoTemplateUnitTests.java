@@ -66,6 +66,7 @@ import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoTemplateUnitTests.AutogenerateableId;
 import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
 import org.springframework.data.mongodb.core.aggregation.ComparisonOperators.Gte;
@@ -73,6 +74,7 @@ import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators.Switch.CaseOperator;
 import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
@@ -730,6 +732,27 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(request).hasValueGreaterThan(128);
 	}
 
+	@Test
+	void aggregateServesCachedResultsIfRequested() {
+
+		doAnswer(invocation -> {
+			Flux.just(new Document("name", "luke")).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+		when(db.getName()).thenReturn("db");
+
+		template.setAggregationResultCache(new AggregationResultCache(10));
+		AggregationOptions options = AggregationOptions.builder().cacheResults(Duration.ofMinutes(1)).build();
+		TypedAggregation<Sith> aggregation = newAggregation(Sith.class, project("name")).withOptions(options);
+
+		template.aggregate(aggregation, Document.class).as(StepVerifier::create)
+				.expectNext(new Document("name", "luke")).verifyComplete();
+		template.aggregate(aggregation, Document.class).as(StepVerifier::create)
+				.expectNext(new Document("name", "luke")).verifyComplete();
+
+		verify(collection, times(1)).aggregate(anyList(), any(Class.class));
+	}
+
 	@Test // DATAMONGO-1854
 	void aggreateShouldUseCollationFromOptionsEvenIfDefaultCollationIsPresent() {
 
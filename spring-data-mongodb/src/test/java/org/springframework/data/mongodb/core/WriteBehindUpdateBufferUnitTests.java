@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.WriteBehindUpdateBuffer.Statistics;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Unit tests for {@link WriteBehindUpdateBuffer}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WriteBehindUpdateBufferUnitTests {
+
+	@Mock MongoOperations operations;
+	@Mock BulkOperations bulkOperations;
+
+	WriteBehindUpdateBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+
+		when(operations.bulkOps(any(), any(), anyString())).thenReturn(bulkOperations);
+		buffer = new WriteBehindUpdateBuffer(operations, Duration.ofHours(1));
+	}
+
+	@Test
+	void coalescesUpdatesOfSameDocument() {
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.update(1, new Update().inc("hits", 2).set("status", "active").max("peak", 5), null, "counters");
+		buffer.update(1, new Update().max("peak", 3).set("status", "idle").inc("hits", 1.5), null, "counters");
+
+		buffer.flush();
+
+		ArgumentCaptor<UpdateDefinition> captor = ArgumentCaptor.forClass(UpdateDefinition.class);
+		verify(operations).bulkOps(BulkMode.ORDERED, null, "counters");
+		verify(bulkOperations).updateOne(any(Query.class), captor.capture());
+		verify(bulkOperations).execute();
+
+		assertThat(captor.getValue().getUpdateObject()).isEqualTo(
+				Document.parse("{ $inc : { hits : 4.5 }, $set : { status : 'idle' }, $max : { peak : 5 } }"));
+		assertThat(buffer.getStatistics()).isEqualTo(new Statistics(3, 2, 1, 1, 0, 0, 0));
+	}
+
+	@Test
+	void writesConflictingUpdatesInOrder() {
+
+		buffer.update(1, new Update().set("stats", new Document("hits", 0)), null, "counters");
+		buffer.update(1, new Update().inc("stats.hits", 1), null, "counters");
+		buffer.update(1, new Update().push("tags", "hot"), null, "counters");
+		buffer.update(1, new Update().inc("stats.hits", 1), null, "counters");
+
+		buffer.flush();
+
+		ArgumentCaptor<UpdateDefinition> captor = ArgumentCaptor.forClass(UpdateDefinition.class);
+		verify(bulkOperations, times(4)).updateOne(any(Query.class), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(UpdateDefinition::getUpdateObject).containsExactly(
+				Document.parse("{ $set : { stats : { hits : 0 } } }"), Document.parse("{ $inc : { 'stats.hits' : 1 } }"),
+				Document.parse("{ $push : { tags : 'hot' } }"), Document.parse("{ $inc : { 'stats.hits' : 1 } }"));
+	}
+
+	@Test
+	void doesNotCoalesceUpdatesAndUpserts() {
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.upsert(1, new Update().inc("hits", 1), null, "counters");
+
+		buffer.flush();
+
+		InOrder inOrder = inOrder(bulkOperations);
+		inOrder.verify(bulkOperations).updateOne(any(Query.class), any(UpdateDefinition.class));
+		inOrder.verify(bulkOperations).upsert(any(Query.class), any(UpdateDefinition.class));
+	}
+
+	@Test
+	void doesNotCoalesceOverflowingIncrements() {
+
+		buffer.update(1, new Update().inc("hits", Long.MAX_VALUE), null, "counters");
+		buffer.update(1, new Update().inc("hits", 1L), null, "counters");
+
+		buffer.flush();
+
+		verify(bulkOperations, times(2)).updateOne(any(Query.class), any(UpdateDefinition.class));
+	}
+
+	@Test
+	void writesOneBulkPerCollection() {
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.update(2, new Update().inc("hits", 1), null, "counters");
+		buffer.update(1, new Update().set("state", "done"), null, "jobs");
+
+		buffer.flush();
+
+		verify(operations).bulkOps(BulkMode.ORDERED, null, "counters");
+		verify(operations).bulkOps(BulkMode.ORDERED, null, "jobs");
+		verify(bulkOperations, times(3)).updateOne(any(Query.class), any(UpdateDefinition.class));
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	void flushesWhenPendingDocumentLimitIsReached() {
+
+		buffer.setMaxPendingDocuments(2);
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		verifyNoInteractions(bulkOperations);
+
+		buffer.update(2, new Update().inc("hits", 1), null, "counters");
+		verify(bulkOperations).execute();
+		assertThat(buffer.getStatistics().pendingDocuments()).isZero();
+	}
+
+	@Test
+	void stopFlushesPendingUpdates() {
+
+		buffer.start();
+		assertThat(buffer.isRunning()).isTrue();
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.stop();
+
+		assertThat(buffer.isRunning()).isFalse();
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	void reportsFailedFlushes() {
+
+		when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("boom"));
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(buffer::flush);
+		assertThat(buffer.getStatistics().failedFlushes()).isOne();
+		assertThat(buffer.getStatistics().lostUpdates()).isOne();
+		assertThat(buffer.getStatistics().pendingDocuments()).isZero();
+	}
+
+	@Test
+	void buffersUpdatesOfRemainingCollectionsAgainAfterFailedFlush() {
+
+		when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("boom"))
+				.thenReturn(null);
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.update(1, new Update().set("state", "done"), null, "jobs");
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(buffer::flush);
+		assertThat(buffer.getStatistics().lostUpdates()).isOne();
+		assertThat(buffer.getStatistics().pendingDocuments()).isOne();
+
+		buffer.flush();
+
+		verify(operations).bulkOps(BulkMode.ORDERED, null, "counters");
+		verify(operations).bulkOps(BulkMode.ORDERED, null, "jobs");
+		verify(bulkOperations, times(2)).execute();
+		assertThat(buffer.getStatistics().writtenUpdates()).isOne();
+		assertThat(buffer.getStatistics().pendingDocuments()).isZero();
+	}
+
+	@Test
+	void buffersUpdatesFollowingFailedUpdateAgainAheadOfNewerUpdates() {
+
+		BulkOperationException failure = new BulkOperationException("boom",
+				new MongoBulkWriteException(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()),
+						List.of(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1)), null,
+						new ServerAddress(), Set.of()));
+		when(bulkOperations.execute()).thenThrow(failure).thenReturn(null);
+
+		buffer.update(1, new Update().inc("hits", 1), null, "counters");
+		buffer.update(2, new Update().inc("hits", 1), null, "counters");
+		buffer.update(3, new Update().push("tags", "hot"), null, "counters");
+
+		assertThatExceptionOfType(BulkOperationException.class).isThrownBy(buffer::flush);
+		assertThat(buffer.getStatistics()).isEqualTo(new Statistics(3, 0, 1, 1, 1, 1, 1));
+
+		buffer.update(3, new Update().push("tags", "cold"), null, "counters");
+		buffer.flush();
+
+		ArgumentCaptor<UpdateDefinition> captor = ArgumentCaptor.forClass(UpdateDefinition.class);
+		verify(bulkOperations, times(5)).updateOne(any(Query.class), captor.capture());
+		assertThat(captor.getAllValues().subList(3, 5)).extracting(UpdateDefinition::getUpdateObject).containsExactly(
+				Document.parse("{ $push : { tags : 'hot' } }"), Document.parse("{ $push : { tags : 'cold' } }"));
+		assertThat(buffer.getStatistics().writtenUpdates()).isEqualTo(3);
+	}
+
+	@Test
+	void rejectsUpdatesAfterStop() {
+
+		buffer.start();
+		buffer.stop();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> buffer.update(1, new Update().inc("hits", 1), null, "counters"));
+		assertThatIllegalStateException()
+				.isThrownBy(() -> buffer.upsert(1, new Update().inc("hits", 1), null, "counters"));
+		assertThat(buffer.getStatistics().receivedUpdates()).isZero();
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.aggregation.AggregationResultCache.CacheKey;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.Message.MessageProperties;
+import org.springframework.data.mongodb.core.query.Collation;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * Unit tests for {@link AggregationResultCache}.
+ *
+ * @author Mark Paluch
+ */
+class AggregationResultCacheUnitTests {
+
+	static final List<Document> PIPELINE = List.of(Document.parse("{ $match : { status : 'SHIPPED' } }"));
+	static final List<Document> RESULTS = List.of(new Document("_id", 1));
+
+	MutableClock clock = new MutableClock();
+	AggregationResultCache cache = new AggregationResultCache(2, clock);
+
+	@Test
+	void keysByDatabaseCollectionPipelineReadConcernAndCollation() {
+
+		AggregationOptions options = AggregationOptions.builder().build();
+		CacheKey key = AggregationResultCache.key("db", "orders", PIPELINE, options);
+
+		assertThat(key).isEqualTo(
+				AggregationResultCache.key("db", "orders", List.of(Document.parse("{ $match : { status : 'SHIPPED' } }")), options));
+		assertThat(key).isNotEqualTo(AggregationResultCache.key("db", "invoices", PIPELINE, options));
+		assertThat(key).isNotEqualTo(AggregationResultCache.key("other", "orders", PIPELINE, options));
+		assertThat(key).isNotEqualTo(
+				AggregationResultCache.key("db", "orders", List.of(Document.parse("{ $match : { status : 'OPEN' } }")), options));
+		assertThat(key).isNotEqualTo(AggregationResultCache.key("db", "orders", PIPELINE,
+				AggregationOptions.builder().readConcern(ReadConcern.MAJORITY).build()));
+		assertThat(key).isNotEqualTo(AggregationResultCache.key("db", "orders", PIPELINE,
+				AggregationOptions.builder().collation(Collation.of("de")).build()));
+	}
+
+	@Test
+	void dropsResultsReadBeforeEviction() {
+
+		CacheKey key = key("orders", PIPELINE);
+		long evictionCount = cache.getEvictionCount();
+
+		cache.evict("orders");
+
+		assertThat(cache.put(key, RESULTS, Duration.ofMinutes(1), evictionCount)).isFalse();
+		assertThat(cache.get(key)).isNull();
+
+		assertThat(cache.put(key, RESULTS, Duration.ofMinutes(1), cache.getEvictionCount())).isTrue();
+		assertThat(cache.get(key)).isEqualTo(RESULTS);
+	}
+
+	@Test
+	void servesCopiesOfCachedResults() {
+
+		CacheKey key = key("orders", PIPELINE);
+		List<Document> results = List.of(new Document("_id", 1).append("nested", new Document("value", 1)));
+		cache.put(key, results, Duration.ofMinutes(1));
+
+		cache.get(key).get(0).get("nested", Document.class).put("value", 2);
+		results.get(0).put("_id", 2);
+
+		assertThat(cache.get(key))
+				.containsExactly(new Document("_id", 1).append("nested", new Document("value", 1)));
+	}
+
+	@Test
+	void expiresEntriesAfterTimeToLive() {
+
+		CacheKey key = key("orders", PIPELINE);
+		cache.put(key, RESULTS, Duration.ofSeconds(10));
+
+		clock.advance(Duration.ofSeconds(9));
+		assertThat(cache.get(key)).isEqualTo(RESULTS);
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.get(key)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesExceedingMaxSize() {
+
+		CacheKey orders = key("orders", PIPELINE);
+		CacheKey invoices = key("invoices", PIPELINE);
+		CacheKey customers = key("customers", PIPELINE);
+
+		cache.put(orders, RESULTS, Duration.ofMinutes(1));
+		cache.put(invoices, RESULTS, Duration.ofMinutes(1));
+		cache.get(orders);
+		cache.put(customers, RESULTS, Duration.ofMinutes(1));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(invoices)).isNull();
+		assertThat(cache.get(orders)).isNotNull();
+		assertThat(cache.get(customers)).isNotNull();
+	}
+
+	@Test
+	void evictsEntriesReadingFromCollection() {
+
+		CacheKey lookup = key("orders",
+				List.of(Document.parse("{ $lookup : { from : 'customers', localField : 'cid', foreignField : '_id', as : 'c' } }")));
+		CacheKey union = key("orders", List.of(Document.parse("{ $unionWith : { coll : 'archive', pipeline : [] } }")));
+		CacheKey plain = key("invoices", PIPELINE);
+
+		cache = new AggregationResultCache(10, clock);
+		cache.put(lookup, RESULTS, Duration.ofMinutes(1));
+		cache.put(union, RESULTS, Duration.ofMinutes(1));
+		cache.put(plain, RESULTS, Duration.ofMinutes(1));
+
+		assertThat(lookup.getCollections()).containsExactlyInAnyOrder("orders", "customers");
+
+		cache.evict("customers");
+		assertThat(cache.get(lookup)).isNull();
+		assertThat(cache.get(union)).isNotNull();
+
+		cache.evict("archive");
+		assertThat(cache.get(union)).isNull();
+		assertThat(cache.get(plain)).isNotNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void evictsEntriesOnChangeStreamEvents() {
+
+		CacheKey orders = key("orders", PIPELINE);
+		CacheKey invoices = key("invoices", PIPELINE);
+		cache.put(orders, RESULTS, Duration.ofMinutes(1));
+		cache.put(invoices, RESULTS, Duration.ofMinutes(1));
+
+		ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+		when(change.getNamespace()).thenReturn(new MongoNamespace("db", "orders"));
+		Message<ChangeStreamDocument<Document>, Object> message = mock(Message.class);
+		when(message.getRaw()).thenReturn(change);
+
+		cache.invalidationListener().onMessage(message);
+
+		assertThat(cache.get(orders)).isNull();
+		assertThat(cache.get(invoices)).isNotNull();
+
+		ChangeStreamEvent<Document> dropDatabase = mock(ChangeStreamEvent.class);
+		cache.onChange(dropDatabase);
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void listenerFallsBackToMessagePropertiesWithoutNamespace() {
+
+		cache.put(key("orders", PIPELINE), RESULTS, Duration.ofMinutes(1));
+		cache.put(key("invoices", PIPELINE), RESULTS, Duration.ofMinutes(1));
+
+		Message<ChangeStreamDocument<Document>, Object> message = mock(Message.class);
+		when(message.getProperties()).thenReturn(MessageProperties.builder().collectionName("orders").build());
+
+		cache.invalidationListener().onMessage(message);
+
+		assertThat(cache.size()).isOne();
+	}
+
+	private static CacheKey key(String collectionName, List<Document> pipeline) {
+		return AggregationResultCache.key("db", collectionName, pipeline, AggregationOptions.builder().build());
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
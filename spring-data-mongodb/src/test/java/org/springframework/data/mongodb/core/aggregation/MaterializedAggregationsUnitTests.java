@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+/**
+ * Unit tests for {@link MaterializedAggregations}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MaterializedAggregationsUnitTests {
+
+	static final Aggregation REVENUE_BY_REGION = newAggregation(match(where("status").is("SHIPPED")),
+			group("region").sum("total").as("revenue"), sort(Direction.DESC, "revenue"));
+
+	static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+	@Mock MongoOperations operations;
+	@Mock MongoCollection<Document> collection;
+	@Mock FindIterable<Document> findIterable;
+	@Mock ListIndexesIterable<Document> listIndexesIterable;
+	@Mock MessageListenerContainer container;
+	@Mock Subscription subscription;
+
+	MaterializedAggregations views;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		when(operations.prepareAggregation(any())).thenAnswer(invocation -> PreparedAggregation
+				.of(invocation.getArgument(0), null, converter));
+		when(operations.execute(anyString(), any(CollectionCallback.class)))
+				.thenAnswer(invocation -> invocation.getArgument(1, CollectionCallback.class).doInCollection(collection));
+		when(collection.find()).thenReturn(findIterable);
+		when(findIterable.projection(any())).thenReturn(findIterable);
+		when(findIterable.sort(any())).thenReturn(findIterable);
+		when(findIterable.into(any())).thenAnswer(invocation -> {
+
+			List<Document> target = invocation.getArgument(0);
+			target.add(new Document("_id", "EMEA").append("revenue", 42));
+			return target;
+		});
+		when(collection.listIndexes()).thenReturn(listIndexesIterable);
+		when(listIndexesIterable.into(any())).thenAnswer(invocation -> {
+
+			List<Document> target = invocation.getArgument(0);
+			target.add(new Document("v", 2).append("key", new Document("_id", 1)).append("name", "_id_"));
+			target.add(new Document("v", 2).append("key", new Document("revenue", -1)).append("name", "revenue_-1")
+					.append("ns", "db.revenue"));
+			return target;
+		});
+		when(collection.getNamespace()).thenReturn(new MongoNamespace("db", "revenue__refresh_" + NOW));
+		when(container.register(any(), any())).thenReturn(subscription);
+
+		views = new MaterializedAggregations(operations, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+	}
+
+	@AfterEach
+	void tearDown() {
+		views.stop();
+	}
+
+	@Test
+	void refreshWritesOutputToRefreshCollectionAndRenamesIt() {
+
+		views.register(MaterializedAggregation.builder(REVENUE_BY_REGION).from("orders").into("revenue").build());
+		views.refresh("revenue");
+
+		List<Document> pipeline = captureRefreshPipeline("orders", 1).get(0);
+
+		assertThat(pipeline).hasSize(5);
+		assertThat(pipeline.subList(0, 3)).isEqualTo(REVENUE_BY_REGION.toPipeline(Aggregation.DEFAULT_CONTEXT));
+		assertThat(pipeline.get(3)).isEqualTo(new Document("$set", new Document("__generation", NOW)));
+		assertThat(pipeline.get(4)).isEqualTo(new Document("$out", "revenue__refresh_" + NOW));
+
+		InOrder inOrder = inOrder(operations, collection);
+		inOrder.verify(operations).executeCommand(new Document("createIndexes", "revenue__refresh_" + NOW).append("indexes",
+				List.of(Document.parse("{ v : 2, key : { revenue : -1 }, name : 'revenue_-1' }"))));
+		inOrder.verify(operations).aggregate(any(Aggregation.class), eq("orders"), eq(Document.class));
+		inOrder.verify(collection).renameCollection(eq(new MongoNamespace("db", "revenue")),
+				argThat(RenameCollectionOptions::isDropTarget));
+
+		verify(collection, never()).deleteMany(any());
+		verify(operations, never()).dropCollection(anyString());
+		assertThat(views.isMaterialized("revenue")).isTrue();
+	}
+
+	@Test
+	void dropsRefreshCollectionWhenRefreshFails() {
+
+		when(operations.aggregate(any(Aggregation.class), anyString(), eq(Document.class)))
+				.thenThrow(new DataAccessResourceFailureException("boom"));
+
+		views.register(MaterializedAggregation.builder(REVENUE_BY_REGION).from("orders").into("revenue").build());
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(() -> views.refresh("revenue"));
+
+		verify(operations).dropCollection("revenue__refresh_" + NOW);
+		verify(collection, never()).renameCollection(any(MongoNamespace.class), any(RenameCollectionOptions.class));
+		assertThat(views.isMaterialized("revenue")).isFalse();
+	}
+
+	@Test
+	void readsMaterializedOutputOfMatchingPipelineOnly() {
+
+		List<Document> pipeline = REVENUE_BY_REGION.toPipeline(Aggregation.DEFAULT_CONTEXT);
+		views.register(MaterializedAggregation.builder(REVENUE_BY_REGION).from("orders").into("revenue").build());
+
+		assertThat(views.read("orders", pipeline)).isNull();
+
+		views.refresh("revenue");
+
+		assertThat(views.read("orders", pipeline)).containsExactly(new Document("_id", "EMEA").append("revenue", 42));
+		assertThat(views.read("invoices", pipeline)).isNull();
+		assertThat(views.read("orders", pipeline.subList(0, 2))).isNull();
+
+		verify(operations, times(2)).execute(eq("revenue"), any());
+		verify(findIterable).projection(new Document("__generation", 0));
+		verify(findIterable).sort(new Document("revenue", -1));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void refreshesAffectedPartitionsOnChange() {
+
+		views.setMessageListenerContainer(container);
+		views.register(MaterializedAggregation.builder(REVENUE_BY_REGION).from("orders").into("revenue")
+				.refreshOnChange(Duration.ZERO).partitionBy("region", "_id").build());
+		views.start();
+
+		captureRefreshPipeline("orders", 1);
+
+		ArgumentCaptor<ChangeStreamRequest> request = ArgumentCaptor.forClass(ChangeStreamRequest.class);
+		verify(container).register(request.capture(), eq(Object.class));
+		assertThat(request.getValue().getRequestOptions().getCollectionName()).isEqualTo("orders");
+
+		ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+		when(change.getOperationType()).thenReturn(OperationType.INSERT);
+		when(change.getFullDocument()).thenReturn(new Document("region", "APAC"));
+		Message<ChangeStreamDocument<Document>, Object> message = mock(Message.class);
+		when(message.getRaw()).thenReturn(change);
+
+		request.getValue().getMessageListener().onMessage(message);
+
+		List<Document> pipeline = captureRefreshPipeline("revenue", 1).get(0);
+		List<Document> partitionPipeline = new ArrayList<>();
+		partitionPipeline.add(Document.parse("{ $match : { region : { $in : [ 'APAC' ] } } }"));
+		partitionPipeline.addAll(REVENUE_BY_REGION.toPipeline(Aggregation.DEFAULT_CONTEXT));
+
+		assertThat(pipeline).containsExactly(Document.parse("{ $match : { _id : { $nin : [ 'APAC' ] } } }"),
+				new Document("$unionWith", new Document("coll", "orders").append("pipeline", partitionPipeline)),
+				new Document("$set", new Document("__generation", NOW + 1)), new Document("$out", "revenue__refresh_" + (NOW + 1)));
+		verify(collection, timeout(1000).times(2)).renameCollection(eq(new MongoNamespace("db", "revenue")), any());
+
+		views.stop();
+		verify(subscription).cancel();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void determinesAffectedPartitions() {
+
+		MaterializedAggregation definition = MaterializedAggregation.builder(REVENUE_BY_REGION).from("orders")
+				.into("revenue").partitionBy("region", "_id").build();
+
+		ChangeStreamDocument<Document> insert = mock(ChangeStreamDocument.class);
+		when(insert.getOperationType()).thenReturn(OperationType.INSERT);
+		when(insert.getFullDocument()).thenReturn(new Document("region", "EMEA"));
+		assertThat(MaterializedAggregations.affectedPartitions(definition, insert)).containsExactly("EMEA");
+
+		ChangeStreamDocument<Document> update = mock(ChangeStreamDocument.class);
+		when(update.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(update.getFullDocument()).thenReturn(new Document("region", "EMEA"));
+		when(update.getUpdateDescription())
+				.thenReturn(new UpdateDescription(List.of(), BsonDocument.parse("{ total : 10 }")));
+		assertThat(MaterializedAggregations.affectedPartitions(definition, update)).containsExactly("EMEA");
+
+		ChangeStreamDocument<Document> move = mock(ChangeStreamDocument.class);
+		when(move.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(move.getFullDocument()).thenReturn(new Document("region", "APAC"));
+		when(move.getUpdateDescription())
+				.thenReturn(new UpdateDescription(List.of(), BsonDocument.parse("{ region : 'APAC' }")));
+		assertThat(MaterializedAggregations.affectedPartitions(definition, move)).isNull();
+
+		when(move.getFullDocumentBeforeChange()).thenReturn(new Document("region", "EMEA"));
+		assertThat(MaterializedAggregations.affectedPartitions(definition, move)).containsExactlyInAnyOrder("EMEA",
+				"APAC");
+
+		ChangeStreamDocument<Document> delete = mock(ChangeStreamDocument.class);
+		when(delete.getOperationType()).thenReturn(OperationType.DELETE);
+		assertThat(MaterializedAggregations.affectedPartitions(definition, delete)).isNull();
+
+		ChangeStreamDocument<Document> drop = mock(ChangeStreamDocument.class);
+		when(drop.getOperationType()).thenReturn(OperationType.DROP);
+		assertThat(MaterializedAggregations.affectedPartitions(definition, drop)).isNull();
+	}
+
+	@Test
+	void retainsOrderOfTrailingSortOnly() {
+
+		assertThat(MaterializedAggregations.trailingSort(List.of(Document.parse("{ $sort : { a : 1 } }"),
+				Document.parse("{ $skip : 10 }"), Document.parse("{ $limit : 10 }")))).isEqualTo(new Document("a", 1));
+		assertThat(MaterializedAggregations.trailingSort(
+				List.of(Document.parse("{ $sort : { a : 1 } }"), Document.parse("{ $group : { _id : '$a' } }")))).isNull();
+	}
+
+	@Test
+	void rejectsAggregationsWritingOutput() {
+
+		assertThatIllegalStateException().isThrownBy(() -> MaterializedAggregation
+				.builder(newAggregation(group("region"), out("regions"))).from("orders").into("revenue").build());
+		assertThatIllegalStateException().isThrownBy(
+				() -> MaterializedAggregation.builder(REVENUE_BY_REGION).into("revenue").build());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<List<Document>> captureRefreshPipeline(String collectionName, int times) {
+
+		ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+		verify(operations, timeout(1000).times(times)).aggregate(aggregation.capture(), eq(collectionName),
+				eq(Document.class));
+
+		List<List<Document>> pipelines = new ArrayList<>();
+		for (Aggregation it : aggregation.getAllValues()) {
+
+			assertThat(it.getOptions().isSkipResults()).isTrue();
+			assertThat(it.getOptions().getDomainTypeMapping()).isEqualTo(AggregationOptions.DomainTypeMapping.NONE);
+			pipelines.add(it.toPipeline(Aggregation.DEFAULT_CONTEXT));
+		}
+		return pipelines;
+	}
+}
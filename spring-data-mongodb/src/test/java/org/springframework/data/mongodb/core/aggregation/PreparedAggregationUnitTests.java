@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.test.util.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link PreparedAggregation}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class PreparedAggregationUnitTests {
+
+	static final AggregationParameter<Integer> MIN_AGE = AggregationParameter.of("minAge", Integer.class);
+
+	@Mock DbRefResolver dbRefResolver;
+
+	MappingMongoConverter converter;
+	AggregationOperationContext context;
+
+	@BeforeEach
+	void setUp() {
+
+		converter = new MappingMongoConverter(dbRefResolver, new MongoMappingContext());
+		converter.afterPropertiesSet();
+		context = new TypeBasedAggregationOperationContext(Person.class, converter.getMappingContext(),
+				new QueryMapper(converter));
+	}
+
+	@Test
+	void mapsPipelineOnceAndBindsParameterValues() {
+
+		PreparedAggregation prepared = prepare(
+				newAggregation(Person.class, match(where("age").gte(MIN_AGE)), group("city").count().as("count")));
+
+		assertThat(prepared.getParameterNames()).containsExactly("minAge");
+		assertThat(prepared.getPipeline(Map.of("minAge", 21))).containsExactly(
+				Document.parse("{ $match : { years : { $gte : 21 } } }"),
+				Document.parse("{ $group : { _id : '$city', count : { $sum : 1 } } }"));
+		assertThat(prepared.getPipeline(Map.of("minAge", 42)).get(0))
+				.isEqualTo(Document.parse("{ $match : { years : { $gte : 42 } } }"));
+	}
+
+	@Test
+	void sharesStagesWithoutParameters() {
+
+		PreparedAggregation prepared = prepare(
+				newAggregation(Person.class, match(where("age").gte(MIN_AGE)), group("city").count().as("count")));
+
+		List<Document> first = prepared.getPipeline(Map.of("minAge", 21));
+		List<Document> second = prepared.getPipeline(Map.of("minAge", 42));
+
+		assertThat(first.get(0)).isNotSameAs(second.get(0));
+		assertThat(first.get(1)).isSameAs(second.get(1));
+	}
+
+	@Test
+	void bindsParametersWithinListsAndIdentifiers() {
+
+		ObjectId id = new ObjectId();
+		AggregationParameter<ObjectId> idParameter = AggregationParameter.of("id", ObjectId.class);
+
+		PreparedAggregation prepared = prepare(newAggregation(Person.class, match(where("id").is(idParameter)
+				.and("city").in(AggregationParameter.of("city1", String.class), AggregationParameter.of("city2", String.class)))));
+
+		assertThat(prepared.getPipeline(Map.of("id", id, "city1", "Seattle", "city2", "Portland"))).containsExactly(
+				new Document("$match", new Document("_id", id).append("city", new Document("$in", List.of("Seattle", "Portland")))));
+	}
+
+	@Test
+	void convertsValuesIntoParameterType() {
+
+		PreparedAggregation prepared = prepare(newAggregation(Person.class, match(where("age").gte(MIN_AGE))));
+
+		assertThat(prepared.getPipeline(Map.of("minAge", "21")).get(0))
+				.isEqualTo(Document.parse("{ $match : { years : { $gte : 21 } } }"));
+	}
+
+	@Test
+	void rejectsMissingParameterValue() {
+
+		PreparedAggregation prepared = prepare(newAggregation(Person.class, match(where("age").gte(MIN_AGE))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepared.getPipeline(Map.of()))
+				.withMessageContaining("minAge");
+	}
+
+	@Test
+	void rejectsParameterDeclaredWithDifferentTypes() {
+
+		Aggregation aggregation = newAggregation(Person.class, match(where("age").gte(MIN_AGE)),
+				match(where("city").is(AggregationParameter.of("minAge", String.class))));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> prepare(aggregation)).withMessageContaining("minAge");
+	}
+
+	@Test
+	void bindCreatesTypedAggregationRetainingOptions() {
+
+		AggregationOptions options = AggregationOptions.builder().allowDiskUse(true).build();
+		PreparedAggregation prepared = prepare(
+				newAggregation(Person.class, match(where("age").gte(MIN_AGE))).withOptions(options));
+
+		Aggregation aggregation = prepared.bind(Map.of("minAge", 21));
+
+		assertThat(aggregation).isInstanceOf(TypedAggregation.class);
+		assertThat(((TypedAggregation<?>) aggregation).getInputType()).isEqualTo(Person.class);
+		assertThat(aggregation.getOptions()).isSameAs(options);
+		assertThat(aggregation.toPipeline(context))
+				.containsExactly(Document.parse("{ $match : { years : { $gte : 21 } } }"));
+	}
+
+	private PreparedAggregation prepare(Aggregation aggregation) {
+		return PreparedAggregation.of(aggregation, null, converter);
+	}
+
+	static class Person {
+
+		String id;
+		String city;
+		@Field("years") Integer age;
+	}
+}
@@ -72,6 +72,14 @@ public class SpelExpressionTransformerUnitTests {
 		assertThat(transform("a % b")).isEqualTo("{ \"$mod\" : [ \"$a\" , \"$b\"]}");
 	}
 
+	@Test
+	void shouldRenderRepeatedExpressionWithDifferentParameters() {
+
+		assertThat(transform("a + [0]", 1)).isEqualTo("{ \"$add\" : [ \"$a\" , 1]}");
+		assertThat(transform("a + [0]", 2)).isEqualTo("{ \"$add\" : [ \"$a\" , 2]}");
+		assertThat(transform("a + [0]", "$b")).isEqualTo("{ \"$add\" : [ \"$a\" , \"$b\"]}");
+	}
+
 	@Test // DATAMONGO-774
 	void shouldThrowExceptionOnUnknownOperand() {
 		assertThatIllegalArgumentException().isThrownBy(() -> transform("a++"));
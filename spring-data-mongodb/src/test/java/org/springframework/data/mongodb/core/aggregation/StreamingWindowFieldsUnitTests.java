@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.aggregation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.SetWindowFieldsOperation.Windows;
+import org.springframework.data.mongodb.core.aggregation.SetWindowFieldsOperation.WindowUnits;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Unit tests for {@link StreamingWindowFields}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamingWindowFieldsUnitTests {
+
+	@Mock MongoOperations operations;
+
+	@Test
+	void computesRunningTotalsPerPartition() {
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.partitionByField("region") //
+				.sortBy(Sort.by("day")) //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.documents().fromUnbounded().toCurrent().build()) //
+				.as("runningTotal") //
+				.build(), "sales", "sales_running");
+
+		assertThat(windows.evaluate(sale(1, "north", 1, 10))).containsEntry("runningTotal", 10);
+		assertThat(windows.evaluate(sale(2, "south", 1, 5))).containsEntry("runningTotal", 5);
+		assertThat(windows.evaluate(sale(3, "north", 2, 20))).containsEntry("runningTotal", 30);
+		assertThat(windows.evaluate(sale(4, "north", 3, 2.5))).containsEntry("runningTotal", 32.5D) //
+				.containsEntry("amount", 2.5D);
+	}
+
+	@Test
+	void computesMovingAverageOverDocumentWindow() {
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.sortBy(Sort.by("day")) //
+				.output(AccumulatorOperators.valueOf("amount").avg()) //
+				.within(Windows.documents(-1, "current")) //
+				.as("avg") //
+				.output(AccumulatorOperators.valueOf("amount").max()) //
+				.within(Windows.documents(-2, 0)) //
+				.as("max") //
+				.build(), "sales", "sales_avg");
+
+		assertThat(windows.evaluate(sale(1, "north", 1, 10))).containsEntry("avg", 10D).containsEntry("max", 10);
+		assertThat(windows.evaluate(sale(2, "north", 2, 30))).containsEntry("avg", 20D).containsEntry("max", 30);
+		assertThat(windows.evaluate(sale(3, "north", 3, 20))).containsEntry("avg", 25D).containsEntry("max", 30);
+		assertThat(windows.evaluate(sale(4, "north", 4, 0))).containsEntry("avg", 10D).containsEntry("max", 30);
+		assertThat(windows.evaluate(sale(5, "north", 5, 0))).containsEntry("avg", 0D).containsEntry("max", 20);
+	}
+
+	@Test
+	void computesTimeRangeWindows() {
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.partitionByField("sensor") //
+				.sortBy(Sort.by("timestamp")) //
+				.output(AccumulatorOperators.valueOf("value").sum()) //
+				.within(Windows.range().from(-10).toCurrent().unit(WindowUnits.MINUTE).build()) //
+				.as("lastTenMinutes") //
+				.build(), "readings", "readings_rolling");
+
+		Instant start = Instant.parse("2026-01-01T10:00:00Z");
+
+		assertThat(windows.evaluate(reading(1, start, 1))).containsEntry("lastTenMinutes", 1);
+		assertThat(windows.evaluate(reading(2, start.plus(5, ChronoUnit.MINUTES), 2))).containsEntry("lastTenMinutes", 3);
+		assertThat(windows.evaluate(reading(3, start.plus(10, ChronoUnit.MINUTES), 4))).containsEntry("lastTenMinutes",
+				7);
+		assertThat(windows.evaluate(reading(4, start.plus(12, ChronoUnit.MINUTES), 8))).containsEntry("lastTenMinutes",
+				14);
+		assertThat(windows.evaluate(reading(5, start.plus(1, ChronoUnit.HOURS), 16))).containsEntry("lastTenMinutes", 16);
+	}
+
+	@Test
+	void retainsDocumentsRequiredByDocumentWindowsAlongsideRangeWindows() {
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.sortBy(Sort.by("day")) //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.documents(-5, "current")) //
+				.as("lastSix") //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.range(-1, "current", null)) //
+				.as("lastTwoDays") //
+				.build(), "sales", "sales_rolling");
+
+		for (int day = 1; day <= 5; day++) {
+			windows.evaluate(sale(day, "north", day, 1));
+		}
+
+		assertThat(windows.evaluate(sale(6, "north", 6, 1))).containsEntry("lastSix", 6).containsEntry("lastTwoDays", 2);
+		assertThat(windows.evaluate(sale(7, "north", 7, 1))).containsEntry("lastSix", 6).containsEntry("lastTwoDays", 2);
+		assertThat(windows.evaluate(sale(8, "north", 20, 1))).containsEntry("lastSix", 6).containsEntry("lastTwoDays", 1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedPartitions() {
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.partitionByField("region") //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.documents().fromUnbounded().toCurrent().build()) //
+				.as("total") //
+				.build(), "sales", "sales_running");
+		windows.setMaxPartitions(1);
+
+		windows.evaluate(sale(1, "north", 1, 10));
+		windows.evaluate(sale(2, "south", 1, 5));
+
+		assertThat(windows.evaluate(sale(3, "north", 2, 1))).containsEntry("total", 1);
+	}
+
+	@Test
+	void rejectsWindowsNotEndingAtCurrentDocument() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new StreamingWindowFields(operations,
+				SetWindowFieldsOperation.builder() //
+						.output(AccumulatorOperators.valueOf("amount").sum()) //
+						.within(Windows.documents(-1, 1)) //
+						.as("total") //
+						.build(),
+				"sales", "sales_running"));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new StreamingWindowFields(operations,
+				SetWindowFieldsOperation.builder() //
+						.output(AccumulatorOperators.valueOf("amount").sum()) //
+						.as("total") //
+						.build(),
+				"sales", "sales_running"));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new StreamingWindowFields(operations,
+				SetWindowFieldsOperation.builder() //
+						.output(ArrayOperators.arrayOf("amount").first()) //
+						.within(Windows.documents(-1, 0)) //
+						.as("first") //
+						.build(),
+				"sales", "sales_running"));
+	}
+
+	@Test
+	void writesPendingDocumentsOnFlush() {
+
+		BulkOperations bulk = mock(BulkOperations.class);
+		when(operations.bulkOps(BulkMode.UNORDERED, "sales_running")).thenReturn(bulk);
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.documents().fromUnbounded().toCurrent().build()) //
+				.as("total") //
+				.build(), "sales", "sales_running");
+
+		windows.onInsert(sale(1, "north", 1, 10));
+		windows.onInsert(sale(2, "north", 2, 5));
+
+		assertThat(windows.flush()).isEqualTo(2);
+		assertThat(windows.flush()).isZero();
+
+		verify(bulk).replaceOne(any(Query.class), eq(sale(2, "north", 2, 5).append("total", 15)),
+				any(FindAndReplaceOptions.class));
+		verify(bulk, times(2)).replaceOne(any(Query.class), any(Object.class), any(FindAndReplaceOptions.class));
+		verify(bulk).execute();
+	}
+
+	@Test
+	void keepsPendingDocumentsWhenFlushFails() {
+
+		BulkOperations failing = mock(BulkOperations.class);
+		BulkOperations bulk = mock(BulkOperations.class);
+		when(failing.execute()).thenThrow(new IllegalStateException("boom"));
+		when(operations.bulkOps(BulkMode.UNORDERED, "sales_running")).thenReturn(failing, bulk);
+
+		StreamingWindowFields windows = new StreamingWindowFields(operations, SetWindowFieldsOperation.builder() //
+				.output(AccumulatorOperators.valueOf("amount").sum()) //
+				.within(Windows.documents().fromUnbounded().toCurrent().build()) //
+				.as("total") //
+				.build(), "sales", "sales_running");
+
+		windows.onInsert(sale(1, "north", 1, 10));
+		windows.onInsert(sale(2, "north", 2, 5));
+
+		assertThatIllegalStateException().isThrownBy(windows::flush);
+
+		windows.onInsert(sale(2, "north", 2, 7));
+
+		assertThat(windows.flush()).isEqualTo(2);
+
+		verify(bulk).replaceOne(any(Query.class), eq(sale(1, "north", 1, 10).append("total", 10)),
+				any(FindAndReplaceOptions.class));
+		verify(bulk).replaceOne(any(Query.class), eq(sale(2, "north", 2, 7).append("total", 22)),
+				any(FindAndReplaceOptions.class));
+		verify(bulk, times(2)).replaceOne(any(Query.class), any(Object.class), any(FindAndReplaceOptions.class));
+	}
+
+	private static Document sale(int id, String region, int day, Number amount) {
+		return new Document("_id", id).append("region", region).append("day", day).append("amount", amount);
+	}
+
+	private static Document reading(int id, Instant timestamp, int value) {
+		return new Document("_id", id).append("sensor", "s1").append("timestamp", Date.from(timestamp)).append("value",
+				value);
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.DocumentReference;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+
+/**
+ * Unit tests for {@link ReferenceLookupStages}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceLookupStagesUnitTests {
+
+	@Mock DbRefResolver dbRefResolver;
+
+	MongoMappingContext mappingContext;
+	MappingMongoConverter converter;
+	ReferenceLookupStages lookupStages;
+
+	@BeforeEach
+	void setUp() {
+
+		mappingContext = new MongoMappingContext();
+		converter = new MappingMongoConverter(dbRefResolver, mappingContext);
+		converter.afterPropertiesSet();
+		lookupStages = new ReferenceLookupStages(mappingContext);
+	}
+
+	@Test
+	void createsLookupStagesForJoinableReferences() {
+
+		List<Document> stages = lookupStages.createLookupStages(mappingContext.getRequiredPersistentEntity(Book.class));
+
+		assertThat(stages).containsExactly( //
+				Document.parse(
+						"{ $lookup : { from : 'author', localField : 'author_id', foreignField : '_id', as : '__joinedReferences.author_id' } }"),
+				Document.parse(
+						"{ $lookup : { from : 'publisher', localField : 'publisher.acc', foreignField : 'acronym', pipeline : [ { $sort : { name : 1 } } ], as : '__joinedReferences.publisher' } }"),
+				Document.parse("{ $lookup : { from : 'author', localField : 'reviewers', foreignField : '_id', "
+						+ "as : '__joinedReferences.reviewers' } }"),
+				Document.parse("{ $lookup : { from : 'author', let : { ids : [ { $getField : { field : { $literal : '$id' }, "
+						+ "input : '$editor' } } ] }, pipeline : [ { $match : { $expr : { $in : [ '$_id', '$$ids' ] } } } ], "
+						+ "as : '__joinedReferences.editor' } }"),
+				Document.parse("{ $lookup : { from : 'author', let : { ids : { $map : { input : { $ifNull : [ '$translators', [] ] }, "
+						+ "in : { $getField : { field : { $literal : '$id' }, input : '$$this' } } } } }, "
+						+ "pipeline : [ { $match : { $expr : { $in : [ '$_id', '$$ids' ] } } } ], as : '__joinedReferences.translators' } }"));
+	}
+
+	@Test
+	void readsJoinedDocumentReferencesInline() {
+
+		Document source = Document.parse("{ _id : 'b1', author_id : 'a1', reviewers : [ 'a3', 'a2' ], __joinedReferences : { "
+				+ "author_id : [ { _id : 'a1', name : 'Ursula' } ], "
+				+ "reviewers : [ { _id : 'a2', name : 'Iain' }, { _id : 'a3', name : 'Octavia' } ] } }");
+
+		Book book = converter.read(Book.class, source);
+
+		assertThat(book.author.name).isEqualTo("Ursula");
+		assertThat(book.reviewers).extracting(it -> it.name).containsExactly("Octavia", "Iain");
+		verify(dbRefResolver, never()).resolveReference(
+				argThat(property -> !property.getName().equals("publisher")), any(), any(), any());
+	}
+
+	@Test
+	void readsJoinedDbRefsInline() {
+
+		Document source = new Document("_id", "b1")
+				.append("editor", new com.mongodb.DBRef("author", "a1"))
+				.append("translators", List.of(new com.mongodb.DBRef("author", "a3"), new com.mongodb.DBRef("author", "a2")))
+				.append("__joinedReferences", new Document("editor", List.of(new Document("_id", "a1").append("name", "Ursula")))
+						.append("translators", List.of(new Document("_id", "a2").append("name", "Iain"),
+								new Document("_id", "a3").append("name", "Octavia"))));
+
+		Book book = converter.read(Book.class, source);
+
+		assertThat(book.editor.name).isEqualTo("Ursula");
+		assertThat(book.translators).extracting(it -> it.name).containsExactly("Octavia", "Iain");
+		verify(dbRefResolver, never()).resolveDbRef(any(), any(), any(), any());
+	}
+
+	@Test
+	void readsJoinedDbRefsLikeResolvedOnes() {
+
+		converter.setEntityCallbacks(EntityCallbacks.create((AfterConvertCallback<Author>) (author, document, collection) -> {
+
+			author.name = author.name + "@" + collection;
+			return author;
+		}));
+
+		Document source = new Document("_id", "b1").append("editor", new com.mongodb.DBRef("author", "a1"))
+				.append("translators", List.of(new com.mongodb.DBRef("author", "a2")))
+				.append("__joinedReferences", new Document("editor", List.of(new Document("_id", "a1").append("name", "Ursula")))
+						.append("translators", List.of(new Document("_id", "a2").append("name", "Iain"))));
+
+		Book book = converter.read(Book.class, source);
+
+		assertThat(book.editor.name).isEqualTo("Ursula@author");
+		assertThat(book.translators).extracting(it -> it.name).containsExactly("Iain@author");
+	}
+
+	@Test
+	void resolvesDbRefsNotContainedInJoinedDocuments() {
+
+		com.mongodb.DBRef editor = new com.mongodb.DBRef("author", "a1");
+		Document source = new Document("_id", "b1").append("editor", editor).append("__joinedReferences",
+				new Document("editor", List.of()));
+
+		converter.read(Book.class, source);
+
+		verify(dbRefResolver).resolveDbRef(any(), eq(editor), any(), any());
+	}
+
+	@Test
+	void skipsReferencesThatCannotBeJoined() {
+
+		assertThat(lookupStages.createLookupStages(mappingContext.getRequiredPersistentEntity(Library.class))).isEmpty();
+	}
+
+	static class Book {
+
+		@Id String id;
+		@Field("author_id") @DocumentReference Author author;
+		@DocumentReference(lookup = "{ 'acronym' : ?#{#target.acc} }", sort = "{ 'name' : 1 }") Publisher publisher;
+		@DocumentReference List<Author> reviewers;
+		@DBRef Author editor;
+		@DBRef List<Author> translators;
+	}
+
+	static class Library {
+
+		@Id String id;
+		@DocumentReference(lazy = true) Author lazyAuthor;
+		@DocumentReference(lookup = "{ 'publisherId' : ?#{#self._id} }") List<Book> books;
+		@DocumentReference(db = "other") Author remoteAuthor;
+		@DocumentReference(collection = "#{#target.collection}") Author dynamicAuthor;
+		@DBRef(lazy = true) Author lazyEditor;
+	}
+
+	static class Author {
+
+		@Id String id;
+		String name;
+	}
+
+	static class Publisher {
+
+		@Id String id;
+		String acronym;
+		String name;
+	}
+}
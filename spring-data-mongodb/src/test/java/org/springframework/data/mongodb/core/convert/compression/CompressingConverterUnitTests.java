@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert.compression;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Compressed;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link CompressingConverter} and {@link Compression}.
+ *
+ * @author Mark Paluch
+ */
+class CompressingConverterUnitTests {
+
+	static final byte[] PAYLOAD = "{ \"level\" : \"INFO\", \"message\" : \"ok\" }\n".repeat(100)
+			.getBytes(StandardCharsets.UTF_8);
+
+	MappingMongoConverter converter;
+
+	@BeforeEach
+	void setUp() {
+
+		converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	void roundTripsCompressions() {
+
+		for (Compression compression : new Compression[] { Compression.deflate(), Compression.gzip() }) {
+
+			byte[] compressed = compression.compress(PAYLOAD);
+
+			assertThat(compressed.length).isLessThan(PAYLOAD.length / 10);
+			assertThat(compression.decompress(compressed)).isEqualTo(PAYLOAD);
+			assertThat(Compression.of(compression.getName())).isSameAs(compression);
+		}
+	}
+
+	@Test
+	void deflateWritesZlibFormat() {
+
+		byte[] compressed = Compression.deflate().compress(PAYLOAD);
+
+		assertThat(compressed[0]).isEqualTo((byte) 0x78);
+		assertThat(((compressed[0] & 0xFF) << 8 | (compressed[1] & 0xFF)) % 31).isZero();
+	}
+
+	@Test
+	void rejectsInvalidData() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> Compression.deflate().decompress(new byte[] { 1, 2, 3 }));
+		assertThatIllegalArgumentException().isThrownBy(() -> Compression.of("lz4"));
+	}
+
+	@Test
+	void writesCompressedPropertyWithAlgorithm() {
+
+		Message message = new Message();
+		message.payload = PAYLOAD;
+		message.attachment = new Binary(PAYLOAD);
+
+		Document target = new Document();
+		converter.write(message, target);
+
+		assertThat(target.get("payload", Document.class)).containsEntry("_compression", "deflate");
+		assertThat(target.get("attachment", Document.class)).containsEntry("_compression", "gzip");
+
+		Message read = converter.read(Message.class, target);
+
+		assertThat(read.payload).isEqualTo(PAYLOAD);
+		assertThat(read.attachment).isEqualTo(new Binary(PAYLOAD));
+	}
+
+	@Test
+	void storesIncompressibleAndReadsUncompressedValuesAsIs() {
+
+		Message message = new Message();
+		message.payload = new byte[] { 1 };
+
+		Document target = new Document();
+		converter.write(message, target);
+
+		assertThat(target.get("payload")).isEqualTo(new Binary(new byte[] { 1 }));
+		assertThat(converter.read(Message.class, new Document("payload", new Binary(PAYLOAD))).payload).isEqualTo(PAYLOAD);
+	}
+
+	static class Message {
+
+		@Compressed byte[] payload;
+		@Compressed(algorithm = Compression.GZIP) Binary attachment;
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Recommendation;
+import org.springframework.data.mongodb.core.index.IndexAdvice.Type;
+import org.springframework.data.mongodb.core.index.IndexAdvisor.QueryShape;
+
+/**
+ * Unit tests for {@link IndexAdvisor}.
+ *
+ * @author Mark Paluch
+ */
+class IndexAdvisorUnitTests {
+
+	IndexAdvisor advisor = new IndexAdvisor();
+
+	@Test
+	void extractsEqualitySortAndRangeFields() {
+
+		QueryShape shape = QueryShape.of(Document.parse("""
+				{ status : 'A', region : { $in : [ 'EU', 'US' ] }, total : { $gt : 10 },
+				  $and : [ { createdAt : { $lt : 1 } }, { customer : 'c1' } ], $or : [ { a : 1 }, { b : 1 } ] }
+				"""), new Document("createdAt", -1));
+
+		assertThat(shape.equality()).containsExactly("customer", "region", "status");
+		assertThat(shape.range()).containsExactly("createdAt", "total");
+		assertThat(shape.sort()).isEqualTo(new Document("createdAt", -1));
+		assertThat(shape.getSuggestedIndex()).containsExactly(entry("customer", 1), entry("region", 1),
+				entry("status", 1), entry("createdAt", -1), entry("total", 1));
+	}
+
+	@Test
+	void reportsCollectionScansAndIndexesNotObservedInFinds() {
+
+		advisor.record("orders", new Document("status", "A"), null);
+		advisor.record("orders", new Document("status", "B"), null);
+		advisor.record("orders", new Document("_id", 1), null);
+
+		IndexAdvice advice = advisor.advise(provider(index("_id_", "_id"), index("customer_1", "customer")));
+
+		assertThat(advice.recommendations()).extracting(Recommendation::type).containsExactly(Type.COLLECTION_SCAN,
+				Type.NOT_OBSERVED_IN_FINDS);
+		assertThat(advice.getRecommendations(Type.COLLECTION_SCAN)).singleElement().satisfies(it -> {
+
+			assertThat(it.collection()).isEqualTo("orders");
+			assertThat(it.executions()).isEqualTo(2);
+			assertThat(it.suggestedIndex()).isEqualTo(new Document("status", 1));
+		});
+		assertThat(advice.getRecommendations(Type.NOT_OBSERVED_IN_FINDS)).extracting(Recommendation::index)
+				.containsExactly("customer_1");
+	}
+
+	@Test
+	void doesNotReportUniqueTtlPartialOrHiddenIndexesAsNotObserved() {
+
+		advisor.record("orders", new Document("status", "A"), null);
+
+		IndexAdvice advice = advisor.advise(provider(index("_id_", "_id"), //
+				IndexInfo.indexInfoOf(Document.parse("{ name : 'email_1', key : { email : 1 }, unique : true }")), //
+				IndexInfo.indexInfoOf(Document.parse("{ name : 'expires_1', key : { expires : 1 }, expireAfterSeconds : 0 }")), //
+				IndexInfo.indexInfoOf(Document.parse(
+						"{ name : 'open_1', key : { open : 1 }, partialFilterExpression : { open : { $exists : true } } }")), //
+				IndexInfo.indexInfoOf(Document.parse("{ name : 'legacy_1', key : { legacy : 1 }, hidden : true }")), //
+				index("customer_1", "customer")));
+
+		assertThat(advice.getRecommendations(Type.NOT_OBSERVED_IN_FINDS)).extracting(Recommendation::index)
+				.containsExactly("customer_1");
+	}
+
+	@Test
+	void reportsMissingCompoundIndexesAndEsrViolations() {
+
+		advisor.record("orders", Document.parse("{ status : 'A', total : { $gt : 10 } }"), new Document("createdAt", 1));
+		advisor.record("users", Document.parse("{ lastname : 'Skywalker', age : { $gte : 18 } }"), null);
+
+		IndexAdvice advice = advisor.advise((collection, type) -> "orders".equals(collection)
+				? indexOps(index("status_1", "status"))
+				: indexOps(index("age_1_lastname_1", "age", "lastname")));
+
+		assertThat(advice.getRecommendations(Type.MISSING_COMPOUND_INDEX)).singleElement().satisfies(it -> {
+
+			assertThat(it.collection()).isEqualTo("orders");
+			assertThat(it.suggestedIndex()).containsExactly(entry("status", 1), entry("createdAt", 1), entry("total", 1));
+		});
+		assertThat(advice.getRecommendations(Type.ESR_VIOLATION)).singleElement().satisfies(it -> {
+
+			assertThat(it.collection()).isEqualTo("users");
+			assertThat(it.index()).isEqualTo("age_1_lastname_1");
+			assertThat(it.suggestedIndex()).containsExactly(entry("lastname", 1), entry("age", 1));
+		});
+	}
+
+	@Test
+	void acceptsIndexesFollowingEsrRule() {
+
+		advisor.record("orders", Document.parse("{ status : 'A', total : { $gt : 10 } }"), new Document("createdAt", -1));
+
+		assertThat(advisor.advise(provider(index("_id_", "_id"), index("esr", "status", "createdAt", "total")))).satisfies(
+				it -> assertThat(it.isEmpty()).isTrue());
+	}
+
+	@Test
+	void limitsShapesPerCollection() {
+
+		IndexAdvisor advisor = new IndexAdvisor(1);
+
+		advisor.record("orders", new Document("status", "A"), null);
+		advisor.record("orders", new Document("customer", "c1"), null);
+		advisor.record("orders", new Document("status", "B"), null);
+
+		assertThat(advisor.getShapes("orders")).hasSize(1).containsValue(2L);
+	}
+
+	private static IndexOperationsProvider provider(IndexInfo... indexes) {
+
+		IndexOperations indexOperations = indexOps(indexes);
+		return (collection, type) -> indexOperations;
+	}
+
+	private static IndexOperations indexOps(IndexInfo... indexes) {
+
+		IndexOperations indexOperations = mock(IndexOperations.class);
+		when(indexOperations.getIndexInfo()).thenReturn(List.of(indexes));
+		return indexOperations;
+	}
+
+	private static IndexInfo index(String name, String... keys) {
+		return new IndexInfo(Arrays.stream(keys).map(it -> IndexField.create(it, Direction.ASC)).toList(), name, false,
+				false, "");
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link MongoPersistentEntityIndexBootstrapper}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoPersistentEntityIndexBootstrapperUnitTests {
+
+	@Mock IndexOperations personIndexOps;
+	@Mock IndexOperations orderIndexOps;
+
+	MongoPersistentEntityIndexBootstrapper bootstrapper;
+
+	@BeforeEach
+	void setUp() {
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class, Order.class, Unmapped.class));
+		mappingContext.afterPropertiesSet();
+
+		bootstrapper = new MongoPersistentEntityIndexBootstrapper(mappingContext,
+				(collection, type) -> "person".equals(collection) ? personIndexOps : orderIndexOps);
+		bootstrapper.setExecutor(Runnable::run);
+	}
+
+	@Test
+	void resolvesIndexesByCollection() {
+
+		Map<String, List<IndexDefinitionHolder>> indexes = bootstrapper.resolveIndexes();
+
+		assertThat(indexes).containsOnlyKeys("person", "order");
+		assertThat(indexes.get("person")).extracting(MongoPersistentEntityIndexBootstrapper::getIndexName)
+				.containsExactlyInAnyOrder("lastname", "email_idx");
+		assertThat(indexes.get("order")).extracting(MongoPersistentEntityIndexBootstrapper::getIndexName)
+				.containsExactly("customer_-1");
+	}
+
+	@Test
+	void createsOnlyMissingOrChangedIndexes() {
+
+		when(personIndexOps.getIndexInfo()).thenReturn(List.of(indexInfo("_id_", false), indexInfo("email_idx", true),
+				indexInfo("lastname", true)));
+		when(orderIndexOps.getIndexInfo()).thenReturn(List.of(indexInfo("_id_", false), indexInfo("customer_-1", false)));
+
+		bootstrapper.afterSingletonsInstantiated();
+
+		ArgumentCaptor<List<IndexDefinitionHolder>> created = ArgumentCaptor.forClass(List.class);
+		verify(personIndexOps).createIndexes(created.capture());
+		verify(orderIndexOps, never()).createIndexes(anyList());
+
+		assertThat(created.getValue()).extracting(MongoPersistentEntityIndexBootstrapper::getIndexName)
+				.containsExactly("lastname");
+	}
+
+	@Test
+	void reportsFailureUnlessRunningInBackground() {
+
+		when(personIndexOps.getIndexInfo()).thenReturn(List.of());
+		when(orderIndexOps.getIndexInfo()).thenReturn(List.of());
+		when(personIndexOps.createIndexes(anyList())).thenThrow(new DataIntegrityViolationException("conflict"));
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class)
+				.isThrownBy(() -> bootstrapper.afterSingletonsInstantiated()).withMessageContaining("person");
+
+		bootstrapper.setBackground(true);
+		bootstrapper.afterSingletonsInstantiated();
+
+		assertThat(bootstrapper.createIndexes()).isCompletedExceptionally();
+		assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> bootstrapper.createIndexes().join());
+	}
+
+	private static IndexInfo indexInfo(String name, boolean unique) {
+		return new IndexInfo(List.of(), name, unique, false, "");
+	}
+
+	@Document("person")
+	static class Person {
+
+		@Indexed String lastname;
+		@Indexed(name = "email_idx", unique = true) String email;
+	}
+
+	@Document("order")
+	static class Order {
+
+		@Indexed(direction = IndexDirection.DESCENDING, useGeneratedName = true) String customer;
+	}
+
+	static class Unmapped {
+
+		@Indexed String name;
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.result.DeleteResult;
+
+/**
+ * Unit tests for {@link ContentAddressedStore}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ContentAddressedStoreUnitTests {
+
+	@Mock GridFSBucket bucket;
+	@Mock MongoDatabase database;
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+	@Mock MongoCollection<Document> contents;
+
+	GridFsChunkTransfer transfer;
+
+	@BeforeEach
+	void setUp() {
+
+		when(bucket.getBucketName()).thenReturn("fs");
+		when(database.getCollection("fs.files")).thenReturn(files);
+		when(database.getCollection("fs.chunks")).thenReturn(chunks);
+		when(database.getCollection("fs.contents")).thenReturn(contents);
+
+		for (MongoCollection<Document> collection : List.of(files, chunks, contents)) {
+			when(collection.withWriteConcern(any())).thenReturn(collection);
+			when(collection.withReadPreference(any())).thenReturn(collection);
+			when(collection.withReadConcern(any())).thenReturn(collection);
+		}
+
+		transfer = new GridFsChunkTransfer(bucket, database, ParallelChunkTransfer.SEQUENTIAL, Runnable::run);
+	}
+
+	@Test
+	void storesChunksOfNewContent() {
+
+		store(ContentAddressing.sha256()).store(new BsonObjectId(), "file.txt",
+				new ByteArrayInputStream("hello world".getBytes()), 4, new Document("key", "value"));
+
+		ArgumentCaptor<Document> content = ArgumentCaptor.forClass(Document.class);
+		verify(contents).insertOne(content.capture());
+		verify(chunks).insertMany(anyList(), any(InsertManyOptions.class));
+
+		assertThat(content.getValue()).containsEntry("_id",
+				"sha-256:b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9").containsEntry("length", 11L)
+				.containsEntry("refCount", 1);
+
+		verify(files).insertOne(argThat(file -> file.get("metadata", Document.class).get("key").equals("value")
+				&& file.get("metadata", Document.class).get(ContentAddressedStore.CONTENT_ID_FIELD)
+						.equals(content.getValue().get("filesId"))
+				&& file.get("length").equals(11L)));
+	}
+
+	@Test
+	void referencesExistingContentWithoutWritingChunks() {
+
+		ObjectId contentId = new ObjectId();
+		when(contents.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+				.thenReturn(content(contentId, 2));
+
+		store(ContentAddressing.sha256()).store(new BsonObjectId(), "copy.txt",
+				new ByteArrayInputStream("hello world".getBytes()), 4, null);
+
+		verify(chunks, never()).insertMany(anyList(), any(InsertManyOptions.class));
+		verify(contents, never()).insertOne(any());
+		verify(files).insertOne(argThat(file -> file.get("metadata", Document.class)
+				.get(ContentAddressedStore.CONTENT_ID_FIELD).equals(contentId)));
+	}
+
+	@Test
+	void discardsStreamedChunksOfDuplicateContent() {
+
+		ObjectId contentId = new ObjectId();
+		when(contents.insertOne(any())).thenThrow(
+				new MongoWriteException(new WriteError(11000, "duplicate key", new BsonDocument()), new ServerAddress(),
+						Collections.emptySet()));
+		when(contents.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+				.thenReturn(content(contentId, 2));
+
+		store(ContentAddressing.sha256().inMemoryThreshold(0)).store(new BsonObjectId(), "copy.txt",
+				new ByteArrayInputStream("hello world".getBytes()), 4, null);
+
+		verify(chunks).insertMany(anyList(), any(InsertManyOptions.class));
+		verify(chunks).deleteMany(any(Bson.class));
+		verify(files).insertOne(argThat(file -> file.get("metadata", Document.class)
+				.get(ContentAddressedStore.CONTENT_ID_FIELD).equals(contentId)));
+	}
+
+	@Test
+	void removesChunksWithLastReference() {
+
+		ObjectId contentId = new ObjectId();
+		GridFSFile file = file(contentId);
+
+		when(files.deleteOne(any(Bson.class))).thenReturn(DeleteResult.acknowledged(1));
+		when(contents.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+				.thenReturn(content(contentId, 1), content(contentId, 0));
+		when(contents.findOneAndDelete(any(Bson.class))).thenReturn(content(contentId, 0));
+
+		store(ContentAddressing.sha256()).delete(file);
+		verify(chunks, never()).deleteMany(any(Bson.class));
+
+		store(ContentAddressing.sha256()).delete(file);
+		verify(chunks).deleteMany(GridFsChunks.chunksOf(new BsonObjectId(contentId)));
+	}
+
+	private ContentAddressedStore store(ContentAddressing options) {
+		return new ContentAddressedStore(bucket, database, transfer, options);
+	}
+
+	private static Document content(ObjectId contentId, int refCount) {
+		return new Document("_id", "sha-256:00").append("filesId", contentId).append("length", 11L).append("chunkSize", 4)
+				.append("refCount", refCount);
+	}
+
+	private static GridFSFile file(ObjectId contentId) {
+
+		BsonValue id = new BsonObjectId();
+		Document metadata = new Document(ContentAddressedStore.CONTENT_ID_FIELD, contentId)
+				.append(ContentAddressedStore.CONTENT_DIGEST_FIELD, "sha-256:00");
+		return new GridFSFile(id, "file.txt", 11, 4, new Date(), metadata);
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferWrapper;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+
+/**
+ * Unit tests for {@link DataBufferChunker}.
+ *
+ * @author Mark Paluch
+ */
+class DataBufferChunkerUnitTests {
+
+	@Test
+	void splitsBuffersIntoChunksAndReleasesThem() {
+
+		List<TrackingDataBuffer> buffers = List.of(buffer("hel"), buffer("lo w"), buffer("orld"));
+
+		DataBufferChunker.split(Flux.fromIterable(buffers), 2) //
+				.map(it -> new String(it, StandardCharsets.UTF_8)) //
+				.as(StepVerifier::create) //
+				.expectNext("he", "ll", "o ", "wo", "rl", "d") //
+				.verifyComplete();
+
+		assertThat(buffers).noneMatch(TrackingDataBuffer::isAllocated);
+	}
+
+	@Test
+	void tracksLength() {
+
+		DataBufferChunker chunker = new DataBufferChunker(4);
+
+		chunker.chunks(Flux.just(buffer("hello"), buffer("world"))).as(StepVerifier::create).expectNextCount(3)
+				.verifyComplete();
+
+		assertThat(chunker.length()).isEqualTo(10);
+	}
+
+	@Test
+	void releasesBuffersOnCancel() {
+
+		List<TrackingDataBuffer> buffers = List.of(buffer("hello"), buffer("world"), buffer("again"));
+
+		DataBufferChunker.split(Flux.fromIterable(buffers), 5) //
+				.take(1) //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		assertThat(buffers).noneMatch(TrackingDataBuffer::isAllocated);
+	}
+
+	private static TrackingDataBuffer buffer(String content) {
+		return new TrackingDataBuffer(DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes()));
+	}
+
+	static class TrackingDataBuffer extends DataBufferWrapper implements PooledDataBuffer {
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		TrackingDataBuffer(DataBuffer delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public boolean isAllocated() {
+			return refCount.get() > 0;
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+
+			refCount.incrementAndGet();
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer touch(Object hint) {
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return refCount.decrementAndGet() == 0;
+		}
+	}
+}
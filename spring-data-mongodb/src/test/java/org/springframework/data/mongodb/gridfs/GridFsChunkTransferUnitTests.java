@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.mongodb.core.convert.compression.Compression;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Unit tests for {@link GridFsChunkTransfer}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GridFsChunkTransferUnitTests {
+
+	@Mock GridFSBucket bucket;
+	@Mock MongoDatabase database;
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+
+	List<Document> storedChunks = new ArrayList<>();
+	List<Integer> fetchedChunks = new ArrayList<>();
+	GridFsChunkTransfer transfer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		when(bucket.getBucketName()).thenReturn("fs");
+		when(database.getCollection("fs.files")).thenReturn(files);
+		when(database.getCollection("fs.chunks")).thenReturn(chunks);
+
+		for (MongoCollection<Document> collection : List.of(files, chunks)) {
+			when(collection.withWriteConcern(any())).thenReturn(collection);
+			when(collection.withReadPreference(any())).thenReturn(collection);
+			when(collection.withReadConcern(any())).thenReturn(collection);
+		}
+
+		when(chunks.insertMany(anyList(), any(InsertManyOptions.class))).thenAnswer(invocation -> {
+			storedChunks.addAll(invocation.getArgument(0));
+			return null;
+		});
+
+		transfer = new GridFsChunkTransfer(bucket, database, ParallelChunkTransfer.of(2).chunksPerBatch(2), Runnable::run);
+	}
+
+	@Test
+	void uploadsChunksInBatchesBeforeFilesDocument() {
+
+		BsonObjectId fileId = new BsonObjectId();
+
+		transfer.upload(fileId, "file.txt", new ByteArrayInputStream("hello world".getBytes()), 2,
+				new Document("key", "value"));
+
+		InOrder inOrder = inOrder(chunks, files);
+		inOrder.verify(chunks, times(3)).insertMany(anyList(), any(InsertManyOptions.class));
+		inOrder.verify(files).insertOne(argThat(file -> file.get("_id").equals(fileId)
+				&& file.get("length").equals(11L) && file.get("chunkSize").equals(2) && file.get("metadata") != null));
+
+		assertThat(storedChunks).hasSize(6).extracting(it -> it.get("n")).containsExactly(0, 1, 2, 3, 4, 5);
+		assertThat(storedChunks).extracting(it -> it.get("files_id")).containsOnly(fileId);
+		assertThat(((Binary) storedChunks.get(5).get("data")).getData()).containsExactly('d');
+	}
+
+	@Test
+	void removesChunksWhenUploadFails() {
+
+		BsonObjectId fileId = new BsonObjectId();
+		when(chunks.insertMany(anyList(), any(InsertManyOptions.class))).thenThrow(new IllegalStateException("boom"));
+
+		assertThatIllegalStateException().isThrownBy(
+				() -> transfer.upload(fileId, "file.txt", new ByteArrayInputStream("hello world".getBytes()), 2, null));
+
+		verify(chunks).deleteMany(GridFsChunks.chunksOf(fileId));
+		verify(files, never()).insertOne(any());
+	}
+
+	@Test
+	void downloadsChunksInOrder() throws Exception {
+
+		BsonObjectId fileId = new BsonObjectId();
+		transfer.upload(fileId, "file.txt", new ByteArrayInputStream("hello world".getBytes()), 2, null);
+		mockChunkQueries();
+
+		try (InputStream stream = transfer.download(file(fileId, 11, 2))) {
+			assertThat(stream.readAllBytes()).isEqualTo("hello world".getBytes());
+		}
+	}
+
+	@Test
+	void downloadsRangeFromCoveringChunksOnly() throws Exception {
+
+		BsonObjectId fileId = new BsonObjectId();
+		transfer.upload(fileId, "file.txt", new ByteArrayInputStream("hello world".getBytes()), 2, null);
+		mockChunkQueries();
+
+		try (InputStream stream = transfer.download(file(fileId, 11, 2), 3, 5)) {
+			assertThat(stream.readAllBytes()).isEqualTo("lo wo".getBytes());
+		}
+
+		assertThat(fetchedChunks).containsExactly(1, 2, 3);
+
+		try (InputStream stream = transfer.download(file(fileId, 11, 2), 9, 100)) {
+			assertThat(stream.readAllBytes()).isEqualTo("ld".getBytes());
+		}
+	}
+
+	@Test
+	void compressesChunksAndDecompressesOnDownload() throws Exception {
+
+		BsonObjectId fileId = new BsonObjectId();
+		byte[] content = "compressible ".repeat(20).getBytes();
+		Document metadata = new Document(GridFsChunks.COMPRESSION_FIELD, Compression.DEFLATE);
+
+		transfer.upload(fileId, "file.txt", new ByteArrayInputStream(content), 130, metadata);
+		mockChunkQueries();
+
+		assertThat(storedChunks).hasSize(2)
+				.allSatisfy(it -> assertThat(((Binary) it.get("data")).getData().length).isLessThan(130));
+		verify(files).insertOne(argThat(file -> file.get("length").equals(260L)
+				&& file.get("metadata", Document.class).get(GridFsChunks.COMPRESSION_FIELD).equals("deflate")));
+
+		GridFSFile file = new GridFSFile(fileId, "file.txt", 260, 130, new Date(), metadata);
+		try (InputStream stream = transfer.download(file, 120, 20)) {
+			assertThat(stream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 120, 140));
+		}
+	}
+
+	@Test
+	void rejectsMissingChunks() {
+
+		BsonObjectId fileId = new BsonObjectId();
+		transfer.upload(fileId, "file.txt", new ByteArrayInputStream("hello world".getBytes()), 2, null);
+		storedChunks.remove(3);
+		mockChunkQueries();
+
+		InputStream stream = transfer.download(file(fileId, 11, 2));
+
+		assertThatExceptionOfType(MongoGridFSException.class).isThrownBy(stream::readAllBytes)
+				.withMessageContaining("chunk index 3");
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mockChunkQueries() {
+
+		when(chunks.find(any(Bson.class))).thenAnswer(invocation -> {
+
+			List<BsonValue> conditions = ((Bson) invocation.getArgument(0)).toBsonDocument().getArray("$and").getValues();
+			int from = conditions.get(1).asDocument().getDocument("n").getInt32("$gte").getValue();
+			int to = conditions.get(2).asDocument().getDocument("n").getInt32("$lt").getValue();
+
+			FindIterable<Document> iterable = mock(FindIterable.class);
+			when(iterable.sort(any())).thenReturn(iterable);
+			when(iterable.into(any())).thenAnswer(into -> {
+
+				Collection<Document> target = into.getArgument(0);
+				storedChunks.stream().filter(it -> (int) it.get("n") >= from && (int) it.get("n") < to).forEach(it -> {
+					fetchedChunks.add((int) it.get("n"));
+					target.add(it);
+				});
+				return target;
+			});
+			return iterable;
+		});
+	}
+
+	private static GridFSFile file(BsonValue id, long length, int chunkSize) {
+		return new GridFSFile(id, "file.txt", length, chunkSize, new Date(), null);
+	}
+}
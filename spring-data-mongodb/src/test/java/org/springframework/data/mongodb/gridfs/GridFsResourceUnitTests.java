@@ -17,7 +17,11 @@ package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.util.Date;
 
 import org.bson.BsonObjectId;
@@ -54,6 +58,55 @@ public class GridFsResourceUnitTests {
 		assertThat(resource.getGridFSFile()).isSameAs(file);
 	}
 
+	@Test
+	void readsRangeFromInputStream() throws IOException {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 11, 2, new Date(), null);
+		GridFsResource resource = new GridFsResource(file, new ByteArrayInputStream("hello world".getBytes()));
+
+		assertThat(resource.read(3, 5).readAllBytes()).isEqualTo("lo wo".getBytes());
+	}
+
+	@Test
+	void readableChannelSeeksForwardThroughInputStream() throws IOException {
+
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 11, 2, new Date(), null);
+		GridFsResource resource = new GridFsResource(file, new ByteArrayInputStream("hello world".getBytes()));
+
+		try (SeekableByteChannel channel = resource.readableChannel()) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(3);
+
+			assertThat(channel.size()).isEqualTo(11);
+			assertThat(channel.position(6).read(buffer)).isEqualTo(3);
+			assertThat(buffer.array()).isEqualTo("wor".getBytes());
+			assertThat(channel.position()).isEqualTo(9);
+			assertThatIOException().isThrownBy(() -> channel.position(0).read(ByteBuffer.allocate(1)));
+		}
+	}
+
+	@Test
+	void readableChannelReadsRangesRepeatedly() throws IOException {
+
+		byte[] content = "hello world".getBytes();
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "foo", 11, 2, new Date(), null);
+		GridFsResource resource = new GridFsResource(file, new ByteArrayInputStream(content),
+				(offset, length) -> new ByteArrayInputStream(content, (int) offset, (int) length));
+
+		try (SeekableByteChannel channel = resource.readableChannel()) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(5);
+			channel.position(6).read(buffer);
+			assertThat(buffer.array()).isEqualTo("world".getBytes());
+
+			buffer.clear();
+			channel.position(0).read(buffer);
+			assertThat(buffer.array()).isEqualTo("hello".getBytes());
+		}
+
+		assertThat(resource.read(4, 3).readAllBytes()).isEqualTo("o w".getBytes());
+	}
+
 	@Test // DATAMONGO-1850
 	public void shouldThrowExceptionOnEmptyContentType() {
 
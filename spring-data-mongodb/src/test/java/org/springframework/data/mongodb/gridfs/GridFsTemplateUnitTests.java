@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.compression.Compression;
 
 /**
  * @author Christoph Strobl
@@ -50,6 +51,15 @@ class GridFsTemplateUnitTests {
 		assertThat(template.capturedUpload().getOptions().getMetadata()).containsEntry("meta", "data");
 	}
 
+	@Test
+	void metadataRetainsCompressionSetBefore() {
+
+		GridFsUpload<ObjectId> upload = GridFsUpload.fromStream(new ByteArrayInputStream(new byte[] {}))
+				.filename("file").compression(Compression.gzip()).metadata(new Document("meta", "data")).build();
+
+		assertThat(upload.getOptions().getMetadata()).containsEntry("meta", "data").containsEntry("_compression", "gzip");
+	}
+
 	private static class GridFsTemplateStub extends GridFsTemplate {
 
 		private Object onStoreResult;
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.gridfs.GridFSBucket;
+
+/**
+ * Unit tests for {@link ReactiveGridFsChunkTransfer}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReactiveGridFsChunkTransferUnitTests {
+
+	@Mock GridFSBucket bucket;
+	@Mock MongoDatabase database;
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+
+	List<Document> storedChunks = new ArrayList<>();
+	ReactiveGridFsChunkTransfer transfer;
+
+	@BeforeEach
+	void setUp() {
+
+		when(bucket.getBucketName()).thenReturn("fs");
+		when(database.getCollection("fs.files")).thenReturn(files);
+		when(database.getCollection("fs.chunks")).thenReturn(chunks);
+
+		for (MongoCollection<Document> collection : List.of(files, chunks)) {
+			when(collection.withWriteConcern(any())).thenReturn(collection);
+			when(collection.withReadPreference(any())).thenReturn(collection);
+			when(collection.withReadConcern(any())).thenReturn(collection);
+		}
+
+		when(chunks.insertMany(anyList(), any(InsertManyOptions.class))).thenAnswer(invocation -> {
+			storedChunks.addAll(invocation.getArgument(0));
+			return Mono.<InsertManyResult> empty();
+		});
+		when(chunks.deleteMany(any())).thenReturn(Mono.just(DeleteResult.acknowledged(0)));
+		when(files.insertOne(any())).thenReturn(Mono.just(InsertOneResult.unacknowledged()));
+
+		transfer = new ReactiveGridFsChunkTransfer(bucket, database, ParallelChunkTransfer.of(2).chunksPerBatch(2));
+	}
+
+	@Test
+	void uploadsChunksInBatchesBeforeFilesDocument() {
+
+		BsonObjectId fileId = new BsonObjectId();
+
+		transfer.upload(fileId, "file.txt", content("hello world"), 2, new Document("key", "value")) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		InOrder inOrder = inOrder(chunks, files);
+		inOrder.verify(chunks, times(3)).insertMany(anyList(), any(InsertManyOptions.class));
+		inOrder.verify(files).insertOne(argThat(file -> file.get("_id").equals(fileId)
+				&& file.get("length").equals(11L) && file.get("chunkSize").equals(2) && file.get("metadata") != null));
+
+		assertThat(storedChunks).hasSize(6).extracting(it -> it.get("n")).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5);
+		assertThat(storedChunks).extracting(it -> it.get("files_id")).containsOnly(fileId);
+		assertThat(((Binary) storedChunks.get(5).get("data")).getData()).containsExactly('d');
+		verify(chunks, never()).deleteMany(any());
+	}
+
+	@Test
+	void removesChunksAfterInFlightInsertsWhenUploadFails() {
+
+		BsonObjectId fileId = new BsonObjectId();
+		Sinks.Empty<InsertManyResult> pending = Sinks.empty();
+		when(chunks.insertMany(anyList(), any(InsertManyOptions.class))).thenReturn(pending.asMono(),
+				Mono.error(new IllegalStateException("boom")));
+
+		List<Throwable> errors = new ArrayList<>();
+		transfer.upload(fileId, "file.txt", content("hello world"), 2, null).subscribe(null, errors::add);
+
+		assertThat(errors).isEmpty();
+		verify(chunks, never()).deleteMany(any());
+
+		pending.tryEmitEmpty();
+
+		assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+		verify(chunks).deleteMany(GridFsChunks.chunksOf(fileId));
+		verify(files, never()).insertOne(any());
+	}
+
+	@Test
+	void removesChunksAfterInFlightInsertsWhenUploadIsCancelled() {
+
+		BsonObjectId fileId = new BsonObjectId();
+		Sinks.Empty<InsertManyResult> pending = Sinks.empty();
+		when(chunks.insertMany(anyList(), any(InsertManyOptions.class))).thenReturn(pending.asMono());
+
+		Disposable upload = transfer.upload(fileId, "file.txt", content("hello world"), 2, null).subscribe();
+		upload.dispose();
+
+		verify(chunks, never()).deleteMany(any());
+
+		pending.tryEmitEmpty();
+
+		verify(chunks).deleteMany(GridFsChunks.chunksOf(fileId));
+		verify(files, never()).insertOne(any());
+	}
+
+	private static Flux<DataBuffer> content(String content) {
+		return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -17,15 +17,21 @@ package org.springframework.data.mongodb.gridfs;
 
 import static org.assertj.core.api.Assertions.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.bson.BsonObjectId;
 
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.reactivestreams.client.gridfs.GridFSDownloadPublisher;
@@ -67,6 +73,48 @@ class ReactiveGridFsResourceUnitTests {
 		resource.getDownloadStream().as(StepVerifier::create).verifyComplete();
 	}
 
+	@Test
+	void readsRangesUsingRangeReader() {
+
+		byte[] content = "hello world".getBytes();
+		GridFSFile file = new GridFSFile(new BsonObjectId(), "file.name", 11, 2, new Date(), null);
+		ReactiveGridFsResource resource = new ReactiveGridFsResource(file, new StubGridFSDownloadPublisher(),
+				new DefaultDataBufferFactory(),
+				(offset, length) -> Flux.just(ByteBuffer.wrap(content, (int) offset, (int) length).slice()));
+
+		resource.getDownloadStream(6, 5).map(it -> it.toString(StandardCharsets.UTF_8)).as(StepVerifier::create)
+				.expectNext("world").verifyComplete();
+		resource.getDownloadStream(0, 5).map(it -> it.toString(StandardCharsets.UTF_8)).as(StepVerifier::create)
+				.expectNext("hello").verifyComplete();
+	}
+
+	@Test
+	void readsRangeFromDownloadStream() {
+
+		GridFSDownloadPublisher publisher = new GridFSDownloadPublisher() {
+
+			@Override
+			public Publisher<GridFSFile> getGridFSFile() {
+				return Mono.empty();
+			}
+
+			@Override
+			public GridFSDownloadPublisher bufferSizeBytes(int bufferSizeBytes) {
+				return this;
+			}
+
+			@Override
+			public void subscribe(Subscriber<? super ByteBuffer> s) {
+				Flux.just("hel", "lo w", "orld").map(it -> ByteBuffer.wrap(it.getBytes())).subscribe(s);
+			}
+		};
+
+		ReactiveGridFsResource resource = new ReactiveGridFsResource("file.name", publisher);
+
+		resource.getDownloadStream(3, 5).map(it -> it.toString(StandardCharsets.UTF_8)).collectList()
+				.map(it -> String.join("", it)).as(StepVerifier::create).expectNext("lo wo").verifyComplete();
+	}
+
 	private static class StubGridFSDownloadPublisher implements GridFSDownloadPublisher {
 
 		@Override
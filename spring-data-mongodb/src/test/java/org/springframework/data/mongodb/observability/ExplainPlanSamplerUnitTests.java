@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.*;
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import java.time.Duration;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ExplainPlanSampler} and {@link ExplainPlan}.
+ *
+ * @author Mark Paluch
+ */
+class ExplainPlanSamplerUnitTests {
+
+	static final Document FIND_EXPLAIN = Document.parse("""
+			{ queryPlanner : { winningPlan : { stage : 'FETCH', inputStage : { stage : 'IXSCAN', indexName : 'status_1' } } },
+			  executionStats : { nReturned : 10, executionTimeMillis : 3, totalKeysExamined : 10, totalDocsExamined : 10 } }
+			""");
+
+	static final Document AGGREGATE_EXPLAIN = Document.parse("""
+			{ stages : [
+			    { $cursor : { queryPlanner : { winningPlan : { queryPlan : { stage : 'COLLSCAN' } } },
+			                  executionStats : { nReturned : 5, executionTimeMillis : 120, totalKeysExamined : 0, totalDocsExamined : 50000 } } },
+			    { $group : { _id : '$region' } } ] }
+			""");
+
+	TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+	ExplainPlanSampler sampler;
+
+	@BeforeEach
+	void setUp() {
+
+		sampler = new ExplainPlanSampler(observationRegistry);
+		sampler.setExecutor(Runnable::run);
+	}
+
+	@Test
+	void readsIndexUsageAndExecutionStats() {
+
+		ExplainPlan plan = ExplainPlan.from(FIND_EXPLAIN);
+
+		assertThat(plan.stage()).isEqualTo("IXSCAN");
+		assertThat(plan.collectionScan()).isFalse();
+		assertThat(plan.indexes()).containsExactly("status_1");
+		assertThat(plan.docsExamined()).isEqualTo(10);
+		assertThat(plan.keysExamined()).isEqualTo(10);
+		assertThat(plan.returned()).isEqualTo(10);
+		assertThat(plan.getExaminedToReturnedRatio()).isEqualTo(1D);
+	}
+
+	@Test
+	void readsCollectionScanOfAggregationCursorStage() {
+
+		ExplainPlan plan = ExplainPlan.from(AGGREGATE_EXPLAIN);
+
+		assertThat(plan.stage()).isEqualTo("COLLSCAN");
+		assertThat(plan.collectionScan()).isTrue();
+		assertThat(plan.indexes()).isEmpty();
+		assertThat(plan.docsExamined()).isEqualTo(50000);
+		assertThat(plan.getExaminedToReturnedRatio()).isEqualTo(10000D);
+	}
+
+	@Test
+	void detectsCollectionScansInAnyBranch() {
+
+		ExplainPlan plan = ExplainPlan.from(Document.parse("""
+				{ queryPlanner : { winningPlan : { stage : 'SUBPLAN', inputStage : { stage : 'OR', inputStages : [
+				    { stage : 'IXSCAN', indexName : 'a_1' }, { stage : 'COLLSCAN' } ] } } } }
+				"""));
+
+		assertThat(plan.stage()).isEqualTo("IXSCAN");
+		assertThat(plan.collectionScan()).isTrue();
+		assertThat(plan.indexes()).containsExactly("a_1");
+	}
+
+	@Test
+	void samplesByRateAndSlowThreshold() {
+
+		assertThat(sampler.shouldSample(Duration.ofSeconds(10))).isFalse();
+
+		sampler.setSlowThreshold(Duration.ofMillis(100));
+		assertThat(sampler.shouldSample(Duration.ofMillis(99))).isFalse();
+		assertThat(sampler.shouldSample(Duration.ofMillis(100))).isTrue();
+
+		sampler.setSampleRate(1);
+		assertThat(sampler.shouldSample(Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	void recordsExplainPlanAsObservation() {
+
+		sampler.setSlowThreshold(Duration.ofMillis(100));
+		sampler.sample("orders", "aggregate", Duration.ofMillis(250), () -> AGGREGATE_EXPLAIN);
+
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasNameEqualTo("spring.data.mongodb.explain") //
+				.hasContextualNameEqualTo("orders.aggregate explain") //
+				.hasLowCardinalityKeyValue("db.mongodb.collection", "orders") //
+				.hasLowCardinalityKeyValue("db.operation", "aggregate") //
+				.hasLowCardinalityKeyValue("db.mongodb.plan.stage", "COLLSCAN") //
+				.hasLowCardinalityKeyValue("db.mongodb.plan.collection_scan", "true") //
+				.hasLowCardinalityKeyValue("db.mongodb.slow", "true") //
+				.hasHighCardinalityKeyValue("db.mongodb.plan.docs_examined", "50000") //
+				.hasHighCardinalityKeyValue("db.mongodb.plan.docs_returned", "5") //
+				.hasHighCardinalityKeyValue("db.mongodb.elapsed_ms", "250");
+	}
+
+	@Test
+	void ignoresFailingExplain() {
+
+		sampler.sample("orders", "find", Duration.ZERO, () -> {
+			throw new IllegalStateException("explain not allowed in transaction");
+		});
+
+		assertThat(observationRegistry).hasSingleObservationThat().hasError();
+	}
+}
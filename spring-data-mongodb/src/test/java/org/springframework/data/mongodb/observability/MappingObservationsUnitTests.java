@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.*;
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.observability.MappingObservations.DocumentObservation;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Unit tests for {@link MappingObservations}.
+ *
+ * @author Mark Paluch
+ */
+class MappingObservationsUnitTests {
+
+	TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+	@Test
+	void observesPhaseWithDocumentCount() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+
+		List<Document> result = observations.observe(MappingPhase.WRITE, "insert", Person.class, "person",
+				() -> List.of(new Document("name", "Luke"), new Document("name", "Leia")), Function.identity());
+
+		assertThat(result).hasSize(2);
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasNameEqualTo("spring.data.mongodb.mapping") //
+				.hasContextualNameEqualTo("person.insert write") //
+				.hasLowCardinalityKeyValue("db.mongodb.collection", "person") //
+				.hasLowCardinalityKeyValue("db.operation", "insert") //
+				.hasLowCardinalityKeyValue("spring.data.mongodb.mapping.phase", "write") //
+				.hasLowCardinalityKeyValue("spring.data.mongodb.entity", Person.class.getName()) //
+				.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.documents", "2") //
+				.doesNotHaveHighCardinalityKeyValueWithKey("spring.data.mongodb.mapping.encoded_bytes");
+	}
+
+	@Test
+	void measuresEncodedSizeIfEnabled() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+		observations.setMeasureEncodedSize(true);
+
+		Document document = new Document("name", "Luke");
+		observations.observe(MappingPhase.READ, "find", null, "person", () -> "Luke", it -> List.of(document));
+
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasLowCardinalityKeyValue("spring.data.mongodb.entity", "none") //
+				.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.encoded_bytes", "20");
+	}
+
+	@Test
+	void measuresEncodedSizeUsingConfiguredCodecRegistry() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+		observations.setMeasureEncodedSize(true);
+		observations.setCodecRegistryProvider(() -> CodecRegistries
+				.withUuidRepresentation(MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.STANDARD));
+
+		Document document = new Document("id", UUID.randomUUID());
+		observations.observe(MappingPhase.WRITE, "insert", null, "person", () -> document, List::of);
+
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.encoded_bytes", "30");
+	}
+
+	@Test
+	void doesNotCountDocumentsOfQueryMapping() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+
+		assertThat(observations.observe(MappingPhase.QUERY_MAPPING, "find", Person.class, "person",
+				() -> new Document("name", "Luke"))).isEqualTo(new Document("name", "Luke"));
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasLowCardinalityKeyValue("spring.data.mongodb.mapping.phase", "query-mapping") //
+				.doesNotHaveHighCardinalityKeyValueWithKey("spring.data.mongodb.mapping.documents");
+	}
+
+	@Test
+	void observesDocumentsOneByOne() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+		observations.setMeasureEncodedSize(true);
+
+		DocumentObservation observation = observations.observeDocuments(MappingPhase.READ, "find", Person.class, "person");
+		String luke = observation.map(new Document("name", "Luke"), it -> it.getString("name"));
+		String leia = observation.map(new Document("name", "Leia"), it -> it.getString("name"));
+		observation.stop();
+
+		assertThat(List.of(luke, leia)).containsExactly("Luke", "Leia");
+
+		assertThat(observationRegistry).hasSingleObservationThat() //
+				.hasContextualNameEqualTo("person.find read") //
+				.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.documents", "2") //
+				.hasHighCardinalityKeyValue("spring.data.mongodb.mapping.encoded_bytes", "40") //
+				.satisfies(context -> assertThat(((MappingObservationContext) context).getMappingTime()).isNotNull());
+	}
+
+	@Test
+	void recordsMeasurementsAsMeters() {
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		observationRegistry.observationConfig().observationHandler(new MappingMeterObservationHandler(meterRegistry));
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+		observations.observe(MappingPhase.QUERY_MAPPING, "find", Person.class, "person", () -> "mapped");
+
+		DocumentObservation observation = observations.observeDocuments(MappingPhase.READ, "find", Person.class, "person");
+		observation.map(new Document("name", "Luke"), it -> it);
+		observation.map(new Document("name", "Leia"), it -> it);
+		observation.stop();
+
+		DistributionSummary documents = meterRegistry.get(MappingMeterObservationHandler.DOCUMENTS)
+				.tag("spring.data.mongodb.mapping.phase", "read").tag("db.mongodb.collection", "person").summary();
+		assertThat(documents.count()).isOne();
+		assertThat(documents.totalAmount()).isEqualTo(2);
+		assertThat(meterRegistry.get(MappingMeterObservationHandler.MAPPING_TIME).timer().count()).isOne();
+		assertThat(meterRegistry.find(MappingMeterObservationHandler.DOCUMENTS)
+				.tag("spring.data.mongodb.mapping.phase", "query-mapping").summary()).isNull();
+		assertThat(meterRegistry.find(MappingMeterObservationHandler.ENCODED_BYTES).summary()).isNull();
+	}
+
+	@Test
+	void recordsMappingErrors() {
+
+		MappingObservations observations = new MappingObservations(observationRegistry);
+
+		assertThatIllegalStateException().isThrownBy(() -> observations.<Object> observe(MappingPhase.READ, "find", Person.class,
+				"person", () -> {
+					throw new IllegalStateException("o_O");
+				}, it -> List.of()));
+
+		assertThat(observationRegistry).hasSingleObservationThat().hasError();
+	}
+
+	@Test
+	void skipsObservationForNoopRegistry() {
+
+		MappingObservations observations = new MappingObservations(ObservationRegistry.NOOP);
+
+		assertThat(observations.isEnabled()).isFalse();
+		assertThat(observations.observe(MappingPhase.QUERY_MAPPING, "find", Person.class, "person", () -> "mapped",
+				it -> {
+					throw new IllegalStateException("Documents must not be resolved");
+				})).isEqualTo("mapped");
+	}
+
+	static class Person {
+		String name;
+	}
+}
@@ -293,6 +293,73 @@ class MongoObservationCommandListenerTests {
 		Assertions.assertThat((Observation) traceRequestContext.get(ObservationThreadLocalAccessor.KEY)).isEqualTo(parent);
 	}
 
+	@Test
+	void successfullyCompletedCommandShouldTagTimerWithQueryShape() {
+
+		QueryShapes queryShapes = new QueryShapes();
+		listener.setQueryShapes(queryShapes);
+
+		RequestContext traceRequestContext = getContext();
+		CommandStartedEvent started = new CommandStartedEvent(traceRequestContext, 0, 0, null, "database", "find",
+				BsonDocument.parse("{ find : 'user', filter : { name : 'luke' } }"));
+
+		listener.commandStarted(started);
+		listener.commandSucceeded(new CommandSucceededEvent(traceRequestContext, 0, 0, null, "database", "find",
+				BsonDocument.parse("{ cursor : { id : 0, firstBatch : [ {}, {} ] } }"), 1_000_000));
+
+		String shape = queryShapes.getShape(started);
+
+		assertThat(meterRegistry).hasTimerWithNameAndTags(MongoObservation.MONGODB_COMMAND_OBSERVATION.getName(),
+				KeyValues.of(MongoObservation.LowCardinality.MONGODB_QUERY_SHAPE.withValue(shape)));
+		Assertions.assertThat(queryShapes.getTopShapes(1)).singleElement().satisfies(it -> {
+			Assertions.assertThat(it.fingerprint()).isEqualTo(shape);
+			Assertions.assertThat(it.count()).isOne();
+			Assertions.assertThat(it.documentsReturned()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void commandShouldNotTouchRequestContextWhenRegistryIsNoop() {
+
+		RequestContext requestContext = mock(RequestContext.class);
+		MongoObservationCommandListener listener = new MongoObservationCommandListener(ObservationRegistry.NOOP);
+
+		listener.commandStarted(new CommandStartedEvent(requestContext, 0, 0, null, "database", "insert",
+				new BsonDocument("collection", new BsonString("user"))));
+
+		verifyNoInteractions(requestContext);
+	}
+
+	@Test
+	void commandShouldNotBeObservedWhenNotSampled() {
+
+		listener.setSampler(MongoObservationCommandListener.CommandSampler.withParentObservation());
+		RequestContext requestContext = new MapRequestContext();
+
+		listener.commandStarted(new CommandStartedEvent(requestContext, 0, 0, null, "database", "insert",
+				new BsonDocument("collection", new BsonString("user"))));
+		listener.commandSucceeded(new CommandSucceededEvent(requestContext, 0, 0, null, "database", "insert", null, 0));
+
+		assertThat(meterRegistry).hasNoMetrics();
+		Assertions.assertThat(requestContext.isEmpty()).isTrue();
+	}
+
+	@Test
+	void commandShouldBeObservedWhenSampled() {
+
+		listener.setSampler(MongoObservationCommandListener.CommandSampler.withParentObservation());
+
+		Observation parent = Observation.start("name", observationRegistry);
+		observationRegistry.setCurrentObservationScope(parent.openScope());
+		RequestContext traceRequestContext = getContext();
+
+		listener.commandStarted(new CommandStartedEvent(traceRequestContext, 0, 0, null, "database", "insert",
+				new BsonDocument("collection", new BsonString("user"))));
+		listener.commandSucceeded(new CommandSucceededEvent(traceRequestContext, 0, 0, null, "database", "insert", null, 0));
+
+		assertThatTimerRegisteredWithTags();
+	}
+
 	private RequestContext getContext() {
 		return ((SynchronousContextProvider) ContextProviderFactory.create(observationRegistry)).getContext();
 	}
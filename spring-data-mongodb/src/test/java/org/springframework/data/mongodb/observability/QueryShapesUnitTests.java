@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.observability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Unit tests for {@link QueryShapes}.
+ *
+ * @author Mark Paluch
+ */
+class QueryShapesUnitTests {
+
+	QueryShapes queryShapes = new QueryShapes();
+
+	@Test
+	void stripsValuesFromFilter() {
+
+		String shape = queryShapes.getShape(started("find", """
+				{ find : 'person', filter : { lastname : 'Skywalker', age : { $gt : 18 }, tags : { $in : [ 'a', 'b' ] } },
+				  sort : { age : -1 }, projection : { firstname : 1 }, limit : 10 }
+				"""));
+
+		assertThat(shape).isNotNull();
+		assertThat(queryShapes.getDefinition(shape)).isEqualTo(
+				"find person filter {lastname:?,age:{$gt:?},tags:{$in:?}} sort {age:-1} projection {firstname:1}");
+		assertThat(queryShapes.getShape(started("find", """
+				{ find : 'person', filter : { lastname : 'Solo', age : { $gt : 30 }, tags : { $in : [ 'c' ] } },
+				  sort : { age : -1 }, projection : { firstname : 1 }, limit : 20 }
+				"""))).isEqualTo(shape);
+	}
+
+	@Test
+	void distinguishesStructure() {
+
+		String byLastname = queryShapes.getShape(started("find", "{ find : 'person', filter : { lastname : 'Solo' } }"));
+
+		assertThat(queryShapes.getShape(started("find", "{ find : 'person', filter : { firstname : 'Han' } }")))
+				.isNotEqualTo(byLastname);
+		assertThat(queryShapes.getShape(started("find", "{ find : 'other', filter : { lastname : 'Solo' } }")))
+				.isNotEqualTo(byLastname);
+		assertThat(queryShapes.getShape(started("find",
+				"{ find : 'person', filter : { lastname : 'Solo' }, sort : { lastname : 1 } }"))).isNotEqualTo(byLastname);
+	}
+
+	@Test
+	void retainsLogicalOperatorsAndFieldReferences() {
+
+		String find = queryShapes.getShape(started("find",
+				"{ find : 'person', filter : { $or : [ { lastname : 'Solo' }, { age : { $lt : 10 } } ] } }"));
+		String aggregate = queryShapes.getShape(started("aggregate", """
+				{ aggregate : 'orders', pipeline : [ { $match : { status : 'SHIPPED' } },
+				  { $group : { _id : '$region', total : { $sum : '$amount' } } }, { $limit : 5 } ] }
+				"""));
+		String update = queryShapes.getShape(started("update", """
+				{ update : 'person', updates : [ { q : { _id : 1 }, u : { $set : { lastname : 'Solo' } }, multi : false } ] }
+				"""));
+
+		assertThat(queryShapes.getDefinition(find)).isEqualTo("find person filter {$or:[{lastname:?},{age:{$lt:?}}]}");
+		assertThat(queryShapes.getDefinition(aggregate)).isEqualTo(
+				"aggregate orders pipeline [{$match:{status:?}},{$group:{_id:$region,total:{$sum:$amount}}},{$limit:?}]");
+		assertThat(queryShapes.getDefinition(update))
+				.isEqualTo("update person q {_id:?} u {$set:{lastname:?}} multi false");
+	}
+
+	@Test
+	void ignoresCommandsWithoutQuery() {
+
+		assertThat(queryShapes.getShape(started("insert", "{ insert : 'person', documents : [ { _id : 1 } ] }"))).isNull();
+		assertThat(queryShapes.getShape(started("getMore", "{ getMore : { $numberLong : '42' }, collection : 'person' }")))
+				.isNull();
+	}
+
+	@Test
+	void limitsNumberOfDistinctShapes() {
+
+		QueryShapes queryShapes = new QueryShapes(1);
+
+		String first = queryShapes.getShape(started("find", "{ find : 'person', filter : { lastname : 'Solo' } }"));
+
+		assertThat(first).isNotEqualTo(QueryShapes.OTHER);
+		assertThat(queryShapes.getShape(started("find", "{ find : 'person', filter : { firstname : 'Han' } }")))
+				.isEqualTo(QueryShapes.OTHER);
+		assertThat(queryShapes.getShape(started("find", "{ find : 'person', filter : { lastname : 'Organa' } }")))
+				.isEqualTo(first);
+	}
+
+	@Test
+	void recordsStatisticsIncludingCursorContinuation() {
+
+		String find = queryShapes.getShape(started("find", "{ find : 'person', filter : { lastname : 'Solo' } }"));
+		queryShapes.record(find, succeeded("find", "{ cursor : { id : { $numberLong : '42' }, firstBatch : [ {}, {} ] } }", 10));
+
+		String getMore = queryShapes
+				.getShape(started("getMore", "{ getMore : { $numberLong : '42' }, collection : 'person' }"));
+		assertThat(getMore).isEqualTo(find);
+		queryShapes.record(getMore, succeeded("getMore", "{ cursor : { id : { $numberLong : '0' }, nextBatch : [ {} ] } }", 30));
+
+		String count = queryShapes.getShape(started("count", "{ count : 'person', query : { age : 1 } }"));
+		queryShapes.record(count, succeeded("count", "{ n : 7 }", 1));
+
+		assertThat(queryShapes.getTopShapes(1)).singleElement().satisfies(it -> {
+
+			assertThat(it.fingerprint()).isEqualTo(find);
+			assertThat(it.count()).isEqualTo(2);
+			assertThat(it.documentsReturned()).isEqualTo(3);
+			assertThat(it.totalTime()).isEqualTo(Duration.ofMillis(40));
+			assertThat(it.maxTime()).isEqualTo(Duration.ofMillis(30));
+			assertThat(it.getMeanTime()).isEqualTo(Duration.ofMillis(20));
+		});
+		assertThat(queryShapes.getTopShapes(5)).hasSize(2).last().extracting("documentsReturned").isEqualTo(7L);
+	}
+
+	@Test
+	void forgetsKilledCursors() {
+
+		String find = queryShapes.getShape(started("find", "{ find : 'person', filter : { lastname : 'Solo' } }"));
+		queryShapes.record(find, succeeded("find", "{ cursor : { id : { $numberLong : '42' }, firstBatch : [ {} ] } }", 10));
+
+		assertThat(queryShapes.getShape(started("killCursors",
+				"{ killCursors : 'person', cursors : [ { $numberLong : '42' } ] }"))).isNull();
+		assertThat(queryShapes.getShape(started("getMore", "{ getMore : { $numberLong : '42' }, collection : 'person' }")))
+				.isNull();
+	}
+
+	private static CommandStartedEvent started(String commandName, String command) {
+		return new CommandStartedEvent(null, 0, 0, null, "database", commandName, BsonDocument.parse(command));
+	}
+
+	private static CommandSucceededEvent succeeded(String commandName, String response, long millis) {
+		return new CommandSucceededEvent(null, 0, 0, null, "database", commandName, BsonDocument.parse(response),
+				TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+}
@@ -23,10 +23,12 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -287,6 +289,60 @@ public class StringBasedAggregationUnitTests {
 		assertThat(readPreferenceOf(invocation)).isEqualTo(ReadPreference.secondaryPreferred());
 	}
 
+	@Test
+	void bindsParametersOfParsedStageOnEachInvocation() {
+
+		StringBasedAggregation sba = createAggregationForMethod("parameterValueAggregation", String.class, Integer.class);
+
+		sba.execute(new Object[] { "Matthews", 30 });
+		sba.execute(new Object[] { "Beauford", 40 });
+
+		ArgumentCaptor<TypedAggregation> aggregationCaptor = ArgumentCaptor.forClass(TypedAggregation.class);
+		verify(operations, times(2)).aggregate(aggregationCaptor.capture(), any());
+
+		List<TypedAggregation> invocations = aggregationCaptor.getAllValues();
+		assertThat(pipelineOf(new AggregationInvocation(invocations.get(0), PersonAggregate.class, null)))
+				.containsExactly(Document.parse("{ '$match' : { 'lastname' : 'Matthews', 'age' : { '$gte' : 30 } } }"));
+		assertThat(pipelineOf(new AggregationInvocation(invocations.get(1), PersonAggregate.class, null)))
+				.containsExactly(Document.parse("{ '$match' : { 'lastname' : 'Beauford', 'age' : { '$gte' : 40 } } }"));
+	}
+
+	@Test
+	void bindsExtendedJsonDateParameterOnEachInvocation() {
+
+		Date date = new Date(1562242763000L);
+		StringBasedAggregation sba = createAggregationForMethod("dateParameterAggregation", Date.class);
+
+		sba.execute(new Object[] { date });
+		sba.execute(new Object[] { date });
+
+		ArgumentCaptor<TypedAggregation> aggregationCaptor = ArgumentCaptor.forClass(TypedAggregation.class);
+		verify(operations, times(2)).aggregate(aggregationCaptor.capture(), any());
+
+		for (TypedAggregation<?> invocation : aggregationCaptor.getAllValues()) {
+			assertThat(pipelineOf(new AggregationInvocation(invocation, PersonAggregate.class, null)))
+					.containsExactly(new Document("$match", new Document("createdAt", new Document("$gte", date))));
+		}
+	}
+
+	@Test
+	void bindsExtendedJsonObjectIdParameterOnEachInvocation() {
+
+		ObjectId id = new ObjectId();
+		StringBasedAggregation sba = createAggregationForMethod("objectIdParameterAggregation", String.class);
+
+		sba.execute(new Object[] { id.toHexString() });
+		sba.execute(new Object[] { id.toHexString() });
+
+		ArgumentCaptor<TypedAggregation> aggregationCaptor = ArgumentCaptor.forClass(TypedAggregation.class);
+		verify(operations, times(2)).aggregate(aggregationCaptor.capture(), any());
+
+		for (TypedAggregation<?> invocation : aggregationCaptor.getAllValues()) {
+			assertThat(pipelineOf(new AggregationInvocation(invocation, PersonAggregate.class, null)))
+					.containsExactly(new Document("$match", new Document("_id", id)));
+		}
+	}
+
 	private AggregationInvocation executeAggregation(String name, Object... args) {
 
 		Class<?>[] argTypes = Arrays.stream(args).map(Object::getClass).toArray(Class[]::new);
@@ -374,6 +430,15 @@ public class StringBasedAggregationUnitTests {
 		@Aggregation(GROUP_BY_LASTNAME_STRING_WITH_SPEL_PARAMETER_PLACEHOLDER)
 		PersonAggregate spelParameterReplacementAggregation(String arg0);
 
+		@Aggregation("{ '$match' : { 'lastname' : ?0, 'age' : { '$gte' : ?1 } } }")
+		PersonAggregate parameterValueAggregation(String lastname, Integer age);
+
+		@Aggregation("{ '$match' : { 'createdAt' : { '$gte' : { '$date' : ?0 } } } }")
+		PersonAggregate dateParameterAggregation(Date date);
+
+		@Aggregation("{ '$match' : { '_id' : { '$oid' : ?0 } } }")
+		PersonAggregate objectIdParameterAggregation(String id);
+
 		@Aggregation(pipeline = { RAW_GROUP_BY_LASTNAME_STRING, GROUP_BY_LASTNAME_STRING_WITH_SPEL_PARAMETER_PLACEHOLDER })
 		PersonAggregate multiOperationPipeline(String arg0);
 
@@ -40,6 +40,8 @@ import org.bson.BsonInt64;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -50,6 +52,7 @@ import org.springframework.data.mongodb.core.mapping.FieldName;
 import org.springframework.data.mongodb.util.BsonUtils;
 
 import com.mongodb.BasicDBList;
+import com.mongodb.MongoClientSettings;
 
 /**
  * Unit tests for {@link BsonUtils}.
@@ -236,6 +239,16 @@ class BsonUtilsTest {
 		assertThat(target).containsKeys("Z", "A");
 	}
 
+	@Test
+	void encodedSizeMatchesRawBsonDocument() {
+
+		Document source = new Document("_id", new ObjectId()).append("name", "Grüße 🚀").append("count", 42L)
+				.append("tags", List.of("a", "b")).append("nested", new Document("date", new Date()).append("ratio", 0.5D));
+
+		assertThat(BsonUtils.getEncodedSize(source, MongoClientSettings.getDefaultCodecRegistry()))
+				.isEqualTo(new RawBsonDocument(source, new DocumentCodec()).getByteBuffer().remaining());
+	}
+
 	static Stream<Arguments> fieldNames() {
 		return Stream.of(//
 				Arguments.of(FieldName.path("a"), true), //